@@ -0,0 +1,73 @@
+package ezvcard.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+ */
+
+/**
+ * <p>
+ * Entry point of the benchmarks JAR. Accepts the same command-line arguments as
+ * the standard JMH launcher, but always attaches the GC profiler so that
+ * allocation rates are reported alongside throughput and latency.
+ * </p>
+ * <p>
+ * <b>Example:</b>
+ * </p>
+ * 
+ * <pre>
+ * java -jar target/benchmarks.jar TextBenchmark -p cardCount=1000
+ * </pre>
+ * @author Michael Angstadt
+ */
+public final class BenchmarkRunner {
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions cli = new CommandLineOptions(args);
+
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(cli);
+		boolean gcProfilerRequested = cli.getProfilers().stream().anyMatch(profiler -> isGcProfiler(profiler.getKlass()));
+		if (!gcProfilerRequested) {
+			builder.addProfiler(GCProfiler.class);
+		}
+
+		new Runner(builder.build()).run();
+	}
+
+	private static boolean isGcProfiler(String name) {
+		return "gc".equals(name) || GCProfiler.class.getName().equals(name);
+	}
+
+	private BenchmarkRunner() {
+		//hide
+	}
+}
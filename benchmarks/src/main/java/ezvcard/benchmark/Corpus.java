@@ -0,0 +1,331 @@
+package ezvcard.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import ezvcard.Ezvcard;
+import ezvcard.VCard;
+import ezvcard.VCardVersion;
+import ezvcard.io.StreamWriter;
+import ezvcard.io.html.HCardPage;
+import ezvcard.io.json.JCardWriter;
+import ezvcard.io.text.VCardWriter;
+import ezvcard.io.xml.XCardWriter;
+import ezvcard.property.BinaryProperty;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+ */
+
+/**
+ * <p>
+ * Generates the data files that the benchmarks read from.
+ * </p>
+ * <p>
+ * The corpora are seeded with the sample vCards from the library's unit tests
+ * (exported from Outlook, the iPhone, Gmail, Evolution, etc). The plain-text
+ * corpus repeats the raw sample files verbatim, so all of their real-world
+ * quirks are preserved. The jCard, xCard, and hCard corpora are generated by
+ * writing the parsed sample vCards with the library's own writers.
+ * </p>
+ * <p>
+ * Each corpus is generated once per JVM and deleted when the JVM exits.
+ * </p>
+ * @author Michael Angstadt
+ */
+public final class Corpus {
+	/**
+	 * The sample files that the corpora are seeded with.
+	 */
+	private static final String[] SAMPLES = {
+		"John_Doe_ANDROID.vcf",
+		"John_Doe_BLACK_BERRY.vcf",
+		"John_Doe_EVOLUTION.vcf",
+		"John_Doe_GMAIL.vcf",
+		"John_Doe_IPHONE.vcf",
+		"John_Doe_LOTUS_NOTES.vcf",
+		"John_Doe_MAC_ADDRESS_BOOK.vcf",
+		"John_Doe_MS_OUTLOOK.vcf",
+		"fullcontact.vcf",
+		"gmail-list.vcf",
+		"gmail-single.vcf",
+		"gmail-single2.vcf",
+		"outlook-2003.vcf",
+		"outlook-2007.vcf",
+		"rfc2426-example.vcf",
+		"rfc6350-example.vcf",
+		"thunderbird-MoreFunctionsForAddressBook-extension.vcf"
+	};
+
+	/**
+	 * The data formats that a corpus can be generated in.
+	 */
+	public enum Format {
+		TEXT(".vcf"), JSON(".json"), XML(".xml"), HTML(".html");
+
+		private final String extension;
+
+		Format(String extension) {
+			this.extension = extension;
+		}
+	}
+
+	private static final Map<String, Path> files = new HashMap<>();
+	private static List<byte[]> rawSamples;
+	private static List<Integer> rawSampleCardCounts;
+	private static List<VCard> templates;
+
+	private Corpus() {
+		//hide
+	}
+
+	/**
+	 * Gets the parsed sample vCards.
+	 * @return the sample vCards (this list is immutable)
+	 */
+	public static synchronized List<VCard> templates() {
+		if (templates == null) {
+			loadSamples();
+		}
+		return templates;
+	}
+
+	/**
+	 * Gets the parsed sample vCards that the default hCard template is able to
+	 * render. The template requires every embedded photo, logo, and sound to
+	 * have a content type.
+	 * @return the sample vCards (this list is immutable)
+	 */
+	public static List<VCard> htmlTemplates() {
+		//@formatter:off
+		return Collections.unmodifiableList(templates().stream()
+			.filter(vcard -> vcard.getPhotos().stream().allMatch(Corpus::hasContentTypeIfEmbedded))
+			.filter(vcard -> vcard.getLogos().stream().allMatch(Corpus::hasContentTypeIfEmbedded))
+			.filter(vcard -> vcard.getSounds().stream().allMatch(Corpus::hasContentTypeIfEmbedded))
+		.collect(Collectors.toList()));
+		//@formatter:on
+	}
+
+	private static boolean hasContentTypeIfEmbedded(BinaryProperty<?> property) {
+		return property.getData() == null || property.getContentType() != null;
+	}
+
+	/**
+	 * Gets a corpus file, generating it if necessary.
+	 * @param format the data format
+	 * @param cardCount the number of vCards the file should contain
+	 * @return the path to the file
+	 */
+	public static synchronized Path file(Format format, int cardCount) {
+		String key = format + ":" + cardCount;
+		Path file = files.get(key);
+		if (file != null) {
+			return file;
+		}
+
+		try {
+			file = Files.createTempFile("ez-vcard-corpus-" + cardCount + "-", format.extension);
+			file.toFile().deleteOnExit();
+
+			switch (format) {
+			case TEXT:
+				writeTextCorpus(file, cardCount);
+				break;
+			case JSON:
+				try (JCardWriter writer = new JCardWriter(file, true)) {
+					writeCards(writer, cardCount);
+				}
+				break;
+			case XML:
+				/*
+				 * Some of the sample vCards contain control characters, which
+				 * can only be represented in XML 1.1.
+				 */
+				try (XCardWriter writer = new XCardWriter(file, null, "1.1")) {
+					writeCards(writer, cardCount);
+				}
+				break;
+			case HTML:
+				HCardPage page = new HCardPage();
+				List<VCard> templates = htmlTemplates();
+				for (int i = 0; i < cardCount; i++) {
+					page.add(templates.get(i % templates.size()));
+				}
+				page.write(file);
+				break;
+			}
+		} catch (Exception e) {
+			throw new IllegalStateException("Could not generate " + format + " corpus.", e);
+		}
+
+		files.put(key, file);
+		return file;
+	}
+
+	/**
+	 * Writes the sample vCards, cycling through them, to the given writer.
+	 * @param writer the writer
+	 * @param cardCount the number of vCards to write
+	 * @throws IOException if there's a problem writing to the stream
+	 */
+	public static void writeCards(StreamWriter writer, int cardCount) throws IOException {
+		List<VCard> templates = templates();
+		for (int i = 0; i < cardCount; i++) {
+			writer.write(templates.get(i % templates.size()));
+		}
+	}
+
+	/**
+	 * Creates a plain-text vCard writer that discards its output.
+	 * @param version the version to write
+	 * @return the writer
+	 */
+	public static VCardWriter nullTextWriter(VCardVersion version) {
+		return new VCardWriter(nullWriter(), version);
+	}
+
+	/**
+	 * Creates a character stream that discards everything written to it.
+	 * @return the writer
+	 */
+	public static Writer nullWriter() {
+		return new Writer() {
+			@Override
+			public void write(char[] cbuf, int off, int len) {
+				//discard
+			}
+
+			@Override
+			public void write(String str, int off, int len) {
+				//discard
+			}
+
+			@Override
+			public void flush() {
+				//empty
+			}
+
+			@Override
+			public void close() {
+				//empty
+			}
+		};
+	}
+
+	/**
+	 * Creates a byte stream that discards everything written to it.
+	 * @return the output stream
+	 */
+	public static OutputStream nullOutputStream() {
+		return new OutputStream() {
+			@Override
+			public void write(int b) {
+				//discard
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+				//discard
+			}
+		};
+	}
+
+	private static void writeTextCorpus(Path file, int cardCount) throws IOException {
+		loadSamples();
+
+		try (OutputStream out = Files.newOutputStream(file)) {
+			int written = 0;
+			int i = 0;
+			while (written < cardCount) {
+				out.write(rawSamples.get(i));
+				out.write('\r');
+				out.write('\n');
+				written += rawSampleCardCounts.get(i);
+				i = (i + 1) % rawSamples.size();
+			}
+		}
+	}
+
+	private static synchronized void loadSamples() {
+		if (rawSamples != null) {
+			return;
+		}
+
+		List<byte[]> raw = new ArrayList<>(SAMPLES.length);
+		List<Integer> counts = new ArrayList<>(SAMPLES.length);
+		List<VCard> parsed = new ArrayList<>();
+		for (String sample : SAMPLES) {
+			byte[] data = readResource("/ezvcard/io/text/" + sample);
+
+			List<VCard> vcards;
+			try {
+				vcards = Ezvcard.parse(new String(data, "UTF-8")).all();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			raw.add(data);
+			counts.add(vcards.size());
+			parsed.addAll(vcards);
+		}
+
+		rawSamples = raw;
+		rawSampleCardCounts = counts;
+		templates = Collections.unmodifiableList(parsed);
+	}
+
+	private static byte[] readResource(String name) {
+		try (InputStream in = Corpus.class.getResourceAsStream(name)) {
+			if (in == null) {
+				throw new IllegalStateException("Sample file not found on classpath: " + name);
+			}
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+			return out.toByteArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
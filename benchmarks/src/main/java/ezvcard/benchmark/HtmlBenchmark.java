@@ -0,0 +1,102 @@
+package ezvcard.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ezvcard.VCard;
+import ezvcard.io.html.HCardPage;
+import ezvcard.io.html.HCardParser;
+import freemarker.template.TemplateException;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+ */
+
+/**
+ * <p>
+ * Measures {@link HCardParser} and {@link HCardPage}. Each operation reads or
+ * writes an entire corpus.
+ * </p>
+ * <p>
+ * The default corpus is smaller than the other formats because both classes
+ * hold the entire HTML document in memory.
+ * </p>
+ * @author Michael Angstadt
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HtmlBenchmark {
+	@Param({ "10000" })
+	public int cardCount;
+
+	private Path file;
+
+	@Setup
+	public void setup() {
+		file = Corpus.file(Corpus.Format.HTML, cardCount);
+	}
+
+	@Benchmark
+	public void read(Blackhole bh) throws IOException {
+		try (HCardParser reader = new HCardParser(file)) {
+			VCard vcard;
+			while ((vcard = reader.readNext()) != null) {
+				bh.consume(vcard);
+			}
+		}
+	}
+
+	@Benchmark
+	public void write() throws IOException, TemplateException {
+		HCardPage page = new HCardPage();
+		List<VCard> templates = Corpus.htmlTemplates();
+		for (int i = 0; i < cardCount; i++) {
+			page.add(templates.get(i % templates.size()));
+		}
+		page.write(Corpus.nullWriter());
+	}
+}
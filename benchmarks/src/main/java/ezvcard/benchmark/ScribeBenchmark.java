@@ -0,0 +1,173 @@
+package ezvcard.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ezvcard.VCard;
+import ezvcard.VCardDataType;
+import ezvcard.VCardVersion;
+import ezvcard.io.CannotParseException;
+import ezvcard.io.EmbeddedVCardException;
+import ezvcard.io.ParseContext;
+import ezvcard.io.SkipMeException;
+import ezvcard.io.scribe.ScribeIndex;
+import ezvcard.io.scribe.VCardPropertyScribe;
+import ezvcard.io.text.WriteContext;
+import ezvcard.parameter.VCardParameters;
+import ezvcard.property.VCardProperty;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+ */
+
+/**
+ * <p>
+ * Measures {@link VCardPropertyScribe#parseText} and
+ * {@link VCardPropertyScribe#writeText} for individual property types. Each
+ * operation parses or writes every instance of the property that appears in
+ * the sample vCards.
+ * </p>
+ * <p>
+ * The property values are taken from the sample vCards by writing each
+ * property with the version of the vCard it was parsed from, so the values
+ * that are parsed are the same values that the plain-text reader hands to the
+ * scribes.
+ * </p>
+ * @author Michael Angstadt
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScribeBenchmark {
+	@Param({ "ADR", "BDAY", "CATEGORIES", "EMAIL", "FN", "LABEL", "N", "NOTE", "ORG", "PHOTO", "REV", "TEL", "TITLE", "URL" })
+	public String propertyName;
+
+	private final ScribeIndex index = new ScribeIndex();
+	private final List<Sample> samples = new ArrayList<>();
+
+	@Setup
+	public void setup() {
+		for (VCard vcard : Corpus.templates()) {
+			VCardVersion version = vcard.getVersion();
+			WriteContext context = new WriteContext(version, null, false);
+
+			for (VCardProperty property : vcard) {
+				VCardPropertyScribe<VCardProperty> scribe = scribe(property);
+				if (!scribe.getPropertyName().equalsIgnoreCase(propertyName)) {
+					continue;
+				}
+
+				String value;
+				try {
+					value = scribe.writeText(property, context);
+				} catch (SkipMeException e) {
+					continue;
+				}
+
+				VCardDataType dataType = scribe.dataType(property, version);
+				VCardParameters parameters = scribe.prepareParameters(property, version, vcard);
+				samples.add(new Sample(scribe, property, version, context, value, dataType, parameters));
+			}
+		}
+
+		if (samples.isEmpty()) {
+			throw new IllegalStateException("The sample vCards do not contain any " + propertyName + " properties.");
+		}
+	}
+
+	@Benchmark
+	public void parseText(Blackhole bh) {
+		ParseContext context = new ParseContext();
+		for (Sample sample : samples) {
+			context.setVersion(sample.version);
+			context.setPropertyName(propertyName);
+			context.getWarnings().clear();
+
+			/*
+			 * The scribe assigns the parameters object to the property it
+			 * creates, so each invocation needs its own copy.
+			 */
+			VCardParameters parameters = new VCardParameters(sample.parameters);
+
+			try {
+				bh.consume(sample.scribe.parseText(sample.value, sample.dataType, parameters, context));
+			} catch (CannotParseException | SkipMeException | EmbeddedVCardException e) {
+				bh.consume(e);
+			}
+		}
+	}
+
+	@Benchmark
+	public void writeText(Blackhole bh) {
+		for (Sample sample : samples) {
+			bh.consume(sample.scribe.writeText(sample.property, sample.writeContext));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private VCardPropertyScribe<VCardProperty> scribe(VCardProperty property) {
+		return (VCardPropertyScribe<VCardProperty>) index.getPropertyScribe(property);
+	}
+
+	private static class Sample {
+		private final VCardPropertyScribe<VCardProperty> scribe;
+		private final VCardProperty property;
+		private final VCardVersion version;
+		private final WriteContext writeContext;
+		private final String value;
+		private final VCardDataType dataType;
+		private final VCardParameters parameters;
+
+		public Sample(VCardPropertyScribe<VCardProperty> scribe, VCardProperty property, VCardVersion version, WriteContext writeContext, String value, VCardDataType dataType, VCardParameters parameters) {
+			this.scribe = scribe;
+			this.property = property;
+			this.version = version;
+			this.writeContext = writeContext;
+			this.value = value;
+			this.dataType = dataType;
+			this.parameters = parameters;
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package ezvcard.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.transform.TransformerException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.xml.sax.SAXException;
+
+import ezvcard.VCard;
+import ezvcard.io.xml.XCardDocument;
+import ezvcard.io.xml.XCardReader;
+import ezvcard.io.xml.XCardWriter;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+ */
+
+/**
+ * Measures {@link XCardReader}, {@link XCardWriter}, and
+ * {@link XCardDocument}. Each operation reads or writes an entire corpus.
+ * @author Michael Angstadt
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class XmlBenchmark {
+	@Param({ "100000" })
+	public int cardCount;
+
+	private Path file;
+
+	@Setup
+	public void setup() {
+		file = Corpus.file(Corpus.Format.XML, cardCount);
+	}
+
+	@Benchmark
+	public void read(Blackhole bh) throws IOException {
+		try (XCardReader reader = new XCardReader(file)) {
+			VCard vcard;
+			while ((vcard = reader.readNext()) != null) {
+				bh.consume(vcard);
+			}
+		}
+	}
+
+	@Benchmark
+	public void write() throws IOException {
+		try (XCardWriter writer = new XCardWriter(Corpus.nullWriter())) {
+			Corpus.writeCards(writer, cardCount);
+		}
+	}
+
+	@Benchmark
+	public List<VCard> readDocument() throws IOException, SAXException {
+		XCardDocument document = new XCardDocument(file);
+		return document.getVCards();
+	}
+
+	@Benchmark
+	public void writeDocument() throws TransformerException {
+		XCardDocument document = new XCardDocument();
+		List<VCard> templates = Corpus.templates();
+		for (int i = 0; i < cardCount; i++) {
+			document.addVCard(templates.get(i % templates.size()));
+		}
+		document.write(Corpus.nullWriter());
+	}
+}
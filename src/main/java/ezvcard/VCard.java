@@ -12,8 +12,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -24,6 +26,8 @@ import javax.xml.transform.TransformerException;
 
 import ezvcard.io.html.HCardPage;
 import ezvcard.io.json.JCardWriter;
+import ezvcard.io.text.UnparsedProperty;
+import ezvcard.io.text.VCardReader;
 import ezvcard.io.text.VCardWriter;
 import ezvcard.io.xml.XCardWriter;
 import ezvcard.parameter.EmailType;
@@ -122,6 +126,19 @@ public class VCard implements Iterable<VCardProperty> {
 	private VCardVersion version;
 	private final ListMultimap<Class<? extends VCardProperty>, VCardProperty> properties = new ListMultimap<>();
 
+	/**
+	 * True if the vCard contains {@link UnparsedProperty} objects that were
+	 * added by a reader with lazy parsing enabled.
+	 */
+	private boolean hasUnparsedProperties = false;
+
+	/**
+	 * Validation results of individual properties, which are reused until the
+	 * properties are modified. Only created if the vCard is validated by a
+	 * {@link VCardValidator} with caching enabled.
+	 */
+	VCardValidator.Cache validationCache;
+
 	/**
 	 * Creates a new vCard set to version 3.0.
 	 */
@@ -145,7 +162,7 @@ public class VCard implements Iterable<VCardProperty> {
 		version = original.version;
 
 		//@formatter:off
-		original.getProperties().stream()
+		original.stream()
 			.map(VCardProperty::copy)
 		.forEach(this::addProperty);
 		//@formatter:on
@@ -4220,11 +4237,13 @@ public class VCard implements Iterable<VCardProperty> {
 
 	/**
 	 * Iterates through each of the vCard's properties in no particular order.
-	 * Does not include the "BEGIN", "END", or "VERSION" properties.
+	 * Does not include the "BEGIN", "END", or "VERSION" properties. The
+	 * iterator works on a copy of the properties, so the vCard can be modified
+	 * while iterating.
 	 * @return the iterator
 	 */
 	public Iterator<VCardProperty> iterator() {
-		return properties.values().iterator();
+		return getProperties().iterator();
 	}
 
 	/**
@@ -4234,6 +4253,7 @@ public class VCard implements Iterable<VCardProperty> {
 	 * @return the property or null if not found
 	 */
 	public <T extends VCardProperty> T getProperty(Class<T> clazz) {
+		parseProperties(clazz);
 		return clazz.cast(properties.first(clazz));
 	}
 
@@ -4295,14 +4315,56 @@ public class VCard implements Iterable<VCardProperty> {
 	 * @return the properties (this list is immutable)
 	 */
 	public Collection<VCardProperty> getProperties() {
+		parseProperties();
 		return properties.values();
 	}
 
+	/**
+	 * Gets a read-only view of all the properties in this vCard. Unlike
+	 * {@link #getProperties()}, the properties are not copied, and the view
+	 * reflects any changes made to the vCard. Its iterators are fail-fast:
+	 * modifying the vCard while iterating over the view will result in a
+	 * {@link ConcurrentModificationException} being thrown.
+	 * @return the properties (this collection is immutable)
+	 */
+	public Collection<VCardProperty> getPropertiesView() {
+		parseProperties();
+		return properties.valuesView();
+	}
+
+	/**
+	 * <p>
+	 * Gets all the properties in this vCard without parsing the properties
+	 * that a {@link VCardReader} read with lazy parsing enabled (see
+	 * {@link VCardReader#setLazyParsingEnabled}). Properties that have not
+	 * been parsed yet are returned as {@link UnparsedProperty} objects.
+	 * </p>
+	 * <p>
+	 * This method is used by the writers, so that properties that were never
+	 * accessed can be written back out as they were read. Most callers should
+	 * use {@link #getProperties()} instead.
+	 * </p>
+	 * @return the properties (this collection is immutable)
+	 */
+	public Collection<VCardProperty> getPropertiesWithoutParsing() {
+		return properties.valuesView();
+	}
+
 	/**
 	 * Adds a property.
 	 * @param property the property to add
 	 */
 	public void addProperty(VCardProperty property) {
+		if (property instanceof UnparsedProperty) {
+			/*
+			 * Store the property under the class it will be parsed into, so
+			 * that it is parsed when properties of that class are accessed.
+			 */
+			properties.put(((UnparsedProperty) property).getPropertyClass(), property);
+			hasUnparsedProperties = true;
+			return;
+		}
+
 		properties.put(property.getClass(), property);
 	}
 
@@ -4313,6 +4375,7 @@ public class VCard implements Iterable<VCardProperty> {
 	 * @return the properties that were replaced (this list is immutable)
 	 */
 	public List<VCardProperty> setProperty(VCardProperty property) {
+		parseProperties(property.getClass());
 		return properties.replace(property.getClass(), property);
 	}
 
@@ -4326,6 +4389,7 @@ public class VCard implements Iterable<VCardProperty> {
 	 * @return the properties that were replaced (this list is immutable)
 	 */
 	public <T extends VCardProperty> List<T> setProperty(Class<T> clazz, T property) {
+		parseProperties(clazz);
 		List<VCardProperty> replaced = properties.replace(clazz, property);
 		return castList(replaced, clazz);
 	}
@@ -4346,6 +4410,7 @@ public class VCard implements Iterable<VCardProperty> {
 	 * @return the properties that were removed (this list is immutable)
 	 */
 	public <T extends VCardProperty> List<T> removeProperties(Class<T> clazz) {
+		parseProperties(clazz);
 		List<VCardProperty> removed = properties.removeAll(clazz);
 		return castList(removed, clazz);
 	}
@@ -4541,42 +4606,87 @@ public class VCard implements Iterable<VCardProperty> {
 	 * @param version the version to check the vCard against (use
 	 * {@link VCardVersion#V4_0} for xCard and jCard)
 	 * @return the validation warnings
+	 * @see VCardValidator
 	 */
 	public ValidationWarnings validate(VCardVersion version) {
-		ValidationWarnings warnings = new ValidationWarnings();
+		return new VCardValidator().validate(this, version);
+	}
 
-		//validate overall vCard object
-		if (getStructuredName() == null && (version == VCardVersion.V2_1 || version == VCardVersion.V3_0)) {
-			warnings.add(null, new ValidationWarning(0));
-		}
-		if (getFormattedName() == null && (version == VCardVersion.V3_0 || version == VCardVersion.V4_0)) {
-			warnings.add(null, new ValidationWarning(1));
-		}
+	/**
+	 * Generates a stream of this vCard's properties.
+	 * @return a stream of the properties
+	 */
+	public Stream<VCardProperty> stream() {
+		parseProperties();
+		return properties.valuesView().stream();
+	}
 
-		//validate properties
-		for (VCardProperty property : this) {
-			List<ValidationWarning> propWarnings = property.validate(version, this);
-			if (!propWarnings.isEmpty()) {
-				warnings.add(property, propWarnings);
-			}
+	/**
+	 * Parses all the {@link UnparsedProperty} objects in the vCard.
+	 */
+	private void parseProperties() {
+		if (!hasUnparsedProperties) {
+			return;
 		}
 
-		return warnings;
+		for (Class<? extends VCardProperty> clazz : new ArrayList<>(properties.keySet())) {
+			parseUnparsedProperties(clazz);
+		}
+		hasUnparsedProperties = false;
 	}
 
 	/**
-	 * Generates a stream of this vCard's properties.
-	 * @return a stream of the properties
+	 * Parses the {@link UnparsedProperty} objects of the given class.
+	 * @param clazz the property class
 	 */
-	public Stream<VCardProperty> stream() {
-		return properties.values().stream();
+	private void parseProperties(Class<? extends VCardProperty> clazz) {
+		if (!hasUnparsedProperties) {
+			return;
+		}
+
+		if (clazz == RawProperty.class) {
+			//properties that cannot be parsed are converted to raw properties
+			parseProperties();
+			return;
+		}
+
+		parseUnparsedProperties(clazz);
+	}
+
+	private void parseUnparsedProperties(Class<? extends VCardProperty> clazz) {
+		List<VCardProperty> unparseable = null;
+		ListIterator<VCardProperty> it = properties.get(clazz).listIterator();
+		while (it.hasNext()) {
+			VCardProperty property = it.next();
+			if (!(property instanceof UnparsedProperty)) {
+				continue;
+			}
+
+			VCardProperty parsed = ((UnparsedProperty) property).parse();
+			if (parsed == null) {
+				it.remove();
+			} else if (parsed.getClass() == clazz) {
+				it.set(parsed);
+			} else {
+				it.remove();
+				if (unparseable == null) {
+					unparseable = new ArrayList<>(1);
+				}
+				unparseable.add(parsed);
+			}
+		}
+
+		if (unparseable != null) {
+			unparseable.forEach(this::addProperty);
+		}
 	}
 
 	@Override
 	public String toString() {
+		parseProperties();
 		StringBuilder sb = new StringBuilder();
 		sb.append("version=").append(version);
-		properties.values().forEach(property -> sb.append(StringUtils.NEWLINE).append(property));
+		properties.valuesView().forEach(property -> sb.append(StringUtils.NEWLINE).append(property));
 		return sb.toString();
 	}
 
@@ -4587,7 +4697,11 @@ public class VCard implements Iterable<VCardProperty> {
 
 		result = prime * result + ((version == null) ? 0 : version.hashCode());
 
-		int propertiesHash = 1 + properties.values().stream().mapToInt(Object::hashCode).sum();
+		parseProperties();
+		int propertiesHash = 1;
+		for (VCardProperty property : properties.valuesView()) {
+			propertiesHash += property.hashCode();
+		}
 
 		result = prime * result + propertiesHash;
 
@@ -4601,12 +4715,14 @@ public class VCard implements Iterable<VCardProperty> {
 		if (getClass() != obj.getClass()) return false;
 		VCard other = (VCard) obj;
 		if (version != other.version) return false;
+		parseProperties();
+		other.parseProperties();
 		if (properties.size() != other.properties.size()) return false;
 
 		for (Map.Entry<Class<? extends VCardProperty>, List<VCardProperty>> entry : properties) {
 			Class<? extends VCardProperty> key = entry.getKey();
 			List<VCardProperty> value = entry.getValue();
-			List<VCardProperty> otherValue = other.properties.get(key);
+			List<VCardProperty> otherValue = other.properties.getMap().getOrDefault(key, Collections.emptyList());
 
 			if (value.size() != otherValue.size()) {
 				return false;
@@ -4664,6 +4780,7 @@ public class VCard implements Iterable<VCardProperty> {
 		 */
 		public VCardPropertyList(Class<T> propertyClass) {
 			this.propertyClass = propertyClass;
+			parseProperties(propertyClass);
 			properties = VCard.this.properties.get(propertyClass);
 		}
 
@@ -5,6 +5,7 @@ import static ezvcard.VCardVersion.V3_0;
 import static ezvcard.VCardVersion.V4_0;
 
 import java.util.Collection;
+import java.util.Collections;
 
 import ezvcard.util.CaseClasses;
 import ezvcard.util.SupportedVersionsHelper;
@@ -53,6 +54,16 @@ public class VCardDataType {
 		protected boolean matches(VCardDataType dataType, String value) {
 			return dataType.name.equalsIgnoreCase(value);
 		}
+
+		@Override
+		protected Collection<?> indexKeys(VCardDataType dataType) {
+			return Collections.singletonList(caseInsensitiveKey(dataType.name));
+		}
+
+		@Override
+		protected Object searchKey(String value) {
+			return caseInsensitiveKey(value);
+		}
 	};
 
 	/**
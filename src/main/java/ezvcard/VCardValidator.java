@@ -0,0 +1,356 @@
+package ezvcard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import ezvcard.property.VCardProperty;
+
+/*
+Copyright (c) 2012-2026, Michael Angstadt
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met: 
+
+1. Redistributions of source code must retain the above copyright notice, this
+list of conditions and the following disclaimer. 
+2. Redistributions in binary form must reproduce the above copyright notice,
+this list of conditions and the following disclaimer in the documentation
+and/or other materials provided with the distribution. 
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+The views and conclusions contained in the software and documentation are those
+of the authors and should not be interpreted as representing official policies, 
+either expressed or implied, of the FreeBSD Project.
+*/
+
+
+/**
+ * <p>
+ * Validates vCards, optionally running only a subset of the available checks.
+ * Large collections of vCards can be validated in parallel.
+ * </p>
+ * <p>
+ * <b>Example:</b>
+ * </p>
+ * 
+ * <pre class="brush:java">
+ * VCardValidator validator = new VCardValidator(ValidationRule.REQUIRED_PROPERTIES, ValidationRule.VERSION_SUPPORT);
+ * validator.setFailFast(true);
+ * 
+ * List&lt;VCard&gt; vcards = ...
+ * List&lt;ValidationWarnings&gt; results = validator.validateAll(vcards, VCardVersion.V4_0);
+ * </pre>
+ * @author Michael Angstadt
+ * @see VCard#validate
+ */
+public class VCardValidator {
+	private static final int BATCH_SIZE = 256;
+
+	private final Set<ValidationRule> rules;
+	private boolean failFast = false;
+	private boolean cachingEnabled = false;
+	private Executor executor = ForkJoinPool.commonPool();
+
+	/**
+	 * Creates a validator that runs all the checks.
+	 */
+	public VCardValidator() {
+		rules = EnumSet.allOf(ValidationRule.class);
+	}
+
+	/**
+	 * Creates a validator that only runs the given checks.
+	 * @param rule the checks to run
+	 * @param rules the checks to run
+	 */
+	public VCardValidator(ValidationRule rule, ValidationRule... rules) {
+		this.rules = EnumSet.of(rule, rules);
+	}
+
+	/**
+	 * Creates a validator that only runs the given checks.
+	 * @param rules the checks to run
+	 */
+	public VCardValidator(Collection<ValidationRule> rules) {
+		this.rules = rules.isEmpty() ? EnumSet.noneOf(ValidationRule.class) : EnumSet.copyOf(rules);
+	}
+
+	/**
+	 * Gets the checks that this validator runs.
+	 * @return the checks (this set is immutable)
+	 */
+	public Set<ValidationRule> getRules() {
+		return Collections.unmodifiableSet(rules);
+	}
+
+	/**
+	 * Gets whether validation of a vCard stops as soon as the first warning
+	 * is found.
+	 * @return true if validation stops at the first warning, false if all the
+	 * checks are run (default)
+	 */
+	public boolean isFailFast() {
+		return failFast;
+	}
+
+	/**
+	 * Sets whether validation of a vCard stops as soon as the first warning
+	 * is found. If enabled, each {@link ValidationWarnings} object that is
+	 * returned contains at most one warning.
+	 * @param failFast true to stop at the first warning, false to run all the
+	 * checks (default)
+	 */
+	public void setFailFast(boolean failFast) {
+		this.failFast = failFast;
+	}
+
+	/**
+	 * Gets whether the validation results of individual properties are cached.
+	 * @return true if caching is enabled, false if not (default)
+	 * @see #setCachingEnabled
+	 */
+	public boolean isCachingEnabled() {
+		return cachingEnabled;
+	}
+
+	/**
+	 * <p>
+	 * Sets whether the validation results of individual properties are
+	 * cached. This is useful when the same vCard is validated repeatedly
+	 * after small changes are made to it. The card-level checks are always
+	 * run, but properties that have not been modified since the vCard was
+	 * last validated are not checked again (see
+	 * {@link VCardProperty#getModificationCount}).
+	 * </p>
+	 * <p>
+	 * The cache is stored inside of the {@link VCard} object, and is discarded
+	 * if the vCard is validated with a different version or different
+	 * settings. Properties that do not support caching (see
+	 * {@link VCardProperty#isValidationCacheable}) are always validated.
+	 * </p>
+	 * @param cachingEnabled true to enable caching, false to disable it
+	 * (default)
+	 */
+	public void setCachingEnabled(boolean cachingEnabled) {
+		this.cachingEnabled = cachingEnabled;
+	}
+
+	/**
+	 * Gets the executor that is used to validate collections of vCards.
+	 * @return the executor or null if vCards are validated in the calling
+	 * thread
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Sets the executor that is used to validate collections of vCards (see
+	 * {@link #validateAll}).
+	 * @param executor the executor or null to validate vCards in the calling
+	 * thread (defaults to {@link ForkJoinPool#commonPool})
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Validates a vCard.
+	 * @param vcard the vCard
+	 * @param version the version to validate the vCard against
+	 * @return the validation warnings
+	 */
+	public ValidationWarnings validate(VCard vcard, VCardVersion version) {
+		ValidationWarnings warnings = new ValidationWarnings();
+
+		//validate overall vCard object
+		if (rules.contains(ValidationRule.REQUIRED_PROPERTIES)) {
+			if (vcard.getStructuredName() == null && (version == VCardVersion.V2_1 || version == VCardVersion.V3_0)) {
+				warnings.add(null, new ValidationWarning(0));
+				if (failFast) {
+					return warnings;
+				}
+			}
+			if (vcard.getFormattedName() == null && (version == VCardVersion.V3_0 || version == VCardVersion.V4_0)) {
+				warnings.add(null, new ValidationWarning(1));
+				if (failFast) {
+					return warnings;
+				}
+			}
+		}
+
+		if (!hasPropertyRules()) {
+			//avoid parsing lazily-parsed properties unnecessarily
+			return warnings;
+		}
+
+		//validate properties
+		Cache cache = cachingEnabled ? getCache(vcard, version) : null;
+		for (VCardProperty property : vcard.getPropertiesView()) {
+			List<ValidationWarning> propWarnings = (cache != null && property.isValidationCacheable()) ? cache.validate(property, vcard) : property.validate(version, vcard, rules, failFast);
+			if (!propWarnings.isEmpty()) {
+				warnings.add(property, propWarnings);
+				if (failFast) {
+					return warnings;
+				}
+			}
+		}
+
+		if (cache != null) {
+			cache.prune();
+		}
+
+		return warnings;
+	}
+
+	private Cache getCache(VCard vcard, VCardVersion version) {
+		Cache cache = vcard.validationCache;
+		if (cache == null || cache.version != version || cache.failFast != failFast || !cache.rules.equals(rules)) {
+			cache = new Cache(version, EnumSet.copyOf(rules), failFast);
+			vcard.validationCache = cache;
+		}
+		cache.pass++;
+		return cache;
+	}
+
+	/**
+	 * Validates a collection of vCards. The vCards are split into batches,
+	 * which are validated in parallel using the validator's executor (see
+	 * {@link #setExecutor}). This method blocks until all the vCards have been
+	 * validated.
+	 * @param vcards the vCards
+	 * @param version the version to validate the vCards against
+	 * @return the validation warnings of each vCard, in the same order as the
+	 * given collection
+	 */
+	public List<ValidationWarnings> validateAll(Collection<VCard> vcards, VCardVersion version) {
+		VCard[] array = vcards.toArray(new VCard[0]);
+		ValidationWarnings[] results = new ValidationWarnings[array.length];
+
+		if (executor == null || array.length <= BATCH_SIZE) {
+			validate(array, 0, array.length, version, results);
+			return Arrays.asList(results);
+		}
+
+		List<CompletableFuture<Void>> batches = new ArrayList<>(array.length / BATCH_SIZE + 1);
+		for (int start = 0; start < array.length; start += BATCH_SIZE) {
+			int from = start;
+			int to = Math.min(start + BATCH_SIZE, array.length);
+			batches.add(CompletableFuture.runAsync(() -> validate(array, from, to, version, results), executor));
+		}
+
+		try {
+			CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0])).join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+
+		return Arrays.asList(results);
+	}
+
+	private boolean hasPropertyRules() {
+		for (ValidationRule rule : rules) {
+			if (rule != ValidationRule.REQUIRED_PROPERTIES) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void validate(VCard[] vcards, int from, int to, VCardVersion version, ValidationWarnings[] results) {
+		for (int i = from; i < to; i++) {
+			results[i] = validate(vcards[i], version);
+		}
+	}
+
+	/**
+	 * Holds the validation results of the properties in a vCard.
+	 */
+	static class Cache {
+		private final VCardVersion version;
+		private final Set<ValidationRule> rules;
+		private final boolean failFast;
+		private final Map<VCardProperty, Entry> entries = new IdentityHashMap<>();
+		private int pass = 0;
+
+		private Cache(VCardVersion version, Set<ValidationRule> rules, boolean failFast) {
+			this.version = version;
+			this.rules = rules;
+			this.failFast = failFast;
+		}
+
+		/**
+		 * Validates a property, or returns its cached results if it has not
+		 * been modified since it was last validated.
+		 * @param property the property
+		 * @param vcard the vCard the property belongs to
+		 * @return the validation warnings
+		 */
+		private List<ValidationWarning> validate(VCardProperty property, VCard vcard) {
+			int modCount = property.getModificationCount();
+			Entry entry = entries.get(property);
+			if (entry == null || entry.modCount != modCount) {
+				List<ValidationWarning> warnings = property.validate(version, vcard, rules, failFast);
+				entry = new Entry(modCount, warnings);
+				entries.put(property, entry);
+			}
+			entry.pass = pass;
+			return entry.warnings;
+		}
+
+		/**
+		 * Removes the entries of properties that were not visited during the
+		 * current validation pass (for example, because they were removed
+		 * from the vCard).
+		 */
+		private void prune() {
+			Iterator<Entry> it = entries.values().iterator();
+			while (it.hasNext()) {
+				if (it.next().pass != pass) {
+					it.remove();
+				}
+			}
+		}
+
+		private static class Entry {
+			private final int modCount;
+			private final List<ValidationWarning> warnings;
+			private int pass;
+
+			private Entry(int modCount, List<ValidationWarning> warnings) {
+				this.modCount = modCount;
+				this.warnings = warnings;
+			}
+		}
+	}
+}
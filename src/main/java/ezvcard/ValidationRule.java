@@ -0,0 +1,65 @@
+package ezvcard;
+
+/*
+Copyright (c) 2012-2026, Michael Angstadt
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met: 
+
+1. Redistributions of source code must retain the above copyright notice, this
+list of conditions and the following disclaimer. 
+2. Redistributions in binary form must reproduce the above copyright notice,
+this list of conditions and the following disclaimer in the documentation
+and/or other materials provided with the distribution. 
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+The views and conclusions contained in the software and documentation are those
+of the authors and should not be interpreted as representing official policies, 
+either expressed or implied, of the FreeBSD Project.
+*/
+
+
+/**
+ * Defines the groups of checks that can be run when validating a vCard (see
+ * {@link VCardValidator}).
+ * @author Michael Angstadt
+ */
+public enum ValidationRule {
+	/**
+	 * Checks that the properties required by the target version are present
+	 * (for example, 3.0 and 4.0 vCards must have a FormattedName property).
+	 */
+	REQUIRED_PROPERTIES,
+
+	/**
+	 * Checks that each property is supported by the target version.
+	 */
+	VERSION_SUPPORT,
+
+	/**
+	 * Checks the names and values of each property's parameters.
+	 */
+	PARAMETERS,
+
+	/**
+	 * Checks each property's group name for invalid characters.
+	 */
+	GROUPS,
+
+	/**
+	 * Runs the checks that are specific to each property class (for example,
+	 * making sure a Geo property has both a latitude and longitude).
+	 */
+	PROPERTY_VALUES
+}
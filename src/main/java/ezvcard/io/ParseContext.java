@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import ezvcard.VCardVersion;
+import ezvcard.util.BlobStore;
 
 /*
  Copyright (c) 2012-2026, Michael Angstadt
@@ -43,6 +44,8 @@ public class ParseContext {
 	private List<ParseWarning> warnings = new ArrayList<>();
 	private Integer lineNumber;
 	private String propertyName;
+	private BlobStore blobStore;
+	private boolean warningsEnabled = true;
 
 	/**
 	 * Gets the version of the vCard being parsed.
@@ -93,12 +96,52 @@ public class ParseContext {
 		this.propertyName = propertyName;
 	}
 
+	/**
+	 * Gets the blob store that large binary property values should be decoded
+	 * into.
+	 * @return the blob store or null to keep all binary data on the heap
+	 */
+	public BlobStore getBlobStore() {
+		return blobStore;
+	}
+
+	/**
+	 * Sets the blob store that large binary property values should be decoded
+	 * into.
+	 * @param blobStore the blob store or null to keep all binary data on the
+	 * heap
+	 */
+	public void setBlobStore(BlobStore blobStore) {
+		this.blobStore = blobStore;
+	}
+
+	/**
+	 * Gets whether parse warnings are recorded.
+	 * @return true if warnings are recorded, false if they are ignored
+	 */
+	public boolean isWarningsEnabled() {
+		return warningsEnabled;
+	}
+
+	/**
+	 * Sets whether parse warnings are recorded.
+	 * @param warningsEnabled true to record warnings (the default), false to
+	 * ignore them
+	 */
+	public void setWarningsEnabled(boolean warningsEnabled) {
+		this.warningsEnabled = warningsEnabled;
+	}
+
 	/**
 	 * Adds a parse warning.
 	 * @param code the warning code
 	 * @param args the warning message arguments
 	 */
 	public void addWarning(int code, Object... args) {
+		if (!warningsEnabled) {
+			return;
+		}
+
 		//@formatter:off
 		warnings.add(new ParseWarning.Builder(this)
 			.message(code, args)
@@ -111,6 +154,10 @@ public class ParseContext {
 	 * @param message the warning message
 	 */
 	public void addWarning(String message) {
+		if (!warningsEnabled) {
+			return;
+		}
+
 		//@formatter:off
 		warnings.add(new ParseWarning.Builder(this)
 			.message(message)
@@ -32,19 +32,23 @@ either expressed or implied, of the FreeBSD Project.
 */
 
 /**
- * Represents a warning that occurred during the parsing of a vCard.
+ * Represents a warning that occurred during the parsing of a vCard. Warnings
+ * that were created from a message code only store the code and its
+ * arguments. The message itself is not formatted until it is requested.
  * @author Michael Angstadt
  */
 public class ParseWarning {
 	private final Integer code;
+	private final Object[] args;
 	private final Integer lineNumber;
 	private final String propertyName;
-	private final String message;
+	private String message;
 
-	private ParseWarning(Integer lineNumber, String propertyName, Integer code, String message) {
+	private ParseWarning(Integer lineNumber, String propertyName, Integer code, Object[] args, String message) {
 		this.lineNumber = lineNumber;
 		this.propertyName = propertyName;
 		this.code = code;
+		this.args = args;
 		this.message = message;
 	}
 
@@ -56,6 +60,14 @@ public class ParseWarning {
 		return code;
 	}
 
+	/**
+	 * Gets the arguments of the warning message.
+	 * @return the message arguments or empty array if no code was specified
+	 */
+	public Object[] getArgs() {
+		return (args == null) ? new Object[0] : args.clone();
+	}
+
 	/**
 	 * Gets the line number the warning occurred on.
 	 * @return the line number or null if not applicable
@@ -69,6 +81,9 @@ public class ParseWarning {
 	 * @return the warning message
 	 */
 	public String getMessage() {
+		if (message == null && code != null) {
+			message = Messages.INSTANCE.getParseMessage(code, args);
+		}
 		return message;
 	}
 
@@ -82,7 +97,7 @@ public class ParseWarning {
 
 	@Override
 	public String toString() {
-		String message = this.message;
+		String message = getMessage();
 		if (code != null) {
 			message = "(" + code + ") " + message;
 		}
@@ -110,6 +125,7 @@ public class ParseWarning {
 	public static class Builder {
 		private Integer lineNumber;
 		private Integer code;
+		private Object[] args;
 		private String propertyName;
 		private String message;
 
@@ -129,6 +145,18 @@ public class ParseWarning {
 			propertyName(context.getPropertyName());
 		}
 
+		/**
+		 * Initializes the builder with data from an existing warning.
+		 * @param original the warning to copy
+		 */
+		public Builder(ParseWarning original) {
+			lineNumber = original.lineNumber;
+			propertyName = original.propertyName;
+			code = original.code;
+			args = original.args;
+			message = original.message;
+		}
+
 		/**
 		 * Sets the name of the property that the warning occurred on.
 		 * @param propertyName the property name (e.g. "DTSTART") or null if not
@@ -151,14 +179,16 @@ public class ParseWarning {
 		}
 
 		/**
-		 * Sets the warning message.
+		 * Sets the warning message. The message is not formatted until
+		 * {@link ParseWarning#getMessage} is called.
 		 * @param code the message code
 		 * @param args the message arguments
 		 * @return this
 		 */
 		public Builder message(int code, Object... args) {
 			this.code = code;
-			message = Messages.INSTANCE.getParseMessage(code, args);
+			this.args = args;
+			message = null;
 			return this;
 		}
 
@@ -169,6 +199,7 @@ public class ParseWarning {
 		 */
 		public Builder message(String message) {
 			code = null;
+			args = null;
 			this.message = message;
 			return this;
 		}
@@ -188,7 +219,7 @@ public class ParseWarning {
 		 * @return the {@link ParseWarning} object
 		 */
 		public ParseWarning build() {
-			return new ParseWarning(lineNumber, propertyName, code, message);
+			return new ParseWarning(lineNumber, propertyName, code, args, message);
 		}
 	}
 }
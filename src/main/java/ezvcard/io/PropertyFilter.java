@@ -0,0 +1,105 @@
+package ezvcard.io;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import ezvcard.property.VCardProperty;
+
+/*
+Copyright (c) 2012-2026, Michael Angstadt
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met: 
+
+1. Redistributions of source code must retain the above copyright notice, this
+list of conditions and the following disclaimer. 
+2. Redistributions in binary form must reproduce the above copyright notice,
+this list of conditions and the following disclaimer in the documentation
+and/or other materials provided with the distribution. 
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+The views and conclusions contained in the software and documentation are those
+of the authors and should not be interpreted as representing official policies, 
+either expressed or implied, of the FreeBSD Project.
+*/
+
+/**
+ * <p>
+ * Defines which properties a {@link StreamReader} should parse. Properties
+ * that are not included by the filter are discarded before they are handed
+ * off to their scribe, which means that their values are not unmarshalled
+ * (for example, base64-encoded binary data is not decoded) and no parse
+ * warnings are generated for them.
+ * </p>
+ * <p>
+ * Properties can be included by class and/or by name. A property is parsed
+ * if either its name or the class of its scribe has been included.
+ * </p>
+ * <p>
+ * <b>Example:</b>
+ * </p>
+ * 
+ * <pre class="brush:java">
+ * PropertyFilter filter = new PropertyFilter()
+ *   .include(FormattedName.class)
+ *   .include(Email.class)
+ *   .include("X-SEARCH-KEY");
+ * 
+ * try (VCardReader reader = new VCardReader(file)) {
+ *   reader.setPropertyFilter(filter);
+ *   VCard vcard;
+ *   while ((vcard = reader.readNext()) != null) {
+ *     //...
+ *   }
+ * }
+ * </pre>
+ * @author Michael Angstadt
+ */
+public class PropertyFilter {
+	private final Set<Class<? extends VCardProperty>> classes = new HashSet<>();
+	private final Set<String> names = new HashSet<>();
+
+	/**
+	 * Includes all properties of the given class.
+	 * @param propertyClass the property class (e.g. {@code Email.class})
+	 * @return this
+	 */
+	public PropertyFilter include(Class<? extends VCardProperty> propertyClass) {
+		classes.add(propertyClass);
+		return this;
+	}
+
+	/**
+	 * Includes all properties with the given name. This is useful for
+	 * including extended properties that do not have a scribe.
+	 * @param propertyName the property name (case insensitive, e.g.
+	 * "X-SEARCH-KEY")
+	 * @return this
+	 */
+	public PropertyFilter include(String propertyName) {
+		names.add(propertyName.toUpperCase());
+		return this;
+	}
+
+	/**
+	 * Determines if a property should be parsed.
+	 * @param propertyName the property name (case insensitive)
+	 * @param propertyClass the class of the property's scribe
+	 * @return true if the property should be parsed, false if it should be
+	 * discarded
+	 */
+	public boolean includes(String propertyName, Class<? extends VCardProperty> propertyClass) {
+		return classes.contains(propertyClass) || (!names.isEmpty() && names.contains(propertyName.toUpperCase()));
+	}
+}
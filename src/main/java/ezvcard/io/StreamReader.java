@@ -11,10 +11,14 @@ import java.util.Set;
 import ezvcard.VCard;
 import ezvcard.io.scribe.ScribeIndex;
 import ezvcard.io.scribe.VCardPropertyScribe;
+import ezvcard.io.text.UnparsedProperty;
 import ezvcard.parameter.AddressType;
 import ezvcard.property.Address;
 import ezvcard.property.Label;
+import ezvcard.property.RawProperty;
 import ezvcard.property.VCardProperty;
+import ezvcard.util.BlobStore;
+import ezvcard.util.StringPool;
 
 /*
  Copyright (c) 2012-2026, Michael Angstadt
@@ -53,6 +57,23 @@ public abstract class StreamReader implements Closeable {
 	protected final List<ParseWarning> warnings = new ArrayList<>();
 	protected ScribeIndex index = new ScribeIndex();
 	protected ParseContext context;
+	protected PropertyFilter propertyFilter;
+	protected BlobStore blobStore;
+	protected StringPool stringPool;
+	protected ParseWarningListener warningListener;
+	protected boolean warningsEnabled = true;
+
+	/**
+	 * The listener that is passed to {@link #read(VCardDataListener)}, or null
+	 * if the reader is not being used in that way.
+	 */
+	private VCardDataListener dataListener;
+
+	/**
+	 * The vCard whose properties are being passed to {@link #dataListener}
+	 * instead of being added to the vCard.
+	 */
+	private VCard streamingVCard;
 
 	/**
 	 * Reads all vCards from the data stream.
@@ -76,6 +97,8 @@ public abstract class StreamReader implements Closeable {
 	public VCard readNext() throws IOException {
 		warnings.clear();
 		context = new ParseContext();
+		context.setBlobStore(blobStore);
+		context.setWarningsEnabled(warningsEnabled);
 		return _readNext();
 	}
 
@@ -86,6 +109,102 @@ public abstract class StreamReader implements Closeable {
 	 */
 	protected abstract VCard _readNext() throws IOException;
 
+	/**
+	 * <p>
+	 * Reads all vCards from the data stream, passing their properties to the
+	 * given listener as they are parsed. The properties are not collected
+	 * into {@link VCard} objects, so the amount of memory that is used does
+	 * not depend on the size of the data stream. Parse warnings are passed to
+	 * the listener as well.
+	 * </p>
+	 * <p>
+	 * Since the properties are not collected, LABEL properties are not
+	 * matched up with their ADR properties. They are passed to the listener
+	 * like any other property. Nested vCards (such as those in AGENT
+	 * properties) are still parsed into {@link VCard} objects.
+	 * </p>
+	 * @param listener the listener
+	 * @throws IOException if there's a problem reading from the stream
+	 */
+	public void read(VCardDataListener listener) throws IOException {
+		ParseWarningListener originalWarningListener = warningListener;
+		warningListener = listener;
+		dataListener = listener;
+
+		try {
+			VCard vcard;
+			while ((vcard = readNext()) != null) {
+				if (vcard != streamingVCard) {
+					//the reader does not support streaming, so pass along the properties of the vCard it built
+					listener.beginVCard();
+					for (VCardProperty property : vcard) {
+						listener.readProperty(getPropertyName(property), property, vcard.getVersion());
+					}
+					for (Label label : vcard.getOrphanedLabels()) {
+						listener.readProperty(getPropertyName(label), label, vcard.getVersion());
+					}
+				}
+
+				streamingVCard = null;
+				listener.endVCard();
+			}
+		} finally {
+			warningListener = originalWarningListener;
+			dataListener = null;
+			streamingVCard = null;
+		}
+	}
+
+	/**
+	 * Called by the reader when it starts reading a vCard (not including
+	 * nested vCards). If {@link #read(VCardDataListener)} was called, the
+	 * properties that are passed to {@link #addProperty} for this vCard are
+	 * sent to the listener instead of being added to the vCard.
+	 * @param vcard the vCard
+	 */
+	protected void startVCard(VCard vcard) {
+		if (dataListener != null) {
+			streamingVCard = vcard;
+			dataListener.beginVCard();
+		}
+	}
+
+	/**
+	 * Adds a property to a vCard, or passes it to the listener if the vCard's
+	 * properties are being streamed (see {@link #startVCard}).
+	 * @param vcard the vCard
+	 * @param property the property
+	 */
+	protected void addProperty(VCard vcard, VCardProperty property) {
+		if (isStreaming(vcard)) {
+			dataListener.readProperty(getPropertyName(property), property, vcard.getVersion());
+		} else {
+			vcard.addProperty(property);
+		}
+	}
+
+	/**
+	 * Determines if the properties of a vCard are being passed to a listener
+	 * instead of being added to the vCard.
+	 * @param vcard the vCard
+	 * @return true if the properties are being streamed, false if not
+	 */
+	protected boolean isStreaming(VCard vcard) {
+		return dataListener != null && vcard == streamingVCard;
+	}
+
+	private String getPropertyName(VCardProperty property) {
+		if (property instanceof RawProperty) {
+			return ((RawProperty) property).getPropertyName();
+		}
+		if (property instanceof UnparsedProperty) {
+			return ((UnparsedProperty) property).getName();
+		}
+
+		VCardPropertyScribe<? extends VCardProperty> scribe = index.getPropertyScribe(property);
+		return (scribe == null) ? null : scribe.getPropertyName();
+	}
+
 	/**
 	 * Matches up a list of {@link Label} properties with their corresponding
 	 * {@link Address} properties. If no match can be found, then the LABEL
@@ -94,6 +213,10 @@ public abstract class StreamReader implements Closeable {
 	 * @param labels the LABEL properties
 	 */
 	protected void assignLabels(VCard vcard, List<Label> labels) {
+		if (labels.isEmpty()) {
+			return;
+		}
+
 		List<Address> adrs = vcard.getAddresses();
 		for (Label label : labels) {
 			Set<AddressType> labelTypes = new HashSet<>(label.getTypes());
@@ -115,14 +238,18 @@ public abstract class StreamReader implements Closeable {
 
 	/**
 	 * <p>
-	 * Registers a property scribe. This is the same as calling:
+	 * Registers a property scribe with the scribe index.
 	 * </p>
 	 * <p>
-	 * {@code getScribeIndex().register(scribe)}
+	 * If the scribe index is {@link ScribeIndex#isFrozen frozen} (see
+	 * {@link #setScribeIndex}), it is first replaced with a modifiable copy.
 	 * </p>
 	 * @param scribe the scribe to register
 	 */
 	public void registerScribe(VCardPropertyScribe<? extends VCardProperty> scribe) {
+		if (index.isFrozen()) {
+			index = index.copy();
+		}
 		index.register(scribe);
 	}
 
@@ -135,13 +262,161 @@ public abstract class StreamReader implements Closeable {
 	}
 
 	/**
-	 * Sets the scribe index.
+	 * Sets the scribe index. To save memory, an index that is never modified
+	 * can be {@link ScribeIndex#freeze frozen} and shared by any number of
+	 * instances (for example, {@link ScribeIndex#standard}).
 	 * @param index the scribe index
 	 */
 	public void setScribeIndex(ScribeIndex index) {
 		this.index = index;
 	}
 
+	/**
+	 * Gets the filter that determines which properties are parsed.
+	 * @return the filter or null if all properties are parsed
+	 */
+	public PropertyFilter getPropertyFilter() {
+		return propertyFilter;
+	}
+
+	/**
+	 * Sets a filter that determines which properties are parsed. Properties
+	 * that are excluded by the filter are discarded without being unmarshalled
+	 * by their scribe. This is supported by the plain-text, jCard, and xCard
+	 * readers. It is ignored by the hCard parser.
+	 * @param propertyFilter the filter or null to parse all properties (the
+	 * default)
+	 */
+	public void setPropertyFilter(PropertyFilter propertyFilter) {
+		this.propertyFilter = propertyFilter;
+	}
+
+	/**
+	 * Gets the blob store that large binary property values (such as PHOTO
+	 * properties) are decoded into.
+	 * @return the blob store or null if all binary data is kept on the heap
+	 */
+	public BlobStore getBlobStore() {
+		return blobStore;
+	}
+
+	/**
+	 * Sets the blob store that large binary property values (such as PHOTO
+	 * properties) are decoded into. Base64-encoded values whose decoded size
+	 * exceeds the store's threshold are decoded into a buffer allocated by the
+	 * store instead of into a byte array.
+	 * @param blobStore the blob store or null to keep all binary data on the
+	 * heap (the default)
+	 */
+	public void setBlobStore(BlobStore blobStore) {
+		this.blobStore = blobStore;
+	}
+
+	/**
+	 * Gets the pool that is used to de-duplicate parameter names, parameter
+	 * values, and group names.
+	 * @return the pool or null if strings are not pooled
+	 */
+	public StringPool getStringPool() {
+		return stringPool;
+	}
+
+	/**
+	 * Sets the pool that is used to de-duplicate parameter names, parameter
+	 * values, and group names. The same pool can be shared by multiple
+	 * readers, even if they are running on different threads.
+	 * @param stringPool the pool or null not to pool strings (the default)
+	 */
+	public void setStringPool(StringPool stringPool) {
+		this.stringPool = stringPool;
+	}
+
+	/**
+	 * Gets the canonical instance of a string from the string pool.
+	 * @param string the string (can be null)
+	 * @return the canonical instance or the given string if there is no string
+	 * pool
+	 */
+	protected String intern(String string) {
+		return (stringPool == null) ? string : stringPool.intern(string);
+	}
+
+	/**
+	 * Determines if a property should be parsed, based on the property filter.
+	 * @param propertyName the property name
+	 * @param scribe the property's scribe
+	 * @return true to parse the property, false to discard it
+	 */
+	protected boolean isIncluded(String propertyName, VCardPropertyScribe<? extends VCardProperty> scribe) {
+		return propertyFilter == null || propertyFilter.includes(propertyName, scribe.getPropertyClass());
+	}
+
+	/**
+	 * Gets the listener that parse warnings are passed to as they occur.
+	 * @return the listener or null if warnings are buffered (see
+	 * {@link #getWarnings})
+	 */
+	public ParseWarningListener getWarningListener() {
+		return warningListener;
+	}
+
+	/**
+	 * Sets a listener that parse warnings are passed to as they occur. When a
+	 * listener is set, warnings are not buffered, so {@link #getWarnings}
+	 * always returns an empty list.
+	 * @param warningListener the listener or null to buffer the warnings (the
+	 * default)
+	 */
+	public void setWarningListener(ParseWarningListener warningListener) {
+		this.warningListener = warningListener;
+	}
+
+	/**
+	 * Gets whether parse warnings are recorded.
+	 * @return true if warnings are recorded, false if they are ignored
+	 */
+	public boolean isWarningsEnabled() {
+		return warningsEnabled;
+	}
+
+	/**
+	 * Sets whether parse warnings are recorded. Disabling warnings saves the
+	 * cost of creating them when they are not needed.
+	 * @param warningsEnabled true to record warnings (the default), false to
+	 * ignore them
+	 */
+	public void setWarningsEnabled(boolean warningsEnabled) {
+		this.warningsEnabled = warningsEnabled;
+	}
+
+	/**
+	 * Records a parse warning. The warning is either buffered or passed to the
+	 * warning listener, depending on how the reader is configured.
+	 * @param warning the warning
+	 */
+	protected void addWarning(ParseWarning warning) {
+		if (!warningsEnabled) {
+			return;
+		}
+
+		if (warningListener == null) {
+			warnings.add(warning);
+		} else {
+			warningListener.onWarning(warning);
+		}
+	}
+
+	/**
+	 * Records a list of parse warnings.
+	 * @param warnings the warnings
+	 * @see #addWarning(ParseWarning)
+	 */
+	protected void addWarnings(List<ParseWarning> warnings) {
+		for (ParseWarning warning : warnings) {
+			addWarning(warning);
+		}
+	}
+
 	/**
 	 * Gets the warnings from the last vCard that was unmarshalled. This list is
 	 * reset every time a new vCard is read.
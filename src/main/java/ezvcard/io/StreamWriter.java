@@ -2,8 +2,9 @@ package ezvcard.io;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -14,6 +15,7 @@ import ezvcard.VCard;
 import ezvcard.VCardVersion;
 import ezvcard.io.scribe.ScribeIndex;
 import ezvcard.io.scribe.VCardPropertyScribe;
+import ezvcard.io.text.UnparsedProperty;
 import ezvcard.property.Address;
 import ezvcard.property.Label;
 import ezvcard.property.ProductId;
@@ -130,14 +132,18 @@ public abstract class StreamWriter implements Closeable {
 
 	/**
 	 * <p>
-	 * Registers a property scribe. This is the same as calling:
+	 * Registers a property scribe with the scribe index.
 	 * </p>
 	 * <p>
-	 * {@code getScribeIndex().register(scribe)}
+	 * If the scribe index is {@link ScribeIndex#isFrozen frozen} (see
+	 * {@link #setScribeIndex}), it is first replaced with a modifiable copy.
 	 * </p>
 	 * @param scribe the scribe to register
 	 */
 	public void registerScribe(VCardPropertyScribe<? extends VCardProperty> scribe) {
+		if (index.isFrozen()) {
+			index = index.copy();
+		}
 		index.register(scribe);
 	}
 
@@ -150,7 +156,9 @@ public abstract class StreamWriter implements Closeable {
 	}
 
 	/**
-	 * Sets the scribe index.
+	 * Sets the scribe index. To save memory, an index that is never modified
+	 * can be {@link ScribeIndex#freeze frozen} and shared by any number of
+	 * instances (for example, {@link ScribeIndex#standard}).
 	 * @param index the scribe index
 	 */
 	public void setScribeIndex(ScribeIndex index) {
@@ -167,10 +175,25 @@ public abstract class StreamWriter implements Closeable {
 	 */
 	private List<VCardProperty> prepare(VCard vcard) {
 		VCardVersion targetVersion = getTargetVersion();
-		List<VCardProperty> propertiesToAdd = new LinkedList<>();
+		Collection<VCardProperty> properties = vcard.getPropertiesWithoutParsing();
+		List<VCardProperty> propertiesToAdd = new ArrayList<>(properties.size() + 1);
 		Set<Class<? extends VCardProperty>> unregistered = new HashSet<>();
 		VCardProperty prodIdProperty = null;
-		for (VCardProperty property : vcard) {
+		for (VCardProperty property : properties) {
+			if (property instanceof UnparsedProperty) {
+				UnparsedProperty unparsed = (UnparsedProperty) property;
+				if (canWriteUnparsed(unparsed)) {
+					propertiesToAdd.add(unparsed);
+					continue;
+				}
+
+				//parse the property without modifying the vCard
+				property = unparsed.parse();
+				if (property == null) {
+					continue;
+				}
+			}
+
 			if (versionStrict && !property.isSupportedBy(targetVersion)) {
 				//do not add the property to the vCard if it is not supported by the target version
 				continue;
@@ -224,6 +247,18 @@ public abstract class StreamWriter implements Closeable {
 		propertiesToAdd.add(label);
 	}
 
+	/**
+	 * Determines if a property that was read with lazy parsing enabled can be
+	 * written as-is, without being parsed first. The default implementation
+	 * returns false.
+	 * @param property the unparsed property
+	 * @return true if the writer can write the property as-is, false if it
+	 * must be parsed first
+	 */
+	protected boolean canWriteUnparsed(UnparsedProperty property) {
+		return false;
+	}
+
 	private IllegalArgumentException createUnregisteredScribesException(Set<Class<? extends VCardProperty>> unregistered) {
 		//@formatter:off
 		List<String> classes = unregistered.stream()
@@ -0,0 +1,98 @@
+package ezvcard.io;
+
+import ezvcard.VCard;
+import ezvcard.VCardVersion;
+import ezvcard.io.text.UnparsedProperty;
+import ezvcard.io.text.VCardReader;
+import ezvcard.property.VCardProperty;
+
+/*
+Copyright (c) 2012-2026, Michael Angstadt
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met: 
+
+1. Redistributions of source code must retain the above copyright notice, this
+list of conditions and the following disclaimer. 
+2. Redistributions in binary form must reproduce the above copyright notice,
+this list of conditions and the following disclaimer in the documentation
+and/or other materials provided with the distribution. 
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+The views and conclusions contained in the software and documentation are those
+of the authors and should not be interpreted as representing official policies, 
+either expressed or implied, of the FreeBSD Project.
+*/
+
+/**
+ * <p>
+ * Receives the contents of a vCard data stream as it is parsed, without the
+ * properties being collected into {@link VCard} objects. This is useful for
+ * scanning, counting, or forwarding the properties of large files, since the
+ * amount of memory that is used does not depend on the size of the file.
+ * </p>
+ * <p>
+ * <b>Example:</b>
+ * </p>
+ * 
+ * <pre class="brush:java">
+ * try (VCardReader reader = new VCardReader(file)) {
+ *   reader.read((name, property, version) -&gt; {
+ *     if (property instanceof Email) {
+ *       System.out.println(((Email)property).getValue());
+ *     }
+ *   });
+ * }
+ * </pre>
+ * @author Michael Angstadt
+ * @see StreamReader#read(VCardDataListener)
+ */
+public interface VCardDataListener extends ParseWarningListener {
+	/**
+	 * Called when the reader starts reading a vCard.
+	 */
+	default void beginVCard() {
+		//empty
+	}
+
+	/**
+	 * <p>
+	 * Called when a property is read.
+	 * </p>
+	 * <p>
+	 * If lazy parsing is enabled on a {@link VCardReader}, the property is
+	 * passed as an {@link UnparsedProperty}, which holds the property's raw
+	 * value.
+	 * </p>
+	 * @param propertyName the property name (e.g. "FN")
+	 * @param property the property
+	 * @param version the version of the vCard that the property belongs to
+	 */
+	void readProperty(String propertyName, VCardProperty property, VCardVersion version);
+
+	/**
+	 * Called when the reader finishes reading a vCard.
+	 */
+	default void endVCard() {
+		//empty
+	}
+
+	/**
+	 * Called when a parse warning occurs. Does nothing by default.
+	 * @param warning the warning
+	 */
+	default void onWarning(ParseWarning warning) {
+		//empty
+	}
+}
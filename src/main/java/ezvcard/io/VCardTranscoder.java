@@ -0,0 +1,226 @@
+package ezvcard.io;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import ezvcard.VCard;
+import ezvcard.VCardVersion;
+import ezvcard.io.text.UnparsedProperty;
+import ezvcard.io.text.VCardReader;
+import ezvcard.property.Label;
+import ezvcard.property.VCardProperty;
+
+/*
+Copyright (c) 2012-2026, Michael Angstadt
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met: 
+
+1. Redistributions of source code must retain the above copyright notice, this
+list of conditions and the following disclaimer. 
+2. Redistributions in binary form must reproduce the above copyright notice,
+this list of conditions and the following disclaimer in the documentation
+and/or other materials provided with the distribution. 
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+The views and conclusions contained in the software and documentation are those
+of the authors and should not be interpreted as representing official policies, 
+either expressed or implied, of the FreeBSD Project.
+*/
+
+/**
+ * <p>
+ * Converts vCards from one format to another (for example, from plain-text to
+ * jCard). The properties are pulled from the reader one at a time using
+ * {@link StreamReader#read(VCardDataListener)}, and each vCard is handed to
+ * the writer as soon as its last property has been read, so the amount of
+ * memory that is used does not depend on the size of the input.
+ * </p>
+ * <p>
+ * If the reader is a {@link VCardReader}, lazy parsing is enabled on it for
+ * the duration of the conversion. This means that property values are only
+ * run through their scribes if the writer needs to re-encode them. For
+ * example, if a plain-text vCard is converted to a plain-text vCard of the
+ * same version, most properties are copied over as-is without being parsed.
+ * </p>
+ * <p>
+ * Parse warnings, as well as warnings about properties that the writer will
+ * not write because they are not supported by the target version, are passed
+ * to the warning listener as they occur.
+ * </p>
+ * <p>
+ * <b>Example:</b>
+ * </p>
+ * 
+ * <pre class="brush:java">
+ * try (VCardReader reader = new VCardReader(in); JCardWriter writer = new JCardWriter(out, true)) {
+ *   VCardTranscoder transcoder = new VCardTranscoder(reader, writer);
+ *   transcoder.setWarningListener(warning -&gt; System.err.println(warning));
+ *   transcoder.transcode();
+ * }
+ * </pre>
+ * @author Michael Angstadt
+ */
+public class VCardTranscoder {
+	private final StreamReader reader;
+	private final StreamWriter writer;
+	private ParseWarningListener warningListener;
+
+	/**
+	 * @param reader the reader to read the vCards from
+	 * @param writer the writer to write the vCards to
+	 */
+	public VCardTranscoder(StreamReader reader, StreamWriter writer) {
+		this.reader = reader;
+		this.writer = writer;
+	}
+
+	/**
+	 * Gets the listener that receives the warnings.
+	 * @return the listener or null if warnings are ignored
+	 */
+	public ParseWarningListener getWarningListener() {
+		return warningListener;
+	}
+
+	/**
+	 * Sets the listener that receives the warnings.
+	 * @param warningListener the listener or null to ignore warnings (the
+	 * default)
+	 */
+	public void setWarningListener(ParseWarningListener warningListener) {
+		this.warningListener = warningListener;
+	}
+
+	/**
+	 * Reads all the vCards from the reader and writes them to the writer. The
+	 * reader and writer are not closed, and the settings of the reader are
+	 * left as they were.
+	 * @return the number of vCards that were converted
+	 * @throws IOException if there's a problem reading or writing
+	 * @throws IllegalArgumentException if a scribe hasn't been registered with
+	 * the writer for a custom property class
+	 */
+	public int transcode() throws IOException {
+		VCardReader vcardReader = (reader instanceof VCardReader) ? (VCardReader) reader : null;
+		boolean lazyParsing = false;
+		if (vcardReader != null) {
+			lazyParsing = vcardReader.isLazyParsingEnabled();
+			vcardReader.setLazyParsingEnabled(true);
+		}
+
+		Listener listener = new Listener();
+		try {
+			reader.read(listener);
+		} catch (UncheckedIOException e) {
+			//thrown by the listener when the writer fails
+			throw e.getCause();
+		} finally {
+			if (vcardReader != null) {
+				vcardReader.setLazyParsingEnabled(lazyParsing);
+			}
+		}
+
+		if (writer instanceof Flushable) {
+			((Flushable) writer).flush();
+		}
+		return listener.count;
+	}
+
+	/**
+	 * Collects the properties of each vCard and writes the vCard once all of
+	 * its properties have been read.
+	 */
+	private class Listener implements VCardDataListener {
+		private final VCardVersion targetVersion = writer.getTargetVersion();
+		private final boolean warnUnsupported = warningListener != null && writer.isVersionStrict();
+		private VCard vcard;
+		private final List<Label> labels = new ArrayList<>();
+		private int count = 0;
+
+		@Override
+		public void beginVCard() {
+			vcard = new VCard();
+			labels.clear();
+		}
+
+		@Override
+		public void readProperty(String propertyName, VCardProperty property, VCardVersion version) {
+			vcard.setVersion(version);
+
+			if (property instanceof Label) {
+				//LABELs are assigned to their ADR properties once the whole vCard has been read
+				labels.add((Label) property);
+				return;
+			}
+
+			if (warnUnsupported) {
+				warnIfUnsupported(propertyName, property);
+			}
+			vcard.addProperty(property);
+		}
+
+		@Override
+		public void endVCard() {
+			reader.assignLabels(vcard, labels);
+
+			try {
+				writer.write(vcard);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			vcard = null;
+			count++;
+		}
+
+		@Override
+		public void onWarning(ParseWarning warning) {
+			if (warningListener != null) {
+				warningListener.onWarning(warning);
+			}
+		}
+
+		/**
+		 * Reports a property that the writer will drop because it is not
+		 * supported by the target version.
+		 * @param propertyName the property name or null if the property does
+		 * not have a scribe
+		 * @param property the property
+		 */
+		private void warnIfUnsupported(String propertyName, VCardProperty property) {
+			boolean supported;
+			if (property instanceof UnparsedProperty) {
+				supported = ((UnparsedProperty) property).isPropertyClassSupportedBy(targetVersion);
+			} else {
+				supported = property.isSupportedBy(targetVersion);
+			}
+
+			if (supported) {
+				return;
+			}
+
+			//@formatter:off
+			warningListener.onWarning(new ParseWarning.Builder()
+				.propertyName(propertyName)
+				.message(40, targetVersion.getVersion())
+				.build()
+			);
+			//@formatter:on
+		}
+	}
+}
@@ -16,10 +16,15 @@ import java.util.stream.StreamSupport;
 
 import ezvcard.VCard;
 import ezvcard.io.ParseWarning;
+import ezvcard.io.ParseWarningListener;
+import ezvcard.io.PropertyFilter;
 import ezvcard.io.StreamReader;
+import ezvcard.io.VCardDataListener;
 import ezvcard.io.scribe.ScribeIndex;
 import ezvcard.io.scribe.VCardPropertyScribe;
 import ezvcard.property.VCardProperty;
+import ezvcard.util.BlobStore;
+import ezvcard.util.StringPool;
 
 /*
  Copyright (c) 2012-2026, Michael Angstadt
@@ -59,7 +64,12 @@ abstract class ChainingParser<T extends ChainingParser<?>> implements Iterable<V
 	final Path file;
 
 	ScribeIndex index;
+	PropertyFilter propertyFilter;
+	BlobStore blobStore;
+	StringPool stringPool;
 	List<List<ParseWarning>> warnings;
+	ParseWarningListener warningListener;
+	boolean warningsEnabled = true;
 
 	@SuppressWarnings("unchecked")
 	final T this_ = (T) this;
@@ -104,6 +114,46 @@ abstract class ChainingParser<T extends ChainingParser<?>> implements Iterable<V
 		return this_;
 	}
 
+	/**
+	 * Only parses the properties that are included by the given filter. All
+	 * other properties are discarded without being unmarshalled, which saves
+	 * time and memory when only a few properties are needed.
+	 * @param propertyFilter the filter or null to parse all properties (the
+	 * default)
+	 * @return this
+	 * @see StreamReader#setPropertyFilter(PropertyFilter)
+	 */
+	public T filter(PropertyFilter propertyFilter) {
+		this.propertyFilter = propertyFilter;
+		return this_;
+	}
+
+	/**
+	 * Decodes large binary property values (such as PHOTO properties) into the
+	 * given blob store instead of into byte arrays on the heap.
+	 * @param blobStore the blob store or null to keep all binary data on the
+	 * heap (the default)
+	 * @return this
+	 * @see StreamReader#setBlobStore(BlobStore)
+	 */
+	public T blobStore(BlobStore blobStore) {
+		this.blobStore = blobStore;
+		return this_;
+	}
+
+	/**
+	 * De-duplicates parameter names, parameter values, and group names using
+	 * the given pool. This reduces the amount of memory used when lots of
+	 * parsed vCards are kept in memory.
+	 * @param stringPool the pool or null not to pool strings (the default)
+	 * @return this
+	 * @see StreamReader#setStringPool(StringPool)
+	 */
+	public T stringPool(StringPool stringPool) {
+		this.stringPool = stringPool;
+		return this_;
+	}
+
 	/**
 	 * Provides a list object that any parser warnings will be put into.
 	 * @param warnings the list object that will be populated with the warnings
@@ -118,6 +168,33 @@ abstract class ChainingParser<T extends ChainingParser<?>> implements Iterable<V
 		return this_;
 	}
 
+	/**
+	 * Passes parse warnings to the given listener as they occur, instead of
+	 * buffering them for each vCard. When a listener is set, the lists added
+	 * to the warnings list (see {@link #warnings}) are always empty.
+	 * @param warningListener the listener or null to buffer the warnings (the
+	 * default)
+	 * @return this
+	 * @see StreamReader#setWarningListener(ParseWarningListener)
+	 */
+	public T warningListener(ParseWarningListener warningListener) {
+		this.warningListener = warningListener;
+		return this_;
+	}
+
+	/**
+	 * Sets whether parse warnings are recorded (enabled by default).
+	 * Disabling warnings saves the cost of creating them when they are not
+	 * needed.
+	 * @param enable true to record warnings, false to ignore them
+	 * @return this
+	 * @see StreamReader#setWarningsEnabled(boolean)
+	 */
+	public T warningsEnabled(boolean enable) {
+		warningsEnabled = enable;
+		return this_;
+	}
+
 	/**
 	 * Reads the first vCard from the stream.
 	 * @return the vCard or null if there are no vCards
@@ -153,6 +230,24 @@ abstract class ChainingParser<T extends ChainingParser<?>> implements Iterable<V
         }
 	}
 
+	/**
+	 * Reads all vCards from the stream, passing their properties to the given
+	 * listener instead of collecting them into {@link VCard} objects. Parse
+	 * warnings are passed to the listener as well.
+	 * @param listener the listener
+	 * @throws IOException if there's an I/O problem
+	 * @see StreamReader#read(VCardDataListener)
+	 */
+	public void read(VCardDataListener listener) throws IOException {
+		StreamReader reader = newReaderWithIndex();
+
+		try {
+			reader.read(listener);
+		} finally {
+			closeIfNeeded(reader);
+		}
+	}
+
 	/**
 	 * Lazily reads vCards from the stream.
 	 * @return an {@link Iterator} over vCards being parsed
@@ -173,7 +268,7 @@ abstract class ChainingParser<T extends ChainingParser<?>> implements Iterable<V
 
 	abstract StreamReader constructReader() throws IOException;
 
-	private boolean closeWhenDone() {
+	boolean closeWhenDone() {
 		return in == null && reader == null;
 	}
 
@@ -182,6 +277,11 @@ abstract class ChainingParser<T extends ChainingParser<?>> implements Iterable<V
 		if (index != null) {
 			reader.setScribeIndex(index);
 		}
+		reader.setPropertyFilter(propertyFilter);
+		reader.setBlobStore(blobStore);
+		reader.setStringPool(stringPool);
+		reader.setWarningListener(warningListener);
+		reader.setWarningsEnabled(warningsEnabled);
 		return reader;
 	}
 
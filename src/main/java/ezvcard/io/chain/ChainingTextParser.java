@@ -2,12 +2,28 @@ package ezvcard.io.chain;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import ezvcard.Ezvcard;
+import ezvcard.VCard;
+import ezvcard.io.ParseWarning;
 import ezvcard.io.StreamReader;
+import ezvcard.io.text.VCardChunkReader;
 import ezvcard.io.text.VCardReader;
+import ezvcard.util.IOUtils;
 
 /*
  Copyright (c) 2012-2026, Michael Angstadt
@@ -43,6 +59,8 @@ import ezvcard.io.text.VCardReader;
  */
 public class ChainingTextParser<T extends ChainingTextParser<?>> extends ChainingParser<T> {
 	private boolean caretDecoding = true;
+	private boolean lazyParsing = false;
+	private boolean parallel = false;
 
 	public ChainingTextParser(String string) {
 		super(string);
@@ -74,10 +92,158 @@ public class ChainingTextParser<T extends ChainingTextParser<?>> extends Chainin
 		return this_;
 	}
 
+	/**
+	 * Sets whether properties are only parsed when they are first accessed
+	 * (disabled by default).
+	 * @param enable true to enable lazy parsing, false to disable it
+	 * @return this
+	 * @see VCardReader#setLazyParsingEnabled(boolean)
+	 */
+	public T lazyParsing(boolean enable) {
+		lazyParsing = enable;
+		return this_;
+	}
+
+	/**
+	 * <p>
+	 * Sets whether the stream that is returned by {@link #stream} parses the
+	 * vCards in parallel (disabled by default).
+	 * </p>
+	 * <p>
+	 * Parallel parsing splits the data stream into the raw text of each
+	 * top-level vCard before parsing it, which costs extra time and memory.
+	 * It only pays off when there are many vCards and spare processor cores.
+	 * </p>
+	 * @param enable true to parse in parallel, false not to
+	 * @return this
+	 */
+	public T parallel(boolean enable) {
+		parallel = enable;
+		return this_;
+	}
+
+	/**
+	 * <p>
+	 * Creates a {@link Stream} of vCards to be lazily read.
+	 * </p>
+	 * <p>
+	 * By default, the vCards are read one after another by a single
+	 * {@link VCardReader}. If parallel parsing is enabled (see
+	 * {@link #parallel}), a parallel stream is returned instead. The data
+	 * stream is split into the raw text of each top-level vCard on a single
+	 * thread (see {@link VCardChunkReader}), and each vCard is then parsed by
+	 * its own {@link VCardReader} on the stream's fork-join pool.
+	 * </p>
+	 * <p>
+	 * The stream is ordered, so operations such as
+	 * {@link Stream#forEachOrdered} and {@link Stream#collect} return the
+	 * vCards in the order they appear in the data stream. Call
+	 * {@link Stream#unordered} if the order does not matter. When parsing in
+	 * parallel, the warnings list (see {@link #warnings}) is populated in
+	 * the order in which the vCards finish parsing, which may differ from the
+	 * order of the vCards in the data stream. Likewise, the warning listener
+	 * (see {@link #warningListener}) may be invoked from multiple threads at
+	 * once. The line numbers of the warnings are always relative to the data
+	 * stream as a whole.
+	 * </p>
+	 * <p>
+	 * <b>Example:</b>
+	 * </p>
+	 * 
+	 * <pre class="brush:java">
+	 * Path file = Paths.get("vcards.vcf");
+	 * try (Stream&lt;VCard&gt; stream = Ezvcard.parse(file).parallel(true).stream()) {
+	 *   List&lt;VCard&gt; vcards = stream.collect(Collectors.toList());
+	 * }
+	 * 
+	 * //use a custom thread pool
+	 * ForkJoinPool pool = new ForkJoinPool(32);
+	 * pool.submit(() -&gt; {
+	 *   try (Stream&lt;VCard&gt; stream = Ezvcard.parse(file).parallel(true).stream()) {
+	 *     stream.unordered().forEach(vcard -&gt; {
+	 *       //...
+	 *     });
+	 *   }
+	 * }).get();
+	 * </pre>
+	 * @return a {@link Stream} of vCards being parsed
+	 */
+	@Override
+	public Stream<VCard> stream() {
+		if (!parallel) {
+			return super.stream();
+		}
+
+		ChunkSpliterator spliterator = new ChunkSpliterator();
+
+		//@formatter:off
+		return StreamSupport.stream(spliterator, true)
+			.onClose(spliterator::close)
+			.map(this::parseChunk)
+			.filter(Objects::nonNull);
+		//@formatter:on
+	}
+
+	private VCard parseChunk(VCardChunkReader.Chunk chunk) {
+		VCardReader reader = new VCardReader(chunk.getText());
+		reader.setCaretDecodingEnabled(caretDecoding);
+		reader.setLazyParsingEnabled(lazyParsing);
+		if (index != null) {
+			reader.setScribeIndex(index);
+		}
+		reader.setPropertyFilter(propertyFilter);
+		reader.setBlobStore(blobStore);
+		reader.setStringPool(stringPool);
+		reader.setWarningsEnabled(warningsEnabled);
+
+		int lineOffset = chunk.getLineNumber() - 1;
+		if (warningListener != null) {
+			reader.setWarningListener(warning -> warningListener.onWarning(offsetLineNumber(warning, lineOffset)));
+		}
+
+		VCard vcard;
+		try {
+			vcard = reader.readNext();
+		} catch (IOException e) {
+			//should never be thrown because we're reading from a string
+			throw new UncheckedIOException(e);
+		} finally {
+			IOUtils.closeQuietly(reader);
+		}
+
+		if (vcard != null && warnings != null) {
+			//@formatter:off
+			List<ParseWarning> vcardWarnings = reader.getWarnings().stream()
+				.map(warning -> offsetLineNumber(warning, lineOffset))
+			.collect(Collectors.toList());
+			//@formatter:on
+
+			synchronized (warnings) {
+				warnings.add(vcardWarnings);
+			}
+		}
+
+		return vcard;
+	}
+
+	private static ParseWarning offsetLineNumber(ParseWarning warning, int lineOffset) {
+		Integer lineNumber = warning.getLineNumber();
+		if (lineNumber == null || lineOffset == 0) {
+			return warning;
+		}
+
+		//@formatter:off
+		return new ParseWarning.Builder(warning)
+			.lineNumber(lineNumber + lineOffset)
+		.build();
+		//@formatter:on
+	}
+
 	@Override
 	StreamReader constructReader() throws IOException {
 		VCardReader reader = newReader();
 		reader.setCaretDecodingEnabled(caretDecoding);
+		reader.setLazyParsingEnabled(lazyParsing);
 		return reader;
 	}
 
@@ -93,4 +259,78 @@ public class ChainingTextParser<T extends ChainingTextParser<?>> extends Chainin
 		}
 		return new VCardReader(file);
 	}
+
+	private Reader newCharacterReader() throws IOException {
+		if (string != null) {
+			return new StringReader(string);
+		}
+		if (in != null) {
+			return new InputStreamReader(in);
+		}
+		if (reader != null) {
+			return reader;
+		}
+		return Files.newBufferedReader(file);
+	}
+
+	/**
+	 * Splits the data stream into vCard chunks. Splitting a batch off of this
+	 * spliterator reads the raw text of the vCards in the batch, but does not
+	 * parse them, so the vCards can be parsed in parallel.
+	 */
+	private class ChunkSpliterator extends Spliterators.AbstractSpliterator<VCardChunkReader.Chunk> {
+		private VCardChunkReader chunkReader;
+		private boolean done = false;
+
+		ChunkSpliterator() {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super VCardChunkReader.Chunk> action) {
+			if (done) {
+				return false;
+			}
+
+			VCardChunkReader.Chunk chunk;
+			try {
+				if (chunkReader == null) {
+					chunkReader = new VCardChunkReader(newCharacterReader());
+				}
+				chunk = chunkReader.readNext();
+			} catch (IOException e) {
+				UncheckedIOException unchecked = new UncheckedIOException(e);
+				try {
+					close();
+				} catch (UncheckedIOException ex) {
+					e.addSuppressed(ex.getCause());
+				}
+				throw unchecked;
+			}
+
+			if (chunk == null) {
+				close();
+				return false;
+			}
+
+			action.accept(chunk);
+			return true;
+		}
+
+		void close() {
+			VCardChunkReader chunkReader = this.chunkReader;
+			this.chunkReader = null;
+			done = true;
+
+			if (chunkReader == null || !closeWhenDone()) {
+				return;
+			}
+
+			try {
+				chunkReader.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
 }
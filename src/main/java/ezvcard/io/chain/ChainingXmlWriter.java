@@ -2,7 +2,10 @@ package ezvcard.io.chain;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.HashMap;
@@ -20,6 +23,7 @@ import ezvcard.io.scribe.VCardPropertyScribe;
 import ezvcard.io.xml.XCardDocument;
 import ezvcard.io.xml.XCardDocument.XCardDocumentStreamWriter;
 import ezvcard.io.xml.XCardOutputProperties;
+import ezvcard.io.xml.XCardWriter;
 import ezvcard.property.VCardProperty;
 
 /*
@@ -144,7 +148,14 @@ public class ChainingXmlWriter extends ChainingWriter<ChainingXmlWriter> {
 	 * @return the XML document
 	 */
 	public String go() {
-		return createXCardDocument().write(outputProperties);
+		StringWriter sw = new StringWriter();
+		try {
+			go(sw);
+		} catch (TransformerException e) {
+			//should not be thrown because we're writing to a string
+			throw new RuntimeException(e);
+		}
+		return sw.toString();
 	}
 
 	/**
@@ -154,7 +165,11 @@ public class ChainingXmlWriter extends ChainingWriter<ChainingXmlWriter> {
 	 * stream
 	 */
 	public void go(OutputStream out) throws TransformerException {
-		createXCardDocument().write(out, outputProperties);
+		try {
+			go(new XCardWriter(out, outputProperties));
+		} catch (IOException e) {
+			throw new TransformerException(e);
+		}
 	}
 
 	/**
@@ -164,7 +179,9 @@ public class ChainingXmlWriter extends ChainingWriter<ChainingXmlWriter> {
 	 * @throws TransformerException if there's a problem writing to the file
 	 */
 	public void go(Path file) throws IOException, TransformerException {
-		createXCardDocument().write(file, outputProperties);
+		try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			go(new XCardWriter(writer, outputProperties));
+		}
 	}
 
 	/**
@@ -173,7 +190,32 @@ public class ChainingXmlWriter extends ChainingWriter<ChainingXmlWriter> {
 	 * @throws TransformerException if there's a problem writing to the writer
 	 */
 	public void go(Writer writer) throws TransformerException {
-		createXCardDocument().write(writer, outputProperties);
+		try {
+			go(new XCardWriter(writer, outputProperties));
+		} catch (IOException e) {
+			throw new TransformerException(e);
+		}
+	}
+
+	/**
+	 * Writes the xCards one at a time, so that only the XML of the vCard that
+	 * is currently being written is held in memory.
+	 * @param writer the writer
+	 * @throws IOException if there's a problem writing to the output stream
+	 */
+	private void go(XCardWriter writer) throws IOException {
+		writer.setAddProdId(prodId);
+		writer.setVersionStrict(versionStrict);
+		parameterDataTypes.forEach(writer::registerParameterDataType);
+		if (index != null) {
+			writer.setScribeIndex(index);
+		}
+		for (VCard vcard : vcards) {
+			writer.write(vcard);
+		}
+
+		//also flushes the output
+		writer.closeXmlDocument();
 	}
 
 	/**
@@ -172,7 +172,7 @@ public class HCardPage {
 		map.put("noProfile", readImage("no-profile.png", ImageType.PNG));
 		map.put("ezVCardVersion", Ezvcard.VERSION);
 		map.put("ezVCardUrl", Ezvcard.URL);
-		map.put("scribeIndex", new ScribeIndex());
+		map.put("scribeIndex", ScribeIndex.standard());
 
 		template.process(map, writer);
 		writer.flush();
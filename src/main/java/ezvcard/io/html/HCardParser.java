@@ -27,7 +27,6 @@ import ezvcard.io.EmbeddedVCardException;
 import ezvcard.io.ParseWarning;
 import ezvcard.io.SkipMeException;
 import ezvcard.io.StreamReader;
-import ezvcard.io.scribe.RawPropertyScribe;
 import ezvcard.io.scribe.VCardPropertyScribe;
 import ezvcard.property.Categories;
 import ezvcard.property.Email;
@@ -346,7 +345,7 @@ public class HCardParser extends StreamReader {
 		context.setPropertyName(scribe.getPropertyName());
 		try {
 			VCardProperty property = scribe.parseHtml(new HCardElement(element), context);
-			warnings.addAll(context.getWarnings());
+			addWarnings(context.getWarnings());
 			return property;
 		} catch (SkipMeException | CannotParseException e) {
 			//URL is not an instant messenger URL
@@ -367,7 +366,7 @@ public class HCardParser extends StreamReader {
 				return null;
 			}
 
-			scribe = new RawPropertyScribe(className);
+			scribe = index.getRawPropertyScribe(className);
 		}
 
 		return scribe;
@@ -376,10 +375,11 @@ public class HCardParser extends StreamReader {
 	private VCard parseEmbeddedVCard(Element element) {
 		embeddedVCards.add(element);
 		HCardParser embeddedReader = new HCardParser(element, pageUrl);
+		embeddedReader.setWarningsEnabled(warningsEnabled);
 		try {
 			return embeddedReader.readNext();
 		} finally {
-			warnings.addAll(embeddedReader.getWarnings());
+			addWarnings(embeddedReader.getWarnings());
 			IOUtils.closeQuietly(embeddedReader);
 		}
 	}
@@ -407,7 +407,7 @@ public class HCardParser extends StreamReader {
 			property = scribe.parseHtml(new HCardElement(element), context);
 		} catch (SkipMeException e) {
 			//@formatter:off
-			warnings.add(new ParseWarning.Builder(context)
+			addWarning(new ParseWarning.Builder(context)
 				.message(22, e.getMessage())
 				.build()
 			);
@@ -416,7 +416,7 @@ public class HCardParser extends StreamReader {
 			return;
 		} catch (CannotParseException e) {
 			//@formatter:off
-			warnings.add(new ParseWarning.Builder(context)
+			addWarning(new ParseWarning.Builder(context)
 				.message(e)
 				.build()
 			);
@@ -439,7 +439,7 @@ public class HCardParser extends StreamReader {
 			return;
 		}
 
-		warnings.addAll(context.getWarnings());
+		addWarnings(context.getWarnings());
 
 		/*
 		 * LABELs must be treated specially so they can be matched up with their
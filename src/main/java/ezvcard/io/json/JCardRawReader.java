@@ -15,6 +15,7 @@ import com.fasterxml.jackson.core.JsonToken;
 
 import ezvcard.VCardDataType;
 import ezvcard.parameter.VCardParameters;
+import ezvcard.util.StringPool;
 
 /*
  Copyright (c) 2012-2026, Michael Angstadt
@@ -52,6 +53,7 @@ public class JCardRawReader implements Closeable {
 	private boolean eof = false;
 	private JCardDataStreamListener listener;
 	private boolean strict = false;
+	private StringPool stringPool;
 
 	/**
 	 * @param reader the reader to wrap
@@ -179,20 +181,27 @@ public class JCardRawReader implements Closeable {
 		VCardParameters parameters = new VCardParameters();
 		while (parser.nextToken() != JsonToken.END_OBJECT) {
 			String parameterName = parser.getText();
+			if (stringPool != null) {
+				parameterName = stringPool.intern(parameterName.toUpperCase());
+			}
 
 			if (parser.nextToken() == JsonToken.START_ARRAY) {
 				//multi-valued parameter
 				while (parser.nextToken() != JsonToken.END_ARRAY) {
-					parameters.put(parameterName, parser.getText());
+					parameters.put(parameterName, intern(parser.getText()));
 				}
 			} else {
-				parameters.put(parameterName, parser.getValueAsString());
+				parameters.put(parameterName, intern(parser.getValueAsString()));
 			}
 		}
 
 		return parameters;
 	}
 
+	private String intern(String string) {
+		return (stringPool == null) ? string : stringPool.intern(string);
+	}
+
 	private List<JsonValue> parseValues() throws IOException {
 		List<JsonValue> values = new ArrayList<>();
 		while (parser.nextToken() != JsonToken.END_ARRAY) { //until we reach the end of the property array
@@ -271,6 +280,15 @@ public class JCardRawReader implements Closeable {
 		}
 	}
 
+	/**
+	 * Sets the pool that is used to de-duplicate parameter names, parameter
+	 * values, and group names.
+	 * @param stringPool the pool or null not to pool strings (the default)
+	 */
+	public void setStringPool(StringPool stringPool) {
+		this.stringPool = stringPool;
+	}
+
 	/**
 	 * Determines whether the end of the data stream has been reached.
 	 * @return true if the end has been reached, false if not
@@ -20,7 +20,6 @@ import ezvcard.io.ParseWarning;
 import ezvcard.io.SkipMeException;
 import ezvcard.io.StreamReader;
 import ezvcard.io.json.JCardRawReader.JCardDataStreamListener;
-import ezvcard.io.scribe.RawPropertyScribe;
 import ezvcard.io.scribe.VCardPropertyScribe;
 import ezvcard.parameter.VCardParameters;
 import ezvcard.property.VCardProperty;
@@ -120,13 +119,14 @@ public class JCardReader extends StreamReader {
 		}
 
 		context.setVersion(VCardVersion.V4_0);
+		reader.setStringPool(stringPool);
 
 		JCardDataStreamListenerImpl listener = new JCardDataStreamListenerImpl();
 		reader.readNext(listener);
 		VCard vcard = listener.vcard;
 		if (vcard != null && !listener.versionFound) {
 			//@formatter:off
-			warnings.add(new ParseWarning.Builder()
+			addWarning(new ParseWarning.Builder()
 				.lineNumber(reader.getLineNum())
 				.message(29)
 				.build()
@@ -147,6 +147,7 @@ public class JCardReader extends StreamReader {
 		public void beginVCard() {
 			vcard = new VCard();
 			vcard.setVersion(VCardVersion.V4_0);
+			startVCard(vcard);
 		}
 
 		public void readProperty(String group, String propertyName, VCardParameters parameters, VCardDataType dataType, JCardValue value) {
@@ -161,7 +162,7 @@ public class JCardReader extends StreamReader {
 				VCardVersion version = VCardVersion.valueOfByStr(value.asSingle());
 				if (version != VCardVersion.V4_0) {
 					//@formatter:off
-					warnings.add(new ParseWarning.Builder(context)
+					addWarning(new ParseWarning.Builder(context)
 						.message(30)
 						.build()
 					);
@@ -172,34 +173,38 @@ public class JCardReader extends StreamReader {
 
 			VCardPropertyScribe<? extends VCardProperty> scribe = index.getPropertyScribe(propertyName);
 			if (scribe == null) {
-				scribe = new RawPropertyScribe(propertyName);
+				scribe = index.getRawPropertyScribe(propertyName);
+			}
+
+			if (!isIncluded(propertyName, scribe)) {
+				return;
 			}
 
 			VCardProperty property;
 			try {
 				property = scribe.parseJson(value, dataType, parameters, context);
-				warnings.addAll(context.getWarnings());
+				addWarnings(context.getWarnings());
 			} catch (SkipMeException e) {
 				//@formatter:off
-				warnings.add(new ParseWarning.Builder(context)
+				addWarning(new ParseWarning.Builder(context)
 					.message(22, e.getMessage())
 					.build()
 				);
 				//@formatter:on
 				return;
 			} catch (CannotParseException e) {
-				scribe = new RawPropertyScribe(propertyName);
+				scribe = index.getRawPropertyScribe(propertyName);
 				property = scribe.parseJson(value, dataType, parameters, context);
 
 				//@formatter:off
-				warnings.add(new ParseWarning.Builder(context)
+				addWarning(new ParseWarning.Builder(context)
 					.message(e)
 					.build()
 				);
 				//@formatter:on
 			} catch (EmbeddedVCardException e) {
 				//@formatter:off
-				warnings.add(new ParseWarning.Builder(context)
+				addWarning(new ParseWarning.Builder(context)
 					.message(31)
 					.build()
 				);
@@ -208,7 +213,7 @@ public class JCardReader extends StreamReader {
 			}
 
 			property.setGroup(group);
-			vcard.addProperty(property);
+			addProperty(vcard, property);
 		}
 	}
 }
@@ -134,14 +134,18 @@ public class JCardSerializer extends StdSerializer<VCard> implements ContextualS
 
 	/**
 	 * <p>
-	 * Registers a property scribe. This is the same as calling:
+	 * Registers a property scribe with the scribe index.
 	 * </p>
 	 * <p>
-	 * {@code getScribeIndex().register(scribe)}
+	 * If the scribe index is {@link ScribeIndex#isFrozen frozen} (see
+	 * {@link #setScribeIndex}), it is first replaced with a modifiable copy.
 	 * </p>
 	 * @param scribe the scribe to register
 	 */
 	public void registerScribe(VCardPropertyScribe<? extends VCardProperty> scribe) {
+		if (index.isFrozen()) {
+			index = index.copy();
+		}
 		index.register(scribe);
 	}
 
@@ -1,5 +1,8 @@
 package ezvcard.io.scribe;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 import com.github.mangstadt.vinnie.io.VObjectPropertyValues;
 
 import ezvcard.VCard;
@@ -15,6 +18,7 @@ import ezvcard.parameter.Encoding;
 import ezvcard.parameter.MediaTypeParameter;
 import ezvcard.parameter.VCardParameters;
 import ezvcard.property.BinaryProperty;
+import ezvcard.util.BlobStore;
 import ezvcard.util.DataUri;
 import ezvcard.util.org.apache.commons.codec.binary.Base64;
 
@@ -50,6 +54,8 @@ import ezvcard.util.org.apache.commons.codec.binary.Base64;
  * @param <U> the media type class
  */
 public abstract class BinaryPropertyScribe<T extends BinaryProperty<U>, U extends MediaTypeParameter> extends VCardPropertyScribe<T> {
+	private static final String DATA_URI_SCHEME = "data:";
+
 	public BinaryPropertyScribe(Class<T> clazz, String propertyName) {
 		super(clazz, propertyName);
 	}
@@ -78,7 +84,7 @@ public abstract class BinaryPropertyScribe<T extends BinaryProperty<U>, U extend
 			}
 		}
 
-		if (property.getData() != null) {
+		if (property.getDataBuffer() != null) {
 			switch (version) {
 			case V2_1:
 			case V3_0:
@@ -115,7 +121,7 @@ public abstract class BinaryPropertyScribe<T extends BinaryProperty<U>, U extend
 			return;
 		}
 
-		if (property.getData() != null) {
+		if (property.getDataBuffer() != null) {
 			copy.setMediaType(null);
 
 			switch (version) {
@@ -145,7 +151,7 @@ public abstract class BinaryPropertyScribe<T extends BinaryProperty<U>, U extend
 	@Override
 	protected T _parseText(String value, VCardDataType dataType, VCardParameters parameters, ParseContext context) {
 		value = VObjectPropertyValues.unescape(value);
-		return parse(value, dataType, parameters, context.getVersion());
+		return parse(value, dataType, parameters, context.getVersion(), context);
 	}
 
 	@Override
@@ -157,7 +163,7 @@ public abstract class BinaryPropertyScribe<T extends BinaryProperty<U>, U extend
 	protected T _parseXml(XCardElement element, VCardParameters parameters, ParseContext context) {
 		String value = element.first(VCardDataType.URI);
 		if (value != null) {
-			return parse(value, VCardDataType.URI, parameters, element.version());
+			return parse(value, VCardDataType.URI, parameters, element.version(), context);
 		}
 
 		throw missingXmlElements(VCardDataType.URI);
@@ -175,24 +181,22 @@ public abstract class BinaryPropertyScribe<T extends BinaryProperty<U>, U extend
 			throw new CannotParseException(2);
 		}
 
-		try {
-			DataUri uri = DataUri.parse(data);
-			U mediaType = _mediaTypeFromMediaTypeParameter(uri.getContentType());
-
-			return _newInstance(uri.getData(), mediaType);
-		} catch (IllegalArgumentException e) {
-			//not a data URI
-			U mediaType;
-			String type = element.attr("type");
-			if (type.isEmpty()) {
-				String extension = getFileExtension(data);
-				mediaType = (extension == null) ? null : _mediaTypeFromFileExtension(extension);
-			} else {
-				mediaType = _mediaTypeFromMediaTypeParameter(type);
-			}
+		DataUri uri = DataUri.tryParse(data);
+		if (uri != null) {
+			return newInstance(uri);
+		}
 
-			return _newInstance(data, mediaType);
+		//not a data URI
+		U mediaType;
+		String type = element.attr("type");
+		if (type.isEmpty()) {
+			String extension = getFileExtension(data);
+			mediaType = (extension == null) ? null : _mediaTypeFromFileExtension(extension);
+		} else {
+			mediaType = _mediaTypeFromMediaTypeParameter(type);
 		}
+
+		return _newInstance(data, mediaType);
 	}
 
 	@Override
@@ -203,7 +207,7 @@ public abstract class BinaryPropertyScribe<T extends BinaryProperty<U>, U extend
 	@Override
 	protected T _parseJson(JCardValue value, VCardDataType dataType, VCardParameters parameters, ParseContext context) {
 		String valueStr = value.asSingle();
-		return parse(valueStr, dataType, parameters, VCardVersion.V4_0);
+		return parse(valueStr, dataType, parameters, VCardVersion.V4_0, context);
 	}
 
 	/**
@@ -326,15 +330,28 @@ public abstract class BinaryPropertyScribe<T extends BinaryProperty<U>, U extend
 	 * @return the parsed property
 	 */
 	protected T parse(String value, VCardDataType dataType, VCardParameters parameters, VCardVersion version) {
+		return parse(value, dataType, parameters, version, null);
+	}
+
+	/**
+	 * Parses the property.
+	 * @param value the property value
+	 * @param dataType the data type
+	 * @param parameters the property parameters
+	 * @param version the vCard version
+	 * @param context the parse context (its blob store, if any, will be used
+	 * to store large binary values) or null if not available
+	 * @return the parsed property
+	 */
+	protected T parse(String value, VCardDataType dataType, VCardParameters parameters, VCardVersion version, ParseContext context) {
 		/*
 		 * If the value is a data URI, just parse it, no matter what the version
 		 * is or what parameters are set. 2.1 and 3.0 technically don't support
 		 * data URIs--parse for convenience.
 		 */
-		try {
-			return parseAsDataUri(value);
-		} catch (IllegalArgumentException e) {
-			//not a data URI
+		T property = tryParseAsDataUri(value, context);
+		if (property != null) {
+			return property;
 		}
 
 		U contentType = parseContentTypeFromValueAndParameters(value, parameters, version);
@@ -350,7 +367,7 @@ public abstract class BinaryPropertyScribe<T extends BinaryProperty<U>, U extend
 			//parse as binary
 			Encoding encodingSubType = parameters.getEncoding();
 			if (encodingSubType == Encoding.BASE64 || encodingSubType == Encoding.B) {
-				return _newInstance(Base64.decodeBase64(value), contentType);
+				return decodeBase64(value, 0, contentType, context);
 			}
 
 			break;
@@ -363,34 +380,111 @@ public abstract class BinaryPropertyScribe<T extends BinaryProperty<U>, U extend
 	}
 
 	/**
-	 * Attempts to parse the given string as a data URI.
+	 * Attempts to parse the given string as a data URI. This method is only
+	 * called for values that start with "data:". Large values that are decoded
+	 * directly into a {@link BlobStore} (see {@link ParseContext#getBlobStore})
+	 * do not go through this method.
 	 * @param value the string to parse
 	 * @return the data URI
 	 * @throws IllegalArgumentException if the given value is not a valid data
 	 * URI
 	 */
 	protected T parseAsDataUri(String value) throws IllegalArgumentException {
-		DataUri uri = DataUri.parse(value);
+		return newInstance(DataUri.parse(value));
+	}
+
+	/**
+	 * Attempts to parse the given string as a data URI.
+	 * @param value the string to parse
+	 * @param context the parse context or null if not available
+	 * @return the parsed property or null if the given value is not a valid
+	 * data URI
+	 */
+	private T tryParseAsDataUri(String value, ParseContext context) {
+		//avoid the cost of an exception for the (common) case of a non-data URI
+		if (!value.regionMatches(true, 0, DATA_URI_SCHEME, 0, DATA_URI_SCHEME.length())) {
+			return null;
+		}
+
+		BlobStore blobStore = (context == null) ? null : context.getBlobStore();
+		if (blobStore != null && value.length() > blobStore.getThreshold()) {
+			/*
+			 * Parse the data URI's header separately, so the base64 data can
+			 * be decoded directly into the blob store.
+			 */
+			int comma = value.indexOf(',');
+			if (comma >= 0) {
+				DataUri header = DataUri.tryParse(value.substring(0, comma + 1));
+				if (header == null) {
+					return null;
+				}
+				if (header.getData() != null) {
+					U contentType = _mediaTypeFromMediaTypeParameter(header.getContentType());
+					return decodeBase64(value, comma + 1, contentType, context);
+				}
+			}
+		}
+
+		try {
+			return parseAsDataUri(value);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private T newInstance(DataUri uri) {
 		U contentType = _mediaTypeFromMediaTypeParameter(uri.getContentType());
 		return _newInstance(uri.getData(), contentType);
 	}
 
+	/**
+	 * Decodes a base64 property value.
+	 * @param value the property value
+	 * @param offset the index at which the base64 data starts
+	 * @param contentType the content type or null if unknown
+	 * @param context the parse context (its blob store, if any, will be used
+	 * to store large values) or null if not available
+	 * @return the property object
+	 */
+	private T decodeBase64(String value, int offset, U contentType, ParseContext context) {
+		BlobStore blobStore = (context == null) ? null : context.getBlobStore();
+		if (blobStore != null) {
+			ByteBuffer buffer;
+			try {
+				buffer = blobStore.decodeBase64(value, offset);
+			} catch (IOException e) {
+				//keep the data on the heap instead
+				context.addWarning(41, e.getMessage());
+				buffer = null;
+			}
+
+			if (buffer != null) {
+				T property = _newInstance((byte[]) null, contentType);
+				property.setData(buffer, contentType);
+				return property;
+			}
+		}
+
+		String base64 = (offset == 0) ? value : value.substring(offset);
+		return _newInstance(Base64.decodeBase64(base64), contentType);
+	}
+
 	private String write(T property, VCardVersion version) {
 		String url = property.getUrl();
 		if (url != null) {
 			return url;
 		}
 
-		byte[] data = property.getData();
+		ByteBuffer data = property.getDataBuffer();
 		if (data != null) {
 			switch (version) {
 			case V2_1:
 			case V3_0:
-				return Base64.encodeBase64String(data);
+				return BlobStore.encodeBase64(data);
 			case V4_0:
 				U contentType = property.getContentType();
 				String mediaType = (contentType == null || contentType.getMediaType() == null) ? "application/octet-stream" : contentType.getMediaType();
-				return new DataUri(mediaType, data).toString();
+				return "data:" + mediaType + ";base64," + BlobStore.encodeBase64(data);
 			}
 		}
 
@@ -13,6 +13,7 @@ import ezvcard.io.text.WriteContext;
 import ezvcard.io.xml.XCardElement;
 import ezvcard.parameter.VCardParameters;
 import ezvcard.property.ClientPidMap;
+import ezvcard.util.StringUtils;
 
 /*
  Copyright (c) 2012-2026, Michael Angstadt
@@ -113,10 +114,10 @@ public class ClientPidMapScribe extends VCardPropertyScribe<ClientPidMap> {
 	}
 
 	private ClientPidMap parse(String pid, String uri) {
-		try {
-			return new ClientPidMap(Integer.parseInt(pid), uri);
-		} catch (NumberFormatException e) {
+		Integer pidInt = StringUtils.tryParseInt(pid);
+		if (pidInt == null) {
 			throw new CannotParseException(4);
 		}
+		return new ClientPidMap(pidInt, uri);
 	}
 }
@@ -223,21 +223,23 @@ public abstract class DateOrTimePropertyScribe<T extends DateOrTimeProperty> ext
 	}
 
 	private T parse(String value, ParseContext context) {
-		try {
-			return newInstance(date(value));
-		} catch (IllegalArgumentException e) {
-			try {
-				//allow partial dates to be parsed from non-4.0 vCards
-				//https://github.com/mangstadt/ez-vcard/issues/155
-				return newInstance(PartialDate.parse(value));
-			} catch (IllegalArgumentException e2) {
-				if (context.getVersion() == VCardVersion.V2_1 || context.getVersion() == VCardVersion.V3_0) {
-					throw new CannotParseException(5);
-				}
-				context.addWarning(6);
-				return newInstance(value);
-			}
+		Temporal date = tryDate(value);
+		if (date != null) {
+			return newInstance(date);
+		}
+
+		//allow partial dates to be parsed from non-4.0 vCards
+		//https://github.com/mangstadt/ez-vcard/issues/155
+		PartialDate partialDate = PartialDate.tryParse(value);
+		if (partialDate != null) {
+			return newInstance(partialDate);
+		}
+
+		if (context.getVersion() == VCardVersion.V2_1 || context.getVersion() == VCardVersion.V3_0) {
+			throw new CannotParseException(5);
 		}
+		context.addWarning(6);
+		return newInstance(value);
 	}
 
 	protected abstract T newInstance(String text);
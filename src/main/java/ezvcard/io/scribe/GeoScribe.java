@@ -13,6 +13,7 @@ import ezvcard.io.xml.XCardElement;
 import ezvcard.parameter.VCardParameters;
 import ezvcard.property.Geo;
 import ezvcard.util.GeoUri;
+import ezvcard.util.StringUtils;
 import ezvcard.util.VCardFloatFormatter;
 
 /*
@@ -83,17 +84,13 @@ public class GeoScribe extends VCardPropertyScribe<Geo> {
 			String latitudeStr = value.substring(0, pos);
 			String longitudeStr = value.substring(pos + 1);
 
-			Double latitude;
-			try {
-				latitude = Double.valueOf(latitudeStr);
-			} catch (NumberFormatException e) {
+			Double latitude = StringUtils.tryParseDouble(latitudeStr);
+			if (latitude == null) {
 				throw new CannotParseException(8, latitudeStr);
 			}
 
-			Double longitude;
-			try {
-				longitude = Double.valueOf(longitudeStr);
-			} catch (NumberFormatException e) {
+			Double longitude = StringUtils.tryParseDouble(longitudeStr);
+			if (longitude == null) {
 				throw new CannotParseException(10, longitudeStr);
 			}
 
@@ -130,10 +127,8 @@ public class GeoScribe extends VCardPropertyScribe<Geo> {
 			throw new CannotParseException(7);
 		}
 
-		Double latitude;
-		try {
-			latitude = Double.parseDouble(latitudeStr);
-		} catch (NumberFormatException e) {
+		Double latitude = StringUtils.tryParseDouble(latitudeStr);
+		if (latitude == null) {
 			throw new CannotParseException(8, latitudeStr);
 		}
 
@@ -142,10 +137,8 @@ public class GeoScribe extends VCardPropertyScribe<Geo> {
 			throw new CannotParseException(9);
 		}
 
-		Double longitude;
-		try {
-			longitude = Double.parseDouble(longitudeStr);
-		} catch (NumberFormatException e) {
+		Double longitude = StringUtils.tryParseDouble(longitudeStr);
+		if (longitude == null) {
 			throw new CannotParseException(10, longitudeStr);
 		}
 
@@ -167,11 +160,11 @@ public class GeoScribe extends VCardPropertyScribe<Geo> {
 	}
 
 	private Geo parseGeoUri(String value) {
-		try {
-			return new Geo(GeoUri.parse(value));
-		} catch (IllegalArgumentException e) {
+		GeoUri geoUri = GeoUri.tryParse(value);
+		if (geoUri == null) {
 			throw new CannotParseException(12);
 		}
+		return new Geo(geoUri);
 	}
 
 	private String write(Geo property, VCardVersion version) {
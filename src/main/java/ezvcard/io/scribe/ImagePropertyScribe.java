@@ -69,15 +69,15 @@ public abstract class ImagePropertyScribe<T extends ImageProperty> extends Binar
 			throw new CannotParseException(13);
 		}
 
-		try {
-			DataUri uri = DataUri.parse(src);
+		DataUri uri = DataUri.tryParse(src);
+		if (uri != null) {
 			ImageType mediaType = _mediaTypeFromMediaTypeParameter(uri.getContentType());
 			return _newInstance(uri.getData(), mediaType);
-		} catch (IllegalArgumentException e) {
-			//not a data URI
-			String extension = getFileExtension(src);
-			ImageType mediaType = (extension == null) ? null : _mediaTypeFromFileExtension(extension);
-			return _newInstance(src, mediaType);
 		}
+
+		//not a data URI
+		String extension = getFileExtension(src);
+		ImageType mediaType = (extension == null) ? null : _mediaTypeFromFileExtension(extension);
+		return _newInstance(src, mediaType);
 	}
 }
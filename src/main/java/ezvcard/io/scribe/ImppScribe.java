@@ -108,15 +108,17 @@ public class ImppScribe extends VCardPropertyScribe<Impp> {
 			href = element.value();
 		}
 
+		URI uri;
 		try {
-			URI uri = parseHtmlLink(href);
-			if (uri == null) {
-				throw new IllegalArgumentException();
-			}
-			return new Impp(uri);
+			uri = parseHtmlLink(href);
 		} catch (IllegalArgumentException e) {
+			uri = null;
+		}
+
+		if (uri == null) {
 			throw new CannotParseException(14, href);
 		}
+		return new Impp(uri);
 	}
 
 	@Override
@@ -119,7 +119,7 @@ public class KeyScribe extends BinaryPropertyScribe<Key, KeyType> {
 			return property;
 		}
 
-		return parse(value, dataType, parameters, context.getVersion());
+		return parse(value, dataType, parameters, context.getVersion(), context);
 	}
 
 	@Override
@@ -145,7 +145,7 @@ public class KeyScribe extends BinaryPropertyScribe<Key, KeyType> {
 
 		String value = element.first(VCardDataType.URI);
 		if (value != null) {
-			return parse(value, VCardDataType.URI, parameters, element.version());
+			return parse(value, VCardDataType.URI, parameters, element.version(), context);
 		}
 
 		throw missingXmlElements(VCardDataType.URI, VCardDataType.TEXT);
@@ -96,10 +96,11 @@ public abstract class PlacePropertyScribe<T extends PlaceProperty> extends VCard
 		}
 
 		if (dataType == VCardDataType.URI) {
-			try {
-				property.setGeoUri(GeoUri.parse(value));
-			} catch (IllegalArgumentException e) {
+			GeoUri geoUri = GeoUri.tryParse(value);
+			if (geoUri == null) {
 				property.setUri(value);
+			} else {
+				property.setGeoUri(geoUri);
 			}
 			return property;
 		}
@@ -143,10 +144,11 @@ public abstract class PlacePropertyScribe<T extends PlaceProperty> extends VCard
 
 		String uri = element.first(VCardDataType.URI);
 		if (uri != null) {
-			try {
-				property.setGeoUri(GeoUri.parse(uri));
-			} catch (IllegalArgumentException e) {
+			GeoUri geoUri = GeoUri.tryParse(uri);
+			if (geoUri == null) {
 				property.setUri(uri);
+			} else {
+				property.setGeoUri(geoUri);
 			}
 			return property;
 		}
@@ -185,10 +187,11 @@ public abstract class PlacePropertyScribe<T extends PlaceProperty> extends VCard
 		}
 
 		if (dataType == VCardDataType.URI) {
-			try {
-				property.setGeoUri(GeoUri.parse(valueStr));
-			} catch (IllegalArgumentException e) {
+			GeoUri geoUri = GeoUri.tryParse(valueStr);
+			if (geoUri == null) {
 				property.setUri(valueStr);
+			} else {
+				property.setGeoUri(geoUri);
 			}
 			return property;
 		}
@@ -119,10 +119,10 @@ public class RevisionScribe extends VCardPropertyScribe<Revision> {
 			return new Revision((Temporal)null);
 		}
 
-		try {
-			return new Revision(date(value));
-		} catch (IllegalArgumentException e) {
+		Temporal timestamp = tryDate(value);
+		if (timestamp == null) {
 			throw new CannotParseException(5);
 		}
+		return new Revision(timestamp);
 	}
 }
@@ -1,7 +1,10 @@
 package ezvcard.io.scribe;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.namespace.QName;
 
@@ -71,6 +74,11 @@ import ezvcard.property.Xml;
  *   }
  * }
  * </pre>
+ * <p>
+ * An index can be {@link #freeze frozen} once all of the custom scribes have
+ * been registered. A frozen index cannot be modified, looks up property names
+ * without creating any objects, and can be shared by any number of threads.
+ * </p>
  * @author Michael Angstadt
  */
 public class ScribeIndex {
@@ -137,9 +145,94 @@ public class ScribeIndex {
 		registerStandard(new HobbyScribe());
 	}
 
-	private final Map<String, VCardPropertyScribe<? extends VCardProperty>> extendedByName = new HashMap<>(0);
-	private final Map<Class<? extends VCardProperty>, VCardPropertyScribe<? extends VCardProperty>> extendedByClass = new HashMap<>(0);
-	private final Map<QName, VCardPropertyScribe<? extends VCardProperty>> extendedByQName = new HashMap<>(0);
+	/**
+	 * Looks up the standard scribes by name without creating any objects.
+	 */
+	private static final NameTable standardNames = new NameTable(standardByName);
+
+	private static final ScribeIndex standard = new ScribeIndex().freeze();
+
+	/**
+	 * The maximum number of {@link RawPropertyScribe} instances to cache, so
+	 * that input with lots of unique extended property names cannot use up
+	 * memory.
+	 */
+	private static final int RAW_SCRIBE_CACHE_SIZE = 1000;
+
+	/**
+	 * Caches {@link RawPropertyScribe} instances. They only depend on the
+	 * property name, so the cache is shared by all indexes.
+	 */
+	private static final ConcurrentMap<String, RawPropertyScribe> rawScribes = new ConcurrentHashMap<>();
+
+	private final Map<String, VCardPropertyScribe<? extends VCardProperty>> extendedByName;
+	private final Map<Class<? extends VCardProperty>, VCardPropertyScribe<? extends VCardProperty>> extendedByClass;
+	private final Map<QName, VCardPropertyScribe<? extends VCardProperty>> extendedByQName;
+	private final NameTable frozenByName;
+
+	/**
+	 * Creates an index that contains the standard property scribes.
+	 */
+	public ScribeIndex() {
+		extendedByName = new HashMap<>(0);
+		extendedByClass = new HashMap<>(0);
+		extendedByQName = new HashMap<>(0);
+		frozenByName = null;
+	}
+
+	/**
+	 * Creates a frozen copy of an index.
+	 * @param original the index to copy
+	 */
+	private ScribeIndex(ScribeIndex original) {
+		extendedByName = Collections.unmodifiableMap(new HashMap<>(original.extendedByName));
+		extendedByClass = Collections.unmodifiableMap(new HashMap<>(original.extendedByClass));
+		extendedByQName = Collections.unmodifiableMap(new HashMap<>(original.extendedByQName));
+
+		Map<String, VCardPropertyScribe<? extends VCardProperty>> byName = new HashMap<>(standardByName);
+		byName.putAll(extendedByName);
+		frozenByName = new NameTable(byName);
+	}
+
+	/**
+	 * Gets a frozen index that contains only the standard property scribes.
+	 * It can be shared by any number of readers and writers (see
+	 * {@code setScribeIndex()}).
+	 * @return the index
+	 */
+	public static ScribeIndex standard() {
+		return standard;
+	}
+
+	/**
+	 * Creates a frozen copy of this index. Changes made to this index after
+	 * calling this method are not reflected in the copy.
+	 * @return the frozen copy (or this object if it is already frozen)
+	 */
+	public ScribeIndex freeze() {
+		return isFrozen() ? this : new ScribeIndex(this);
+	}
+
+	/**
+	 * Determines if this index is frozen. A frozen index cannot be modified.
+	 * @return true if it is frozen, false if not
+	 * @see #freeze
+	 */
+	public boolean isFrozen() {
+		return frozenByName != null;
+	}
+
+	/**
+	 * Creates a modifiable copy of this index.
+	 * @return the copy
+	 */
+	public ScribeIndex copy() {
+		ScribeIndex copy = new ScribeIndex();
+		copy.extendedByName.putAll(extendedByName);
+		copy.extendedByClass.putAll(extendedByClass);
+		copy.extendedByQName.putAll(extendedByQName);
+		return copy;
+	}
 
 	/**
 	 * Gets a property scribe by name.
@@ -147,14 +240,18 @@ public class ScribeIndex {
 	 * @return the property scribe or null if not found
 	 */
 	public VCardPropertyScribe<? extends VCardProperty> getPropertyScribe(String propertyName) {
-		propertyName = propertyName.toUpperCase();
+		if (frozenByName != null) {
+			return frozenByName.get(propertyName);
+		}
 
-		VCardPropertyScribe<? extends VCardProperty> scribe = extendedByName.get(propertyName);
-		if (scribe != null) {
-			return scribe;
+		if (!extendedByName.isEmpty()) {
+			VCardPropertyScribe<? extends VCardProperty> scribe = extendedByName.get(propertyName.toUpperCase());
+			if (scribe != null) {
+				return scribe;
+			}
 		}
 
-		return standardByName.get(propertyName);
+		return standardNames.get(propertyName);
 	}
 
 	/**
@@ -192,7 +289,7 @@ public class ScribeIndex {
 	public VCardPropertyScribe<? extends VCardProperty> getPropertyScribe(VCardProperty property) {
 		if (property instanceof RawProperty) {
 			RawProperty raw = (RawProperty) property;
-			return new RawPropertyScribe(raw.getPropertyName());
+			return getRawPropertyScribe(raw.getPropertyName());
 		}
 
 		return getPropertyScribe(property.getClass());
@@ -215,17 +312,42 @@ public class ScribeIndex {
 		}
 
 		if (VCardVersion.V4_0.getXmlNamespace().equals(qname.getNamespaceURI())) {
-			return new RawPropertyScribe(qname.getLocalPart().toUpperCase());
+			return getRawPropertyScribe(qname.getLocalPart().toUpperCase());
 		}
 
 		return getPropertyScribe(Xml.class);
 	}
 
+	/**
+	 * Gets a scribe for a property that does not have a scribe of its own.
+	 * Instances are cached, so this method is cheaper than creating a new
+	 * {@link RawPropertyScribe} for every property.
+	 * @param propertyName the property name (e.g. "X-SPOUSE")
+	 * @return the scribe
+	 */
+	public RawPropertyScribe getRawPropertyScribe(String propertyName) {
+		RawPropertyScribe scribe = rawScribes.get(propertyName);
+		if (scribe != null) {
+			return scribe;
+		}
+
+		scribe = new RawPropertyScribe(propertyName);
+		if (rawScribes.size() < RAW_SCRIBE_CACHE_SIZE) {
+			RawPropertyScribe existing = rawScribes.putIfAbsent(propertyName, scribe);
+			if (existing != null) {
+				scribe = existing;
+			}
+		}
+		return scribe;
+	}
+
 	/**
 	 * Registers a property scribe.
 	 * @param scribe the scribe to register
+	 * @throws UnsupportedOperationException if this index is frozen
 	 */
 	public void register(VCardPropertyScribe<? extends VCardProperty> scribe) {
+		checkNotFrozen();
 		extendedByName.put(scribe.getPropertyName().toUpperCase(), scribe);
 		extendedByClass.put(scribe.getPropertyClass(), scribe);
 		extendedByQName.put(scribe.getQName(), scribe);
@@ -234,16 +356,76 @@ public class ScribeIndex {
 	/**
 	 * Unregisters a property scribe.
 	 * @param scribe the scribe to unregister
+	 * @throws UnsupportedOperationException if this index is frozen
 	 */
 	public void unregister(VCardPropertyScribe<? extends VCardProperty> scribe) {
+		checkNotFrozen();
 		extendedByName.remove(scribe.getPropertyName().toUpperCase());
 		extendedByClass.remove(scribe.getPropertyClass());
 		extendedByQName.remove(scribe.getQName());
 	}
 
+	private void checkNotFrozen() {
+		if (isFrozen()) {
+			throw new UnsupportedOperationException("This scribe index is frozen.");
+		}
+	}
+
 	private static void registerStandard(VCardPropertyScribe<? extends VCardProperty> scribe) {
 		standardByName.put(scribe.getPropertyName().toUpperCase(), scribe);
 		standardByClass.put(scribe.getPropertyClass(), scribe);
 		standardByQName.put(scribe.getQName(), scribe);
 	}
+
+	/**
+	 * An open-addressing hash table that looks up property names
+	 * case-insensitively without creating any objects. It is never modified
+	 * once it is created.
+	 */
+	private static class NameTable {
+		private final String[] names;
+		private final VCardPropertyScribe<?>[] scribes;
+		private final int mask;
+
+		/**
+		 * @param scribes the scribes, keyed by upper-case property name
+		 */
+		public NameTable(Map<String, VCardPropertyScribe<? extends VCardProperty>> scribes) {
+			//keep the load factor at or below 50% so that probe chains stay short
+			int size = Integer.highestOneBit(Math.max(scribes.size(), 1) * 4 - 1);
+			names = new String[size];
+			this.scribes = new VCardPropertyScribe<?>[size];
+			mask = size - 1;
+
+			for (Map.Entry<String, VCardPropertyScribe<? extends VCardProperty>> entry : scribes.entrySet()) {
+				String name = entry.getKey();
+				int i = hash(name) & mask;
+				while (names[i] != null) {
+					i = (i + 1) & mask;
+				}
+				names[i] = name;
+				this.scribes[i] = entry.getValue();
+			}
+		}
+
+		public VCardPropertyScribe<? extends VCardProperty> get(String name) {
+			int i = hash(name) & mask;
+			String candidate;
+			while ((candidate = names[i]) != null) {
+				if (candidate.equalsIgnoreCase(name)) {
+					return scribes[i];
+				}
+				i = (i + 1) & mask;
+			}
+			return null;
+		}
+
+		private static int hash(String name) {
+			int hash = 0;
+			for (int i = 0; i < name.length(); i++) {
+				hash = 31 * hash + Character.toUpperCase(name.charAt(i));
+			}
+			return hash ^ (hash >>> 16);
+		}
+	}
 }
@@ -91,17 +91,17 @@ public class SoundScribe extends BinaryPropertyScribe<Sound, SoundType> {
 		String type = element.attr("type");
 		SoundType mediaType = type.isEmpty() ? null : _mediaTypeFromMediaTypeParameter(type);
 
-		try {
-			DataUri uri = DataUri.parse(src);
+		DataUri uri = DataUri.tryParse(src);
+		if (uri != null) {
 			mediaType = _mediaTypeFromMediaTypeParameter(uri.getContentType());
 			return new Sound(uri.getData(), mediaType);
-		} catch (IllegalArgumentException e) {
-			//not a data URI
-			if (mediaType == null) {
-				String extension = getFileExtension(src);
-				mediaType = (extension == null) ? null : _mediaTypeFromFileExtension(extension);
-			}
-			return new Sound(src, mediaType);
 		}
+
+		//not a data URI
+		if (mediaType == null) {
+			String extension = getFileExtension(src);
+			mediaType = (extension == null) ? null : _mediaTypeFromFileExtension(extension);
+		}
+		return new Sound(src, mediaType);
 	}
 }
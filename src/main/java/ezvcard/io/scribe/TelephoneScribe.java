@@ -127,12 +127,12 @@ public class TelephoneScribe extends VCardPropertyScribe<Telephone> {
 
 		String uri = element.first(VCardDataType.URI);
 		if (uri != null) {
-			try {
-				return new Telephone(TelUri.parse(uri));
-			} catch (IllegalArgumentException e) {
+			TelUri telUri = TelUri.tryParse(uri);
+			if (telUri == null) {
 				context.addWarning(18);
 				return new Telephone(uri);
 			}
+			return new Telephone(telUri);
 		}
 
 		throw missingXmlElements(VCardDataType.TEXT, VCardDataType.URI);
@@ -142,11 +142,12 @@ public class TelephoneScribe extends VCardPropertyScribe<Telephone> {
 	protected Telephone _parseHtml(HCardElement element, ParseContext context) {
 		Telephone property;
 		String href = element.attr("href");
-		try {
-			property = new Telephone(TelUri.parse(href));
-		} catch (IllegalArgumentException e) {
+		TelUri telUri = TelUri.tryParse(href);
+		if (telUri == null) {
 			//not a tel URI
 			property = new Telephone(element.value());
+		} else {
+			property = new Telephone(telUri);
 		}
 
 		List<String> types = element.types();
@@ -177,14 +178,14 @@ public class TelephoneScribe extends VCardPropertyScribe<Telephone> {
 	}
 
 	private Telephone parse(String value, VCardDataType dataType, ParseContext context) {
-		try {
-			return new Telephone(TelUri.parse(value));
-		} catch (IllegalArgumentException e) {
-			if (dataType == VCardDataType.URI) {
-				context.addWarning(18);
-			}
+		TelUri telUri = TelUri.tryParse(value);
+		if (telUri != null) {
+			return new Telephone(telUri);
 		}
 
+		if (dataType == VCardDataType.URI) {
+			context.addWarning(18);
+		}
 		return new Telephone(value);
 	}
 }
@@ -7,7 +7,6 @@ import java.time.ZoneOffset;
 
 import com.github.mangstadt.vinnie.io.VObjectPropertyValues;
 
-import ezvcard.Messages;
 import ezvcard.VCardDataType;
 import ezvcard.VCardVersion;
 import ezvcard.io.CannotParseException;
@@ -18,6 +17,7 @@ import ezvcard.io.text.WriteContext;
 import ezvcard.io.xml.XCardElement;
 import ezvcard.parameter.VCardParameters;
 import ezvcard.property.Timezone;
+import ezvcard.util.StringUtils;
 import ezvcard.util.VCardDateFormat;
 
 /*
@@ -270,21 +270,21 @@ public class TimezoneScribe extends VCardPropertyScribe<Timezone> {
 		switch (context.getVersion()) {
 		case V2_1:
 			//e.g. "-05:00"
-			try {
-				return new Timezone(parse(value));
-			} catch (IllegalArgumentException e) {
+			ZoneOffset offset = tryParseOffset(value);
+			if (offset == null) {
 				throw new CannotParseException(19);
 			}
+			return new Timezone(offset);
 		case V3_0:
 		case V4_0:
-			try {
-				return new Timezone(parse(value));
-			} catch (IllegalArgumentException e) {
+			offset = tryParseOffset(value);
+			if (offset == null) {
 				if (dataType == VCardDataType.UTC_OFFSET) {
 					context.addWarning(20);
 				}
 				return new Timezone(value);
 			}
+			return new Timezone(offset);
 		}
 
 		return new Timezone((String) null);
@@ -299,10 +299,9 @@ public class TimezoneScribe extends VCardPropertyScribe<Timezone> {
 	 * to parse inputs that lack a sign and two-digit hour (e.g. "1:00").
 	 * </p>
 	 * @param text the text to parse (e.g. "-0500")
-	 * @return the parsed UTC offset
-	 * @throws IllegalArgumentException if the text cannot be parsed
+	 * @return the parsed UTC offset or null if the text cannot be parsed
 	 */
-	private ZoneOffset parse(String text) {
+	private ZoneOffset tryParseOffset(String text) {
 		int i = 0;
 		char sign = text.charAt(i);
 		boolean negative = false;
@@ -319,7 +318,7 @@ public class TimezoneScribe extends VCardPropertyScribe<Timezone> {
 			maxLength++;
 		}
 		if (text.length() > maxLength) {
-			throw Messages.INSTANCE.getIllegalArgumentException(40, text);
+			return null;
 		}
 
 		String hourStr;
@@ -338,13 +337,16 @@ public class TimezoneScribe extends VCardPropertyScribe<Timezone> {
 			}
 		}
 
-		int hour;
-		int minute;
-		try {
-			hour = Integer.parseInt(hourStr);
-			minute = (minuteStr == null) ? 0 : Integer.parseInt(minuteStr);
-		} catch (NumberFormatException e) {
-			throw Messages.INSTANCE.getIllegalArgumentException(40, text);
+		Integer hourInt = StringUtils.tryParseInt(hourStr);
+		Integer minuteInt = (minuteStr == null) ? Integer.valueOf(0) : StringUtils.tryParseInt(minuteStr);
+		if (hourInt == null || minuteInt == null) {
+			return null;
+		}
+
+		int hour = hourInt;
+		int minute = minuteInt;
+		if (hour < 0 || minute < 0 || minute > 59 || hour * 60 + minute > 18 * 60) {
+			return null;
 		}
 
 		if (negative) {
@@ -565,6 +565,16 @@ public abstract class VCardPropertyScribe<T extends VCardProperty> {
 		return VCardDateFormat.parse(value);
 	}
 
+	/**
+	 * Parses a date string without throwing an exception if the string cannot
+	 * be parsed.
+	 * @param value the date string
+	 * @return the parsed date or null if the date cannot be parsed
+	 */
+	protected static Temporal tryDate(String value) {
+		return VCardDateFormat.tryParse(value);
+	}
+
 	/**
 	 * Formats a {@link Temporal} object as a string.
 	 * @param date the date
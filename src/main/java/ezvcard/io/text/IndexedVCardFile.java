@@ -0,0 +1,246 @@
+package ezvcard.io.text;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import ezvcard.VCard;
+import ezvcard.io.scribe.ScribeIndex;
+
+/*
+Copyright (c) 2012-2026, Michael Angstadt
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met: 
+
+1. Redistributions of source code must retain the above copyright notice, this
+list of conditions and the following disclaimer. 
+2. Redistributions in binary form must reproduce the above copyright notice,
+this list of conditions and the following disclaimer in the documentation
+and/or other materials provided with the distribution. 
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+The views and conclusions contained in the software and documentation are those
+of the authors and should not be interpreted as representing official policies, 
+either expressed or implied, of the FreeBSD Project.
+*/
+
+
+/**
+ * <p>
+ * Reads individual vCards out of a plain-text vCard file, using a
+ * {@link VCardIndex} to seek directly to them. Only the bytes that belong to
+ * the requested vCards are read from the file.
+ * </p>
+ * <p>
+ * Reads are done with positional {@link FileChannel} reads, so a single
+ * instance can be shared between threads. Line numbers in parse warnings are
+ * relative to the start of each vCard.
+ * </p>
+ * <p>
+ * <b>Example:</b>
+ * </p>
+ * 
+ * <pre class="brush:java">
+ * Path file = Paths.get("contacts.vcf");
+ * VCardIndex index = VCardIndex.build(file);
+ * try (IndexedVCardFile vcards = new IndexedVCardFile(file, index)) {
+ *   VCard first = vcards.read(0);
+ *   VCard john = vcards.read("urn:uuid:03a0e51f-d1aa-4385-8a53-e29025acd8af");
+ *   List&lt;VCard&gt; page = vcards.read(100, 20);
+ * }
+ * </pre>
+ * @author Michael Angstadt
+ */
+public class IndexedVCardFile implements Closeable {
+	private final FileChannel channel;
+	private final VCardIndex index;
+	private ScribeIndex scribeIndex;
+
+	/**
+	 * @param file the vCard file (must be encoded in UTF-8)
+	 * @param index the index of the file
+	 * @throws IOException if there's a problem opening the file
+	 */
+	public IndexedVCardFile(Path file, VCardIndex index) throws IOException {
+		this.channel = FileChannel.open(file, StandardOpenOption.READ);
+		this.index = index;
+	}
+
+	/**
+	 * Gets the index of the file.
+	 * @return the index
+	 */
+	public VCardIndex getIndex() {
+		return index;
+	}
+
+	/**
+	 * Gets the scribe index that is used to parse the vCards.
+	 * @return the scribe index or null to use the standard scribes (default)
+	 */
+	public ScribeIndex getScribeIndex() {
+		return scribeIndex;
+	}
+
+	/**
+	 * Sets the scribe index that is used to parse the vCards. This is needed
+	 * if the file contains properties that have custom scribes.
+	 * @param scribeIndex the scribe index or null to use the standard scribes
+	 * (default)
+	 */
+	public void setScribeIndex(ScribeIndex scribeIndex) {
+		this.scribeIndex = scribeIndex;
+	}
+
+	/**
+	 * Reads a vCard by its position in the file.
+	 * @param ordinal the position of the vCard (the first vCard is 0)
+	 * @return the vCard or null if its data could not be parsed as a vCard
+	 * (this can happen if the file has changed since the index was built)
+	 * @throws IndexOutOfBoundsException if the ordinal is out of range
+	 * @throws IOException if there's a problem reading from the file
+	 */
+	public VCard read(int ordinal) throws IOException {
+		index.get(ordinal); //range check
+		List<VCard> vcards = read(ordinal, 1);
+		return vcards.isEmpty() ? null : vcards.get(0);
+	}
+
+	/**
+	 * Reads a vCard by its UID. If more than one vCard has the UID, the first
+	 * one is returned.
+	 * @param uid the UID
+	 * @return the vCard or null if no vCard has the UID
+	 * @throws IOException if there's a problem reading from the file
+	 */
+	public VCard read(String uid) throws IOException {
+		VCardIndex.Entry entry = index.get(uid);
+		return (entry == null) ? null : read(entry.getOrdinal());
+	}
+
+	/**
+	 * Reads a range of consecutive vCards.
+	 * @param fromOrdinal the position of the first vCard (the first vCard in
+	 * the file is 0)
+	 * @param count the maximum number of vCards to read
+	 * @return the vCards (may contain fewer than {@code count} vCards if the
+	 * end of the file is reached)
+	 * @throws IndexOutOfBoundsException if the ordinal is out of range
+	 * @throws IOException if there's a problem reading from the file
+	 */
+	public List<VCard> read(int fromOrdinal, int count) throws IOException {
+		int size = index.size();
+		if (fromOrdinal < 0 || fromOrdinal > size) {
+			throw new IndexOutOfBoundsException(Integer.toString(fromOrdinal));
+		}
+
+		count = Math.min(count, size - fromOrdinal);
+		if (count <= 0) {
+			return new ArrayList<>(0);
+		}
+
+		VCardIndex.Entry first = index.get(fromOrdinal);
+		VCardIndex.Entry last = index.get(fromOrdinal + count - 1);
+		long start = first.getOffset();
+		long end = last.getOffset() + last.getLength();
+
+		List<VCard> vcards = new ArrayList<>(count);
+		try (VCardReader reader = new VCardReader(new RangeChannel(start, end))) {
+			if (scribeIndex != null) {
+				reader.setScribeIndex(scribeIndex);
+			}
+
+			VCard vcard;
+			while (vcards.size() < count && (vcard = reader.readNext()) != null) {
+				vcards.add(vcard);
+			}
+		}
+		return vcards;
+	}
+
+	/**
+	 * Closes the underlying file.
+	 * @throws IOException if there's a problem closing the file
+	 */
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Reads a range of bytes from the file. Positional reads are used, so the
+	 * position of the underlying file channel is not changed, and closing this
+	 * channel does not close the file. This allows ranges of any size to be
+	 * streamed into a {@link VCardReader} without buffering them in memory.
+	 */
+	private class RangeChannel implements ReadableByteChannel {
+		private final long end;
+		private long position;
+		private boolean open = true;
+
+		/**
+		 * @param start the byte offset of the start of the range (inclusive)
+		 * @param end the byte offset of the end of the range (exclusive)
+		 */
+		public RangeChannel(long start, long end) {
+			this.position = start;
+			this.end = end;
+		}
+
+		@Override
+		public int read(ByteBuffer dst) throws IOException {
+			if (position >= end) {
+				return -1;
+			}
+
+			int limit = dst.limit();
+			long remaining = end - position;
+			if (dst.remaining() > remaining) {
+				dst.limit(dst.position() + (int) remaining);
+			}
+
+			int read;
+			try {
+				read = channel.read(dst, position);
+			} finally {
+				dst.limit(limit);
+			}
+
+			if (read < 0) {
+				//the file is shorter than the index says it is
+				throw new EOFException();
+			}
+
+			position += read;
+			return read;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return open;
+		}
+
+		@Override
+		public void close() {
+			open = false;
+		}
+	}
+}
@@ -0,0 +1,280 @@
+package ezvcard.io.text;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import ezvcard.SupportedVersions;
+import ezvcard.VCard;
+import ezvcard.VCardDataType;
+import ezvcard.VCardVersion;
+import ezvcard.io.CannotParseException;
+import ezvcard.io.EmbeddedVCardException;
+import ezvcard.io.ParseContext;
+import ezvcard.io.ParseWarning;
+import ezvcard.io.ParseWarningListener;
+import ezvcard.io.SkipMeException;
+import ezvcard.io.scribe.ScribeIndex;
+import ezvcard.io.scribe.VCardPropertyScribe;
+import ezvcard.parameter.VCardParameters;
+import ezvcard.property.PropertyMetadata;
+import ezvcard.property.VCardProperty;
+import ezvcard.util.BlobStore;
+
+/*
+Copyright (c) 2012-2026, Michael Angstadt
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met: 
+
+1. Redistributions of source code must retain the above copyright notice, this
+list of conditions and the following disclaimer. 
+2. Redistributions in binary form must reproduce the above copyright notice,
+this list of conditions and the following disclaimer in the documentation
+and/or other materials provided with the distribution. 
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+The views and conclusions contained in the software and documentation are those
+of the authors and should not be interpreted as representing official policies, 
+either expressed or implied, of the FreeBSD Project.
+*/
+
+/**
+ * <p>
+ * Holds the raw data of a property that was read by a {@link VCardReader}
+ * with lazy parsing enabled (see
+ * {@link VCardReader#setLazyParsingEnabled(boolean)}). The property's scribe
+ * is not invoked until the property is accessed through the {@link VCard}
+ * object.
+ * </p>
+ * <p>
+ * Instances of this class are never returned by {@link VCard}'s accessor
+ * methods. They are only visible through
+ * {@link VCard#getPropertiesWithoutParsing}, which allows {@link VCardWriter}
+ * to write unparsed properties back out as they were read.
+ * </p>
+ * @author Michael Angstadt
+ */
+public class UnparsedProperty extends VCardProperty {
+	private final VCardPropertyScribe<? extends VCardProperty> scribe;
+	private final VCardVersion version;
+	private final String name;
+	private final String value;
+	private final VCardDataType dataType;
+	private final BlobStore blobStore;
+	private final Integer lineNumber;
+	private final ParseWarningListener warningListener;
+	private boolean warningsReported = false;
+
+	/**
+	 * Creates an unparsed property.
+	 * @param scribe the scribe that will parse the property
+	 * @param version the version of the vCard the property was read from
+	 * @param name the property name, as it appeared in the vCard
+	 * @param value the raw property value
+	 * @param dataType the property's data type
+	 * @param parameters the property's parameters (not including the VALUE
+	 * parameter)
+	 * @param blobStore the blob store to decode large binary values into or
+	 * null to keep binary data on the heap
+	 * @param lineNumber the line number the property was read from or null if
+	 * not applicable
+	 * @param warningListener the listener to pass the parse warnings to when
+	 * the property is parsed or null to discard them
+	 */
+	public UnparsedProperty(VCardPropertyScribe<? extends VCardProperty> scribe, VCardVersion version, String name, String value, VCardDataType dataType, VCardParameters parameters, BlobStore blobStore, Integer lineNumber, ParseWarningListener warningListener) {
+		this.scribe = scribe;
+		this.version = version;
+		this.name = name;
+		this.value = value;
+		this.dataType = dataType;
+		this.parameters = parameters;
+		this.blobStore = blobStore;
+		this.lineNumber = lineNumber;
+		this.warningListener = warningListener;
+	}
+
+	/**
+	 * Copy constructor.
+	 * @param original the property to make a copy of
+	 */
+	public UnparsedProperty(UnparsedProperty original) {
+		super(original);
+		scribe = original.scribe;
+		version = original.version;
+		name = original.name;
+		value = original.value;
+		dataType = original.dataType;
+		blobStore = original.blobStore;
+		lineNumber = original.lineNumber;
+		warningListener = original.warningListener;
+	}
+
+	/**
+	 * Gets the scribe that will parse the property.
+	 * @return the scribe
+	 */
+	public VCardPropertyScribe<? extends VCardProperty> getScribe() {
+		return scribe;
+	}
+
+	/**
+	 * Gets the class of the property object that this property will be parsed
+	 * into. If the property cannot be parsed, it will be parsed into a
+	 * {@link ezvcard.property.RawProperty} instead.
+	 * @return the property class
+	 */
+	public Class<? extends VCardProperty> getPropertyClass() {
+		return scribe.getPropertyClass();
+	}
+
+	/**
+	 * Gets the version of the vCard the property was read from.
+	 * @return the version
+	 */
+	public VCardVersion getVersion() {
+		return version;
+	}
+
+	/**
+	 * Gets the property name, as it appeared in the vCard.
+	 * @return the property name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets the raw property value, as it appeared in the vCard.
+	 * @return the property value
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	/**
+	 * Gets the property's data type.
+	 * @return the data type
+	 */
+	public VCardDataType getDataType() {
+		return dataType;
+	}
+
+	/**
+	 * Determines if the class this property will be parsed into supports the
+	 * given version (see {@link SupportedVersions}).
+	 * @param version the version
+	 * @return true if it is supported, false if not
+	 */
+	public boolean isPropertyClassSupportedBy(VCardVersion version) {
+		return PropertyMetadata.of(getPropertyClass()).isSupportedBy(version);
+	}
+
+	/**
+	 * Parses the property. Calling this method multiple times will create
+	 * multiple property objects. The parse warnings are passed to the warning
+	 * listener the first time the property is parsed. If there is no listener,
+	 * they are discarded.
+	 * @return the parsed property or null if the scribe chose to skip the
+	 * property
+	 */
+	public VCardProperty parse() {
+		boolean reportWarnings = (warningListener != null && !warningsReported);
+		warningsReported = true;
+
+		ParseContext context = new ParseContext();
+		context.setVersion(version);
+		context.setLineNumber(lineNumber);
+		context.setPropertyName(name);
+		context.setBlobStore(blobStore);
+		context.setWarningsEnabled(reportWarnings);
+
+		VCardParameters parameters = new VCardParameters(this.parameters);
+
+		VCardProperty property;
+		try {
+			property = scribe.parseText(value, dataType, parameters, context);
+			if (reportWarnings) {
+				context.getWarnings().forEach(warningListener::onWarning);
+			}
+		} catch (SkipMeException e) {
+			if (reportWarnings) {
+				//@formatter:off
+				warningListener.onWarning(new ParseWarning.Builder(context)
+					.message(22, e.getMessage())
+					.build()
+				);
+				//@formatter:on
+			}
+			return null;
+		} catch (CannotParseException e) {
+			if (reportWarnings) {
+				//@formatter:off
+				warningListener.onWarning(new ParseWarning.Builder(context)
+					.message(e)
+					.build()
+				);
+				//@formatter:on
+			}
+			property = ScribeIndex.standard().getRawPropertyScribe(name).parseText(value, dataType, parameters, null);
+		} catch (EmbeddedVCardException e) {
+			property = e.getProperty();
+		}
+
+		property.setGroup(group);
+		VCardReader.unescapeLabelParameter(property);
+
+		return property;
+	}
+
+	@Override
+	protected Map<String, Object> toStringValues() {
+		Map<String, Object> values = new LinkedHashMap<>();
+		values.put("name", name);
+		values.put("value", value);
+		values.put("dataType", dataType);
+		values.put("version", version);
+		return values;
+	}
+
+	@Override
+	public UnparsedProperty copy() {
+		return new UnparsedProperty(this);
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = super.hashCode();
+		result = prime * result + ((dataType == null) ? 0 : dataType.hashCode());
+		result = prime * result + ((name == null) ? 0 : name.toLowerCase().hashCode());
+		result = prime * result + ((value == null) ? 0 : value.hashCode());
+		result = prime * result + ((version == null) ? 0 : version.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!super.equals(obj)) return false;
+		UnparsedProperty other = (UnparsedProperty) obj;
+		if (dataType != other.dataType) return false;
+		if (name == null) {
+			if (other.name != null) return false;
+		} else if (!name.equalsIgnoreCase(other.name)) return false;
+		if (!Objects.equals(value, other.value)) return false;
+		if (version != other.version) return false;
+		return true;
+	}
+}
@@ -0,0 +1,353 @@
+package ezvcard.io.text;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+ */
+
+/**
+ * <p>
+ * Decodes UTF-8 text directly from a {@link ByteBuffer}, without going through
+ * a {@link java.nio.charset.CharsetDecoder}. ASCII characters, which make up
+ * the bulk of most vCards, are decoded with a single comparison. Malformed
+ * byte sequences are replaced with U+FFFD.
+ * </p>
+ * <p>
+ * The data is either read from a channel into a heap buffer, or, for
+ * {@link FileChannel FileChannels}, memory-mapped one region at a time. This
+ * class also keeps track of the byte offsets of the most recently read lines,
+ * so that the byte offset of a line can be found from its line number (see
+ * {@link #getLineOffset}).
+ * </p>
+ * @author Michael Angstadt
+ */
+public class Utf8ChannelReader extends Reader {
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final long MAP_SIZE = 64L * 1024 * 1024;
+	private static final char REPLACEMENT = '\ufffd';
+	private static final int LINE_HISTORY = 16;
+
+	private final ReadableByteChannel channel;
+	private final FileChannel mappedFile;
+	private ByteBuffer buffer;
+	private long bufferOffset;
+	private boolean eof = false;
+	private char pendingLowSurrogate = 0;
+
+	private int lineNumber = 1;
+	private final long[] lineOffsets = new long[LINE_HISTORY];
+	private boolean previousWasCR = false;
+
+	/**
+	 * Creates a reader that reads from the given channel into a heap buffer.
+	 * If the channel is a {@link FileChannel}, reading starts at the channel's
+	 * current position and all byte offsets are relative to the start of the
+	 * file. Otherwise, byte offsets are relative to the first byte that is
+	 * read.
+	 * @param channel the channel to read from
+	 * @throws IOException if there's a problem getting the channel's position
+	 */
+	public Utf8ChannelReader(ReadableByteChannel channel) throws IOException {
+		this(channel, false);
+	}
+
+	/**
+	 * Creates a reader that memory-maps the given file, starting at the
+	 * channel's current position. Byte offsets are relative to the start of
+	 * the file.
+	 * @param file the file to read from
+	 * @return the reader
+	 * @throws IOException if there's a problem getting the channel's position
+	 */
+	public static Utf8ChannelReader map(FileChannel file) throws IOException {
+		return new Utf8ChannelReader(file, true);
+	}
+
+	private Utf8ChannelReader(ReadableByteChannel channel, boolean map) throws IOException {
+		this.channel = channel;
+		mappedFile = map ? (FileChannel) channel : null;
+		bufferOffset = (channel instanceof FileChannel) ? ((FileChannel) channel).position() : 0;
+		lineOffsets[lineNumber % LINE_HISTORY] = bufferOffset;
+
+		if (map) {
+			buffer = ByteBuffer.allocate(0);
+		} else {
+			buffer = ByteBuffer.allocate(BUFFER_SIZE);
+			buffer.flip();
+		}
+	}
+
+	/**
+	 * Gets the byte offset of the next byte that will be decoded.
+	 * @return the byte offset
+	 */
+	public long getByteOffset() {
+		return bufferOffset + buffer.position();
+	}
+
+	/**
+	 * Gets the number of the line that the reader is currently on. Lines are
+	 * counted the same way as {@link java.io.BufferedReader#readLine} does.
+	 * @return the line number (the first line is 1)
+	 */
+	public int getLineNumber() {
+		return lineNumber;
+	}
+
+	/**
+	 * Gets the byte offset of the first character of a recently read line.
+	 * Only the offsets of the last few lines are retained.
+	 * @param lineNumber the line number (the first line is 1)
+	 * @return the byte offset or -1 if the line has not been reached yet or
+	 * was read too long ago
+	 */
+	public long getLineOffset(int lineNumber) {
+		if (lineNumber < 1 || lineNumber > this.lineNumber || lineNumber <= this.lineNumber - LINE_HISTORY) {
+			return -1;
+		}
+		return lineOffsets[lineNumber % LINE_HISTORY];
+	}
+
+	@Override
+	public int read() throws IOException {
+		int c = decode();
+		if (c >= 0) {
+			trackLines((char) c);
+		}
+		return c;
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+
+		int read = 0;
+		while (read < len) {
+			int c = decode();
+			if (c < 0) {
+				break;
+			}
+
+			cbuf[off + read++] = (char) c;
+			trackLines((char) c);
+		}
+
+		return (read == 0) ? -1 : read;
+	}
+
+	private void trackLines(char c) {
+		switch (c) {
+		case '\n':
+			if (previousWasCR) {
+				//"\r\n" is a single newline, so the line actually starts after the "\n"
+				lineOffsets[lineNumber % LINE_HISTORY] = getByteOffset();
+			} else {
+				newLine();
+			}
+			previousWasCR = false;
+			break;
+
+		case '\r':
+			newLine();
+			previousWasCR = true;
+			break;
+
+		default:
+			previousWasCR = false;
+			break;
+		}
+	}
+
+	private void newLine() {
+		lineNumber++;
+		lineOffsets[lineNumber % LINE_HISTORY] = getByteOffset();
+	}
+
+	/**
+	 * Decodes the next character.
+	 * @return the character or -1 if the end of the stream has been reached
+	 * @throws IOException if there's a problem reading from the channel
+	 */
+	private int decode() throws IOException {
+		if (pendingLowSurrogate != 0) {
+			char c = pendingLowSurrogate;
+			pendingLowSurrogate = 0;
+			return c;
+		}
+
+		if (buffer.remaining() < 4 && !eof) {
+			fill();
+		}
+		if (!buffer.hasRemaining()) {
+			return -1;
+		}
+
+		int b0 = buffer.get();
+		if (b0 >= 0) {
+			//ASCII
+			return b0;
+		}
+
+		b0 &= 0xFF;
+		int position = buffer.position();
+		if (b0 >= 0xC2 && b0 <= 0xDF) {
+			int b1 = continuation(position, 0x80, 0xBF);
+			if (b1 < 0) {
+				return REPLACEMENT;
+			}
+
+			buffer.position(position + 1);
+			return ((b0 & 0x1F) << 6) | (b1 & 0x3F);
+		}
+
+		if (b0 >= 0xE0 && b0 <= 0xEF) {
+			//reject overlong encodings
+			int min = (b0 == 0xE0) ? 0xA0 : 0x80;
+			int b1 = continuation(position, min, 0xBF);
+			if (b1 < 0) {
+				return REPLACEMENT;
+			}
+			int b2 = continuation(position + 1, 0x80, 0xBF);
+			if (b2 < 0) {
+				return malformed(position + 1);
+			}
+
+			buffer.position(position + 2);
+			int c = ((b0 & 0x0F) << 12) | ((b1 & 0x3F) << 6) | (b2 & 0x3F);
+
+			//an encoded surrogate is replaced as a whole, like the JDK does
+			return Character.isSurrogate((char) c) ? REPLACEMENT : c;
+		}
+
+		if (b0 >= 0xF0 && b0 <= 0xF4) {
+			//reject overlong encodings and code points above U+10FFFF
+			int min = (b0 == 0xF0) ? 0x90 : 0x80;
+			int max = (b0 == 0xF4) ? 0x8F : 0xBF;
+			int b1 = continuation(position, min, max);
+			if (b1 < 0) {
+				return REPLACEMENT;
+			}
+			int b2 = continuation(position + 1, 0x80, 0xBF);
+			if (b2 < 0) {
+				return malformed(position + 1);
+			}
+			int b3 = continuation(position + 2, 0x80, 0xBF);
+			if (b3 < 0) {
+				return malformed(position + 2);
+			}
+
+			buffer.position(position + 3);
+			int codePoint = ((b0 & 0x07) << 18) | ((b1 & 0x3F) << 12) | ((b2 & 0x3F) << 6) | (b3 & 0x3F);
+			pendingLowSurrogate = Character.lowSurrogate(codePoint);
+			return Character.highSurrogate(codePoint);
+		}
+
+		return REPLACEMENT;
+	}
+
+	/**
+	 * Skips over the valid part of a malformed multi-byte sequence, so that
+	 * the whole part is replaced with a single replacement character.
+	 * @param end the index of the first byte that is not part of the sequence
+	 * @return the replacement character
+	 */
+	private char malformed(int end) {
+		buffer.position(end);
+		return REPLACEMENT;
+	}
+
+	/**
+	 * Gets a continuation byte of a multi-byte sequence.
+	 * @param index the index of the byte in the buffer
+	 * @param min the minimum allowed value
+	 * @param max the maximum allowed value
+	 * @return the byte or -1 if it's missing or out of range
+	 */
+	private int continuation(int index, int min, int max) {
+		if (index >= buffer.limit()) {
+			return -1;
+		}
+
+		int b = buffer.get(index) & 0xFF;
+		return (b >= min && b <= max) ? b : -1;
+	}
+
+	/**
+	 * Moves the unread bytes to the front of the buffer and reads more data
+	 * from the channel.
+	 * @throws IOException if there's a problem reading from the channel
+	 */
+	private void fill() throws IOException {
+		if (mappedFile != null) {
+			long position = getByteOffset();
+			long size = mappedFile.size();
+			if (position + buffer.remaining() >= size) {
+				eof = true;
+				return;
+			}
+
+			long length = Math.min(MAP_SIZE, size - position);
+			buffer = mappedFile.map(FileChannel.MapMode.READ_ONLY, position, length);
+			bufferOffset = position;
+			return;
+		}
+
+		bufferOffset += buffer.position();
+		buffer.compact();
+		try {
+			while (buffer.hasRemaining()) {
+				int read = channel.read(buffer);
+				if (read < 0) {
+					eof = true;
+					break;
+				}
+				if (read == 0) {
+					break;
+				}
+			}
+		} finally {
+			buffer.flip();
+		}
+	}
+
+	/**
+	 * Closes the underlying channel.
+	 * @throws IOException if there's a problem closing the channel
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
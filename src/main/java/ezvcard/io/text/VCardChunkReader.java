@@ -0,0 +1,187 @@
+package ezvcard.io.text;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+import ezvcard.VCard;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+ */
+
+/**
+ * <p>
+ * Splits a plain-text vCard data stream into the raw text of each top-level
+ * vCard, without parsing the vCards. Each chunk begins with a
+ * {@code BEGIN:VCARD} line and ends with its matching {@code END:VCARD} line.
+ * Nested vCards (such as the 2.1-style AGENT property) are kept inside of the
+ * chunk of the vCard they belong to. Any text that is not part of a vCard is
+ * discarded.
+ * </p>
+ * <p>
+ * Because each chunk is self-contained, chunks can be parsed independently of
+ * each other (for example, on separate threads) by passing them to a
+ * {@link VCardReader}.
+ * </p>
+ * <p>
+ * <b>Example:</b>
+ * </p>
+ * 
+ * <pre class="brush:java">
+ * Path file = Paths.get("vcards.vcf");
+ * try (VCardChunkReader chunks = new VCardChunkReader(Files.newBufferedReader(file))) {
+ *   VCardChunkReader.Chunk chunk;
+ *   while ((chunk = chunks.readNext()) != null) {
+ *     VCard vcard = new VCardReader(chunk.getText()).readNext();
+ *     //...
+ *   }
+ * }
+ * </pre>
+ * @author Michael Angstadt
+ */
+public class VCardChunkReader implements Closeable {
+	private static final String COMPONENT_NAME = "VCARD";
+
+	private final BufferedReader reader;
+	private int lineNumber = 0;
+
+	/**
+	 * @param reader the reader to read from
+	 */
+	public VCardChunkReader(Reader reader) {
+		this.reader = (reader instanceof BufferedReader) ? (BufferedReader) reader : new BufferedReader(reader);
+	}
+
+	/**
+	 * Reads the raw text of the next top-level vCard.
+	 * @return the next vCard or null if there are no more. If the data stream
+	 * ends before the vCard's END property is reached, the chunk will contain
+	 * everything up to the end of the stream.
+	 * @throws IOException if there's a problem reading from the stream
+	 */
+	public Chunk readNext() throws IOException {
+		String line;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			if (isComponentBoundary(line, "BEGIN:")) {
+				break;
+			}
+		}
+
+		if (line == null) {
+			return null;
+		}
+
+		int startLine = lineNumber;
+		StringBuilder sb = new StringBuilder();
+		int depth = 0;
+		do {
+			sb.append(line).append("\r\n");
+
+			if (isComponentBoundary(line, "BEGIN:")) {
+				depth++;
+			} else if (isComponentBoundary(line, "END:")) {
+				depth--;
+				if (depth == 0) {
+					break;
+				}
+			}
+
+			line = reader.readLine();
+			if (line != null) {
+				lineNumber++;
+			}
+		} while (line != null);
+
+		return new Chunk(sb.toString(), startLine);
+	}
+
+	/**
+	 * Determines if a line is a BEGIN or END property of a VCARD component.
+	 * Folded lines begin with whitespace, so they will never match.
+	 * @param line the line
+	 * @param prefix the property name and colon (e.g. "BEGIN:")
+	 * @return true if the line is a matching component boundary, false if not
+	 */
+	private static boolean isComponentBoundary(String line, String prefix) {
+		if (!line.regionMatches(true, 0, prefix, 0, prefix.length())) {
+			return false;
+		}
+
+		String componentName = line.substring(prefix.length()).trim();
+		return COMPONENT_NAME.equalsIgnoreCase(componentName);
+	}
+
+	/**
+	 * Closes the underlying reader.
+	 * @throws IOException if there's a problem closing the reader
+	 */
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	/**
+	 * The raw text of a single top-level {@link VCard}.
+	 */
+	public static class Chunk {
+		private final String text;
+		private final int lineNumber;
+
+		/**
+		 * @param text the raw text of the vCard, including its BEGIN and END
+		 * properties
+		 * @param lineNumber the line number of the vCard's BEGIN property in
+		 * the original data stream
+		 */
+		public Chunk(String text, int lineNumber) {
+			this.text = text;
+			this.lineNumber = lineNumber;
+		}
+
+		/**
+		 * Gets the raw text of the vCard.
+		 * @return the raw text, including its BEGIN and END properties
+		 */
+		public String getText() {
+			return text;
+		}
+
+		/**
+		 * Gets the line number of the vCard's BEGIN property in the original
+		 * data stream. Add this value, minus one, to the line numbers of any
+		 * parse warnings that are generated when the chunk is parsed on its
+		 * own to get the line numbers relative to the original data stream.
+		 * @return the line number (the first line is 1)
+		 */
+		public int getLineNumber() {
+			return lineNumber;
+		}
+	}
+}
@@ -0,0 +1,318 @@
+package ezvcard.io.text;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ezvcard.Messages;
+import ezvcard.VCard;
+import ezvcard.io.PropertyFilter;
+import ezvcard.property.Uid;
+
+/*
+Copyright (c) 2012-2026, Michael Angstadt
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met: 
+
+1. Redistributions of source code must retain the above copyright notice, this
+list of conditions and the following disclaimer. 
+2. Redistributions in binary form must reproduce the above copyright notice,
+this list of conditions and the following disclaimer in the documentation
+and/or other materials provided with the distribution. 
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+The views and conclusions contained in the software and documentation are those
+of the authors and should not be interpreted as representing official policies, 
+either expressed or implied, of the FreeBSD Project.
+*/
+
+
+/**
+ * <p>
+ * Records where each top-level vCard in a plain-text vCard file is located, so
+ * that individual vCards can be read without scanning the file from the
+ * beginning (see {@link IndexedVCardFile}). For each vCard, the index stores
+ * its byte offset, its length in bytes, the line number of its BEGIN
+ * property, and the value of its UID property.
+ * </p>
+ * <p>
+ * An index can be saved to a small sidecar file and loaded again later. The
+ * size and last-modified time of the vCard file are stored along with the
+ * index, so that a stale index can be detected (see {@link #isUpToDate}).
+ * </p>
+ * <p>
+ * <b>Example:</b>
+ * </p>
+ * 
+ * <pre class="brush:java">
+ * Path file = Paths.get("contacts.vcf");
+ * Path indexFile = Paths.get("contacts.vcf.idx");
+ * 
+ * VCardIndex index = Files.exists(indexFile) ? VCardIndex.read(indexFile) : null;
+ * if (index == null || !index.isUpToDate(file)) {
+ *   index = VCardIndex.build(file);
+ *   index.write(indexFile);
+ * }
+ * </pre>
+ * @author Michael Angstadt
+ */
+public class VCardIndex {
+	private static final int MAGIC = 0x56434958; //"VCIX"
+	private static final int FORMAT_VERSION = 1;
+
+	private final long fileSize;
+	private final long lastModified;
+	private final List<Entry> entries;
+	private final Map<String, Entry> byUid;
+
+	private VCardIndex(long fileSize, long lastModified, List<Entry> entries) {
+		this.fileSize = fileSize;
+		this.lastModified = lastModified;
+		this.entries = Collections.unmodifiableList(entries);
+
+		byUid = new HashMap<>();
+		for (Entry entry : entries) {
+			if (entry.uid != null) {
+				byUid.putIfAbsent(entry.uid, entry);
+			}
+		}
+	}
+
+	/**
+	 * Builds an index by reading through a vCard file. The file must be
+	 * encoded in UTF-8. Only the UID property of each vCard is parsed.
+	 * @param file the vCard file
+	 * @return the index
+	 * @throws IOException if there's a problem reading the file
+	 */
+	public static VCardIndex build(Path file) throws IOException {
+		long fileSize = Files.size(file);
+		long lastModified = Files.getLastModifiedTime(file).toMillis();
+		List<Entry> entries = new ArrayList<>();
+
+		try (VCardReader reader = new VCardReader(FileChannel.open(file, StandardOpenOption.READ))) {
+			reader.setPropertyFilter(new PropertyFilter().include(Uid.class));
+
+			VCard vcard;
+			while ((vcard = reader.readNext()) != null) {
+				Uid uid = vcard.getUid();
+				String uidValue = (uid == null) ? null : uid.getValue();
+
+				long length = reader.getByteLength();
+				if (length > Integer.MAX_VALUE) {
+					throw new IOException(Messages.INSTANCE.getExceptionMessage(46, reader.getLineNumber(), length));
+				}
+
+				entries.add(new Entry(entries.size(), reader.getByteOffset(), (int) length, reader.getLineNumber(), uidValue));
+			}
+		}
+
+		return new VCardIndex(fileSize, lastModified, entries);
+	}
+
+	/**
+	 * Loads an index from a sidecar file that was created with
+	 * {@link #write}.
+	 * @param indexFile the index file
+	 * @return the index
+	 * @throws IOException if there's a problem reading the file or the file is
+	 * not a vCard index
+	 */
+	public static VCardIndex read(Path indexFile) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				throw new IOException(Messages.INSTANCE.getExceptionMessage(45, indexFile));
+			}
+
+			long fileSize = in.readLong();
+			long lastModified = in.readLong();
+			int count = in.readInt();
+			List<Entry> entries = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				long offset = in.readLong();
+				int length = in.readInt();
+				int lineNumber = in.readInt();
+				String uid = in.readBoolean() ? readString(in, indexFile) : null;
+				entries.add(new Entry(i, offset, length, lineNumber, uid));
+			}
+
+			return new VCardIndex(fileSize, lastModified, entries);
+		}
+	}
+
+	/**
+	 * Saves the index to a sidecar file.
+	 * @param indexFile the index file (it will be overwritten if it exists)
+	 * @throws IOException if there's a problem writing to the file
+	 */
+	public void write(Path indexFile) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexFile)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeLong(fileSize);
+			out.writeLong(lastModified);
+			out.writeInt(entries.size());
+			for (Entry entry : entries) {
+				out.writeLong(entry.offset);
+				out.writeInt(entry.length);
+				out.writeInt(entry.lineNumber);
+				out.writeBoolean(entry.uid != null);
+				if (entry.uid != null) {
+					//DataOutput.writeUTF() cannot write strings longer than 64KB
+					byte[] uid = entry.uid.getBytes(StandardCharsets.UTF_8);
+					out.writeInt(uid.length);
+					out.write(uid);
+				}
+			}
+		}
+	}
+
+	private static String readString(DataInputStream in, Path indexFile) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			throw new IOException(Messages.INSTANCE.getExceptionMessage(45, indexFile));
+		}
+
+		byte[] data = new byte[length];
+		in.readFully(data);
+		return new String(data, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Determines if the index still describes the given vCard file, by
+	 * comparing the file's size and last-modified time with the values that
+	 * were recorded when the index was built.
+	 * @param file the vCard file
+	 * @return true if the index is up to date, false if it needs to be rebuilt
+	 * @throws IOException if there's a problem reading the file's attributes
+	 */
+	public boolean isUpToDate(Path file) throws IOException {
+		return Files.size(file) == fileSize && Files.getLastModifiedTime(file).toMillis() == lastModified;
+	}
+
+	/**
+	 * Gets the number of vCards in the file.
+	 * @return the number of vCards
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Gets the index entry of a vCard.
+	 * @param ordinal the position of the vCard in the file (the first vCard is
+	 * 0)
+	 * @return the entry
+	 * @throws IndexOutOfBoundsException if the ordinal is out of range
+	 */
+	public Entry get(int ordinal) {
+		return entries.get(ordinal);
+	}
+
+	/**
+	 * Gets the index entry of a vCard by its UID. If more than one vCard has
+	 * the UID, the first one is returned.
+	 * @param uid the UID
+	 * @return the entry or null if not found
+	 */
+	public Entry get(String uid) {
+		return byUid.get(uid);
+	}
+
+	/**
+	 * Gets all of the index entries, in the order they appear in the file.
+	 * @return the entries (this list is immutable)
+	 */
+	public List<Entry> getEntries() {
+		return entries;
+	}
+
+	/**
+	 * Describes the location of a single vCard within a file.
+	 * @author Michael Angstadt
+	 */
+	public static class Entry {
+		private final int ordinal;
+		private final long offset;
+		private final int length;
+		private final int lineNumber;
+		private final String uid;
+
+		private Entry(int ordinal, long offset, int length, int lineNumber, String uid) {
+			this.ordinal = ordinal;
+			this.offset = offset;
+			this.length = length;
+			this.lineNumber = lineNumber;
+			this.uid = uid;
+		}
+
+		/**
+		 * Gets the position of the vCard in the file.
+		 * @return the ordinal (the first vCard is 0)
+		 */
+		public int getOrdinal() {
+			return ordinal;
+		}
+
+		/**
+		 * Gets the byte offset of the vCard's BEGIN property.
+		 * @return the byte offset
+		 */
+		public long getOffset() {
+			return offset;
+		}
+
+		/**
+		 * Gets the number of bytes the vCard takes up.
+		 * @return the length in bytes
+		 */
+		public int getLength() {
+			return length;
+		}
+
+		/**
+		 * Gets the line number of the vCard's BEGIN property.
+		 * @return the line number (the first line is 1)
+		 */
+		public int getLineNumber() {
+			return lineNumber;
+		}
+
+		/**
+		 * Gets the value of the vCard's UID property.
+		 * @return the UID or null if the vCard does not have one
+		 */
+		public String getUid() {
+			return uid;
+		}
+
+		@Override
+		public String toString() {
+			return "Entry [ordinal=" + ordinal + ", offset=" + offset + ", length=" + length + ", lineNumber=" + lineNumber + ", uid=" + uid + "]";
+		}
+	}
+}
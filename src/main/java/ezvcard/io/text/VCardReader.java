@@ -5,6 +5,8 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -26,6 +28,7 @@ import ezvcard.VCardVersion;
 import ezvcard.io.CannotParseException;
 import ezvcard.io.EmbeddedVCardException;
 import ezvcard.io.ParseWarning;
+import ezvcard.io.ParseWarningListener;
 import ezvcard.io.SkipMeException;
 import ezvcard.io.StreamReader;
 import ezvcard.io.scribe.RawPropertyScribe;
@@ -33,7 +36,9 @@ import ezvcard.io.scribe.VCardPropertyScribe;
 import ezvcard.parameter.Encoding;
 import ezvcard.parameter.VCardParameters;
 import ezvcard.property.Address;
+import ezvcard.property.Agent;
 import ezvcard.property.Label;
+import ezvcard.property.ProductId;
 import ezvcard.property.VCardProperty;
 import ezvcard.util.IOUtils;
 import ezvcard.util.StringUtils;
@@ -92,6 +97,15 @@ import ezvcard.util.StringUtils;
 public class VCardReader extends StreamReader {
 	private final VObjectReader reader;
 	private final VCardVersion defaultVersion;
+	private final Utf8ChannelReader channelReader;
+	private boolean lazyParsing = false;
+	private long byteOffset = -1;
+	private long byteLength = -1;
+	private int lineNumber = -1;
+	private int firstLineNumber = 1;
+	private long nextByteOffset;
+	private int nextLineNumber;
+	private int vcardCount = 0;
 
 	/**
 	 * Creates a new vCard reader.
@@ -149,6 +163,67 @@ public class VCardReader extends StreamReader {
 		this(Files.newBufferedReader(file), defaultVersion);
 	}
 
+	/**
+	 * <p>
+	 * Creates a new vCard reader that decodes UTF-8 data directly from a
+	 * channel (see {@link Utf8ChannelReader}). This avoids the overhead of a
+	 * {@link java.nio.charset.CharsetDecoder}, and allows the byte offset of
+	 * each vCard to be retrieved (see {@link #getByteOffset}).
+	 * </p>
+	 * <p>
+	 * If the channel is a {@link FileChannel}, the file is memory-mapped, and
+	 * reading starts at the channel's current position.
+	 * </p>
+	 * @param channel the channel to read from (must contain UTF-8 data)
+	 * @throws IOException if there is a problem reading from the channel
+	 */
+	public VCardReader(ReadableByteChannel channel) throws IOException {
+		this(channel, VCardVersion.V2_1);
+	}
+
+	/**
+	 * Creates a new vCard reader that decodes UTF-8 data directly from a
+	 * channel.
+	 * @param channel the channel to read from (must contain UTF-8 data)
+	 * @param defaultVersion the version to assume the vCard is in until a
+	 * VERSION property is encountered (defaults to 2.1)
+	 * @throws IOException if there is a problem reading from the channel
+	 * @see #VCardReader(ReadableByteChannel)
+	 */
+	public VCardReader(ReadableByteChannel channel, VCardVersion defaultVersion) throws IOException {
+		this((channel instanceof FileChannel) ? Utf8ChannelReader.map((FileChannel) channel) : new Utf8ChannelReader(channel), defaultVersion);
+	}
+
+	/**
+	 * Creates a new vCard reader that resumes reading a file from a
+	 * checkpoint that was recorded by a previous reader (see
+	 * {@link #getCheckpoint}). The data that comes before the checkpoint is
+	 * not read. Line numbers and the vCard count continue from where the
+	 * checkpoint left off.
+	 * @param file the file to read from (must contain UTF-8 data)
+	 * @param checkpoint the checkpoint
+	 * @throws IOException if there is a problem reading from the file
+	 */
+	public VCardReader(FileChannel file, Checkpoint checkpoint) throws IOException {
+		this(file, checkpoint, VCardVersion.V2_1);
+	}
+
+	/**
+	 * Creates a new vCard reader that resumes reading a file from a
+	 * checkpoint that was recorded by a previous reader.
+	 * @param file the file to read from (must contain UTF-8 data)
+	 * @param checkpoint the checkpoint
+	 * @param defaultVersion the version to assume the vCard is in until a
+	 * VERSION property is encountered (defaults to 2.1)
+	 * @throws IOException if there is a problem reading from the file
+	 * @see #VCardReader(FileChannel, Checkpoint)
+	 */
+	public VCardReader(FileChannel file, Checkpoint checkpoint, VCardVersion defaultVersion) throws IOException {
+		this(Utf8ChannelReader.map(file.position(checkpoint.getByteOffset())), defaultVersion);
+		firstLineNumber = nextLineNumber = checkpoint.getLineNumber();
+		vcardCount = checkpoint.getVCardCount();
+	}
+
 	/**
 	 * Creates a new vCard reader.
 	 * @param reader the reader to read from
@@ -168,6 +243,9 @@ public class VCardReader extends StreamReader {
 		rules.setDefaultSyntaxStyle(defaultVersion.getSyntaxStyle());
 		this.reader = new VObjectReader(reader, rules);
 		this.defaultVersion = defaultVersion;
+		channelReader = (reader instanceof Utf8ChannelReader) ? (Utf8ChannelReader) reader : null;
+		nextByteOffset = (channelReader == null) ? -1 : channelReader.getByteOffset();
+		nextLineNumber = firstLineNumber;
 	}
 
 	/**
@@ -212,13 +290,143 @@ public class VCardReader extends StreamReader {
 		reader.setDefaultQuotedPrintableCharset(charset);
 	}
 
+	/**
+	 * Gets whether lazy parsing is enabled (disabled by default).
+	 * @return true if lazy parsing is enabled, false if not
+	 * @see #setLazyParsingEnabled(boolean)
+	 */
+	public boolean isLazyParsingEnabled() {
+		return lazyParsing;
+	}
+
+	/**
+	 * <p>
+	 * Sets whether lazy parsing is enabled (disabled by default).
+	 * </p>
+	 * <p>
+	 * When enabled, the reader stores the raw name, group, parameters, and
+	 * value of each property, and only invokes the property's scribe when the
+	 * property is first accessed through the {@link VCard} object (for
+	 * example, by calling {@link VCard#getProperty(Class)},
+	 * {@link VCard#getProperties(Class)}, or by iterating over the vCard).
+	 * This saves time and memory when only a few properties of each vCard are
+	 * needed. Properties that are never accessed are written back out by
+	 * {@link VCardWriter} as they were read, as long as they are written to
+	 * the same vCard version.
+	 * </p>
+	 * <p>
+	 * Because parsing is deferred, {@link #getWarnings} does not include
+	 * warnings for lazily parsed properties. Those warnings are passed to the
+	 * warning listener (see {@link #setWarningListener}) when the property is
+	 * first parsed, or discarded if there is no listener. LABEL, AGENT, and
+	 * PRODID properties, and properties that do not have a scribe, are always
+	 * parsed immediately.
+	 * </p>
+	 * @param enable true to enable lazy parsing, false to disable it
+	 */
+	public void setLazyParsingEnabled(boolean enable) {
+		lazyParsing = enable;
+	}
+
+	/**
+	 * Gets the byte offset of the BEGIN property of the last vCard that was
+	 * read. This is only available if the reader was created from a channel
+	 * or a {@link Utf8ChannelReader}.
+	 * @return the byte offset or -1 if not available
+	 */
+	public long getByteOffset() {
+		return byteOffset;
+	}
+
+	/**
+	 * Gets the number of bytes that the last vCard that was read takes up,
+	 * from the start of its BEGIN property to the end of the newline that
+	 * follows its END property. This is only available if the reader was
+	 * created from a channel or a {@link Utf8ChannelReader}.
+	 * @return the length in bytes or -1 if not available
+	 */
+	public long getByteLength() {
+		return byteLength;
+	}
+
+	/**
+	 * Gets the line number of the BEGIN property of the last vCard that was
+	 * read.
+	 * @return the line number (the first line is 1) or -1 if no vCard has
+	 * been read
+	 */
+	public int getLineNumber() {
+		return lineNumber;
+	}
+
+	/**
+	 * <p>
+	 * Gets a checkpoint that marks the position just after the last vCard
+	 * that was read (or the starting position, if no vCards have been read
+	 * yet). If the program is interrupted, a new reader can be created from
+	 * the checkpoint to continue reading from the next vCard, without
+	 * re-reading the data that comes before it (see
+	 * {@link #VCardReader(FileChannel, Checkpoint)}).
+	 * </p>
+	 * <p>
+	 * This is only available if the reader was created from a channel or a
+	 * {@link Utf8ChannelReader}.
+	 * </p>
+	 * @return the checkpoint or null if not available
+	 */
+	public Checkpoint getCheckpoint() {
+		return (nextByteOffset < 0) ? null : new Checkpoint(nextByteOffset, nextLineNumber, vcardCount);
+	}
+
 	@Override
 	protected VCard _readNext() throws IOException {
+		byteOffset = -1;
+		byteLength = -1;
+		lineNumber = -1;
 		VObjectDataListenerImpl listener = new VObjectDataListenerImpl();
 		reader.parse(listener);
+		if (listener.root != null) {
+			vcardCount++;
+		}
 		return listener.root;
 	}
 
+	/**
+	 * Converts a line number from the underlying parser, which is relative to
+	 * where the reader started reading, to an absolute line number.
+	 * @param lineNumber the relative line number
+	 * @return the absolute line number
+	 */
+	private int toLineNumber(int lineNumber) {
+		return lineNumber + firstLineNumber - 1;
+	}
+
+	/**
+	 * <p>
+	 * Unescapes newline sequences in the LABEL parameter of {@link Address}
+	 * properties. Newlines cannot normally be escaped in parameter values.
+	 * </p>
+	 * <p>
+	 * Only version 4.0 allows this (and only version 4.0 defines a LABEL
+	 * parameter), but do this for all versions for compatibility.
+	 * </p>
+	 * @param property the property
+	 */
+	static void unescapeLabelParameter(VCardProperty property) {
+		if (!(property instanceof Address)) {
+			return;
+		}
+
+		Address adr = (Address) property;
+		String label = adr.getLabel();
+		if (label == null) {
+			return;
+		}
+
+		label = label.replace("\\n", StringUtils.NEWLINE);
+		adr.setLabel(label);
+	}
+
 	private class VObjectDataListenerImpl implements VObjectDataListener {
 		private VCard root;
 		private final VCardStack stack = new VCardStack();
@@ -233,6 +441,11 @@ public class VCardReader extends StreamReader {
 			VCard vcard = new VCard(defaultVersion);
 			if (stack.isEmpty()) {
 				root = vcard;
+				lineNumber = toLineNumber(context.getLineNumber());
+				if (channelReader != null) {
+					byteOffset = channelReader.getLineOffset(context.getLineNumber());
+				}
+				startVCard(vcard);
 			}
 			stack.push(vcard);
 
@@ -258,9 +471,9 @@ public class VCardReader extends StreamReader {
 			 * property is parsed as a RawProperty and a different warning is
 			 * generated by vinnie.
 			 */
-			if (!item.validVersionPropertyFound && item.vcard.getExtendedProperty("VERSION") == null) {
+			if (!item.validVersionPropertyFound && !item.invalidVersionPropertyFound && item.vcard.getExtendedProperty("VERSION") == null) {
 				//@formatter:off
-				warnings.add(new ParseWarning.Builder()
+				addWarning(new ParseWarning.Builder()
 					.message(39, item.vcard.getVersion())
 					.build()
 				);
@@ -268,6 +481,16 @@ public class VCardReader extends StreamReader {
 			}
 
 			if (stack.isEmpty()) {
+				if (channelReader != null && byteOffset >= 0) {
+					long end = channelReader.getLineOffset(context.getLineNumber() + 1);
+					if (end < 0) {
+						//the END property is on the last line
+						end = channelReader.getByteOffset();
+					}
+					byteLength = end - byteOffset;
+					nextByteOffset = end;
+					nextLineNumber = toLineNumber(context.getLineNumber() + 1);
+				}
 				context.stop();
 			}
 		}
@@ -287,16 +510,47 @@ public class VCardReader extends StreamReader {
 			VCard curVCard = stack.peek().vcard;
 			VCardVersion version = curVCard.getVersion();
 
-			VCardProperty property = parseProperty(vobjectProperty, version, vobjectContext.getLineNumber());
+			VCardProperty property = parseProperty(vobjectProperty, version, toLineNumber(vobjectContext.getLineNumber()));
 			if (property != null) {
-				curVCard.addProperty(property);
+				if ("VERSION".equalsIgnoreCase(vobjectProperty.getName())) {
+					//the property is only passed here if its value is invalid
+					stack.peek().invalidVersionPropertyFound = true;
+				}
+				addProperty(curVCard, property);
 			}
 		}
 
 		private VCardProperty parseProperty(VObjectProperty vobjectProperty, VCardVersion version, int lineNumber) {
-			String group = vobjectProperty.getGroup();
 			String name = vobjectProperty.getName();
-			VCardParameters parameters = new VCardParameters(vobjectProperty.getParameters().getMap());
+
+			//get the scribe
+			VCardPropertyScribe<? extends VCardProperty> scribe = index.getPropertyScribe(name);
+			if (scribe == null) {
+				scribe = index.getRawPropertyScribe(name);
+			}
+
+			if (!isIncluded(name, scribe)) {
+				return null;
+			}
+
+			String group = intern(vobjectProperty.getGroup());
+
+			/*
+			 * Copy the parameters instead of wrapping the parser's map, so
+			 * that they are stored in the more compact VCardParameters form.
+			 */
+			VCardParameters parameters = new VCardParameters();
+			if (stringPool == null) {
+				vobjectProperty.getParameters().getMap().forEach(parameters::putAll);
+			} else {
+				vobjectProperty.getParameters().getMap().forEach((key, values) -> {
+					key = intern(key);
+					for (String value : values) {
+						parameters.put(key, intern(value));
+					}
+				});
+			}
+
 			String value = vobjectProperty.getValue();
 
 			context.getWarnings().clear();
@@ -308,12 +562,6 @@ public class VCardReader extends StreamReader {
 			processNamelessParameters(parameters);
 			processQuotedMultivaluedTypeParams(parameters, version);
 
-			//get the scribe
-			VCardPropertyScribe<? extends VCardProperty> scribe = index.getPropertyScribe(name);
-			if (scribe == null) {
-				scribe = new RawPropertyScribe(name);
-			}
-
 			//get the data type (VALUE parameter)
 			VCardDataType dataType = parameters.getValue();
 			parameters.setValue(null);
@@ -322,10 +570,17 @@ public class VCardReader extends StreamReader {
 				dataType = scribe.defaultDataType(version);
 			}
 
+			if (lazyParsing && isDeferrable(scribe)) {
+				ParseWarningListener listener = warningsEnabled ? warningListener : null;
+				VCardProperty property = new UnparsedProperty(scribe, version, name, value, dataType, parameters, blobStore, lineNumber, listener);
+				property.setGroup(group);
+				return property;
+			}
+
 			VCardProperty property;
 			try {
 				property = scribe.parseText(value, dataType, parameters, context);
-				warnings.addAll(context.getWarnings());
+				addWarnings(context.getWarnings());
 			} catch (SkipMeException e) {
 				handleSkippedProperty(name, lineNumber, e);
 				return null;
@@ -346,19 +601,39 @@ public class VCardReader extends StreamReader {
 			 * an ADR).
 			 */
 			if (property instanceof Label) {
-				Label label = (Label) property;
-				stack.peek().labels.add(label);
+				VCardStack.Item item = stack.peek();
+				if (isStreaming(item.vcard)) {
+					//the ADR properties are not kept around, so the LABEL cannot be matched up
+					return property;
+				}
+
+				item.labels.add((Label) property);
 				return null;
 			}
 
-			handleLabelParameter(property);
+			unescapeLabelParameter(property);
 
 			return property;
 		}
 
+		/**
+		 * Determines if a property's parsing can be deferred when lazy parsing
+		 * is enabled.
+		 * @param scribe the property's scribe
+		 * @return true if it can be deferred, false if it must be parsed now
+		 */
+		private boolean isDeferrable(VCardPropertyScribe<? extends VCardProperty> scribe) {
+			if (scribe instanceof RawPropertyScribe) {
+				return false;
+			}
+
+			Class<? extends VCardProperty> clazz = scribe.getPropertyClass();
+			return clazz != Label.class && clazz != Agent.class && clazz != ProductId.class;
+		}
+
 		private void handleSkippedProperty(String propertyName, int lineNumber, SkipMeException e) {
 			//@formatter:off
-			warnings.add(new ParseWarning.Builder(context)
+			addWarning(new ParseWarning.Builder(context)
 				.message(22, e.getMessage())
 				.build()
 			);
@@ -367,13 +642,13 @@ public class VCardReader extends StreamReader {
 
 		private VCardProperty handleUnparseableProperty(String name, VCardParameters parameters, String value, VCardDataType dataType, int lineNumber, VCardVersion version, CannotParseException e) {
 			//@formatter:off
-			warnings.add(new ParseWarning.Builder(context)
+			addWarning(new ParseWarning.Builder(context)
 				.message(e)
 				.build()
 			);
 			//@formatter:on
 
-			RawPropertyScribe scribe = new RawPropertyScribe(name);
+			RawPropertyScribe scribe = index.getRawPropertyScribe(name);
 			return scribe.parseText(value, dataType, parameters, null);
 		}
 
@@ -397,6 +672,11 @@ public class VCardReader extends StreamReader {
 			agentReader.setCaretDecodingEnabled(isCaretDecodingEnabled());
 			agentReader.setDefaultQuotedPrintableCharset(getDefaultQuotedPrintableCharset());
 			agentReader.setScribeIndex(index);
+			agentReader.setLazyParsingEnabled(lazyParsing);
+			agentReader.setBlobStore(blobStore);
+			agentReader.setStringPool(stringPool);
+			agentReader.setPropertyFilter(propertyFilter);
+			agentReader.setWarningsEnabled(warningsEnabled);
 
 			try {
 				VCard nestedVCard = agentReader.readNext();
@@ -406,37 +686,11 @@ public class VCardReader extends StreamReader {
 			} catch (IOException ignore) {
 				//shouldn't be thrown because we're reading from a string
 			} finally {
-				warnings.addAll(agentReader.getWarnings());
+				addWarnings(agentReader.getWarnings());
 				IOUtils.closeQuietly(agentReader);
 			}
 		}
 
-		/**
-		 * <p>
-		 * Unescapes newline sequences in the LABEL parameter of {@link Address}
-		 * properties. Newlines cannot normally be escaped in parameter values.
-		 * </p>
-		 * <p>
-		 * Only version 4.0 allows this (and only version 4.0 defines a LABEL
-		 * parameter), but do this for all versions for compatibility.
-		 * </p>
-		 * @param property the property
-		 */
-		private void handleLabelParameter(VCardProperty property) {
-			if (!(property instanceof Address)) {
-				return;
-			}
-
-			Address adr = (Address) property;
-			String label = adr.getLabel();
-			if (label == null) {
-				return;
-			}
-
-			label = label.replace("\\n", StringUtils.NEWLINE);
-			adr.setLabel(label);
-		}
-
 		public void onVersion(String value, Context vobjectContext) {
 			VCardVersion version = VCardVersion.valueOfByStr(value);
 			context.setVersion(version);
@@ -453,8 +707,8 @@ public class VCardReader extends StreamReader {
 			}
 
 			//@formatter:off
-			warnings.add(new ParseWarning.Builder(context)
-				.lineNumber(vobjectContext.getLineNumber())
+			addWarning(new ParseWarning.Builder(context)
+				.lineNumber(toLineNumber(vobjectContext.getLineNumber()))
 				.propertyName((property == null) ? null : property.getName())
 				.message(27, warning.getMessage(), vobjectContext.getUnfoldedLine())
 				.build()
@@ -545,10 +799,10 @@ public class VCardReader extends StreamReader {
 			int prev = -1;
 			int cur;
 			while ((cur = valueWithComma.indexOf(',', prev + 1)) >= 0) {
-				types.add(valueWithComma.substring(prev + 1, cur));
+				types.add(intern(valueWithComma.substring(prev + 1, cur)));
 				prev = cur;
 			}
-			types.add(valueWithComma.substring(prev + 1));
+			types.add(intern(valueWithComma.substring(prev + 1)));
 		}
 	}
 
@@ -594,6 +848,7 @@ public class VCardReader extends StreamReader {
 			public final VCard vcard;
 			public final List<Label> labels;
 			public boolean validVersionPropertyFound = false;
+			public boolean invalidVersionPropertyFound = false;
 
 			public Item(VCard vcard, List<Label> labels) {
 				this.vcard = vcard;
@@ -609,4 +864,78 @@ public class VCardReader extends StreamReader {
 	public void close() throws IOException {
 		reader.close();
 	}
+
+	/**
+	 * A position in a vCard file that reading can be resumed from. To persist
+	 * a checkpoint, save the values of its three getter methods, and pass them
+	 * to the constructor later on.
+	 * @author Michael Angstadt
+	 * @see VCardReader#getCheckpoint
+	 */
+	public static class Checkpoint {
+		private final long byteOffset;
+		private final int lineNumber;
+		private final int vcardCount;
+
+		/**
+		 * @param byteOffset the byte offset to resume reading from
+		 * @param lineNumber the line number of the line that starts at the
+		 * byte offset (the first line is 1)
+		 * @param vcardCount the number of vCards that come before the byte
+		 * offset
+		 */
+		public Checkpoint(long byteOffset, int lineNumber, int vcardCount) {
+			this.byteOffset = byteOffset;
+			this.lineNumber = lineNumber;
+			this.vcardCount = vcardCount;
+		}
+
+		/**
+		 * Gets the byte offset to resume reading from.
+		 * @return the byte offset
+		 */
+		public long getByteOffset() {
+			return byteOffset;
+		}
+
+		/**
+		 * Gets the line number of the line that starts at the byte offset.
+		 * @return the line number (the first line is 1)
+		 */
+		public int getLineNumber() {
+			return lineNumber;
+		}
+
+		/**
+		 * Gets the number of vCards that come before the byte offset.
+		 * @return the number of vCards
+		 */
+		public int getVCardCount() {
+			return vcardCount;
+		}
+
+		@Override
+		public int hashCode() {
+			final int prime = 31;
+			int result = 1;
+			result = prime * result + Long.hashCode(byteOffset);
+			result = prime * result + lineNumber;
+			result = prime * result + vcardCount;
+			return result;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+			if (obj == null) return false;
+			if (getClass() != obj.getClass()) return false;
+			Checkpoint other = (Checkpoint) obj;
+			return byteOffset == other.byteOffset && lineNumber == other.lineNumber && vcardCount == other.vcardCount;
+		}
+
+		@Override
+		public String toString() {
+			return "Checkpoint [byteOffset=" + byteOffset + ", lineNumber=" + lineNumber + ", vcardCount=" + vcardCount + "]";
+		}
+	}
 }
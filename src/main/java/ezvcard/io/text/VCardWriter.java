@@ -314,6 +314,11 @@ public class VCardWriter extends StreamWriter implements Flushable {
 		writer.writeVersion(targetVersion.getVersion());
 
 		for (VCardProperty property : propertiesToAdd) {
+			if (property instanceof UnparsedProperty) {
+				writeUnparsedProperty((UnparsedProperty) property);
+				continue;
+			}
+
 			VCardPropertyScribe scribe = index.getPropertyScribe(property);
 
 			String value = null;
@@ -345,6 +350,49 @@ public class VCardWriter extends StreamWriter implements Flushable {
 		writer.writeEndComponent("VCARD");
 	}
 
+	/**
+	 * Writes a property that was read with lazy parsing enabled and never
+	 * accessed, using its original value.
+	 * @param property the property
+	 * @throws IOException if there's a problem writing to the output stream
+	 */
+	private void writeUnparsedProperty(UnparsedProperty property) throws IOException {
+		VCardPropertyScribe<? extends VCardProperty> scribe = property.getScribe();
+		VCardParameters parameters = new VCardParameters(property.getParameters());
+
+		VCardDataType dataType = property.getDataType();
+		if (dataType != null && dataType != scribe.defaultDataType(targetVersion)) {
+			parameters.setValue(dataType);
+		}
+
+		handleQuotedPrintableEncodingParameter(property, parameters);
+
+		writer.writeProperty(property.getGroup(), scribe.getPropertyName(), new VObjectParameters(parameters.getMap()), property.getValue());
+	}
+
+	/**
+	 * Unparsed properties are written as-is if they were read from a vCard of
+	 * the same version and do not need any special handling.
+	 */
+	@Override
+	protected boolean canWriteUnparsed(UnparsedProperty property) {
+		if (property.getVersion() != targetVersion || targetApplication != null) {
+			return false;
+		}
+
+		if (versionStrict && !property.isPropertyClassSupportedBy(targetVersion)) {
+			return false;
+		}
+
+		//LABEL properties are generated from ADR properties in 2.1 and 3.0
+		if (property.getPropertyClass() == Address.class && targetVersion != VCardVersion.V4_0) {
+			return false;
+		}
+
+		//the property must be written by the same scribe that would have parsed it
+		return index.getPropertyScribe(property.getPropertyClass()) == property.getScribe();
+	}
+
 	@SuppressWarnings("rawtypes")
 	private void writeNestedVCard(VCard nestedVCard, VCardProperty property, VCardPropertyScribe scribe, VCardParameters parameters, String value) throws IOException {
 		if (targetVersion == VCardVersion.V2_1) {
@@ -472,7 +520,7 @@ public class VCardWriter extends StreamWriter implements Flushable {
 		}
 
 		BinaryProperty<?> binaryProperty = (BinaryProperty<?>) property;
-		if (binaryProperty.getData() == null) {
+		if (binaryProperty.getDataBuffer() == null) {
 			//property value is not base64-encoded
 			return;
 		}
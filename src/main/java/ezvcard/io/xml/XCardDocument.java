@@ -26,14 +26,11 @@ import javax.xml.namespace.QName;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.TransformerFactoryConfigurationError;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -92,6 +89,11 @@ import ezvcard.util.XmlUtils;
 * This class can be used to read and write xCard documents.
 * </p>
 * <p>
+* The entire XML document is held in memory as a DOM. To read or write large
+* xCard documents one vCard at a time, use {@link XCardReader} and
+* {@link XCardWriter} instead.
+* </p>
+* <p>
 * <b>Examples:</b>
 * </p>
 * 
@@ -206,7 +208,7 @@ public class XCardDocument {
 		this.document = document;
 
 		XCardNamespaceContext nsContext = new XCardNamespaceContext(version4, "v");
-		XPath xpath = XPathFactory.newInstance().newXPath();
+		XPath xpath = XmlUtils.getXPathFactory().newXPath();
 		xpath.setNamespaceContext(nsContext);
 
 		try {
@@ -468,10 +470,8 @@ public class XCardDocument {
 	public void write(Writer writer, Map<String, String> outputProperties) throws TransformerException {
 		Transformer transformer;
 		try {
-			TransformerFactory factory = TransformerFactory.newInstance();
-			XmlUtils.applyXXEProtection(factory);
-			transformer = factory.newTransformer();
-		} catch (TransformerConfigurationException | TransformerFactoryConfigurationError e) {
+			transformer = XmlUtils.getTransformerFactory().newTransformer();
+		} catch (TransformerConfigurationException e) {
 			//should never be thrown because we're not doing anything fancy with the configuration
 			throw new RuntimeException(e);
 		}
@@ -516,6 +516,7 @@ public class XCardDocument {
 			vcard = new VCard();
 			vcard.setVersion(version4);
 			context.setVersion(version4);
+			startVCard(vcard);
 			parseVCardElement(vcardElements.next());
 			return vcard;
 		}
@@ -528,7 +529,7 @@ public class XCardDocument {
 			List<Element> children = XmlUtils.toElementList(vcardElement.getChildNodes());
 			for (Element child : children) {
 				if (XmlUtils.hasQName(child, GROUP)) {
-					String group = child.getAttribute("name");
+					String group = intern(child.getAttribute("name"));
 					if (group.isEmpty()) {
 						group = null;
 					}
@@ -551,23 +552,26 @@ public class XCardDocument {
 		 * to a group
 		 */
 		private void parseAndAddElement(Element element, String group) {
-			VCardParameters parameters = parseParameters(element);
-
 			VCardProperty property;
 			String propertyName = element.getLocalName();
 			String ns = element.getNamespaceURI();
 			QName qname = new QName(ns, propertyName);
 			VCardPropertyScribe<? extends VCardProperty> scribe = index.getPropertyScribe(qname);
+			if (!isIncluded(propertyName, scribe)) {
+				return;
+			}
+
+			VCardParameters parameters = parseParameters(element);
 
 			context.getWarnings().clear();
 			context.setPropertyName(propertyName);
 			try {
 				property = scribe.parseXml(element, parameters, context);
 				property.setGroup(group);
-				warnings.addAll(context.getWarnings());
+				addWarnings(context.getWarnings());
 			} catch (SkipMeException e) {
 				//@formatter:off
-				warnings.add(new ParseWarning.Builder(context)
+				addWarning(new ParseWarning.Builder(context)
 					.message(22, e.getMessage())
 					.build()
 				);
@@ -575,7 +579,7 @@ public class XCardDocument {
 				return;
 			} catch (CannotParseException e) {
 				//@formatter:off
-				warnings.add(new ParseWarning.Builder(context)
+				addWarning(new ParseWarning.Builder(context)
 					.message(e)
 					.build()
 				);
@@ -586,7 +590,7 @@ public class XCardDocument {
 				property.setGroup(group);
 			} catch (EmbeddedVCardException e) {
 				//@formatter:off
-				warnings.add(new ParseWarning.Builder(context)
+				addWarning(new ParseWarning.Builder(context)
 					.message(34)
 					.build()
 				);
@@ -594,7 +598,7 @@ public class XCardDocument {
 				return;
 			}
 
-			vcard.addProperty(property);
+			addProperty(vcard, property);
 		}
 
 		/**
@@ -609,10 +613,10 @@ public class XCardDocument {
 			for (Element root : roots) { // foreach "<parameters>" element (there should only be 1 though)
 				List<Element> parameterElements = XmlUtils.toElementList(root.getChildNodes());
 				for (Element parameterElement : parameterElements) {
-					String name = parameterElement.getLocalName().toUpperCase();
+					String name = intern(parameterElement.getLocalName().toUpperCase());
 					List<Element> valueElements = XmlUtils.toElementList(parameterElement.getChildNodes());
 					for (Element valueElement : valueElements) {
-						String value = valueElement.getTextContent();
+						String value = intern(valueElement.getTextContent());
 						parameters.put(name, value);
 					}
 				}
@@ -15,27 +15,17 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.stream.IntStream;
 
 import javax.xml.namespace.QName;
-import javax.xml.transform.ErrorListener;
-import javax.xml.transform.Source;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerConfigurationException;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.sax.SAXResult;
-import javax.xml.transform.stream.StreamSource;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
-import org.xml.sax.Attributes;
-import org.xml.sax.SAXException;
-import org.xml.sax.helpers.DefaultHandler;
 
 import ezvcard.VCard;
 import ezvcard.VCardVersion;
@@ -85,6 +75,10 @@ import ezvcard.util.XmlUtils;
  * Reads xCards (XML-encoded vCards) in a streaming fashion.
  * </p>
  * <p>
+ * The XML is read with a StAX pull parser on the calling thread. Only the
+ * vCard that is currently being read is held in memory.
+ * </p>
+ * <p>
  * <b>Example:</b>
  * </p>
  * 
@@ -105,16 +99,24 @@ public class XCardReader extends StreamReader {
 	private final VCardVersion version = VCardVersion.V4_0;
 	private final String NS = version.getXmlNamespace();
 
-	private final Source source;
+	private final InputStream in;
+	private final Reader reader;
+	private final Node node;
 	private final Closeable stream;
 
-	private volatile VCard readVCard;
-	private volatile TransformerException thrown;
+	private XMLStreamReader xmlReader;
+	private boolean finished = false;
 
-	private final ReadThread thread = new ReadThread();
-	private final Object lock = new Object();
-	private final BlockingQueue<Object> readerBlock = new ArrayBlockingQueue<>(1);
-	private final BlockingQueue<Object> threadBlock = new ArrayBlockingQueue<>(1);
+	private final Document DOC = XmlUtils.createDocument();
+	private final XCardStructure structure = new XCardStructure();
+	private final ClearableStringBuilder characterBuffer = new ClearableStringBuilder();
+
+	private VCard readVCard;
+	private String group;
+	private Element propertyElement;
+	private Element parent;
+	private QName paramName;
+	private VCardParameters parameters;
 
 	/**
 	 * @param xml the XML to read from
@@ -127,7 +129,9 @@ public class XCardReader extends StreamReader {
 	 * @param in the input stream to read from
 	 */
 	public XCardReader(InputStream in) {
-		source = new StreamSource(in);
+		this.in = in;
+		this.reader = null;
+		this.node = null;
 		stream = in;
 	}
 
@@ -143,356 +147,327 @@ public class XCardReader extends StreamReader {
 	 * @param reader the reader to read from
 	 */
 	public XCardReader(Reader reader) {
-		source = new StreamSource(reader);
+		this.in = null;
+		this.reader = reader;
+		this.node = null;
 		stream = reader;
 	}
 
 	/**
-	 * @param node the DOM node to read from
+	 * @param node the DOM node to read from (if the StAX implementation cannot
+	 * read DOM nodes directly, the node is serialized, and the serialized XML
+	 * is then parsed)
 	 */
 	public XCardReader(Node node) {
-		source = new DOMSource(node);
+		this.in = null;
+		this.reader = null;
+		this.node = node;
 		stream = null;
 	}
 
 	@Override
 	protected VCard _readNext() throws IOException {
 		readVCard = null;
-		thrown = null;
 		context.setVersion(version);
 
-		if (!thread.started) {
-			thread.start();
-		} else {
-			if (thread.finished || thread.closed) {
-				return null;
-			}
-
-			try {
-				threadBlock.put(lock);
-			} catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
-				return null;
-			}
-		}
-
-		//wait until thread reads xCard
-		try {
-			readerBlock.take();
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
+		if (finished) {
 			return null;
 		}
 
-		if (thrown != null) {
-			throw new IOException(thrown);
-		}
-
-		return readVCard;
-	}
-
-	private class ReadThread extends Thread {
-		private final SAXResult result;
-		private final Transformer transformer;
-		private volatile boolean finished = false;
-		private volatile boolean started = false;
-		private volatile boolean closed = false;
+		try {
+			if (xmlReader == null) {
+				xmlReader = createXmlReader();
+			}
 
-		public ReadThread() {
-			setName(getClass().getSimpleName());
+			while (xmlReader.hasNext()) {
+				int event = xmlReader.next();
+				switch (event) {
+				case XMLStreamConstants.START_ELEMENT:
+					startElement();
+					break;
 
-			//create the transformer
-			try {
-				TransformerFactory factory = TransformerFactory.newInstance();
-				XmlUtils.applyXXEProtection(factory);
+				case XMLStreamConstants.END_ELEMENT:
+					if (endElement()) {
+						//a vCard was completely read
+						return readVCard;
+					}
+					break;
 
-				transformer = factory.newTransformer();
-			} catch (TransformerConfigurationException e) {
-				//shouldn't be thrown because it's a simple configuration
-				throw new RuntimeException(e);
+				case XMLStreamConstants.CHARACTERS:
+				case XMLStreamConstants.CDATA:
+				case XMLStreamConstants.SPACE:
+					characters();
+					break;
+				}
 			}
-
-			//prevent error messages from being printed to stderr
-			transformer.setErrorListener(new NoOpErrorListener());
-
-			result = new SAXResult(new ContentHandlerImpl());
+		} catch (XMLStreamException e) {
+			finished = true;
+			throw new IOException(e);
 		}
 
-		@Override
-		public void run() {
-			started = true;
+		finished = true;
+		return null;
+	}
 
+	private XMLStreamReader createXmlReader() throws XMLStreamException {
+		XMLInputFactory factory = XmlUtils.getXMLInputFactory();
+		if (node != null) {
 			try {
-				transformer.transform(source, result);
-			} catch (TransformerException e) {
-				if (!thread.closed) {
-					thrown = e;
-				}
-			} finally {
-				finished = true;
-				try {
-					readerBlock.put(lock);
-				} catch (InterruptedException e) {
-					Thread.currentThread().interrupt();
-					//ignore
-				}
+				return factory.createXMLStreamReader(new DOMSource(node));
+			} catch (UnsupportedOperationException e) {
+				//the JDK's built-in StAX implementation cannot read DOM nodes
+				return factory.createXMLStreamReader(new StringReader(XmlUtils.toString(node)));
 			}
 		}
+		return (in == null) ? factory.createXMLStreamReader(reader) : factory.createXMLStreamReader(in);
 	}
 
-	private class ContentHandlerImpl extends DefaultHandler {
-		private final Document DOC = XmlUtils.createDocument();
-		private final XCardStructure structure = new XCardStructure();
-		private final ClearableStringBuilder characterBuffer = new ClearableStringBuilder();
-
-		private String group;
-		private Element propertyElement;
-		private Element parent;
-		private QName paramName;
-		private VCardParameters parameters;
-
-		@Override
-		public void characters(char[] buffer, int start, int length) throws SAXException {
-			/*
-			 * Ignore all text nodes that are outside of a property element. All
-			 * valid text nodes will be inside of property elements (parameter
-			 * values and property values)
-			 */
-			if (propertyElement == null) {
-				return;
-			}
-
-			characterBuffer.append(buffer, start, length);
+	private void characters() {
+		/*
+		 * Ignore all text nodes that are outside of a property element. All
+		 * valid text nodes will be inside of property elements (parameter
+		 * values and property values)
+		 */
+		if (propertyElement == null) {
+			return;
 		}
 
-		@Override
-		public void startElement(String namespace, String localName, String qName, Attributes attributes) throws SAXException {
-			QName qname = new QName(namespace, localName);
-			String textContent = characterBuffer.getAndClear();
+		characterBuffer.append(xmlReader.getTextCharacters(), xmlReader.getTextStart(), xmlReader.getTextLength());
+	}
 
-			//ignore all XML until a <vcards> elements is read
-			if (!isInsideVCardsElement(qname)) {
-				return;
-			}
+	private void startElement() {
+		QName qname = xmlReader.getName();
+		String textContent = characterBuffer.getAndClear();
 
-			ElementType parentType = structure.peek();
-			ElementType typeToPush = (parentType == null) ? null : processStartElement(parentType, qname, attributes);
+		//ignore all XML until a <vcards> elements is read
+		if (!isInsideVCardsElement(qname)) {
+			return;
+		}
 
-			if (shouldElementBeAppendedToPropertyElement(typeToPush)) {
-				appendNonEmptyTextContentToParent(textContent);
+		ElementType parentType = structure.peek();
+		ElementType typeToPush = (parentType == null) ? null : processStartElement(parentType, qname);
 
-				Element element = createElement(namespace, localName, attributes);
-				parent.appendChild(element);
-				parent = element;
-			}
+		if (shouldElementBeAppendedToPropertyElement(typeToPush)) {
+			appendNonEmptyTextContentToParent(textContent);
 
-			structure.push(typeToPush);
+			Element element = createElement(qname);
+			parent.appendChild(element);
+			parent = element;
 		}
 
-		private boolean isInsideVCardsElement(QName qname) {
-			if (!structure.isEmpty()) {
-				return true;
-			}
+		structure.push(typeToPush);
+	}
 
-			if (VCARDS.equals(qname)) {
-				structure.push(ElementType.vcards);
-			}
+	private boolean isInsideVCardsElement(QName qname) {
+		if (!structure.isEmpty()) {
+			return true;
+		}
 
-			return false;
+		if (VCARDS.equals(qname)) {
+			structure.push(ElementType.vcards);
 		}
 
-		private ElementType processStartElement(ElementType parentType, QName qname, Attributes attributes) {
-			switch (parentType) {
-			case vcards:
-				//<vcard>
-				if (VCARD.equals(qname)) {
-					readVCard = new VCard();
-					readVCard.setVersion(version);
-					return ElementType.vcard;
-				}
-				break;
-
-			case vcard:
-				//<group>
-				if (GROUP.equals(qname)) {
-					group = attributes.getValue("name");
-					return ElementType.group;
-				} else {
-					propertyElement = createElement(qname.getNamespaceURI(), qname.getLocalPart(), attributes);
-					parameters = new VCardParameters();
-					parent = propertyElement;
-					return ElementType.property;
-				}
+		return false;
+	}
 
-			case group:
-				propertyElement = createElement(qname.getNamespaceURI(), qname.getLocalPart(), attributes);
+	private ElementType processStartElement(ElementType parentType, QName qname) {
+		switch (parentType) {
+		case vcards:
+			//<vcard>
+			if (VCARD.equals(qname)) {
+				readVCard = new VCard();
+				readVCard.setVersion(version);
+				startVCard(readVCard);
+				return ElementType.vcard;
+			}
+			break;
+
+		case vcard:
+			//<group>
+			if (GROUP.equals(qname)) {
+				group = intern(xmlReader.getAttributeValue(null, "name"));
+				return ElementType.group;
+			} else {
+				propertyElement = createElement(qname);
 				parameters = new VCardParameters();
 				parent = propertyElement;
 				return ElementType.property;
+			}
 
-			case property:
-				//<parameters>
-				if (PARAMETERS.equals(qname)) {
-					return ElementType.parameters;
-				}
-				break;
+		case group:
+			propertyElement = createElement(qname);
+			parameters = new VCardParameters();
+			parent = propertyElement;
+			return ElementType.property;
 
-			case parameters:
-				//inside of <parameters>
-				if (NS.equals(qname.getNamespaceURI())) {
-					paramName = qname;
-					return ElementType.parameter;
-				}
-				break;
+		case property:
+			//<parameters>
+			if (PARAMETERS.equals(qname)) {
+				return ElementType.parameters;
+			}
+			break;
 
-			case parameter:
-				if (NS.equals(qname.getNamespaceURI())) {
-					return ElementType.parameterValue;
-				}
-				break;
+		case parameters:
+			//inside of <parameters>
+			if (NS.equals(qname.getNamespaceURI())) {
+				paramName = qname;
+				return ElementType.parameter;
+			}
+			break;
 
-			case parameterValue:
-				//should never have child elements
-				break;
+		case parameter:
+			if (NS.equals(qname.getNamespaceURI())) {
+				return ElementType.parameterValue;
 			}
+			break;
 
-			return null;
+		case parameterValue:
+			//should never have child elements
+			break;
 		}
 
-		@Override
-		public void endElement(String namespace, String localName, String qName) throws SAXException {
-			String textContent = characterBuffer.getAndClear();
+		return null;
+	}
 
-			//ignore all XML until a <vcards> elements is read
-			boolean isInsideVCardsElement = !structure.isEmpty();
-			if (!isInsideVCardsElement) {
-				return;
-			}
+	/**
+	 * Handles an end element event.
+	 * @return true if a vCard was completely read, false if not
+	 */
+	private boolean endElement() {
+		String textContent = characterBuffer.getAndClear();
 
-			ElementType type = structure.pop();
-			boolean isNotAnXCardElement = (type == null && (propertyElement == null || structure.isUnderParameters()));
-			if (isNotAnXCardElement) {
-				return;
-			}
+		//ignore all XML until a <vcards> elements is read
+		boolean isInsideVCardsElement = !structure.isEmpty();
+		if (!isInsideVCardsElement) {
+			return false;
+		}
 
-			if (type != null) {
-				processEndElement(type, localName, textContent);
-			}
+		ElementType type = structure.pop();
+		boolean isNotAnXCardElement = (type == null && (propertyElement == null || structure.isUnderParameters()));
+		if (isNotAnXCardElement) {
+			return false;
+		}
 
-			if (shouldElementBeAppendedToPropertyElement(type)) {
-				appendNonEmptyTextContentToParent(textContent);
-				parent = (Element) parent.getParentNode();
-			}
+		boolean vcardRead = false;
+		if (type != null) {
+			vcardRead = processEndElement(type, xmlReader.getLocalName(), textContent);
 		}
 
-		private boolean shouldElementBeAppendedToPropertyElement(ElementType type) {
-			return propertyElement != null && type != ElementType.property && type != ElementType.parameters && !structure.isUnderParameters();
+		if (shouldElementBeAppendedToPropertyElement(type)) {
+			appendNonEmptyTextContentToParent(textContent);
+			parent = (Element) parent.getParentNode();
 		}
 
-		private void appendNonEmptyTextContentToParent(String text) {
-			if (!text.isEmpty()) {
-				parent.appendChild(DOC.createTextNode(text));
-			}
+		return vcardRead;
+	}
+
+	private boolean shouldElementBeAppendedToPropertyElement(ElementType type) {
+		return propertyElement != null && type != ElementType.property && type != ElementType.parameters && !structure.isUnderParameters();
+	}
+
+	private void appendNonEmptyTextContentToParent(String text) {
+		if (!text.isEmpty()) {
+			parent.appendChild(DOC.createTextNode(text));
 		}
+	}
 
-		private void processEndElement(ElementType type, String localName, String textContent) throws SAXException {
-			switch (type) {
-			case parameterValue:
-				parameters.put(paramName.getLocalPart(), textContent);
-				break;
-
-			case parameter:
-				//do nothing
-				break;
-
-			case parameters:
-				//do nothing
-				break;
-
-			case property:
-				propertyElement.appendChild(DOC.createTextNode(textContent));
-
-				String propertyName = localName;
-				VCardProperty property;
-				QName propertyQName = new QName(propertyElement.getNamespaceURI(), propertyElement.getLocalName());
-				VCardPropertyScribe<? extends VCardProperty> scribe = index.getPropertyScribe(propertyQName);
-
-				context.getWarnings().clear();
-				context.setPropertyName(propertyName);
-				try {
-					property = scribe.parseXml(propertyElement, parameters, context);
-					property.setGroup(group);
-					readVCard.addProperty(property);
-					warnings.addAll(context.getWarnings());
-				} catch (SkipMeException e) {
-					//@formatter:off
-					warnings.add(new ParseWarning.Builder(context)
-						.message(22, e.getMessage())
-						.build()
-					);
-					//@formatter:on
-				} catch (CannotParseException e) {
-					//@formatter:off
-					warnings.add(new ParseWarning.Builder(context)
-						.message(e)
-						.build()
-					);
-					//@formatter:on
-
-					scribe = index.getPropertyScribe(Xml.class);
-					property = scribe.parseXml(propertyElement, parameters, context);
-					property.setGroup(group);
-					readVCard.addProperty(property);
-				} catch (EmbeddedVCardException e) {
-					//@formatter:off
-					warnings.add(new ParseWarning.Builder(context)
-						.message(34)
-						.build()
-					);
-					//@formatter:on
-				}
+	private String parameterName() {
+		String name = paramName.getLocalPart();
+		if (stringPool == null) {
+			//VCardParameters upper-cases the name itself
+			return name;
+		}
+		return stringPool.intern(name.toUpperCase());
+	}
 
-				propertyElement = null;
-				break;
-
-			case group:
-				group = null;
-				break;
-
-			case vcard:
-				//wait for readNext() to be called again
-				try {
-					readerBlock.put(lock);
-					threadBlock.take();
-				} catch (InterruptedException e) {
-					Thread.currentThread().interrupt();
-					throw new SAXException(e);
-				}
-				break;
+	private boolean processEndElement(ElementType type, String localName, String textContent) {
+		switch (type) {
+		case parameterValue:
+			parameters.put(parameterName(), intern(textContent));
+			break;
 
-			case vcards:
-				//do nothing
-				break;
-			}
+		case parameter:
+			//do nothing
+			break;
+
+		case parameters:
+			//do nothing
+			break;
+
+		case property:
+			propertyElement.appendChild(DOC.createTextNode(textContent));
+			parseProperty(localName);
+			propertyElement = null;
+			break;
+
+		case group:
+			group = null;
+			break;
+
+		case vcard:
+			return true;
+
+		case vcards:
+			//do nothing
+			break;
 		}
 
-		private Element createElement(String namespace, String localName, Attributes attributes) {
-			Element element = DOC.createElementNS(namespace, localName);
-			applyAttributes(element, attributes);
-			return element;
+		return false;
+	}
+
+	private void parseProperty(String propertyName) {
+		QName propertyQName = new QName(propertyElement.getNamespaceURI(), propertyElement.getLocalName());
+		VCardPropertyScribe<? extends VCardProperty> scribe = index.getPropertyScribe(propertyQName);
+		if (!isIncluded(propertyName, scribe)) {
+			return;
 		}
 
-		private void applyAttributes(Element element, Attributes attributes) {
+		context.getWarnings().clear();
+		context.setPropertyName(propertyName);
+
+		VCardProperty property;
+		try {
+			property = scribe.parseXml(propertyElement, parameters, context);
+			property.setGroup(group);
+			addProperty(readVCard, property);
+			addWarnings(context.getWarnings());
+		} catch (SkipMeException e) {
 			//@formatter:off
-			IntStream.range(0, attributes.getLength())
-				.filter(i -> !attributes.getQName(i).startsWith("xmlns:"))
-			.forEach(i -> {
-				String name = attributes.getLocalName(i);
-				String value = attributes.getValue(i);
-				element.setAttribute(name, value);
-			});
+			addWarning(new ParseWarning.Builder(context)
+				.message(22, e.getMessage())
+				.build()
+			);
 			//@formatter:on
+		} catch (CannotParseException e) {
+			//@formatter:off
+			addWarning(new ParseWarning.Builder(context)
+				.message(e)
+				.build()
+			);
+			//@formatter:on
+
+			scribe = index.getPropertyScribe(Xml.class);
+			property = scribe.parseXml(propertyElement, parameters, context);
+			property.setGroup(group);
+			addProperty(readVCard, property);
+		} catch (EmbeddedVCardException e) {
+			//@formatter:off
+			addWarning(new ParseWarning.Builder(context)
+				.message(34)
+				.build()
+			);
+			//@formatter:on
+		}
+	}
+
+	private Element createElement(QName qname) {
+		Element element = DOC.createElementNS(qname.getNamespaceURI(), qname.getLocalPart());
+		for (int i = 0; i < xmlReader.getAttributeCount(); i++) {
+			String name = xmlReader.getAttributeLocalName(i);
+			String value = xmlReader.getAttributeValue(i);
+			element.setAttribute(name, value);
 		}
+		return element;
 	}
 
 	private enum ElementType {
@@ -573,30 +548,18 @@ public class XCardReader extends StreamReader {
 		}
 	}
 
-	/**
-	 * An implementation of {@link ErrorListener} that doesn't do anything.
-	 */
-	private static class NoOpErrorListener implements ErrorListener {
-		public void error(TransformerException e) {
-			//do nothing
-		}
-
-		public void fatalError(TransformerException e) {
-			//do nothing
-		}
-
-		public void warning(TransformerException e) {
-			//do nothing
-		}
-	}
-
 	/**
 	 * Closes the underlying input stream.
 	 */
 	public void close() throws IOException {
-		if (thread.isAlive()) {
-			thread.closed = true;
-			thread.interrupt();
+		finished = true;
+
+		if (xmlReader != null) {
+			try {
+				xmlReader.close();
+			} catch (XMLStreamException ignore) {
+				//the underlying stream is closed below
+			}
 		}
 
 		if (stream != null) {
@@ -0,0 +1,569 @@
+package ezvcard.io.xml;
+
+import static ezvcard.io.xml.XCardQNames.GROUP;
+import static ezvcard.io.xml.XCardQNames.VCARD;
+import static ezvcard.io.xml.XCardQNames.VCARDS;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.w3c.dom.Text;
+
+import ezvcard.VCard;
+import ezvcard.io.EmbeddedVCardException;
+import ezvcard.io.SkipMeException;
+import ezvcard.io.scribe.VCardPropertyScribe;
+import ezvcard.parameter.VCardParameters;
+import ezvcard.property.VCardProperty;
+import ezvcard.property.Xml;
+import ezvcard.util.XmlUtils;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+ */
+
+/**
+ * <p>
+ * Writes xCards (XML-encoded vCards) in a streaming fashion using the StAX
+ * API. Unlike {@link XCardWriter}, this class does not use a JAXP
+ * transformer, and it can be pointed at a new output stream with the
+ * {@link #reset(Writer) reset} methods, which allows a single instance to be
+ * reused to write multiple documents.
+ * </p>
+ * <p>
+ * <b>Example:</b>
+ * </p>
+ * 
+ * <pre class="brush:java">
+ * XCardStaxWriter writer = new XCardStaxWriter(out1, 2);
+ * writer.write(vcard1);
+ * writer.closeXmlDocument();
+ * 
+ * writer.reset(out2);
+ * writer.write(vcard2);
+ * writer.closeXmlDocument();
+ * </pre>
+ * @author Michael Angstadt
+ * @see <a href="http://tools.ietf.org/html/rfc6351">RFC 6351</a>
+ */
+public class XCardStaxWriter extends XCardWriterBase implements Flushable {
+	private final Document DOC = XmlUtils.createDocument();
+	private final ElementWriter<XMLStreamException> elementWriter = new StaxElementWriter();
+	private final Integer indent;
+
+	/**
+	 * The default namespace of each open element.
+	 */
+	private final Deque<String> namespaces = new ArrayDeque<>();
+
+	/**
+	 * Holds a newline followed by enough spaces to indent the deepest element
+	 * written so far.
+	 */
+	private char[] indentChars = new char[0];
+
+	private Writer writer;
+	private XMLStreamWriter xml;
+	private boolean started;
+	private boolean finished;
+
+	/**
+	 * @param out the output stream to write to (UTF-8 encoding will be used)
+	 */
+	public XCardStaxWriter(OutputStream out) {
+		this(out, null);
+	}
+
+	/**
+	 * @param out the output stream to write to (UTF-8 encoding will be used)
+	 * @param indent the number of indent spaces to use for pretty-printing or
+	 * null to disable pretty-printing (disabled by default)
+	 */
+	public XCardStaxWriter(OutputStream out, Integer indent) {
+		this(new OutputStreamWriter(out, StandardCharsets.UTF_8), indent);
+	}
+
+	/**
+	 * @param file the file to write to (UTF-8 encoding will be used)
+	 * @throws IOException if there is a problem opening the file
+	 */
+	public XCardStaxWriter(Path file) throws IOException {
+		this(file, null);
+	}
+
+	/**
+	 * @param file the file to write to (UTF-8 encoding will be used)
+	 * @param indent the number of indent spaces to use for pretty-printing or
+	 * null to disable pretty-printing (disabled by default)
+	 * @throws IOException if there is a problem opening the file
+	 */
+	public XCardStaxWriter(Path file, Integer indent) throws IOException {
+		this(Files.newBufferedWriter(file, StandardCharsets.UTF_8), indent);
+	}
+
+	/**
+	 * @param writer the writer to write to
+	 */
+	public XCardStaxWriter(Writer writer) {
+		this(writer, null);
+	}
+
+	/**
+	 * @param writer the writer to write to
+	 * @param indent the number of indent spaces to use for pretty-printing or
+	 * null to disable pretty-printing (disabled by default)
+	 */
+	public XCardStaxWriter(Writer writer, Integer indent) {
+		this.indent = indent;
+		reset(writer);
+	}
+
+	/**
+	 * Starts a new XML document on the given output stream. The writer's
+	 * settings (such as its scribes and pretty-printing) are retained. The
+	 * previous output stream is NOT closed, so {@link #closeXmlDocument} should
+	 * be called before calling this method.
+	 * @param out the output stream to write to (UTF-8 encoding will be used)
+	 */
+	public void reset(OutputStream out) {
+		reset(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Starts a new XML document on the given writer. The writer's settings
+	 * (such as its scribes and pretty-printing) are retained. The previous
+	 * writer is NOT closed, so {@link #closeXmlDocument} should be called
+	 * before calling this method.
+	 * @param writer the writer to write to
+	 */
+	public void reset(Writer writer) {
+		try {
+			xml = XmlUtils.getXMLOutputFactory().createXMLStreamWriter(writer);
+		} catch (XMLStreamException e) {
+			//should never be thrown because we're writing to a Writer
+			throw new RuntimeException(e);
+		}
+
+		this.writer = writer;
+		namespaces.clear();
+		started = false;
+		finished = false;
+	}
+
+	@Override
+	protected void _write(VCard vcard, List<VCardProperty> properties) throws IOException {
+		try {
+			if (!started) {
+				startDocument();
+			}
+
+			if (properties.isEmpty()) {
+				emptyElement(VCARD);
+				return;
+			}
+
+			start(VCARD);
+			writeGroups(vcard, properties, elementWriter);
+			end(true);
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Flushes the output stream.
+	 * @throws IOException if there's a problem flushing the output stream
+	 */
+	public void flush() throws IOException {
+		try {
+			xml.flush();
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Terminates the XML document, but does not close the output stream.
+	 * @throws IOException if there's a problem writing to the output stream
+	 */
+	public void closeXmlDocument() throws IOException {
+		if (finished) {
+			return;
+		}
+
+		try {
+			if (started) {
+				end(true);
+			} else {
+				xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+				emptyElement(VCARDS);
+			}
+			xml.writeEndDocument();
+			if (indent != null) {
+				xml.writeCharacters("\n");
+			}
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+
+		finished = true;
+		flush();
+	}
+
+	/**
+	 * Terminates the XML document and closes the output stream.
+	 */
+	public void close() throws IOException {
+		closeXmlDocument();
+
+		try {
+			xml.close();
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+		writer.close();
+	}
+
+	private void startDocument() throws XMLStreamException {
+		xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+		start(VCARDS);
+		started = true;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void write(VCardProperty property, VCard vcard) throws XMLStreamException {
+		VCardPropertyScribe scribe = index.getPropertyScribe(property);
+		VCardParameters parameters = scribe.prepareParameters(property, targetVersion, vcard);
+
+		removeUnsupportedParameters(parameters);
+
+		//get the property element to write
+		Element propertyElement;
+		if (property instanceof Xml) {
+			Xml xml = (Xml) property;
+			Document value = xml.getValue();
+			if (value == null) {
+				return;
+			}
+			propertyElement = value.getDocumentElement();
+		} else {
+			QName qname = scribe.getQName();
+			propertyElement = DOC.createElementNS(qname.getNamespaceURI(), qname.getLocalPart());
+			try {
+				scribe.writeXml(property, propertyElement);
+			} catch (SkipMeException | EmbeddedVCardException e) {
+				return;
+			}
+		}
+
+		write(propertyElement, parameters);
+	}
+
+	/**
+	 * Writes a DOM element and its descendants.
+	 * @param element the element
+	 * @param parameters the parameters to insert before the element's
+	 * children or null if the element is not a property element
+	 * @throws XMLStreamException if there's a problem writing the element
+	 */
+	private void write(Element element, VCardParameters parameters) throws XMLStreamException {
+		String namespace = element.getNamespaceURI();
+		String localName = element.getLocalName();
+		if (localName == null) {
+			/*
+			 * The element belongs to a DOM that was not built with namespace
+			 * awareness, so its namespace can only be determined from its
+			 * "xmlns" attribute.
+			 */
+			localName = element.getNodeName();
+			namespace = element.hasAttribute(XMLConstants.XMLNS_ATTRIBUTE) ? element.getAttribute(XMLConstants.XMLNS_ATTRIBUTE) : namespaces.peek();
+		}
+
+		boolean hasParameters = (parameters != null && !parameters.isEmpty());
+		NodeList children = element.getChildNodes();
+		if (!hasParameters && children.getLength() == 0) {
+			emptyElement(namespace, localName);
+			writeAttributes(element);
+			return;
+		}
+
+		start(namespace, localName);
+		writeAttributes(element);
+
+		if (hasParameters) {
+			writeParameters(parameters, elementWriter);
+		}
+
+		boolean hasText = false;
+		for (Node child : XmlUtils.iterable(children)) {
+			if (child instanceof Element) {
+				write((Element) child, null);
+				continue;
+			}
+
+			if (child instanceof Text) {
+				text(child.getTextContent());
+				hasText = true;
+			}
+		}
+
+		end(!hasText);
+	}
+
+	private void writeAttributes(Element element) throws XMLStreamException {
+		NamedNodeMap attributes = element.getAttributes();
+
+		//namespace declarations must be written first so they are in scope for the other attributes
+		for (int i = 0; i < attributes.getLength(); i++) {
+			Node attribute = attributes.item(i);
+			String prefix = getDeclaredPrefix(attribute);
+
+			//the default namespace is declared when the element is started
+			if (prefix != null && !XMLConstants.XMLNS_ATTRIBUTE.equals(prefix)) {
+				declareNamespace(prefix, attribute.getNodeValue());
+			}
+		}
+
+		for (int i = 0; i < attributes.getLength(); i++) {
+			Node attribute = attributes.item(i);
+			if (getDeclaredPrefix(attribute) != null) {
+				continue;
+			}
+
+			String namespace = attribute.getNamespaceURI();
+			String localName = attribute.getLocalName();
+			String value = attribute.getNodeValue();
+			if (localName == null) {
+				//the attribute belongs to a DOM that was not built with namespace awareness
+				xml.writeAttribute(attribute.getNodeName(), value);
+				continue;
+			}
+
+			if (namespace == null || namespace.isEmpty()) {
+				xml.writeAttribute(localName, value);
+				continue;
+			}
+
+			String prefix = attribute.getPrefix();
+			if (!namespace.equals(xml.getNamespaceContext().getNamespaceURI(prefix))) {
+				declareNamespace(prefix, namespace);
+			}
+			xml.writeAttribute(prefix, namespace, localName, value);
+		}
+	}
+
+	/**
+	 * Determines if an attribute is a namespace declaration.
+	 * @param attribute the attribute
+	 * @return the prefix the attribute declares, "xmlns" if it declares the
+	 * default namespace, or null if it is not a namespace declaration
+	 */
+	private static String getDeclaredPrefix(Node attribute) {
+		String localName = attribute.getLocalName();
+		if (localName != null) {
+			return XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attribute.getNamespaceURI()) ? localName : null;
+		}
+
+		//the attribute belongs to a DOM that was not built with namespace awareness
+		String name = attribute.getNodeName();
+		if (XMLConstants.XMLNS_ATTRIBUTE.equals(name)) {
+			return name;
+		}
+
+		String prefix = XMLConstants.XMLNS_ATTRIBUTE + ":";
+		return name.startsWith(prefix) ? name.substring(prefix.length()) : null;
+	}
+
+	private void declareNamespace(String prefix, String namespace) throws XMLStreamException {
+		xml.writeNamespace(prefix, namespace);
+		xml.setPrefix(prefix, namespace);
+	}
+
+	private void start(QName qname) throws XMLStreamException {
+		start(qname.getNamespaceURI(), qname.getLocalPart());
+	}
+
+	private void start(String element) throws XMLStreamException {
+		start(targetVersion.getXmlNamespace(), element);
+	}
+
+	private void start(String namespace, String element) throws XMLStreamException {
+		indentStartTag();
+		xml.writeStartElement("", element, nullToEmpty(namespace));
+		declareNamespace(namespace);
+		namespaces.push(nullToEmpty(namespace));
+	}
+
+	private void emptyElement(QName qname) throws XMLStreamException {
+		emptyElement(qname.getNamespaceURI(), qname.getLocalPart());
+	}
+
+	private void emptyElement(String namespace, String element) throws XMLStreamException {
+		indentStartTag();
+		xml.writeEmptyElement("", element, nullToEmpty(namespace));
+		declareNamespace(namespace);
+	}
+
+	/**
+	 * Declares the default namespace of the element that was just started if
+	 * it differs from its parent's default namespace.
+	 * @param namespace the element's namespace
+	 * @throws XMLStreamException if there's a problem writing the declaration
+	 */
+	private void declareNamespace(String namespace) throws XMLStreamException {
+		namespace = nullToEmpty(namespace);
+		String parentNamespace = namespaces.isEmpty() ? "" : namespaces.peek();
+		if (!namespace.equals(parentNamespace)) {
+			xml.writeDefaultNamespace(namespace);
+		}
+	}
+
+	/**
+	 * Closes the current element.
+	 * @param indent true to put the end tag on its own line if pretty-printing
+	 * is enabled, false to write it right after the element's text
+	 * @throws XMLStreamException if there's a problem writing the end tag
+	 */
+	private void end(boolean indent) throws XMLStreamException {
+		namespaces.pop();
+		if (indent) {
+			indent(namespaces.size());
+		}
+		xml.writeEndElement();
+	}
+
+	private void text(String text) throws XMLStreamException {
+		/*
+		 * Control characters (such as carriage returns) are written as
+		 * character references. Otherwise, carriage returns would be converted
+		 * to newlines when the document is parsed.
+		 */
+		int start = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c >= 0x20 || c == '\t' || c == '\n') {
+				continue;
+			}
+
+			xml.writeCharacters(text.substring(start, i));
+			xml.writeEntityRef("#" + (int) c);
+			start = i + 1;
+		}
+		xml.writeCharacters((start == 0) ? text : text.substring(start));
+	}
+
+	private void indentStartTag() throws XMLStreamException {
+		//the root element goes on the same line as the XML declaration
+		if (!namespaces.isEmpty()) {
+			indent(namespaces.size());
+		}
+	}
+
+	/**
+	 * Writes a newline and the indentation for the given element depth, if
+	 * pretty-printing is enabled.
+	 * @param depth the element depth
+	 * @throws XMLStreamException if there's a problem writing the whitespace
+	 */
+	private void indent(int depth) throws XMLStreamException {
+		if (indent == null) {
+			return;
+		}
+
+		int length = 1 + depth * indent;
+		if (indentChars.length < length) {
+			indentChars = new char[length * 2];
+			Arrays.fill(indentChars, ' ');
+			indentChars[0] = '\n';
+		}
+		xml.writeCharacters(indentChars, 0, length);
+	}
+
+	private static String nullToEmpty(String string) {
+		return (string == null) ? "" : string;
+	}
+
+	/**
+	 * Writes the elements that are shared with the other xCard writers.
+	 */
+	private class StaxElementWriter implements ElementWriter<XMLStreamException> {
+		@Override
+		public void start(String localName) throws XMLStreamException {
+			XCardStaxWriter.this.start(localName);
+		}
+
+		@Override
+		public void startGroup(String groupName) throws XMLStreamException {
+			XCardStaxWriter.this.start(GROUP);
+			xml.writeAttribute("name", groupName);
+		}
+
+		@Override
+		public void textElement(String localName, String text) throws XMLStreamException {
+			if (text.isEmpty()) {
+				emptyElement(targetVersion.getXmlNamespace(), localName);
+				return;
+			}
+
+			XCardStaxWriter.this.start(localName);
+			text(text);
+			XCardStaxWriter.this.end(false);
+		}
+
+		@Override
+		public void end(String localName) throws XMLStreamException {
+			XCardStaxWriter.this.end(true);
+		}
+
+		@Override
+		public void property(VCardProperty property, VCard vcard) throws XMLStreamException {
+			write(property, vcard);
+		}
+	}
+}
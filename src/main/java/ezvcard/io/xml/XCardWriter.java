@@ -1,10 +1,10 @@
 package ezvcard.io.xml;
 
 import static ezvcard.io.xml.XCardQNames.GROUP;
-import static ezvcard.io.xml.XCardQNames.PARAMETERS;
 import static ezvcard.io.xml.XCardQNames.VCARD;
 import static ezvcard.io.xml.XCardQNames.VCARDS;
 
+import java.io.Flushable;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
@@ -20,9 +20,7 @@ import javax.xml.namespace.QName;
 import javax.xml.transform.Result;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMResult;
-import javax.xml.transform.sax.SAXTransformerFactory;
 import javax.xml.transform.sax.TransformerHandler;
 import javax.xml.transform.stream.StreamResult;
 
@@ -37,14 +35,12 @@ import org.xml.sax.SAXException;
 import org.xml.sax.helpers.AttributesImpl;
 
 import ezvcard.VCard;
-import ezvcard.VCardDataType;
 import ezvcard.io.EmbeddedVCardException;
 import ezvcard.io.SkipMeException;
 import ezvcard.io.scribe.VCardPropertyScribe;
 import ezvcard.parameter.VCardParameters;
 import ezvcard.property.VCardProperty;
 import ezvcard.property.Xml;
-import ezvcard.util.ListMultimap;
 import ezvcard.util.XmlUtils;
 
 /*
@@ -96,15 +92,17 @@ import ezvcard.util.XmlUtils;
  * @author Michael Angstadt
  * @see <a href="http://tools.ietf.org/html/rfc6351">RFC 6351</a>
  */
-public class XCardWriter extends XCardWriterBase {
+public class XCardWriter extends XCardWriterBase implements Flushable {
 	//How to use SAX to write XML: http://stackoverflow.com/q/4898590
 
 	private final Document DOC = XmlUtils.createDocument();
+	private final ElementWriter<SAXException> elementWriter = new SaxElementWriter();
 
 	private final Writer writer;
 	private final TransformerHandler handler;
 	private final boolean vcardsElementExists;
 	private boolean started = false;
+	private boolean finished = false;
 
 	/**
 	 * @param out the output stream to write to (UTF-8 encoding will be used)
@@ -246,8 +244,7 @@ public class XCardWriter extends XCardWriterBase {
 		this.vcardsElementExists = isVCardsElement(parent);
 
 		try {
-			SAXTransformerFactory factory = (SAXTransformerFactory) TransformerFactory.newInstance();
-			handler = factory.newTransformerHandler();
+			handler = XmlUtils.getTransformerFactory().newTransformerHandler();
 		} catch (TransformerConfigurationException e) {
 			throw new RuntimeException(e);
 		}
@@ -290,29 +287,8 @@ public class XCardWriter extends XCardWriterBase {
 				started = true;
 			}
 
-			ListMultimap<String, VCardProperty> propertiesByGroup = new ListMultimap<>(); //group the types by group name (null = no group name)
-			properties.forEach(property -> propertiesByGroup.put(property.getGroup(), property));
-
 			start(VCARD);
-
-			for (Map.Entry<String, List<VCardProperty>> entry : propertiesByGroup) {
-				String groupName = entry.getKey();
-				if (groupName != null) {
-					AttributesImpl attr = new AttributesImpl();
-					attr.addAttribute(XCardQNames.NAMESPACE, "", "name", "", groupName);
-
-					start(GROUP, attr);
-				}
-
-				for (VCardProperty property : entry.getValue()) {
-					write(property, vcard);
-				}
-
-				if (groupName != null) {
-					end(GROUP);
-				}
-			}
-
+			writeGroups(vcard, properties, elementWriter);
 			end(VCARD);
 		} catch (SAXException e) {
 			throw new IOException(e);
@@ -320,9 +296,24 @@ public class XCardWriter extends XCardWriterBase {
 	}
 
 	/**
-	 * Terminates the XML document and closes the output stream.
+	 * Flushes the output stream.
+	 * @throws IOException if there's a problem flushing the output stream
 	 */
-	public void close() throws IOException {
+	public void flush() throws IOException {
+		if (writer != null) {
+			writer.flush();
+		}
+	}
+
+	/**
+	 * Terminates the XML document, but does not close the output stream.
+	 * @throws IOException if there's a problem writing to the output stream
+	 */
+	public void closeXmlDocument() throws IOException {
+		if (finished) {
+			return;
+		}
+
 		try {
 			if (!started) {
 				handler.startDocument();
@@ -341,6 +332,16 @@ public class XCardWriter extends XCardWriterBase {
 			throw new IOException(e);
 		}
 
+		finished = true;
+		flush();
+	}
+
+	/**
+	 * Terminates the XML document and closes the output stream.
+	 */
+	public void close() throws IOException {
+		closeXmlDocument();
+
 		if (writer != null) {
 			writer.close();
 		}
@@ -374,7 +375,7 @@ public class XCardWriter extends XCardWriterBase {
 
 		start(propertyElement);
 
-		write(parameters);
+		writeParameters(parameters, elementWriter);
 		write(propertyElement);
 
 		end(propertyElement);
@@ -405,32 +406,6 @@ public class XCardWriter extends XCardWriterBase {
 		}
 	}
 
-	private void write(VCardParameters parameters) throws SAXException {
-		if (parameters.isEmpty()) {
-			return;
-		}
-
-		start(PARAMETERS);
-
-		for (Map.Entry<String, List<String>> parameter : parameters) {
-			String parameterName = parameter.getKey().toLowerCase();
-			start(parameterName);
-
-			for (String parameterValue : parameter.getValue()) {
-				VCardDataType dataType = parameterDataTypes.get(parameterName);
-				String dataTypeElementName = (dataType == null) ? "unknown" : dataType.getName().toLowerCase();
-
-				start(dataTypeElementName);
-				text(parameterValue);
-				end(dataTypeElementName);
-			}
-
-			end(parameterName);
-		}
-
-		end(PARAMETERS);
-	}
-
 	/**
 	 * Makes an childless element appear as {@code <foo />} instead of
 	 * {@code <foo></foo>}
@@ -500,4 +475,39 @@ public class XCardWriter extends XCardWriterBase {
 
 		return attributes;
 	}
+
+	/**
+	 * Writes the elements that are shared with the other xCard writers.
+	 */
+	private class SaxElementWriter implements ElementWriter<SAXException> {
+		@Override
+		public void start(String localName) throws SAXException {
+			XCardWriter.this.start(localName);
+		}
+
+		@Override
+		public void startGroup(String groupName) throws SAXException {
+			AttributesImpl attr = new AttributesImpl();
+			attr.addAttribute(XCardQNames.NAMESPACE, "", "name", "", groupName);
+
+			XCardWriter.this.start(GROUP, attr);
+		}
+
+		@Override
+		public void textElement(String localName, String text) throws SAXException {
+			XCardWriter.this.start(localName);
+			XCardWriter.this.text(text);
+			XCardWriter.this.end(localName);
+		}
+
+		@Override
+		public void end(String localName) throws SAXException {
+			XCardWriter.this.end(localName);
+		}
+
+		@Override
+		public void property(VCardProperty property, VCard vcard) throws SAXException {
+			write(property, vcard);
+		}
+	}
 }
@@ -1,12 +1,19 @@
 package ezvcard.io.xml;
 
+import static ezvcard.io.xml.XCardQNames.GROUP;
+import static ezvcard.io.xml.XCardQNames.PARAMETERS;
+
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import ezvcard.VCard;
 import ezvcard.VCardDataType;
 import ezvcard.VCardVersion;
 import ezvcard.io.StreamWriter;
 import ezvcard.parameter.VCardParameters;
+import ezvcard.property.VCardProperty;
+import ezvcard.util.ListMultimap;
 
 /*
  Copyright (c) 2012-2026, Michael Angstadt
@@ -98,4 +105,110 @@ abstract class XCardWriterBase extends StreamWriter {
 			parameterDataTypes.put(parameterName, dataType);
 		}
 	}
+
+	/**
+	 * Writes a vCard's properties, wrapping the properties that belong to a
+	 * group in {@code <group>} elements.
+	 * @param vcard the vCard
+	 * @param properties the properties to write
+	 * @param out writes the XML elements
+	 * @param <E> the exception thrown by the underlying XML API
+	 * @throws E if there's a problem writing the properties
+	 */
+	protected <E extends Exception> void writeGroups(VCard vcard, List<VCardProperty> properties, ElementWriter<E> out) throws E {
+		ListMultimap<String, VCardProperty> propertiesByGroup = new ListMultimap<>(); //group the types by group name (null = no group name)
+		properties.forEach(property -> propertiesByGroup.put(property.getGroup(), property));
+
+		for (Map.Entry<String, List<VCardProperty>> entry : propertiesByGroup) {
+			String groupName = entry.getKey();
+			if (groupName != null) {
+				out.startGroup(groupName);
+			}
+
+			for (VCardProperty property : entry.getValue()) {
+				out.property(property, vcard);
+			}
+
+			if (groupName != null) {
+				out.end(GROUP.getLocalPart());
+			}
+		}
+	}
+
+	/**
+	 * Writes a property's {@code <parameters>} element. Nothing is written if
+	 * the property has no parameters.
+	 * @param parameters the parameters
+	 * @param out writes the XML elements
+	 * @param <E> the exception thrown by the underlying XML API
+	 * @throws E if there's a problem writing the parameters
+	 */
+	protected <E extends Exception> void writeParameters(VCardParameters parameters, ElementWriter<E> out) throws E {
+		if (parameters.isEmpty()) {
+			return;
+		}
+
+		out.start(PARAMETERS.getLocalPart());
+
+		for (Map.Entry<String, List<String>> parameter : parameters) {
+			String parameterName = parameter.getKey().toLowerCase();
+			out.start(parameterName);
+
+			VCardDataType dataType = parameterDataTypes.get(parameterName);
+			String dataTypeElementName = (dataType == null) ? "unknown" : dataType.getName().toLowerCase();
+
+			for (String parameterValue : parameter.getValue()) {
+				out.textElement(dataTypeElementName, parameterValue);
+			}
+
+			out.end(parameterName);
+		}
+
+		out.end(PARAMETERS.getLocalPart());
+	}
+
+	/**
+	 * Writes the xCard elements whose structure is shared by all xCard writers,
+	 * using the XML API of a particular writer. All element names are in the
+	 * xCard namespace.
+	 * @param <E> the exception thrown by the underlying XML API
+	 */
+	protected interface ElementWriter<E extends Exception> {
+		/**
+		 * Starts an element.
+		 * @param localName the element name
+		 * @throws E if there's a problem writing the element
+		 */
+		void start(String localName) throws E;
+
+		/**
+		 * Starts a {@code <group>} element.
+		 * @param groupName the group name
+		 * @throws E if there's a problem writing the element
+		 */
+		void startGroup(String groupName) throws E;
+
+		/**
+		 * Writes an element that contains nothing but text.
+		 * @param localName the element name
+		 * @param text the element's text (may be empty)
+		 * @throws E if there's a problem writing the element
+		 */
+		void textElement(String localName, String text) throws E;
+
+		/**
+		 * Ends the element that was most recently started.
+		 * @param localName the element name
+		 * @throws E if there's a problem writing the element
+		 */
+		void end(String localName) throws E;
+
+		/**
+		 * Writes a property.
+		 * @param property the property
+		 * @param vcard the vCard the property belongs to
+		 * @throws E if there's a problem writing the property
+		 */
+		void property(VCardProperty property, VCard vcard) throws E;
+	}
 }
@@ -1,6 +1,8 @@
 package ezvcard.parameter;
 
 import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.stream.IntStream;
 
 import ezvcard.util.CaseClasses;
@@ -57,4 +59,30 @@ public class MediaTypeCaseClasses<T extends MediaTypeParameter> extends CaseClas
 		String[] objectValues = { object.getValue(), object.getMediaType(), object.getExtension() };
 		return IntStream.range(0, value.length).allMatch(i -> value[i] == null || value[i].equalsIgnoreCase(objectValues[i]));
 	}
+
+	/**
+	 * Indexes each object by its value, media type, and extension, so it can
+	 * be found by any one of them.
+	 */
+	@Override
+	protected Collection<?> indexKeys(T object) {
+		return Arrays.asList(key(0, object.getValue()), key(1, object.getMediaType()), key(2, object.getExtension()));
+	}
+
+	/**
+	 * Searches the index using the first field of the value that is not null.
+	 */
+	@Override
+	protected Object searchKey(String[] value) {
+		for (int i = 0; i < value.length; i++) {
+			if (value[i] != null) {
+				return key(i, value[i]);
+			}
+		}
+		return null;
+	}
+
+	private static String key(int field, String value) {
+		return (value == null) ? null : field + ":" + caseInsensitiveKey(value);
+	}
 }
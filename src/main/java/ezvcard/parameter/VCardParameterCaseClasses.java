@@ -1,6 +1,8 @@
 package ezvcard.parameter;
 
 import java.lang.reflect.Constructor;
+import java.util.Collection;
+import java.util.Collections;
 
 import ezvcard.VCardVersion;
 import ezvcard.util.CaseClasses;
@@ -65,4 +67,14 @@ public class VCardParameterCaseClasses<T extends VCardParameter> extends CaseCla
 	protected boolean matches(T object, String value) {
 		return object.getValue().equalsIgnoreCase(value);
 	}
+
+	@Override
+	protected Collection<?> indexKeys(T object) {
+		return Collections.singletonList(caseInsensitiveKey(object.getValue()));
+	}
+
+	@Override
+	protected Object searchKey(String value) {
+		return caseInsensitiveKey(value);
+	}
 }
@@ -33,6 +33,7 @@ import ezvcard.property.SortString;
 import ezvcard.property.Sound;
 import ezvcard.property.StructuredName;
 import ezvcard.util.CharIterator;
+import ezvcard.util.CompactMap;
 import ezvcard.util.GeoUri;
 import ezvcard.util.ListMultimap;
 import ezvcard.util.StringUtils;
@@ -373,10 +374,11 @@ public class VCardParameters extends ListMultimap<String, String> {
 	}
 
 	/**
-	 * Creates a list of parameters.
+	 * Creates a list of parameters. The parameters are stored in a
+	 * {@link CompactMap}, since most properties only have a few parameters.
 	 */
 	public VCardParameters() {
-		//empty
+		super(new CompactMap<>());
 	}
 
 	/**
@@ -384,7 +386,13 @@ public class VCardParameters extends ListMultimap<String, String> {
 	 * @param orig the object to copy
 	 */
 	public VCardParameters(VCardParameters orig) {
-		super(orig);
+		super(copy(orig.getMap()));
+	}
+
+	private static Map<String, List<String>> copy(Map<String, List<String>> orig) {
+		Map<String, List<String>> map = new CompactMap<>(orig.size());
+		orig.forEach((key, values) -> map.put(key, new ArrayList<>(values)));
+		return map;
 	}
 
 	/**
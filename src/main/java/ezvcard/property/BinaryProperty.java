@@ -1,11 +1,12 @@
 package ezvcard.property;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,6 +17,7 @@ import ezvcard.VCardVersion;
 import ezvcard.ValidationWarning;
 import ezvcard.parameter.MediaTypeParameter;
 import ezvcard.parameter.Pid;
+import ezvcard.util.BlobStore;
 import ezvcard.util.Gobble;
 
 /*
@@ -58,6 +60,12 @@ public abstract class BinaryProperty<T extends MediaTypeParameter> extends VCard
 	 */
 	protected byte[] data;
 
+	/**
+	 * The decoded data, if it is stored outside of a byte array (for example,
+	 * in a {@link BlobStore}). This buffer is read-only.
+	 */
+	protected ByteBuffer dataBuffer;
+
 	/**
 	 * The URL to the resource.
 	 */
@@ -117,16 +125,51 @@ public abstract class BinaryProperty<T extends MediaTypeParameter> extends VCard
 	protected BinaryProperty(BinaryProperty<T> original) {
 		super(original);
 		data = (original.data == null) ? null : original.data.clone();
+		dataBuffer = original.dataBuffer; //read-only, so it can be shared
 		url = original.url;
 		contentType = original.contentType;
 	}
 
 	/**
-	 * Gets the binary data of the resource.
+	 * Gets the binary data of the resource. If the data is stored outside of
+	 * the Java heap (see {@link BlobStore}), this method copies the data into
+	 * a new array each time it is called. Use {@link #getDataBuffer} or
+	 * {@link #getDataStream} to avoid the copy.
 	 * @return the binary data or null if there is none
 	 */
 	public byte[] getData() {
-		return data;
+		if (dataBuffer == null) {
+			return data;
+		}
+
+		ByteBuffer buffer = dataBuffer.duplicate();
+		byte[] copy = new byte[buffer.remaining()];
+		buffer.get(copy);
+		return copy;
+	}
+
+	/**
+	 * Gets the binary data of the resource as a read-only buffer. This does
+	 * not copy the data.
+	 * @return the binary data or null if there is none
+	 */
+	public ByteBuffer getDataBuffer() {
+		if (dataBuffer != null) {
+			return dataBuffer.duplicate();
+		}
+		return (data == null) ? null : ByteBuffer.wrap(data).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Gets an input stream to the binary data of the resource. This does not
+	 * copy the data.
+	 * @return the input stream or null if there is no binary data
+	 */
+	public InputStream getDataStream() {
+		if (dataBuffer != null) {
+			return new ByteBufferInputStream(dataBuffer.duplicate());
+		}
+		return (data == null) ? null : new ByteArrayInputStream(data);
 	}
 
 	/**
@@ -137,6 +180,21 @@ public abstract class BinaryProperty<T extends MediaTypeParameter> extends VCard
 	public void setData(byte[] data, T type) {
 		this.url = null;
 		this.data = data;
+		this.dataBuffer = null;
+		setContentType(type);
+	}
+
+	/**
+	 * Sets the binary data of the resource, without copying it into a byte
+	 * array.
+	 * @param data the binary data (the buffer's remaining bytes are used, and
+	 * its position is not modified)
+	 * @param type the content type (e.g. "JPEG image")
+	 */
+	public void setData(ByteBuffer data, T type) {
+		this.url = null;
+		this.data = null;
+		this.dataBuffer = (data == null) ? null : data.slice().asReadOnlyBuffer();
 		setContentType(type);
 	}
 
@@ -156,6 +214,7 @@ public abstract class BinaryProperty<T extends MediaTypeParameter> extends VCard
 	public void setUrl(String url, T type) {
 		this.url = url;
 		this.data = null;
+		this.dataBuffer = null;
 		setContentType(type);
 	}
 
@@ -228,7 +287,7 @@ public abstract class BinaryProperty<T extends MediaTypeParameter> extends VCard
 
 	@Override
 	protected void _validate(List<ValidationWarning> warnings, VCardVersion version, VCard vcard) {
-		if (url == null && data == null) {
+		if (url == null && data == null && dataBuffer == null) {
 			warnings.add(new ValidationWarning(8));
 		}
 	}
@@ -236,7 +295,8 @@ public abstract class BinaryProperty<T extends MediaTypeParameter> extends VCard
 	@Override
 	protected Map<String, Object> toStringValues() {
 		Map<String, Object> values = new LinkedHashMap<>();
-		values.put("data", (data == null) ? "null" : "length: " + data.length);
+		ByteBuffer buffer = getDataBuffer();
+		values.put("data", (buffer == null) ? "null" : "length: " + buffer.remaining());
 		values.put("url", url);
 		values.put("contentType", contentType);
 		return values;
@@ -246,7 +306,7 @@ public abstract class BinaryProperty<T extends MediaTypeParameter> extends VCard
 	public int hashCode() {
 		final int prime = 31;
 		int result = super.hashCode();
-		result = prime * result + Arrays.hashCode(data);
+		result = prime * result + Objects.hashCode(getDataBuffer());
 		result = prime * result + Objects.hash(contentType, url);
 		return result;
 	}
@@ -257,6 +317,48 @@ public abstract class BinaryProperty<T extends MediaTypeParameter> extends VCard
 		if (!super.equals(obj)) return false;
 		if (getClass() != obj.getClass()) return false;
 		BinaryProperty<?> other = (BinaryProperty<?>) obj;
-		return Objects.equals(contentType, other.contentType) && Arrays.equals(data, other.data) && Objects.equals(url, other.url);
+		return Objects.equals(contentType, other.contentType) && Objects.equals(getDataBuffer(), other.getDataBuffer()) && Objects.equals(url, other.url);
+	}
+
+	/**
+	 * Reads from a byte buffer.
+	 */
+	private static class ByteBufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+
+		public ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? (buffer.get() & 0xff) : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			if (len == 0) {
+				return 0;
+			}
+			if (!buffer.hasRemaining()) {
+				return -1;
+			}
+
+			len = Math.min(len, buffer.remaining());
+			buffer.get(b, off, len);
+			return len;
+		}
+
+		@Override
+		public long skip(long n) {
+			int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+			buffer.position(buffer.position() + skipped);
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
 	}
 }
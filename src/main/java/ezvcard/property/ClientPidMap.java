@@ -143,6 +143,7 @@ public class ClientPidMap extends VCardProperty {
 	 */
 	public void setPid(Integer pid) {
 		this.pid = pid;
+		modified();
 	}
 
 	/**
@@ -159,6 +160,7 @@ public class ClientPidMap extends VCardProperty {
 	 */
 	public void setUri(String uri) {
 		this.uri = uri;
+		modified();
 	}
 
 	@Override
@@ -181,6 +183,11 @@ public class ClientPidMap extends VCardProperty {
 		return new ClientPidMap(this);
 	}
 
+	@Override
+	public boolean isValidationCacheable() {
+		return isLibraryClass();
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
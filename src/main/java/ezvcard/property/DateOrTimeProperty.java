@@ -113,6 +113,7 @@ public class DateOrTimeProperty extends VCardProperty implements HasAltId {
 		this.date = date;
 		text = null;
 		partialDate = null;
+		modified();
 	}
 
 	/**
@@ -143,6 +144,7 @@ public class DateOrTimeProperty extends VCardProperty implements HasAltId {
 		this.partialDate = partialDate;
 		text = null;
 		date = null;
+		modified();
 	}
 
 	/**
@@ -162,6 +164,7 @@ public class DateOrTimeProperty extends VCardProperty implements HasAltId {
 		this.text = text;
 		date = null;
 		partialDate = null;
+		modified();
 	}
 
 	/**
@@ -239,6 +242,11 @@ public class DateOrTimeProperty extends VCardProperty implements HasAltId {
 		return values;
 	}
 
+	@Override
+	public boolean isValidationCacheable() {
+		return isLibraryClass();
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
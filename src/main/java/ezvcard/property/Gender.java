@@ -123,6 +123,7 @@ public class Gender extends VCardProperty {
 	 */
 	public void setText(String text) {
 		this.text = text;
+		modified();
 	}
 
 	/**
@@ -140,6 +141,7 @@ public class Gender extends VCardProperty {
 	 */
 	public void setGender(String genderCode) {
 		this.genderCode = genderCode;
+		modified();
 	}
 
 	/**
@@ -244,6 +246,11 @@ public class Gender extends VCardProperty {
 		return new Gender(this);
 	}
 
+	@Override
+	public boolean isValidationCacheable() {
+		return isLibraryClass();
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -140,6 +140,7 @@ public class Geo extends VCardProperty implements HasAltId {
 		} else {
 			uri = new GeoUri.Builder(uri).coordA(latitude).build();
 		}
+		modified();
 	}
 
 	/**
@@ -160,6 +161,7 @@ public class Geo extends VCardProperty implements HasAltId {
 		} else {
 			uri = new GeoUri.Builder(uri).coordB(longitude).build();
 		}
+		modified();
 	}
 
 	/**
@@ -186,6 +188,7 @@ public class Geo extends VCardProperty implements HasAltId {
 	 */
 	public void setGeoUri(GeoUri uri) {
 		this.uri = uri;
+		modified();
 	}
 
 	/**
@@ -281,6 +284,11 @@ public class Geo extends VCardProperty implements HasAltId {
 		return new Geo(this);
 	}
 
+	@Override
+	public boolean isValidationCacheable() {
+		return isLibraryClass();
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -296,6 +296,7 @@ public class Impp extends VCardProperty implements HasAltId {
 	 */
 	public void setUri(URI uri) {
 		this.uri = uri;
+		modified();
 	}
 
 	/**
@@ -309,6 +310,7 @@ public class Impp extends VCardProperty implements HasAltId {
 		} catch (URISyntaxException e) {
 			throw new IllegalArgumentException(e);
 		}
+		modified();
 	}
 
 	/**
@@ -414,6 +416,11 @@ public class Impp extends VCardProperty implements HasAltId {
 		return new Impp(this);
 	}
 
+	@Override
+	public boolean isValidationCacheable() {
+		return isLibraryClass();
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
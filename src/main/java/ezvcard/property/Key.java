@@ -2,6 +2,7 @@ package ezvcard.property;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
@@ -178,6 +179,7 @@ public class Key extends BinaryProperty<KeyType> {
 	public void setText(String text, KeyType type) {
 		this.text = text;
 		data = null;
+		dataBuffer = null;
 		url = null;
 		setContentType(type);
 	}
@@ -217,9 +219,15 @@ public class Key extends BinaryProperty<KeyType> {
 		text = null;
 	}
 
+	@Override
+	public void setData(ByteBuffer data, KeyType type) {
+		super.setData(data, type);
+		text = null;
+	}
+
 	@Override
 	protected void _validate(List<ValidationWarning> warnings, VCardVersion version, VCard vcard) {
-		if (url == null && data == null && text == null) {
+		if (url == null && data == null && dataBuffer == null && text == null) {
 			warnings.add(new ValidationWarning(8));
 		}
 
@@ -181,6 +181,12 @@ public class Member extends UriProperty implements HasAltId {
 		parameters.setMediaType(mediaType);
 	}
 
+	@Override
+	public boolean isValidationCacheable() {
+		//validation depends on the vCard's KIND property
+		return false;
+	}
+
 	@Override
 	protected void _validate(List<ValidationWarning> warnings, VCardVersion version, VCard vcard) {
 		super._validate(warnings, version, vcard);
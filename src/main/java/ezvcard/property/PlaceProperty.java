@@ -125,6 +125,7 @@ public class PlaceProperty extends VCardProperty implements HasAltId {
 		this.geoUri = geoUri;
 		uri = null;
 		text = null;
+		modified();
 	}
 
 	/**
@@ -143,6 +144,7 @@ public class PlaceProperty extends VCardProperty implements HasAltId {
 		this.uri = uri;
 		geoUri = null;
 		text = null;
+		modified();
 	}
 
 	/**
@@ -161,6 +163,7 @@ public class PlaceProperty extends VCardProperty implements HasAltId {
 		this.text = text;
 		geoUri = null;
 		uri = null;
+		modified();
 	}
 
 	//@Override
@@ -199,6 +202,11 @@ public class PlaceProperty extends VCardProperty implements HasAltId {
 		return values;
 	}
 
+	@Override
+	public boolean isValidationCacheable() {
+		return isLibraryClass();
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -0,0 +1,166 @@
+package ezvcard.property;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import ezvcard.Messages;
+import ezvcard.SupportedVersions;
+import ezvcard.VCardVersion;
+
+/*
+Copyright (c) 2012-2026, Michael Angstadt
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met: 
+
+1. Redistributions of source code must retain the above copyright notice, this
+list of conditions and the following disclaimer. 
+2. Redistributions in binary form must reproduce the above copyright notice,
+this list of conditions and the following disclaimer in the documentation
+and/or other materials provided with the distribution. 
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+The views and conclusions contained in the software and documentation are those
+of the authors and should not be interpreted as representing official policies, 
+either expressed or implied, of the FreeBSD Project.
+*/
+
+
+/**
+ * <p>
+ * Holds information about a property class that would otherwise have to be
+ * looked up with reflection, such as the versions that support the property
+ * and the property's copy constructor. The information is computed once per
+ * class, the first time it is requested.
+ * </p>
+ * <p>
+ * <b>Example:</b>
+ * </p>
+ * 
+ * <pre class="brush:java">
+ * PropertyMetadata metadata = PropertyMetadata.of(Mailer.class);
+ * boolean supported = metadata.isSupportedBy(VCardVersion.V4_0); //false
+ * </pre>
+ * @author Michael Angstadt
+ */
+public final class PropertyMetadata {
+	private static final MethodType COPY_TYPE = MethodType.methodType(VCardProperty.class, VCardProperty.class);
+
+	private static final ClassValue<PropertyMetadata> cache = new ClassValue<PropertyMetadata>() {
+		@Override
+		protected PropertyMetadata computeValue(Class<?> type) {
+			return new PropertyMetadata(type.asSubclass(VCardProperty.class));
+		}
+	};
+
+	private final Class<? extends VCardProperty> propertyClass;
+	private final VCardVersion[] supportedVersions;
+	private final int supportedVersionsMask;
+	private final MethodHandle copyConstructor;
+	private final Exception copyConstructorError;
+
+	private PropertyMetadata(Class<? extends VCardProperty> propertyClass) {
+		this.propertyClass = propertyClass;
+
+		SupportedVersions annotation = propertyClass.getAnnotation(SupportedVersions.class);
+		supportedVersions = (annotation == null) ? VCardVersion.values() : annotation.value();
+		int mask = 0;
+		for (VCardVersion version : supportedVersions) {
+			mask |= 1 << version.ordinal();
+		}
+		supportedVersionsMask = mask;
+
+		MethodHandle copyConstructor = null;
+		Exception copyConstructorError = null;
+		try {
+			Constructor<? extends VCardProperty> constructor = propertyClass.getConstructor(propertyClass);
+			copyConstructor = MethodHandles.lookup().unreflectConstructor(constructor).asType(COPY_TYPE);
+		} catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+			copyConstructorError = e;
+		}
+		this.copyConstructor = copyConstructor;
+		this.copyConstructorError = copyConstructorError;
+	}
+
+	/**
+	 * Gets the metadata of a property class.
+	 * @param propertyClass the property class
+	 * @return the metadata
+	 */
+	public static PropertyMetadata of(Class<? extends VCardProperty> propertyClass) {
+		return cache.get(propertyClass);
+	}
+
+	/**
+	 * Gets the property class.
+	 * @return the property class
+	 */
+	public Class<? extends VCardProperty> getPropertyClass() {
+		return propertyClass;
+	}
+
+	/**
+	 * Gets the vCard versions that support the property class. These are
+	 * defined by the class's {@link SupportedVersions @SupportedVersions}
+	 * annotation. Property classes without this annotation are considered to
+	 * be supported by all versions.
+	 * @return the vCard versions
+	 */
+	public VCardVersion[] getSupportedVersions() {
+		return supportedVersions.clone();
+	}
+
+	/**
+	 * Determines if the property class is supported by the given vCard
+	 * version.
+	 * @param version the vCard version
+	 * @return true if it is supported, false if not
+	 */
+	public boolean isSupportedBy(VCardVersion version) {
+		return (supportedVersionsMask & (1 << version.ordinal())) != 0;
+	}
+
+	/**
+	 * Determines if the property class has a public copy constructor.
+	 * @return true if it has a copy constructor, false if not
+	 */
+	public boolean hasCopyConstructor() {
+		return copyConstructor != null;
+	}
+
+	/**
+	 * Creates a copy of a property using its class's copy constructor.
+	 * @param property the property to copy (must be an instance of this
+	 * metadata's property class)
+	 * @return the copy
+	 * @throws UnsupportedOperationException if the class does not have a copy
+	 * constructor or the copy constructor throws an exception
+	 */
+	VCardProperty copy(VCardProperty property) {
+		if (copyConstructor == null) {
+			throw new UnsupportedOperationException(Messages.INSTANCE.getExceptionMessage(31, propertyClass.getName()), copyConstructorError);
+		}
+
+		try {
+			return (VCardProperty) copyConstructor.invokeExact(property);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new UnsupportedOperationException(Messages.INSTANCE.getExceptionMessage(31, propertyClass.getName()), new InvocationTargetException(t));
+		}
+	}
+}
@@ -98,6 +98,7 @@ public class RawProperty extends TextProperty {
 	 */
 	public void setPropertyName(String propertyName) {
 		this.propertyName = propertyName;
+		modified();
 	}
 
 	/**
@@ -114,6 +115,7 @@ public class RawProperty extends TextProperty {
 	 */
 	public void setDataType(VCardDataType dataType) {
 		this.dataType = dataType;
+		modified();
 	}
 
 	@Override
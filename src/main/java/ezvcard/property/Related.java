@@ -154,6 +154,7 @@ public class Related extends VCardProperty implements HasAltId {
 	public void setUri(String uri) {
 		this.uri = uri;
 		text = null;
+		modified();
 	}
 
 	/**
@@ -171,6 +172,7 @@ public class Related extends VCardProperty implements HasAltId {
 	public void setText(String text) {
 		this.text = text;
 		uri = null;
+		modified();
 	}
 
 	/**
@@ -233,6 +235,11 @@ public class Related extends VCardProperty implements HasAltId {
 		return new Related(this);
 	}
 
+	@Override
+	public boolean isValidationCacheable() {
+		return isLibraryClass();
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -77,6 +77,7 @@ public class SimpleProperty<T> extends VCardProperty {
 	 */
 	public void setValue(T value) {
 		this.value = value;
+		modified();
 	}
 
 	@Override
@@ -93,6 +94,11 @@ public class SimpleProperty<T> extends VCardProperty {
 		return values;
 	}
 
+	@Override
+	public boolean isValidationCacheable() {
+		return isLibraryClass();
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
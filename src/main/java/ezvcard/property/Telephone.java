@@ -123,6 +123,7 @@ public class Telephone extends VCardProperty implements HasAltId {
 	public void setText(String text) {
 		this.text = text;
 		uri = null;
+		modified();
 	}
 
 	/**
@@ -146,6 +147,7 @@ public class Telephone extends VCardProperty implements HasAltId {
 	public void setUri(TelUri uri) {
 		text = null;
 		this.uri = uri;
+		modified();
 	}
 
 	/**
@@ -220,6 +222,11 @@ public class Telephone extends VCardProperty implements HasAltId {
 		return new Telephone(this);
 	}
 
+	@Override
+	public boolean isValidationCacheable() {
+		return isLibraryClass();
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -144,6 +144,7 @@ public class Timezone extends VCardProperty implements HasAltId {
 	 */
 	public void setOffset(ZoneOffset offset) {
 		this.offset = offset;
+		modified();
 	}
 
 	/**
@@ -166,6 +167,7 @@ public class Timezone extends VCardProperty implements HasAltId {
 	 */
 	public void setText(String text) {
 		this.text = text;
+		modified();
 	}
 
 	/**
@@ -283,6 +285,11 @@ public class Timezone extends VCardProperty implements HasAltId {
 		return new Timezone(this);
 	}
 
+	@Override
+	public boolean isValidationCacheable() {
+		return isLibraryClass();
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
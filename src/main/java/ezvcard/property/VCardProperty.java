@@ -1,12 +1,13 @@
 package ezvcard.property;
 
-import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import com.github.mangstadt.vinnie.SyntaxStyle;
 import com.github.mangstadt.vinnie.validate.AllowedCharacters;
@@ -16,6 +17,7 @@ import ezvcard.Messages;
 import ezvcard.SupportedVersions;
 import ezvcard.VCard;
 import ezvcard.VCardVersion;
+import ezvcard.ValidationRule;
 import ezvcard.ValidationWarning;
 import ezvcard.parameter.Pid;
 import ezvcard.parameter.VCardParameters;
@@ -55,6 +57,8 @@ import ezvcard.util.StringUtils;
  * @author Michael Angstadt
  */
 public abstract class VCardProperty implements Comparable<VCardProperty> {
+	private static final Set<ValidationRule> ALL_RULES = Collections.unmodifiableSet(EnumSet.allOf(ValidationRule.class));
+
 	/**
 	 * The group that this property belongs to or null if it doesn't belong to a
 	 * group.
@@ -66,6 +70,11 @@ public abstract class VCardProperty implements Comparable<VCardProperty> {
 	 */
 	protected VCardParameters parameters;
 
+	/**
+	 * Incremented every time the property's value or group changes.
+	 */
+	private int modCount;
+
 	protected VCardProperty() {
 		parameters = new VCardParameters();
 	}
@@ -92,8 +101,7 @@ public abstract class VCardProperty implements Comparable<VCardProperty> {
 	 * @return the vCard versions that support this property.
 	 */
 	public final VCardVersion[] getSupportedVersions() {
-		SupportedVersions supportedVersionsAnnotation = getClass().getAnnotation(SupportedVersions.class);
-		return (supportedVersionsAnnotation == null) ? VCardVersion.values() : supportedVersionsAnnotation.value();
+		return PropertyMetadata.of(getClass()).getSupportedVersions();
 	}
 
 	/**
@@ -110,7 +118,7 @@ public abstract class VCardProperty implements Comparable<VCardProperty> {
 	 * @return true if it is supported, false if not
 	 */
 	public final boolean isSupportedBy(VCardVersion version) {
-		return Arrays.stream(getSupportedVersions()).anyMatch(supportedVersion -> supportedVersion == version);
+		return PropertyMetadata.of(getClass()).isSupportedBy(version);
 	}
 
 	/**
@@ -127,18 +135,42 @@ public abstract class VCardProperty implements Comparable<VCardProperty> {
 	 * @return a list of warnings or an empty list if no problems were found
 	 */
 	public final List<ValidationWarning> validate(VCardVersion version, VCard vcard) {
+		return validate(version, vcard, ALL_RULES, false);
+	}
+
+	/**
+	 * Checks the property for data consistency problems or deviations from the
+	 * spec, only running the given groups of checks.
+	 * @param version the version to check the property against (use 4.0 for
+	 * xCard and jCard)
+	 * @param vcard the vCard this property belongs to
+	 * @param rules the groups of checks to run
+	 * @param failFast true to stop at the first warning, false to run all the
+	 * checks
+	 * @see ezvcard.VCardValidator
+	 * @return a list of warnings or an empty list if no problems were found
+	 */
+	public final List<ValidationWarning> validate(VCardVersion version, VCard vcard, Set<ValidationRule> rules, boolean failFast) {
 		List<ValidationWarning> warnings = new ArrayList<>(0);
 
 		//check the supported versions
-		if (!isSupportedBy(version)) {
+		if (rules.contains(ValidationRule.VERSION_SUPPORT) && !isSupportedBy(version)) {
 			warnings.add(new ValidationWarning(2, Arrays.toString(getSupportedVersions())));
+			if (failFast) {
+				return warnings;
+			}
 		}
 
 		//check parameters
-		warnings.addAll(parameters.validate(version));
+		if (rules.contains(ValidationRule.PARAMETERS)) {
+			warnings.addAll(parameters.validate(version));
+			if (failFast && !warnings.isEmpty()) {
+				return firstOnly(warnings);
+			}
+		}
 
 		//check group
-		if (group != null) {
+		if (group != null && rules.contains(ValidationRule.GROUPS)) {
 			SyntaxStyle syntax = version.getSyntaxStyle();
 			AllowedCharacters allowed = VObjectValidator.allowedCharactersGroup(syntax, true);
 			if (!allowed.check(group)) {
@@ -148,14 +180,29 @@ public abstract class VCardProperty implements Comparable<VCardProperty> {
 				} else {
 					warnings.add(new ValidationWarning(23, group));
 				}
+				if (failFast) {
+					return warnings;
+				}
 			}
 		}
 
-		_validate(warnings, version, vcard);
+		if (rules.contains(ValidationRule.PROPERTY_VALUES)) {
+			_validate(warnings, version, vcard);
+			if (failFast) {
+				return firstOnly(warnings);
+			}
+		}
 
 		return warnings;
 	}
 
+	private static List<ValidationWarning> firstOnly(List<ValidationWarning> warnings) {
+		if (warnings.size() > 1) {
+			warnings.subList(1, warnings.size()).clear();
+		}
+		return warnings;
+	}
+
 	/**
 	 * Checks the property for data consistency problems or deviations from the
 	 * spec. Meant to be overridden by child classes that wish to provide
@@ -184,6 +231,7 @@ public abstract class VCardProperty implements Comparable<VCardProperty> {
 		if (parameters == null) {
 			throw new NullPointerException(Messages.INSTANCE.getExceptionMessage(42));
 		}
+		modCount += this.parameters.getModificationCount() + 1;
 		this.parameters = parameters;
 	}
 
@@ -245,6 +293,63 @@ public abstract class VCardProperty implements Comparable<VCardProperty> {
 	 */
 	public void setGroup(String group) {
 		this.group = group;
+		modified();
+	}
+
+	/**
+	 * <p>
+	 * Gets a counter that changes every time the property's value, group, or
+	 * parameters are modified. This can be used to cheaply detect whether the
+	 * property has changed since it was last looked at.
+	 * </p>
+	 * <p>
+	 * Changes to the property's value are only tracked if the property class
+	 * supports it (see {@link #isValidationCacheable}).
+	 * </p>
+	 * @return the modification count
+	 */
+	public int getModificationCount() {
+		return modCount + parameters.getModificationCount();
+	}
+
+	/**
+	 * Records that the property's value has changed. Child classes that
+	 * return true from {@link #isValidationCacheable} must call this method
+	 * every time one of their fields is modified.
+	 */
+	protected void modified() {
+		modCount++;
+	}
+
+	/**
+	 * <p>
+	 * Determines whether the result of validating this property can be reused
+	 * until the property is modified (see {@link #getModificationCount}).
+	 * This is used by {@link ezvcard.VCardValidator} when caching is enabled.
+	 * </p>
+	 * <p>
+	 * This should only return true if every change to the property's value
+	 * calls {@link #modified}, and if the property's validation checks do
+	 * not depend on any other properties in the vCard. The default
+	 * implementation returns false.
+	 * </p>
+	 * <p>
+	 * Child classes of this library's property classes are not cached, even
+	 * if the parent class is. They must override this method to opt in.
+	 * </p>
+	 * @return true if validation results can be cached, false if not
+	 */
+	public boolean isValidationCacheable() {
+		return false;
+	}
+
+	/**
+	 * Determines if this object's class is one of this library's property
+	 * classes, as opposed to a child class that was created by the user.
+	 * @return true if it is one of this library's classes, false if not
+	 */
+	boolean isLibraryClass() {
+		return getClass().getPackage() == VCardProperty.class.getPackage();
 	}
 
 	/**
@@ -319,14 +424,7 @@ public abstract class VCardProperty implements Comparable<VCardProperty> {
 	 * constructor or there is a problem invoking it
 	 */
 	public VCardProperty copy() {
-		Class<? extends VCardProperty> clazz = getClass();
-
-		try {
-			Constructor<? extends VCardProperty> copyConstructor = clazz.getConstructor(clazz);
-			return copyConstructor.newInstance(this);
-		} catch (Exception e) {
-			throw new UnsupportedOperationException(Messages.INSTANCE.getExceptionMessage(31, clazz.getName()), e);
-		}
+		return PropertyMetadata.of(getClass()).copy(this);
 	}
 
 	@Override
@@ -0,0 +1,222 @@
+package ezvcard.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import ezvcard.util.org.apache.commons.codec.binary.Base64;
+
+/*
+Copyright (c) 2012-2026, Michael Angstadt
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met: 
+
+1. Redistributions of source code must retain the above copyright notice, this
+list of conditions and the following disclaimer. 
+2. Redistributions in binary form must reproduce the above copyright notice,
+this list of conditions and the following disclaimer in the documentation
+and/or other materials provided with the distribution. 
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+The views and conclusions contained in the software and documentation are those
+of the authors and should not be interpreted as representing official policies, 
+either expressed or implied, of the FreeBSD Project.
+*/
+
+/**
+ * <p>
+ * Stores the decoded binary data of large PHOTO, LOGO, SOUND, and KEY
+ * properties outside of the Java heap.
+ * </p>
+ * <p>
+ * When a blob store is assigned to a reader (see
+ * {@link ezvcard.io.StreamReader#setBlobStore}), base64-encoded property
+ * values whose decoded size exceeds the store's threshold are decoded
+ * incrementally into a buffer allocated by the store, instead of into a byte
+ * array. The data can then be accessed using
+ * {@link ezvcard.property.BinaryProperty#getDataBuffer} or
+ * {@link ezvcard.property.BinaryProperty#getDataStream}.
+ * </p>
+ * <p>
+ * <b>Example:</b>
+ * </p>
+ * 
+ * <pre class="brush:java">
+ * //spill photos larger than 256 KB into memory-mapped temporary files
+ * BlobStore store = BlobStore.mappedFiles(256 * 1024, Paths.get("/tmp"));
+ * List&lt;VCard&gt; vcards = Ezvcard.parse(file).blobStore(store).all();
+ * </pre>
+ * 
+ * <p>
+ * Custom stores can be created by extending this class and implementing
+ * {@link #allocate}.
+ * </p>
+ * @author Michael Angstadt
+ */
+public abstract class BlobStore {
+	/**
+	 * The number of base64 characters that are decoded at a time (must be a
+	 * multiple of 4).
+	 */
+	private static final int CHUNK_SIZE = 4096;
+
+	private final int threshold;
+
+	/**
+	 * @param threshold data whose decoded size is less than or equal to this
+	 * number of bytes is kept on the heap
+	 */
+	protected BlobStore(int threshold) {
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Creates a blob store that stores data in direct (off-heap) byte buffers.
+	 * @param threshold data whose decoded size is less than or equal to this
+	 * number of bytes is kept on the heap
+	 * @return the blob store
+	 */
+	public static BlobStore directMemory(int threshold) {
+		return new BlobStore(threshold) {
+			@Override
+			protected ByteBuffer allocate(int capacity) {
+				return ByteBuffer.allocateDirect(capacity);
+			}
+		};
+	}
+
+	/**
+	 * Creates a blob store that stores data in memory-mapped temporary files.
+	 * Each file is deleted as soon as it is mapped, if the operating system
+	 * allows it. Otherwise, it is deleted when the JVM exits.
+	 * @param threshold data whose decoded size is less than or equal to this
+	 * number of bytes is kept on the heap
+	 * @param directory the directory to create the temporary files in
+	 * @return the blob store
+	 */
+	public static BlobStore mappedFiles(int threshold, Path directory) {
+		return new BlobStore(threshold) {
+			@Override
+			protected ByteBuffer allocate(int capacity) throws IOException {
+				Path file = Files.createTempFile(directory, "ez-vcard", ".bin");
+				ByteBuffer buffer;
+				try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+					buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+				}
+
+				try {
+					Files.delete(file);
+				} catch (IOException e) {
+					file.toFile().deleteOnExit();
+				}
+
+				return buffer;
+			}
+		};
+	}
+
+	/**
+	 * Gets the size above which data is stored in this blob store.
+	 * @return the threshold, in bytes
+	 */
+	public int getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * Allocates a buffer to decode data into.
+	 * @param capacity the capacity of the buffer, in bytes
+	 * @return the buffer
+	 * @throws IOException if there's a problem allocating the buffer
+	 */
+	protected abstract ByteBuffer allocate(int capacity) throws IOException;
+
+	/**
+	 * Decodes a base64 string into this blob store, if the decoded data is
+	 * larger than the threshold.
+	 * @param base64 the base64 string
+	 * @param offset the index of the string at which the base64 data starts
+	 * @return a read-only buffer containing the decoded data or null if the
+	 * data is not larger than the threshold
+	 * @throws IOException if there's a problem storing the data
+	 */
+	public ByteBuffer decodeBase64(String base64, int offset) throws IOException {
+		int end = base64.length();
+		while (end > offset && !isBase64(base64.charAt(end - 1))) {
+			end--;
+		}
+		int padding = 0;
+		while (end > offset && padding < 2 && base64.charAt(end - 1) == '=') {
+			end--;
+			padding++;
+		}
+
+		int maxSize = (int) ((end - offset) * 3L / 4);
+		if (maxSize <= threshold) {
+			return null;
+		}
+
+		ByteBuffer buffer = allocate(maxSize);
+		char[] chunk = new char[CHUNK_SIZE];
+		int chunkLength = 0;
+		for (int i = offset; i < base64.length(); i++) {
+			char c = base64.charAt(i);
+			if (!isBase64(c)) {
+				//ignore whitespace and other invalid characters, like the decoder does
+				continue;
+			}
+
+			chunk[chunkLength++] = c;
+			if (chunkLength == chunk.length) {
+				buffer.put(Base64.decodeBase64(new String(chunk)));
+				chunkLength = 0;
+			}
+		}
+		if (chunkLength > 0) {
+			buffer.put(Base64.decodeBase64(new String(chunk, 0, chunkLength)));
+		}
+
+		buffer.flip();
+		return buffer.asReadOnlyBuffer();
+	}
+
+	private static boolean isBase64(char c) {
+		return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '/' || c == '-' || c == '_' || c == '=';
+	}
+
+	/**
+	 * Encodes binary data in base64, without copying the entire buffer into a
+	 * byte array first.
+	 * @param data the data to encode (its position is not modified)
+	 * @return the base64 string
+	 */
+	public static String encodeBase64(ByteBuffer data) {
+		ByteBuffer source = data.duplicate();
+		StringBuilder sb = new StringBuilder((source.remaining() + 2) / 3 * 4);
+		byte[] chunk = new byte[CHUNK_SIZE / 4 * 3];
+		while (source.hasRemaining()) {
+			int length = Math.min(chunk.length, source.remaining());
+			source.get(chunk, 0, length);
+
+			byte[] bytes = (length == chunk.length) ? chunk : Arrays.copyOf(chunk, length);
+			sb.append(Base64.encodeBase64String(bytes));
+		}
+		return sb.toString();
+	}
+}
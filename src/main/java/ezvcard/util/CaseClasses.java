@@ -6,7 +6,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /*
@@ -83,6 +89,17 @@ import java.util.stream.Collectors;
  *     protected boolean matches(Color object, String value) {
  *       return object.getName().equalsIgnoreCase(value);
  *     }
+ * 
+ *     // Optional: index the objects by name to avoid linear searches.
+ *     &#64;Override
+ *     protected Collection&lt;?&gt; indexKeys(Color object) {
+ *       return Collections.singletonList(caseInsensitiveKey(object.getName()));
+ *     }
+ * 
+ *     &#64;Override
+ *     protected Object searchKey(String value) {
+ *       return caseInsensitiveKey(value);
+ *     }
  *   }
  * }
  * 
@@ -107,7 +124,9 @@ import java.util.stream.Collectors;
 public abstract class CaseClasses<T, V> {
 	protected final Class<T> clazz;
 	private volatile Collection<T> preDefined = null;
-	private Collection<T> runtimeDefined = null;
+	private Map<Object, List<T>> preDefinedIndex = null;
+	private final Collection<T> runtimeDefined = new CopyOnWriteArrayList<>();
+	private final ConcurrentMap<Object, T> runtimeDefinedIndex = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new case class collection.
@@ -132,6 +151,71 @@ public abstract class CaseClasses<T, V> {
 	 */
 	protected abstract boolean matches(T object, V value);
 
+	/**
+	 * <p>
+	 * Gets the keys that a case object is indexed under. Indexing allows
+	 * objects to be found without searching through all of them. An object is
+	 * only considered a candidate for a value if one of its index keys is
+	 * equal to the value's search key (see {@link #searchKey}). Candidates are
+	 * still checked with {@link #matches}.
+	 * </p>
+	 * <p>
+	 * By default, objects are not indexed.
+	 * </p>
+	 * @param object the case object
+	 * @return the index keys
+	 */
+	protected Collection<?> indexKeys(T object) {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Gets the key to search the index with when looking for the given value
+	 * (see {@link #indexKeys}).
+	 * @param value the value
+	 * @return the search key or null to search through all the objects (the
+	 * default)
+	 */
+	protected Object searchKey(V value) {
+		return null;
+	}
+
+	/**
+	 * Creates a key for case-insensitive string lookups. Two strings have the
+	 * same key if and only if {@link String#equalsIgnoreCase} considers them
+	 * equal. Strings are folded to upper case, since most vCard values (such
+	 * as parameter values) are already upper case and can be used as-is.
+	 * @param string the string
+	 * @return the key or null if the string is null
+	 */
+	protected static String caseInsensitiveKey(String string) {
+		if (string == null) {
+			return null;
+		}
+
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			if (fold(c) != c) {
+				char[] chars = string.toCharArray();
+				for (int j = i; j < chars.length; j++) {
+					chars[j] = fold(chars[j]);
+				}
+				return new String(chars);
+			}
+		}
+
+		return string;
+	}
+
+	private static char fold(char c) {
+		/*
+		 * toLowerCase(toUpperCase(c)) is how equalsIgnoreCase() compares
+		 * characters. Upper-casing that result does not merge any characters
+		 * that equalsIgnoreCase() considers different.
+		 */
+		return Character.toUpperCase(Character.toLowerCase(Character.toUpperCase(c)));
+	}
+
 	/**
 	 * Searches for a case object by value, only looking at the case class'
 	 * static constants (does not search runtime-defined constants).
@@ -141,11 +225,9 @@ public abstract class CaseClasses<T, V> {
 	public T find(V value) {
 		checkInit();
 
-		//@formatter:off
-		return preDefined.stream()
-			.filter(obj -> matches(obj, value))
-		.findFirst().orElse(null);
-		//@formatter:on
+		Object key = searchKey(value);
+		Collection<T> candidates = (key == null) ? preDefined : preDefinedIndex.getOrDefault(key, Collections.emptyList());
+		return findMatch(candidates, value);
 	}
 
 	/**
@@ -160,17 +242,51 @@ public abstract class CaseClasses<T, V> {
 			return found;
 		}
 
-		synchronized (runtimeDefined) {
-			//@formatter:off
-			return runtimeDefined.stream()
-				.filter(obj -> matches(obj, value))
-			.findFirst().orElseGet(() -> {
-				T created = create(value);
-				runtimeDefined.add(created);
-				return created;
-			});
-			//@formatter:on
+		Object key = searchKey(value);
+		if (key != null) {
+			found = runtimeDefinedIndex.get(key);
+			if (found == null) {
+				found = runtimeDefinedIndex.computeIfAbsent(key, k -> create(value));
+
+				//index the object under its other keys, so it can be found by them too
+				for (Object indexKey : indexKeys(found)) {
+					if (indexKey != null) {
+						runtimeDefinedIndex.putIfAbsent(indexKey, found);
+					}
+				}
+			}
+
+			if (matches(found, value)) {
+				return found;
+			}
+
+			/*
+			 * Another value with the same search key was created first, and
+			 * it does not match this value. Fall back to the unindexed list.
+			 */
+		}
+
+		found = findMatch(runtimeDefined, value);
+		if (found == null) {
+			synchronized (runtimeDefined) {
+				//check again, in case another thread created it
+				found = findMatch(runtimeDefined, value);
+				if (found == null) {
+					found = create(value);
+					runtimeDefined.add(found);
+				}
+			}
+		}
+		return found;
+	}
+
+	private T findMatch(Collection<T> candidates, V value) {
+		for (T candidate : candidates) {
+			if (matches(candidate, value)) {
+				return candidate;
+			}
 		}
+		return null;
 	}
 
 	/**
@@ -204,7 +320,7 @@ public abstract class CaseClasses<T, V> {
 	 */
 	private void init() {
 		//@formatter:off
-		preDefined = Collections.unmodifiableCollection(Arrays.stream(clazz.getFields())
+		List<T> objects = Arrays.stream(clazz.getFields())
 			.filter(this::isPreDefinedField)
 			.map(field -> {
 				try {
@@ -217,10 +333,21 @@ public abstract class CaseClasses<T, V> {
 			})
 			.filter(Objects::nonNull)
 			.map(clazz::cast)
-		.collect(Collectors.toList()));
+		.collect(Collectors.toList());
 		//@formatter:on
 
-		runtimeDefined = new ArrayList<>(0);
+		Map<Object, List<T>> index = new HashMap<>();
+		for (T object : objects) {
+			for (Object key : indexKeys(object)) {
+				if (key != null) {
+					index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(object);
+				}
+			}
+		}
+
+		//assign the volatile field last, so the index is visible to other threads
+		preDefinedIndex = index;
+		preDefined = Collections.unmodifiableCollection(objects);
 	}
 
 	/**
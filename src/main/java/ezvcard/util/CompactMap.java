@@ -0,0 +1,359 @@
+package ezvcard.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+ */
+
+/**
+ * <p>
+ * A {@link Map} that is optimized for holding only a handful of entries. The
+ * entries are stored in a single array and looked up with a linear search.
+ * Once the map grows past {@value #MAX_ARRAY_ENTRIES} entries, it switches
+ * over to a {@link LinkedHashMap}. Empty maps share the same empty array, so
+ * they take up very little memory.
+ * </p>
+ * <p>
+ * Like {@link LinkedHashMap}, this map preserves insertion order and permits
+ * null keys and values. It is not thread-safe.
+ * </p>
+ * @author Michael Angstadt
+ * @param <K> the key
+ * @param <V> the value
+ */
+public class CompactMap<K, V> extends AbstractMap<K, V> {
+	/**
+	 * The largest number of entries that are stored in the array.
+	 */
+	static final int MAX_ARRAY_ENTRIES = 8;
+
+	private static final Object[] EMPTY = {};
+
+	/**
+	 * The keys and values, stored in alternating slots (key, value, key,
+	 * value, ...).
+	 */
+	private Object[] table = EMPTY;
+
+	/**
+	 * The number of entries in the array.
+	 */
+	private int size;
+
+	/**
+	 * The map that takes over once there are too many entries for the array
+	 * (null if the array is still being used).
+	 */
+	private Map<K, V> map;
+
+	private int modCount;
+
+	/**
+	 * Creates an empty map.
+	 */
+	public CompactMap() {
+		//empty
+	}
+
+	/**
+	 * Creates an empty map.
+	 * @param initialCapacity the number of entries to allocate space for
+	 */
+	public CompactMap(int initialCapacity) {
+		if (initialCapacity > MAX_ARRAY_ENTRIES) {
+			map = new LinkedHashMap<>(initialCapacity * 4 / 3 + 1);
+		} else if (initialCapacity > 0) {
+			table = new Object[initialCapacity * 2];
+		}
+	}
+
+	@Override
+	public int size() {
+		return (map == null) ? size : map.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return (map == null) ? indexOf(key) >= 0 : map.containsKey(key);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if (map != null) {
+			return map.get(key);
+		}
+
+		int i = indexOf(key);
+		return (i < 0) ? null : (V) table[i + 1];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		if (map != null) {
+			return map.put(key, value);
+		}
+
+		int i = indexOf(key);
+		if (i >= 0) {
+			V old = (V) table[i + 1];
+			table[i + 1] = value;
+			return old;
+		}
+
+		if (size == MAX_ARRAY_ENTRIES) {
+			upgrade();
+			return map.put(key, value);
+		}
+
+		int slot = size * 2;
+		if (slot == table.length) {
+			Object[] newTable = new Object[Math.min(Math.max(size * 2, 1), MAX_ARRAY_ENTRIES) * 2];
+			System.arraycopy(table, 0, newTable, 0, slot);
+			table = newTable;
+		}
+
+		table[slot] = key;
+		table[slot + 1] = value;
+		size++;
+		modCount++;
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		if (map != null) {
+			return map.remove(key);
+		}
+
+		int i = indexOf(key);
+		if (i < 0) {
+			return null;
+		}
+
+		V old = (V) table[i + 1];
+		removeAt(i);
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		map = null;
+		table = EMPTY;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		if (map != null) {
+			map.forEach(action);
+			return;
+		}
+
+		int expectedModCount = modCount;
+		for (int i = 0; i < size * 2; i += 2) {
+			action.accept((K) table[i], (V) table[i + 1]);
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new EntrySet();
+	}
+
+	/**
+	 * Finds the array slot of a key.
+	 * @param key the key
+	 * @return the slot or -1 if not found
+	 */
+	private int indexOf(Object key) {
+		for (int i = 0; i < size * 2; i += 2) {
+			if (Objects.equals(key, table[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Removes an entry from the array.
+	 * @param slot the array slot of the entry's key
+	 */
+	private void removeAt(int slot) {
+		int end = size * 2;
+		System.arraycopy(table, slot + 2, table, slot, end - slot - 2);
+		table[end - 2] = null;
+		table[end - 1] = null;
+		size--;
+		modCount++;
+	}
+
+	/**
+	 * Moves all the entries from the array to a {@link LinkedHashMap}.
+	 */
+	@SuppressWarnings("unchecked")
+	private void upgrade() {
+		map = new LinkedHashMap<>();
+		for (int i = 0; i < size * 2; i += 2) {
+			map.put((K) table[i], (V) table[i + 1]);
+		}
+		table = EMPTY;
+		size = 0;
+		modCount++;
+	}
+
+	private class EntrySet extends AbstractSet<Entry<K, V>> {
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			return (map == null) ? new ArrayIterator() : map.entrySet().iterator();
+		}
+
+		@Override
+		public int size() {
+			return CompactMap.this.size();
+		}
+
+		@Override
+		public void clear() {
+			CompactMap.this.clear();
+		}
+	}
+
+	private class ArrayIterator implements Iterator<Entry<K, V>> {
+		private int next;
+		private int last = -1;
+		private int expectedModCount = modCount;
+
+		public boolean hasNext() {
+			return next < size * 2;
+		}
+
+		public Entry<K, V> next() {
+			checkForComodification();
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			last = next;
+			next += 2;
+			return new ArrayEntry(last);
+		}
+
+		public void remove() {
+			if (last < 0) {
+				throw new IllegalStateException();
+			}
+			checkForComodification();
+
+			removeAt(last);
+			next = last;
+			last = -1;
+			expectedModCount = modCount;
+		}
+
+		private void checkForComodification() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+
+	private class ArrayEntry implements Entry<K, V> {
+		private final int slot;
+		private final int expectedModCount = modCount;
+
+		public ArrayEntry(int slot) {
+			this.slot = slot;
+		}
+
+		@SuppressWarnings("unchecked")
+		public K getKey() {
+			checkForComodification();
+			return (K) table[slot];
+		}
+
+		@SuppressWarnings("unchecked")
+		public V getValue() {
+			checkForComodification();
+			return (V) table[slot + 1];
+		}
+
+		@SuppressWarnings("unchecked")
+		public V setValue(V value) {
+			checkForComodification();
+			V old = (V) table[slot + 1];
+			table[slot + 1] = value;
+			return old;
+		}
+
+		private void checkForComodification() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Entry)) return false;
+			Entry<?, ?> other = (Entry<?, ?>) obj;
+			return Objects.equals(getKey(), other.getKey()) && Objects.equals(getValue(), other.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+}
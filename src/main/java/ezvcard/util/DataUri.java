@@ -101,6 +101,22 @@ public final class DataUri {
 	 * it cannot be parsed
 	 */
 	public static DataUri parse(String uri) {
+		Parser parser = new Parser(uri);
+		DataUri dataUri = parser.parse();
+		if (dataUri == null) {
+			throw Messages.INSTANCE.getIllegalArgumentException(parser.errorCode, parser.errorArgs);
+		}
+		return dataUri;
+	}
+
+	/**
+	 * Parses a data URI string. Unlike {@link #parse}, this method does not
+	 * throw an exception if the string is not a valid data URI.
+	 * @param uri the URI string (e.g. "data:image/jpeg;base64,[base64 string]")
+	 * @return the parsed data URI or null if the string is not a valid data
+	 * URI or it cannot be parsed
+	 */
+	public static DataUri tryParse(String uri) {
 		return new Parser(uri).parse();
 	}
 
@@ -114,23 +130,30 @@ public final class DataUri {
 		private String dataStr;
 		private int tokenStart;
 
+		/**
+		 * The code and arguments of the error message, if parsing fails.
+		 */
+		private int errorCode;
+		private Object[] errorArgs;
+
 		public Parser(String uri) {
 			this.uri = uri;
-			checkScheme();
 
 			tokenStart = SCHEME.length();
 			it = new CharIterator(uri, tokenStart);
 		}
 
-		private void checkScheme() {
-			if (uri.length() < SCHEME.length() || !uri.substring(0, SCHEME.length()).equalsIgnoreCase(SCHEME)) {
+		/**
+		 * Parses the URI.
+		 * @return the parsed URI or null if the URI is invalid
+		 */
+		public DataUri parse() {
+			//Syntax: data:[<media type>][;charset=<character set>][;base64],<data>
+			if (!uri.regionMatches(true, 0, SCHEME, 0, SCHEME.length())) {
 				//not a data URI
-				throw Messages.INSTANCE.getIllegalArgumentException(18, SCHEME);
+				return error(18, SCHEME);
 			}
-		}
 
-		public DataUri parse() {
-			//Syntax: data:[<media type>][;charset=<character set>][;base64],<data>
 			while (it.hasNext()) {
 				char c = it.next();
 
@@ -145,12 +168,18 @@ public final class DataUri {
 			}
 
 			if (dataStr == null) {
-				throw Messages.INSTANCE.getIllegalArgumentException(20);
+				return error(20);
 			}
 
 			return build();
 		}
 
+		private DataUri error(int code, Object... args) {
+			errorCode = code;
+			errorArgs = args;
+			return null;
+		}
+
 		private void handleComma() {
 			String token = uri.substring(tokenStart, it.index());
 			if (contentType == null) {
@@ -194,7 +223,7 @@ public final class DataUri {
 					try {
 						text = new String(data, charset);
 					} catch (UnsupportedEncodingException e) {
-						throw new IllegalArgumentException(Messages.INSTANCE.getExceptionMessage(43, charset), e);
+						return error(43, charset);
 					}
 					data = null;
 				}
@@ -0,0 +1,173 @@
+package ezvcard.util;
+
+/*
+Copyright (c) 2012-2026, Michael Angstadt
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met: 
+
+1. Redistributions of source code must retain the above copyright notice, this
+list of conditions and the following disclaimer. 
+2. Redistributions in binary form must reproduce the above copyright notice,
+this list of conditions and the following disclaimer in the documentation
+and/or other materials provided with the distribution. 
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+The views and conclusions contained in the software and documentation are those
+of the authors and should not be interpreted as representing official policies, 
+either expressed or implied, of the FreeBSD Project.
+*/
+
+
+/**
+ * Reads the components of an ISO 8601 date/time string one character at a
+ * time. Used by {@link VCardDateFormat} and {@link PartialDate} in place of
+ * regular expressions, so that parsing a date does not create any matchers,
+ * substrings, or boxed integers.
+ * @author Michael Angstadt
+ */
+final class DateTimeScanner {
+	private final String string;
+	private final int end;
+	private int pos;
+
+	/**
+	 * @param string the string to scan
+	 */
+	public DateTimeScanner(String string) {
+		this(string, 0, string.length());
+	}
+
+	/**
+	 * @param string the string to scan
+	 * @param start the index to start scanning at (inclusive)
+	 * @param end the index to stop scanning at (exclusive)
+	 */
+	public DateTimeScanner(String string, int start, int end) {
+		this.string = string;
+		this.pos = start;
+		this.end = end;
+	}
+
+	/**
+	 * Determines if the entire string has been consumed.
+	 * @return true if there are no more characters, false if not
+	 */
+	public boolean atEnd() {
+		return pos >= end;
+	}
+
+	/**
+	 * Gets the next character without consuming it.
+	 * @return the next character or 0 if the end of the string has been
+	 * reached
+	 */
+	public char peek() {
+		return atEnd() ? 0 : string.charAt(pos);
+	}
+
+	/**
+	 * Consumes the next character if it matches the given character.
+	 * @param c the character
+	 * @return true if the character was consumed, false if not
+	 */
+	public boolean skip(char c) {
+		if (atEnd() || string.charAt(pos) != c) {
+			return false;
+		}
+		pos++;
+		return true;
+	}
+
+	/**
+	 * Consumes the next characters if they match the given string.
+	 * @param s the string
+	 * @return true if the string was consumed, false if not
+	 */
+	public boolean skip(String s) {
+		if (pos + s.length() > end || !string.startsWith(s, pos)) {
+			return false;
+		}
+		pos += s.length();
+		return true;
+	}
+
+	/**
+	 * Counts the number of consecutive digits, starting at the current
+	 * position. No characters are consumed.
+	 * @return the number of digits
+	 */
+	public int countDigits() {
+		int i = pos;
+		while (i < end && isDigit(string.charAt(i))) {
+			i++;
+		}
+		return i - pos;
+	}
+
+	/**
+	 * Consumes a fixed number of digits and converts them to an integer.
+	 * @param count the number of digits to consume
+	 * @return the integer or -1 if there are fewer than the given number of
+	 * digits at the current position
+	 */
+	public int readDigits(int count) {
+		if (pos + count > end) {
+			return -1;
+		}
+
+		int value = 0;
+		for (int i = 0; i < count; i++) {
+			char c = string.charAt(pos + i);
+			if (!isDigit(c)) {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+		}
+
+		pos += count;
+		return value;
+	}
+
+	/**
+	 * Consumes all consecutive digits and converts them to a number of
+	 * nanoseconds, treating them as the digits after the decimal point of a
+	 * fractional second. The value is rounded to the nearest nanosecond.
+	 * @return the number of nanoseconds (may be equal to one second if the
+	 * fraction is rounded up) or -1 if there are no digits at the current
+	 * position
+	 */
+	public int readFraction() {
+		int count = countDigits();
+		if (count == 0) {
+			return -1;
+		}
+
+		int nanos = 0;
+		for (int i = 0; i < 9; i++) {
+			int digit = (i < count) ? string.charAt(pos + i) - '0' : 0;
+			nanos = nanos * 10 + digit;
+		}
+		if (count > 9 && string.charAt(pos + 9) >= '5') {
+			nanos++;
+		}
+
+		pos += count;
+		return nanos;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+}
@@ -111,6 +111,21 @@ public final class GeoUri {
 	 * @throws IllegalArgumentException if the string is not a valid geo URI
 	 */
 	public static GeoUri parse(String uri) {
+		Parser parser = new Parser(uri);
+		GeoUri geoUri = parser.parse();
+		if (geoUri == null) {
+			throw Messages.INSTANCE.getIllegalArgumentException(parser.errorCode, parser.errorArgs);
+		}
+		return geoUri;
+	}
+
+	/**
+	 * Parses a geo URI string. Unlike {@link #parse}, this method does not
+	 * throw an exception if the string is not a valid geo URI.
+	 * @param uri the URI string (e.g. "geo:40.714623,-74.006605")
+	 * @return the parsed geo URI or null if the string is not a valid geo URI
+	 */
+	public static GeoUri tryParse(String uri) {
 		return new Parser(uri).parse();
 	}
 
@@ -125,9 +140,14 @@ public final class GeoUri {
 		private String paramName;
 		private boolean coordinatesDone;
 
+		/**
+		 * The code and arguments of the error message, if parsing fails.
+		 */
+		private int errorCode;
+		private Object[] errorArgs;
+
 		public Parser(String uri) {
 			this.uri = uri;
-			checkScheme();
 
 			builder = new Builder(null, null);
 			buffer = new ClearableStringBuilder();
@@ -135,37 +155,48 @@ public final class GeoUri {
 			it = new CharIterator(uri, SCHEME.length());
 		}
 
-		private void checkScheme() {
-			if (uri.length() < SCHEME.length() || !uri.substring(0, SCHEME.length()).equalsIgnoreCase(SCHEME)) {
-				//not a geo URI
-				throw Messages.INSTANCE.getIllegalArgumentException(18, SCHEME);
-			}
-		}
-
+		/**
+		 * Parses the URI.
+		 * @return the parsed URI or null if the URI is invalid
+		 */
 		public GeoUri parse() {
 			//URI format: geo:LAT,LONG;prop1=value1;prop2=value2
 
+			if (!uri.regionMatches(true, 0, SCHEME, 0, SCHEME.length())) {
+				//not a geo URI
+				return error(18, SCHEME);
+			}
+
 			while (it.hasNext()) {
 				char c = it.next();
-				processCharacter(c);
+				if (!processCharacter(c)) {
+					return null;
+				}
 			}
 
 			if (coordinatesDone) {
 				handleEndOfParameter();
 			} else {
-				handleEndOfCoordinate();
+				if (!handleEndOfCoordinate()) {
+					return null;
+				}
 				if (builder.coordB == null) {
-					throw Messages.INSTANCE.getIllegalArgumentException(21);
+					return error(21);
 				}
 			}
 
 			return builder.build();
 		}
 
-		private void processCharacter(char c) {
+		private GeoUri error(int code, Object... args) {
+			errorCode = code;
+			errorArgs = args;
+			return null;
+		}
+
+		private boolean processCharacter(char c) {
 			if (c == ',' && !coordinatesDone) {
-				handleEndOfCoordinate();
-				return;
+				return handleEndOfCoordinate();
 			}
 
 			if (c == ';') {
@@ -173,48 +204,58 @@ public final class GeoUri {
 					handleEndOfParameter();
 					paramName = null;
 				} else {
-					handleEndOfCoordinate();
+					if (!handleEndOfCoordinate()) {
+						return false;
+					}
 					if (builder.coordB == null) {
-						throw Messages.INSTANCE.getIllegalArgumentException(21);
+						error(21);
+						return false;
 					}
 					coordinatesDone = true;
 				}
-				return;
+				return true;
 			}
 
 			if (c == '=' && coordinatesDone && paramName == null) {
 				paramName = buffer.getAndClear();
-				return;
+				return true;
 			}
 
 			buffer.append(c);
+			return true;
 		}
 
-		private void handleEndOfCoordinate() {
+		/**
+		 * Assigns the contents of the buffer to the next coordinate.
+		 * @return true if the coordinate is a number, false if not
+		 */
+		private boolean handleEndOfCoordinate() {
 			String s = buffer.getAndClear();
 
 			if (builder.coordA == null) {
 				builder.coordA = parseCoord(s, "A");
-				return;
+				return builder.coordA != null;
 			}
 
 			if (builder.coordB == null) {
 				builder.coordB = parseCoord(s, "B");
-				return;
+				return builder.coordB != null;
 			}
 
 			if (builder.coordC == null) {
 				builder.coordC = parseCoord(s, "C");
-				return;
+				return builder.coordC != null;
 			}
+
+			return true;
 		}
 
 		private Double parseCoord(String s, String letter) {
-			try {
-				return Double.parseDouble(s);
-			} catch (NumberFormatException e) {
-				throw new IllegalArgumentException(Messages.INSTANCE.getExceptionMessage(22, letter), e);
+			Double coord = StringUtils.tryParseDouble(s);
+			if (coord == null) {
+				error(22, letter);
 			}
+			return coord;
 		}
 
 		private void addParameter(String name, String value) {
@@ -226,12 +267,13 @@ public final class GeoUri {
 			}
 
 			if (PARAM_UNCERTAINTY.equalsIgnoreCase(name)) {
-				try {
-					builder.uncertainty = Double.valueOf(value);
+				Double uncertainty = StringUtils.tryParseDouble(value);
+				if (uncertainty != null) {
+					builder.uncertainty = uncertainty;
 					return;
-				} catch (NumberFormatException e) {
-					//if it can't be parsed, then treat it as an ordinary parameter
 				}
+
+				//if it can't be parsed, then treat it as an ordinary parameter
 			}
 
 			builder.parameters.put(name, value);
@@ -11,8 +11,10 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
 
 /*
@@ -70,11 +72,34 @@ import java.util.stream.Stream;
 public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 	private final Map<K, List<V>> map;
 
+	/**
+	 * The total number of values in the multimap, maintained on every
+	 * modification so that {@link #size} does not have to visit each list.
+	 * Not used if the multimap is backed by a caller-supplied map, since the
+	 * caller can modify the map directly.
+	 */
+	private int size;
+
+	/**
+	 * True if the multimap was created with a caller-supplied backing map.
+	 */
+	private final boolean backed;
+
+	/**
+	 * Incremented every time the multimap is modified.
+	 */
+	private int modCount;
+
+	/**
+	 * Lazily created, since the view is stateless.
+	 */
+	private Collection<V> valuesView;
+
 	/**
 	 * Creates an empty multimap.
 	 */
 	public ListMultimap() {
-		this(new LinkedHashMap<>());
+		this(new LinkedHashMap<>(), false);
 	}
 
 	/**
@@ -82,7 +107,7 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 	 * @param initialCapacity the initial capacity of the underlying map.
 	 */
 	public ListMultimap(int initialCapacity) {
-		this(new LinkedHashMap<>(initialCapacity));
+		this(new LinkedHashMap<>(initialCapacity), false);
 	}
 
 	/**
@@ -90,7 +115,9 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 	 * @param orig the multimap to copy from
 	 */
 	public ListMultimap(ListMultimap<K, V> orig) {
-		this(copy(orig.map));
+		this.map = copy(orig.map);
+		this.size = orig.size();
+		this.backed = false;
 	}
 
 	private static <K, V> Map<K, List<V>> copy(Map<K, List<V>> orig) {
@@ -112,7 +139,12 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 	 * @param map the backing map
 	 */
 	public ListMultimap(Map<K, List<V>> map) {
+		this(map, true);
+	}
+
+	private ListMultimap(Map<K, List<V>> map, boolean backed) {
 		this.map = map;
+		this.backed = backed;
 	}
 
 	/**
@@ -122,8 +154,10 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 	 */
 	public void put(K key, V value) {
 		key = sanitizeKey(key);
-		List<V> list = map.computeIfAbsent(key, k -> new ArrayList<>());
+		List<V> list = map.computeIfAbsent(key, k -> new ArrayList<>(1));
 		list.add(value);
+		size++;
+		modCount++;
 	}
 
 	/**
@@ -137,8 +171,10 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 		}
 
 		key = sanitizeKey(key);
-		List<V> list = map.computeIfAbsent(key, k -> new ArrayList<>());
+		List<V> list = map.computeIfAbsent(key, k -> new ArrayList<>(values.size()));
 		list.addAll(values);
+		size += values.size();
+		modCount++;
 	}
 
 	/**
@@ -196,6 +232,10 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 		}
 
 		boolean success = values.remove(value);
+		if (success) {
+			size--;
+			modCount++;
+		}
 		if (values.isEmpty()) {
 			map.remove(key);
 		}
@@ -216,6 +256,8 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 		}
 
 		List<V> unmodifiableCopy = Collections.unmodifiableList(new ArrayList<>(removed));
+		size -= removed.size();
+		modCount++;
 		removed.clear();
 		return unmodifiableCopy;
 	}
@@ -255,6 +297,8 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 		map.values().forEach(List::clear);
 
 		map.clear();
+		size = 0;
+		modCount++;
 	}
 
 	/**
@@ -266,15 +310,35 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 	}
 
 	/**
-	 * Gets all the values in the multimap.
+	 * Gets a copy of all the values in the multimap. Use {@link #valuesView}
+	 * to iterate over the values without copying them.
 	 * @return the values (this list is immutable)
 	 */
 	public List<V> values() {
-		//@formatter:off
-		return Collections.unmodifiableList(map.values().stream()
-			.flatMap(List::stream)
-		.collect(Collectors.toList()));
-		//@formatter:on
+		List<V> values = new ArrayList<>(size());
+		map.values().forEach(values::addAll);
+		return Collections.unmodifiableList(values);
+	}
+
+	/**
+	 * <p>
+	 * Gets a read-only view of all the values in the multimap.
+	 * </p>
+	 * <p>
+	 * Unlike {@link #values}, the returned collection does not copy the
+	 * values. It is backed by the multimap, so changes to the multimap are
+	 * reflected in the collection. Its iterators are fail-fast: modifying the
+	 * multimap while iterating over the collection will result in a
+	 * {@link ConcurrentModificationException} being thrown.
+	 * </p>
+	 * @return the values (this collection is immutable)
+	 */
+	public Collection<V> valuesView() {
+		Collection<V> view = valuesView;
+		if (view == null) {
+			valuesView = view = new ValuesView();
+		}
+		return view;
 	}
 
 	/**
@@ -290,7 +354,10 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 	 * @return the number of values
 	 */
 	public int size() {
-		return map.values().stream().mapToInt(List::size).sum();
+		if (backed) {
+			return map.values().stream().mapToInt(List::size).sum();
+		}
+		return size;
 	}
 
 	/**
@@ -311,10 +378,22 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 		return map.entrySet().stream();
 	}
 
+	/**
+	 * Gets a counter that is incremented every time the multimap is modified,
+	 * including modifications that are made through the lists returned by
+	 * {@link #get}. This can be used to cheaply detect whether the multimap
+	 * has changed since it was last looked at.
+	 * @return the modification count
+	 */
+	public int getModificationCount() {
+		return modCount;
+	}
+
 	/**
 	 * Gets the {@link Map} that backs this multimap. This method is here for
 	 * performances reasons. The returned map should NOT be modified by anything
-	 * other than the {@link ListMultimap} object that owns it.
+	 * other than the {@link ListMultimap} object that owns it (doing so will
+	 * also cause {@link #size} to return the wrong value).
 	 * @return the map
 	 */
 	public Map<K, List<V>> getMap() {
@@ -387,6 +466,59 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 		return map.equals(other.map);
 	}
 
+	/**
+	 * A read-only view of all the values in the multimap.
+	 */
+	private class ValuesView extends AbstractCollection<V> {
+		@Override
+		public Iterator<V> iterator() {
+			return new ValuesIterator();
+		}
+
+		@Override
+		public int size() {
+			return ListMultimap.this.size();
+		}
+
+		@Override
+		public Spliterator<V> spliterator() {
+			return Spliterators.spliterator(this, Spliterator.ORDERED);
+		}
+	}
+
+	/**
+	 * Iterates over each list in the multimap in turn, without copying them.
+	 */
+	private class ValuesIterator implements Iterator<V> {
+		private final Iterator<List<V>> lists = map.values().iterator();
+		private final int expectedModCount = modCount;
+		private Iterator<V> current = Collections.emptyIterator();
+
+		public boolean hasNext() {
+			checkForComodification();
+			while (!current.hasNext()) {
+				if (!lists.hasNext()) {
+					return false;
+				}
+				current = lists.next().iterator();
+			}
+			return true;
+		}
+
+		public V next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return current.next();
+		}
+
+		private void checkForComodification() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+
 	/**
 	 * Note: This class is a modified version of the
 	 * "AbstractMapBasedMultimap.WrappedList" class from the
@@ -430,8 +562,12 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 			}
 			int oldSize = size(); // calls refreshIfEmpty
 			boolean changed = getDelegate().addAll(index, collection);
-			if (changed && oldSize == 0) {
-				addToMap();
+			if (changed) {
+				ListMultimap.this.size += getDelegate().size() - oldSize;
+				ListMultimap.this.modCount++;
+				if (oldSize == 0) {
+					addToMap();
+				}
 			}
 			return changed;
 		}
@@ -443,6 +579,7 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 
 		public V set(int index, V element) {
 			refreshIfEmpty();
+			ListMultimap.this.modCount++;
 			return getDelegate().set(index, element);
 		}
 
@@ -450,6 +587,8 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 			refreshIfEmpty();
 			boolean wasEmpty = getDelegate().isEmpty();
 			getDelegate().add(index, element);
+			ListMultimap.this.size++;
+			ListMultimap.this.modCount++;
 			if (wasEmpty) {
 				addToMap();
 			}
@@ -458,6 +597,8 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 		public V remove(int index) {
 			refreshIfEmpty();
 			V value = getDelegate().remove(index);
+			ListMultimap.this.size--;
+			ListMultimap.this.modCount++;
 			removeIfEmpty();
 			return value;
 		}
@@ -584,8 +725,12 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 			refreshIfEmpty();
 			boolean wasEmpty = delegate.isEmpty();
 			boolean changed = delegate.add(value);
-			if (changed && wasEmpty) {
-				addToMap();
+			if (changed) {
+				ListMultimap.this.size++;
+				ListMultimap.this.modCount++;
+				if (wasEmpty) {
+					addToMap();
+				}
 			}
 			return changed;
 		}
@@ -603,8 +748,12 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 			}
 			int oldSize = size(); // calls refreshIfEmpty
 			boolean changed = delegate.addAll(collection);
-			if (changed && oldSize == 0) {
-				addToMap();
+			if (changed) {
+				ListMultimap.this.size += delegate.size() - oldSize;
+				ListMultimap.this.modCount++;
+				if (oldSize == 0) {
+					addToMap();
+				}
 			}
 			return changed;
 		}
@@ -628,6 +777,8 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 				return;
 			}
 			delegate.clear();
+			ListMultimap.this.size -= oldSize;
+			ListMultimap.this.modCount++;
 			removeIfEmpty(); // maybe shouldn't be removed if this is a sublist
 		}
 
@@ -636,6 +787,8 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 			refreshIfEmpty();
 			boolean changed = delegate.remove(o);
 			if (changed) {
+				ListMultimap.this.size--;
+				ListMultimap.this.modCount++;
 				removeIfEmpty();
 			}
 			return changed;
@@ -646,9 +799,11 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 			if (collection.isEmpty()) {
 				return false;
 			}
-			refreshIfEmpty();
+			int oldSize = size(); // calls refreshIfEmpty
 			boolean changed = delegate.removeAll(collection);
 			if (changed) {
+				ListMultimap.this.size -= oldSize - delegate.size();
+				ListMultimap.this.modCount++;
 				removeIfEmpty();
 			}
 			return changed;
@@ -656,9 +811,11 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 
 		@Override
 		public boolean retainAll(Collection<?> c) {
-			refreshIfEmpty();
+			int oldSize = size(); // calls refreshIfEmpty
 			boolean changed = delegate.retainAll(c);
 			if (changed) {
+				ListMultimap.this.size -= oldSize - delegate.size();
+				ListMultimap.this.modCount++;
 				removeIfEmpty();
 			}
 			return changed;
@@ -695,11 +852,14 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 
 			public void set(V value) {
 				getDelegateIterator().set(value);
+				ListMultimap.this.modCount++;
 			}
 
 			public void add(V value) {
 				boolean wasEmpty = isEmpty();
 				getDelegateIterator().add(value);
+				ListMultimap.this.size++;
+				ListMultimap.this.modCount++;
 				if (wasEmpty) {
 					addToMap();
 				}
@@ -728,6 +888,8 @@ public class ListMultimap<K, V> implements Iterable<Map.Entry<K, List<V>>> {
 
 			public void remove() {
 				delegateIterator.remove();
+				ListMultimap.this.size--;
+				ListMultimap.this.modCount++;
 				removeIfEmpty();
 			}
 
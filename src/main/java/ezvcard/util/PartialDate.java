@@ -1,15 +1,7 @@
 package ezvcard.util;
 
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.text.NumberFormat;
-import java.time.DateTimeException;
 import java.time.ZoneOffset;
 import java.util.Arrays;
-import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.IntStream;
 
 import ezvcard.Messages;
 
@@ -77,33 +69,6 @@ public final class PartialDate {
 	private static final int OFFSET_HOUR = 6;
 	private static final int OFFSET_MINUTE = 7;
 
-	//@formatter:off
-	private static final Format[] dateFormats = new Format[] {
-		new Format("(\\d{4})", YEAR),
-		new Format("(\\d{4})-(\\d{2})", YEAR, MONTH),
-		new Format("(\\d{4})-?(\\d{2})-?(\\d{2})", YEAR, MONTH, DATE),
-		new Format("--(\\d{2})-?(\\d{2})", MONTH, DATE),
-		new Format("--(\\d{2})", MONTH),
-		new Format("---(\\d{2})", DATE)
-	};
-	//@formatter:on
-
-	private static final Format[] timeFormats;
-	static {
-		String offsetRegex = "(([-+]\\d{1,2}):?(\\d{2})?)?";
-
-		//@formatter:off
-		timeFormats = new Format[] {
-			new Format("(\\d{2})" + offsetRegex, HOUR, null, OFFSET_HOUR, OFFSET_MINUTE),
-			new Format("(\\d{2}):?(\\d{2})" + offsetRegex, HOUR, MINUTE, null, OFFSET_HOUR, OFFSET_MINUTE),
-			new Format("(\\d{2}):?(\\d{2}):?(\\d{2})" + offsetRegex, HOUR, MINUTE, SECOND, null, OFFSET_HOUR, OFFSET_MINUTE),
-			new Format("-(\\d{2}):?(\\d{2})" + offsetRegex, MINUTE, SECOND, null, OFFSET_HOUR, OFFSET_MINUTE),
-			new Format("-(\\d{2})" + offsetRegex, MINUTE, null, OFFSET_HOUR, OFFSET_MINUTE),
-			new Format("--(\\d{2})" + offsetRegex, SECOND, null, OFFSET_HOUR, OFFSET_MINUTE)
-		};
-		//@formatter:on
-	}
-
 	private final Integer[] components;
 
 	/**
@@ -138,58 +103,265 @@ public final class PartialDate {
 	 * string
 	 */
 	public static PartialDate parse(String string) {
+		PartialDate date = tryParse(string);
+		if (date == null) {
+			throw Messages.INSTANCE.getIllegalArgumentException(36, string);
+		}
+		return date;
+	}
+
+	/**
+	 * Parses a partial date from a string. Unlike {@link #parse}, this method
+	 * does not throw an exception if the string cannot be parsed, which makes
+	 * it cheaper to call when the string is not known to contain a date.
+	 * @param string the string (e.g. "--0420T15")
+	 * @return the parsed date or null if the string could not be parsed
+	 */
+	public static PartialDate tryParse(String string) {
 		return new Parser(string).parse();
 	}
 
 	private static class Parser {
 		private final String string;
+		private final Builder builder;
 
 		public Parser(String string) {
 			this.string = string;
+			builder = new Builder();
 		}
 
 		public PartialDate parse() {
+			int length = string.length();
 			int t = string.indexOf('T');
-			String beforeT;
-			String afterT;
-			if (t < 0) {
-				beforeT = string;
-				afterT = null;
-			} else {
-				beforeT = (t == 0) ? null : string.substring(0, t);
-				afterT = (t < string.length() - 1) ? string.substring(t + 1) : null;
-			}
-
-			Builder builder = new Builder();
 			boolean success;
-			if (afterT == null) {
+			if (t < 0 || t == length - 1) {
 				//date OR time
-				success = parseDate(beforeT, builder) || parseTime(beforeT, builder);
-			} else if (beforeT == null) {
+				int end = (t < 0) ? length : t;
+				success = end > 0 && (parseDate(0, end) || parseTime(0, end));
+			} else if (t == 0) {
 				//time
-				success = parseTime(afterT, builder);
+				success = parseTime(1, length);
 			} else {
 				//date AND time
-				success = parseDate(beforeT, builder) && parseTime(afterT, builder);
+				success = parseDate(0, t) && parseTime(t + 1, length);
 			}
 
-			if (!success) {
-				throw Messages.INSTANCE.getIllegalArgumentException(36, string);
+			if (!success || builder.invalid) {
+				return null;
 			}
 
 			return builder.build();
 		}
 
-		private boolean parseDate(String value, Builder builder) {
-			return parseFormats(value, builder, dateFormats);
+		/**
+		 * <p>
+		 * Parses the date portion of the string. The following formats are
+		 * accepted:
+		 * </p>
+		 * <ul>
+		 * <li>YYYY</li>
+		 * <li>YYYY-MM</li>
+		 * <li>YYYY[-]MM[-]DD</li>
+		 * <li>--MM[-]DD</li>
+		 * <li>--MM</li>
+		 * <li>---DD</li>
+		 * </ul>
+		 * @param start the index of the start of the date portion
+		 * @param end the index of the end of the date portion
+		 * @return true if the string is in one of the accepted formats, false
+		 * if not
+		 */
+		private boolean parseDate(int start, int end) {
+			DateTimeScanner s = new DateTimeScanner(string, start, end);
+			int year = -1;
+			int month = -1;
+			int date = -1;
+
+			if (s.skip("---")) {
+				date = s.readDigits(2);
+				if (date < 0) {
+					return false;
+				}
+			} else if (s.skip("--")) {
+				month = s.readDigits(2);
+				if (month < 0) {
+					return false;
+				}
+				if (!s.atEnd()) {
+					s.skip('-');
+					date = s.readDigits(2);
+					if (date < 0) {
+						return false;
+					}
+				}
+			} else {
+				year = s.readDigits(4);
+				if (year < 0) {
+					return false;
+				}
+				if (!s.atEnd()) {
+					boolean dash = s.skip('-');
+					month = s.readDigits(2);
+					if (month < 0) {
+						return false;
+					}
+					if (!s.atEnd()) {
+						s.skip('-');
+						date = s.readDigits(2);
+						if (date < 0) {
+							return false;
+						}
+					} else if (!dash) {
+						//"YYYYMM" is not allowed
+						return false;
+					}
+				}
+			}
+
+			if (!s.atEnd()) {
+				return false;
+			}
+
+			assign(YEAR, year);
+			assign(MONTH, month);
+			assign(DATE, date);
+			return true;
+		}
+
+		/**
+		 * <p>
+		 * Parses the time portion of the string. The following formats are
+		 * accepted, each of which may be followed by a UTC offset:
+		 * </p>
+		 * <ul>
+		 * <li>HH</li>
+		 * <li>HH[:]MM</li>
+		 * <li>HH[:]MM[:]SS</li>
+		 * <li>-MM[:]SS</li>
+		 * <li>-MM</li>
+		 * <li>--SS</li>
+		 * </ul>
+		 * @param start the index of the start of the time portion
+		 * @param end the index of the end of the time portion
+		 * @return true if the string is in one of the accepted formats, false
+		 * if not
+		 */
+		private boolean parseTime(int start, int end) {
+			DateTimeScanner s = new DateTimeScanner(string, start, end);
+			int hour = -1;
+			int minute = -1;
+			int second = -1;
+
+			if (s.skip("--")) {
+				second = s.readDigits(2);
+				if (second < 0) {
+					return false;
+				}
+			} else if (s.skip('-')) {
+				minute = s.readDigits(2);
+				if (minute < 0) {
+					return false;
+				}
+				if (hasNextComponent(s)) {
+					s.skip(':');
+					second = s.readDigits(2);
+					if (second < 0) {
+						return false;
+					}
+				}
+			} else {
+				hour = s.readDigits(2);
+				if (hour < 0) {
+					return false;
+				}
+				if (hasNextComponent(s)) {
+					s.skip(':');
+					minute = s.readDigits(2);
+					if (minute < 0) {
+						return false;
+					}
+					if (hasNextComponent(s)) {
+						s.skip(':');
+						second = s.readDigits(2);
+						if (second < 0) {
+							return false;
+						}
+					}
+				}
+			}
+
+			int offsetHour = -1;
+			int offsetMinute = 0;
+			boolean offsetNegative = false;
+			char sign = s.peek();
+			if (sign == '+' || sign == '-') {
+				s.skip(sign);
+				offsetNegative = (sign == '-');
+
+				/*
+				 * The hour can be one or two digits, and the minute is
+				 * optional (e.g. "+5", "+0530", "+05:30", "+5:").
+				 */
+				int digits = s.countDigits();
+				if (digits == 0 || digits > 4) {
+					return false;
+				}
+
+				if (digits <= 2) {
+					offsetHour = s.readDigits(digits);
+					if (s.skip(':') && !s.atEnd()) {
+						offsetMinute = s.readDigits(2);
+						if (offsetMinute < 0) {
+							return false;
+						}
+					}
+				} else {
+					offsetHour = s.readDigits(digits - 2);
+					offsetMinute = s.readDigits(2);
+				}
+			}
+
+			if (!s.atEnd()) {
+				return false;
+			}
+
+			assign(HOUR, hour);
+			assign(MINUTE, minute);
+			assign(SECOND, second);
+
+			if (offsetHour >= 0) {
+				if (offsetHour > 18 || offsetMinute > 59 || offsetHour * 60 + offsetMinute > 18 * 60) {
+					builder.invalid = true;
+				} else {
+					builder.components[OFFSET_HOUR] = offsetNegative ? -offsetHour : offsetHour;
+					builder.components[OFFSET_MINUTE] = offsetNegative ? -offsetMinute : offsetMinute;
+				}
+			}
+
+			return true;
 		}
 
-		private boolean parseTime(String value, Builder builder) {
-			return parseFormats(value, builder, timeFormats);
+		private static boolean hasNextComponent(DateTimeScanner s) {
+			char c = s.peek();
+			return c == ':' || (c >= '0' && c <= '9');
 		}
 
-		private boolean parseFormats(String value, Builder builder, Format[] formats) {
-			return Arrays.stream(formats).anyMatch(regex -> regex.parse(builder, value));
+		/**
+		 * Assigns a parsed value to a date/time component, flagging the builder
+		 * as invalid if the value is out of range.
+		 * @param index the index of the component
+		 * @param value the value or -1 if the component was not present
+		 */
+		private void assign(int index, int value) {
+			if (value < 0) {
+				return;
+			}
+
+			if (isInRange(index, value)) {
+				builder.components[index] = value;
+			} else {
+				builder.invalid = true;
+			}
 		}
 	}
 
@@ -352,13 +524,11 @@ public final class PartialDate {
 		private static final int MAX_POSSIBLE_LENGTH = 25;
 
 		private final StringBuilder sb;
-		private final NumberFormat nf;
 		private final String dash;
 		private final String colon;
 
 		public ISO8601Writer(boolean extended) {
 			sb = new StringBuilder(MAX_POSSIBLE_LENGTH);
-			nf = new DecimalFormat("00", DecimalFormatSymbols.getInstance(Locale.ROOT));
 			dash = extended ? "-" : "";
 			colon = extended ? ":" : "";
 		}
@@ -373,10 +543,14 @@ public final class PartialDate {
 			return sb.toString();
 		}
 
+		private String twoDigits(int value) {
+			return (value < 10) ? "0" + value : Integer.toString(value);
+		}
+
 		private void writeDateComponent() {
 			String yearStr = hasYear() ? getYear().toString() : null;
-			String monthStr = hasMonth() ? nf.format(getMonth()) : null;
-			String dateStr = hasDate() ? nf.format(getDate()) : null;
+			String monthStr = hasMonth() ? twoDigits(getMonth()) : null;
+			String dateStr = hasDate() ? twoDigits(getDate()) : null;
 
 			if (hasYear() && !hasMonth() && !hasDate()) {
 				sb.append(yearStr);
@@ -396,9 +570,9 @@ public final class PartialDate {
 		private void writeTimeComponent() {
 			sb.append('T');
 
-			String hourStr = hasHour() ? nf.format(getHour()) : null;
-			String minuteStr = hasMinute() ? nf.format(getMinute()) : null;
-			String secondStr = hasSecond() ? nf.format(getSecond()) : null;
+			String hourStr = hasHour() ? twoDigits(getHour()) : null;
+			String minuteStr = hasMinute() ? twoDigits(getMinute()) : null;
+			String secondStr = hasSecond() ? twoDigits(getSecond()) : null;
 
 			if (hasHour() && !hasMinute() && !hasSecond()) {
 				sb.append(hourStr);
@@ -424,8 +598,8 @@ public final class PartialDate {
 			}
 
 			Integer offsetMinute = components[OFFSET_MINUTE];
-			String offsetHourStr = nf.format(Math.abs(offsetHour));
-			String offsetMinuteStr = nf.format(Math.abs(offsetMinute));
+			String offsetHourStr = twoDigits(Math.abs(offsetHour));
+			String offsetMinuteStr = twoDigits(Math.abs(offsetMinute));
 
 			sb.append((offsetHour < 0 || offsetMinute < 0) ? '-' : '+');
 			sb.append(offsetHourStr).append(colon).append(offsetMinuteStr);
@@ -457,118 +631,26 @@ public final class PartialDate {
 	/**
 	 * Represents a string format that a partial date can be in.
 	 */
-	private static class Format {
-		private final Pattern regex;
-		private final Integer[] componentIndexes;
-
-		/**
-		 * @param regex the regular expression that describes the format
-		 * @param componentIndexes the indexes of the
-		 * {@link PartialDate#components} array to assign the value of each
-		 * regex group to, or null to ignore the group
-		 */
-		public Format(String regex, Integer... componentIndexes) {
-			this.regex = Pattern.compile('^' + regex + '$');
-			this.componentIndexes = componentIndexes;
-		}
-
-		/**
-		 * Tries to parse a given string.
-		 * @param builder the object to assign the parsed data to
-		 * @param value the string to parse
-		 * @return true if the string matches this format's regex, false if not
-		 * @throws IllegalArgumentException if a value in the date string is
-		 * invalid (e.g. "13" for the month)
-		 */
-		public boolean parse(Builder builder, String value) {
-			return new FormatParser(builder, value).parse();
-		}
-
-		private class FormatParser {
-			private final Builder builder;
-			private final Matcher m;
-
-			private boolean offsetPositive;
-			private Integer offsetHour;
-			private Integer offsetMinute;
-
-			public FormatParser(Builder builder, String value) {
-				this.builder = builder;
-				m = regex.matcher(value);
-			}
-
-			public boolean parse() {
-				if (!m.find()) {
-					return false;
-				}
-
-				/*
-				 * All this complicated handling of the offset is due to:
-				 * 
-				 * The hour portion can be zero, and zero can't be negative
-				 * (e.g. "-00:30").
-				 * 
-				 * There is no positive or negative sign next to the minute
-				 * portion in the string.
-				 */
-
-				//@formatter:off
-				IntStream.range(0, componentIndexes.length)
-					.filter(i -> componentIndexes[i] != null)
-					.filter(i -> m.group(i + 1) != null)
-				.forEach(i -> processComponent(componentIndexes[i], m.group(i + 1)));
-				//@formatter:on
-
-				if (offsetHour != null) {
-					handleZoneOffset();
-				}
-
-				return true;
-			}
-
-			private void processComponent(Integer index, String groupStr) {
-				boolean startsWithPlus = groupStr.startsWith("+");
-				if (startsWithPlus) {
-					groupStr = groupStr.substring(1);
-				}
-
-				int component = Integer.parseInt(groupStr);
-				if (index == YEAR) {
-					builder.year(component);
-				} else if (index == MONTH) {
-					builder.month(component);
-				} else if (index == DATE) {
-					builder.date(component);
-				} else if (index == HOUR) {
-					builder.hour(component);
-				} else if (index == MINUTE) {
-					builder.minute(component);
-				} else if (index == SECOND) {
-					builder.second(component);
-				} else if (index == OFFSET_HOUR) {
-					offsetHour = component;
-					offsetPositive = startsWithPlus;
-				} else if (index == OFFSET_MINUTE) {
-					offsetMinute = component;
-				}
-			}
-
-			private void handleZoneOffset() {
-				if (offsetMinute == null) {
-					offsetMinute = 0;
-				}
-				if (!offsetPositive) {
-					offsetMinute *= -1;
-				}
-
-				ZoneOffset offset;
-				try {
-					offset = ZoneOffset.ofHoursMinutes(offsetHour, offsetMinute);
-				} catch (DateTimeException e) {
-					throw new IllegalArgumentException(e);
-				}
-				builder.offset(offset);
-			}
+	/**
+	 * Determines if a parsed date/time component is within its allowed range.
+	 * @param index the index of the component in the
+	 * {@link PartialDate#components} array
+	 * @param value the component value
+	 * @return true if the value is valid, false if not
+	 */
+	private static boolean isInRange(int index, int value) {
+		switch (index) {
+		case MONTH:
+			return value >= 1 && value <= 12;
+		case DATE:
+			return value >= 1 && value <= 31;
+		case HOUR:
+			return value >= 0 && value <= 23;
+		case MINUTE:
+		case SECOND:
+			return value >= 0 && value <= 59;
+		default:
+			return true;
 		}
 	}
 
@@ -579,6 +661,11 @@ public final class PartialDate {
 	public static class Builder {
 		private final Integer[] components;
 
+		/**
+		 * Set by the parser when the string contains an out-of-range value.
+		 */
+		private boolean invalid;
+
 		public Builder() {
 			components = new Integer[8];
 		}
@@ -0,0 +1,111 @@
+package ezvcard.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+ */
+
+/**
+ * <p>
+ * A bounded, thread-safe table of canonical {@link String} instances. The
+ * vCard readers can use it to de-duplicate the short tokens that appear over
+ * and over again in vCard data, such as parameter names ("TYPE"), parameter
+ * values ("HOME", "WORK", "UTF-8"), and group names ("item1"). This reduces
+ * the amount of memory used by large numbers of parsed vCards that are kept
+ * in memory.
+ * </p>
+ * <p>
+ * The table has a fixed number of slots and is never locked. When two strings
+ * map to the same slot, the most recent one replaces the older one, so the
+ * table holds on to the tokens that are used most frequently. Strings that
+ * are longer than the maximum length are never pooled.
+ * </p>
+ * <p>
+ * <b>Example:</b>
+ * </p>
+ * 
+ * <pre class="brush:java">
+ * StringPool pool = new StringPool();
+ * List&lt;VCard&gt; vcards = Ezvcard.parse(file).stringPool(pool).all();
+ * </pre>
+ * @author Michael Angstadt
+ */
+public class StringPool {
+	private final AtomicReferenceArray<String> table;
+	private final int mask;
+	private final int maxLength;
+
+	/**
+	 * Creates a pool with 4096 slots that pools strings up to 32 characters
+	 * long.
+	 */
+	public StringPool() {
+		this(4096, 32);
+	}
+
+	/**
+	 * Creates a pool.
+	 * @param size the number of slots (rounded up to the nearest power of 2)
+	 * @param maxLength the length of the longest string that will be pooled
+	 * @throws IllegalArgumentException if the size is not positive
+	 */
+	public StringPool(int size, int maxLength) {
+		if (size <= 0) {
+			throw new IllegalArgumentException("Size must be positive.");
+		}
+
+		int tableSize = (size == 1) ? 1 : Integer.highestOneBit(size - 1) << 1;
+		table = new AtomicReferenceArray<>(tableSize);
+		mask = tableSize - 1;
+		this.maxLength = maxLength;
+	}
+
+	/**
+	 * Gets the canonical instance of a string.
+	 * @param string the string (can be null)
+	 * @return the pooled instance that is equal to the given string, or the
+	 * given string itself if no equal string is in the pool
+	 */
+	public String intern(String string) {
+		if (string == null || string.length() > maxLength) {
+			return string;
+		}
+
+		int hash = string.hashCode();
+		int slot = (hash ^ (hash >>> 16)) & mask;
+
+		String pooled = table.get(slot);
+		if (string.equals(pooled)) {
+			return pooled;
+		}
+
+		table.lazySet(slot, string);
+		return string;
+	}
+}
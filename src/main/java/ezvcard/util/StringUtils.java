@@ -137,6 +137,106 @@ public final class StringUtils {
 		return (map == null) ? 0 : mapToLowercase(map).hashCode();
 	}
 
+	/**
+	 * Parses a decimal integer without throwing an exception if the string is
+	 * not a valid integer.
+	 * @param string the string (e.g. "-12")
+	 * @return the parsed integer or null if the string is not an integer or is
+	 * out of range
+	 */
+	public static Integer tryParseInt(String string) {
+		if (string == null) {
+			return null;
+		}
+
+		int length = string.length();
+		int start = (length > 0 && (string.charAt(0) == '-' || string.charAt(0) == '+')) ? 1 : 0;
+		int digits = length - start;
+		if (digits == 0 || digits > 18) {
+			return null;
+		}
+
+		for (int i = start; i < length; i++) {
+			char c = string.charAt(i);
+			if (c < '0' || c > '9') {
+				return null;
+			}
+		}
+
+		long value = Long.parseLong(string);
+		return (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) ? null : Integer.valueOf((int) value);
+	}
+
+	/**
+	 * Parses a decimal number without throwing an exception if the string is
+	 * not a valid number. Leading and trailing whitespace is ignored. Unlike
+	 * {@link Double#parseDouble}, only plain decimal notation with an optional
+	 * exponent is accepted (e.g. "NaN" and hexadecimal values are not).
+	 * @param string the string (e.g. "-74.006605")
+	 * @return the parsed number or null if the string is not a decimal number
+	 */
+	public static Double tryParseDouble(String string) {
+		if (string == null) {
+			return null;
+		}
+
+		int start = 0;
+		int end = string.length();
+		while (start < end && string.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && string.charAt(end - 1) <= ' ') {
+			end--;
+		}
+
+		int i = start;
+		if (i < end && (string.charAt(i) == '-' || string.charAt(i) == '+')) {
+			i++;
+		}
+
+		int digits = 0;
+		while (i < end && isDigit(string.charAt(i))) {
+			i++;
+			digits++;
+		}
+		if (i < end && string.charAt(i) == '.') {
+			i++;
+			while (i < end && isDigit(string.charAt(i))) {
+				i++;
+				digits++;
+			}
+		}
+		if (digits == 0) {
+			return null;
+		}
+
+		if (i < end && (string.charAt(i) == 'e' || string.charAt(i) == 'E')) {
+			i++;
+			if (i < end && (string.charAt(i) == '-' || string.charAt(i) == '+')) {
+				i++;
+			}
+
+			int exponentDigits = 0;
+			while (i < end && isDigit(string.charAt(i))) {
+				i++;
+				exponentDigits++;
+			}
+			if (exponentDigits == 0) {
+				return null;
+			}
+		}
+
+		if (i != end) {
+			return null;
+		}
+
+		return Double.valueOf(string.substring(start, end));
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
 	private StringUtils() {
 		//hide
 	}
@@ -2,7 +2,8 @@ package ezvcard.util;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 import ezvcard.SupportedVersions;
 import ezvcard.VCardVersion;
@@ -38,10 +39,38 @@ import ezvcard.VCardVersion;
 
 /**
  * Provides methods for getting the value of the {@link SupportedVersions}
- * annotation for "public static" fields.
+ * annotation for "public static" fields. The fields of each class are only
+ * scanned once, so the values of the fields are assumed to never change.
  * @author Michael Angstadt
  */
 public class SupportedVersionsHelper {
+	private static final VCardVersion[] ALL_VERSIONS = VCardVersion.values();
+
+	/**
+	 * Maps the value of each "public static" field to the versions in its
+	 * annotation.
+	 */
+	private static final ClassValue<Map<Object, VCardVersion[]>> cache = new ClassValue<Map<Object, VCardVersion[]>>() {
+		@Override
+		protected Map<Object, VCardVersion[]> computeValue(Class<?> type) {
+			Map<Object, VCardVersion[]> versions = new IdentityHashMap<>();
+			for (Field field : type.getFields()) {
+				if (!isFieldStatic(field)) {
+					continue;
+				}
+
+				Object value = getFieldValue(field);
+				if (value == null) {
+					continue;
+				}
+
+				SupportedVersions annotation = field.getAnnotation(SupportedVersions.class);
+				versions.putIfAbsent(value, (annotation == null) ? ALL_VERSIONS : annotation.value());
+			}
+			return versions;
+		}
+	};
+
 	/**
 	 * Gets the vCard versions that are defined by the given object's
 	 * {@link SupportedVersions} annotation.
@@ -51,33 +80,28 @@ public class SupportedVersionsHelper {
 	 * of its class
 	 */
 	public static VCardVersion[] getSupportedVersions(Object obj) {
-		//@formatter:off
-		return Arrays.stream(obj.getClass().getFields())
-			.filter(SupportedVersionsHelper::isFieldStatic)
-			.filter(field -> isFieldMe(field, obj))
-			.map(field -> field.getAnnotation(SupportedVersions.class))
-			.map(annotation -> (annotation == null) ? VCardVersion.values() : annotation.value())
-		.findFirst().orElseGet(VCardVersion::values);
-		//@formatter:on
+		return lookup(obj).clone();
+	}
+
+	private static VCardVersion[] lookup(Object obj) {
+		VCardVersion[] versions = cache.get(obj.getClass()).get(obj);
+		return (versions == null) ? ALL_VERSIONS : versions;
 	}
 
 	private static boolean isFieldStatic(Field field) {
 		return Modifier.isStatic(field.getModifiers());
 	}
 
-	private static boolean isFieldMe(Field field, Object obj) {
-		Object fieldValue;
+	private static Object getFieldValue(Field field) {
 		try {
-			fieldValue = field.get(null);
+			return field.get(null);
 		} catch (IllegalArgumentException e) {
 			//should never be thrown because we check for the static modified
-			return false;
+			return null;
 		} catch (IllegalAccessException e) {
 			//if the field is not accessible
-			return false;
+			return null;
 		}
-
-		return fieldValue == obj;
 	}
 
 	/**
@@ -88,7 +112,12 @@ public class SupportedVersionsHelper {
 	 * @return true if it is supported, false if not
 	 */
 	public static boolean isSupportedBy(VCardVersion version, Object obj) {
-		return Arrays.stream(getSupportedVersions(obj)).anyMatch(supportedVersion -> supportedVersion == version);
+		for (VCardVersion supportedVersion : lookup(obj)) {
+			if (supportedVersion == version) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	private SupportedVersionsHelper() {
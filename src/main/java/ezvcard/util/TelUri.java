@@ -81,6 +81,7 @@ public final class TelUri {
 	 */
 	private static final Pattern hexPattern = Pattern.compile("(?i)%([0-9a-f]{2})");
 
+	private static final String SCHEME = "tel:";
 	private static final String PARAM_EXTENSION = "ext";
 	private static final String PARAM_ISDN_SUBADDRESS = "isub";
 	private static final String PARAM_PHONE_CONTEXT = "phone-context";
@@ -106,18 +107,32 @@ public final class TelUri {
 	 * @throws IllegalArgumentException if the string is not a valid tel URI
 	 */
 	public static TelUri parse(String uri) {
+		TelUri telUri = tryParse(uri);
+		if (telUri == null) {
+			throw Messages.INSTANCE.getIllegalArgumentException(18, SCHEME);
+		}
+		return telUri;
+	}
+
+	/**
+	 * Parses a tel URI. Unlike {@link #parse}, this method does not throw an
+	 * exception if the string is not a tel URI, which makes it cheaper to call
+	 * when the string may just be free-form text.
+	 * @param uri the URI (e.g. "tel:+1-610-555-1234;ext=101")
+	 * @return the parsed tel URI or null if the string is not a tel URI
+	 */
+	public static TelUri tryParse(String uri) {
 		//URI format: tel:number;prop1=value1;prop2=value2
 
-		String scheme = "tel:";
-		if (uri.length() < scheme.length() || !uri.substring(0, scheme.length()).equalsIgnoreCase(scheme)) {
+		if (!uri.regionMatches(true, 0, SCHEME, 0, SCHEME.length())) {
 			//not a tel URI
-			throw Messages.INSTANCE.getIllegalArgumentException(18, scheme);
+			return null;
 		}
 
 		Builder builder = new Builder();
 		ClearableStringBuilder buffer = new ClearableStringBuilder();
 		String paramName = null;
-		CharIterator it = new CharIterator(uri, scheme.length());
+		CharIterator it = new CharIterator(uri, SCHEME.length());
 		while (it.hasNext()) {
 			char c = it.next();
 
@@ -6,17 +6,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
+import java.time.YearMonth;
 import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAccessor;
-import java.util.Arrays;
-import java.util.Locale;
-import java.util.Objects;
-import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import ezvcard.Messages;
 
@@ -70,24 +64,7 @@ public enum VCardDateFormat {
 	 * <li>2012-07-01T14:21:10Z ({@link Instant})</li>
 	 * </ul>
 	 */
-	EXTENDED {
-		@Override
-		String getPattern(TemporalAccessor temporal) {
-			if (temporal instanceof ZoneOffset) {
-				return "xxx";
-			}
-			if (temporal instanceof Instant) {
-				return "yyyy-MM-dd'T'HH:mm:ssX";
-			}
-			if (hasOffset(temporal)) {
-				return "yyyy-MM-dd'T'HH:mm:ssxxx";
-			}
-			if (hasTime(temporal)) {
-				return "yyyy-MM-dd'T'HH:mm:ss";
-			}
-			return "yyyy-MM-dd";
-		}
-	},
+	EXTENDED(true),
 
 	/**
 	 * <p>
@@ -104,46 +81,104 @@ public enum VCardDateFormat {
 	 * <li>20120701T142110Z ({@link Instant})</li>
 	 * </ul>
 	 */
-	BASIC {
-		@Override
-		String getPattern(TemporalAccessor temporal) {
-			if (temporal instanceof ZoneOffset) {
-				return "xx";
-			}
-			if (temporal instanceof Instant) {
-				return "yyyyMMdd'T'HHmmssX";
-			}
-			if (hasOffset(temporal)) {
-				return "yyyyMMdd'T'HHmmssxx";
-			}
-			if (hasTime(temporal)) {
-				return "yyyyMMdd'T'HHmmss";
-			}
-			return "yyyyMMdd";
-		}
-	};
+	BASIC(false);
+
+	private final boolean extended;
+
+	VCardDateFormat(boolean extended) {
+		this.extended = extended;
+	}
 
 	/**
 	 * Formats a date (also accepts {@link ZoneOffset}).
 	 * @param temporalAccessor the date
 	 * @return the formatted date
+	 * @throws DateTimeException if the date is missing a component that is
+	 * required to format it (for example, a {@link java.time.LocalTime} has
+	 * no year)
 	 */
 	public String format(TemporalAccessor temporalAccessor) {
-		String pattern = getPattern(temporalAccessor);
-		DateTimeFormatter df = DateTimeFormatter.ofPattern(pattern, Locale.ROOT);
+		StringBuilder sb = new StringBuilder(25);
+
+		if (temporalAccessor instanceof ZoneOffset) {
+			appendOffset(((ZoneOffset) temporalAccessor).getTotalSeconds(), sb);
+			return sb.toString();
+		}
 
-		/*
-		 * Instants must be converted to OffsetDateTime in order to be formatted
-		 * using a format pattern.
-		 */
 		if (temporalAccessor instanceof Instant) {
-			temporalAccessor = ((Instant) temporalAccessor).atOffset(ZoneOffset.UTC);
+			OffsetDateTime utc = ((Instant) temporalAccessor).atOffset(ZoneOffset.UTC);
+			appendDate(utc, sb);
+			appendTime(utc, sb);
+			sb.append('Z');
+			return sb.toString();
 		}
 
-		return df.format(temporalAccessor);
+		appendDate(temporalAccessor, sb);
+		if (hasOffset(temporalAccessor)) {
+			appendTime(temporalAccessor, sb);
+			appendOffset(temporalAccessor.get(ChronoField.OFFSET_SECONDS), sb);
+		} else if (hasTime(temporalAccessor)) {
+			appendTime(temporalAccessor, sb);
+		}
+
+		return sb.toString();
 	}
 
-	abstract String getPattern(TemporalAccessor temporal);
+	private void appendDate(TemporalAccessor temporal, StringBuilder sb) {
+		int year = temporal.get(ChronoField.YEAR_OF_ERA);
+		if (year > 9999) {
+			sb.append('+');
+		}
+		for (int i = 1000; i > 1 && year < i; i /= 10) {
+			sb.append('0');
+		}
+		sb.append(year);
+
+		if (extended) {
+			sb.append('-');
+		}
+		appendTwoDigits(temporal.get(ChronoField.MONTH_OF_YEAR), sb);
+		if (extended) {
+			sb.append('-');
+		}
+		appendTwoDigits(temporal.get(ChronoField.DAY_OF_MONTH), sb);
+	}
+
+	private void appendTime(TemporalAccessor temporal, StringBuilder sb) {
+		sb.append('T');
+		appendTwoDigits(temporal.get(ChronoField.HOUR_OF_DAY), sb);
+		if (extended) {
+			sb.append(':');
+		}
+		appendTwoDigits(temporal.get(ChronoField.MINUTE_OF_HOUR), sb);
+		if (extended) {
+			sb.append(':');
+		}
+		appendTwoDigits(temporal.get(ChronoField.SECOND_OF_MINUTE), sb);
+	}
+
+	private void appendOffset(int totalSeconds, StringBuilder sb) {
+		int absSeconds = Math.abs(totalSeconds);
+		int hours = absSeconds / 3600;
+		int minutes = (absSeconds / 60) % 60;
+
+		//seconds are not written, so an offset of "-00:00:30" is written as "+00:00"
+		boolean negative = totalSeconds < 0 && (hours > 0 || minutes > 0);
+		sb.append(negative ? '-' : '+');
+
+		appendTwoDigits(hours, sb);
+		if (extended) {
+			sb.append(':');
+		}
+		appendTwoDigits(minutes, sb);
+	}
+
+	private static void appendTwoDigits(int value, StringBuilder sb) {
+		if (value < 10) {
+			sb.append('0');
+		}
+		sb.append(value);
+	}
 
 	/**
 	 * <p>
@@ -165,120 +200,195 @@ public enum VCardDateFormat {
 	 * for the month)
 	 */
 	public static Temporal parse(String string) {
-		TimestampPattern p = TimestampPattern.parse(string);
-		if (p == null) {
+		Timestamp t = Timestamp.parse(string);
+		if (t == null) {
 			throw Messages.INSTANCE.getIllegalArgumentException(41, string);
 		}
 
 		try {
-			LocalDate date = LocalDate.of(p.year(), p.month(), p.date());
-			if (!p.hasTime()) {
-				return date;
-			}
-
-			LocalTime time = LocalTime.of(p.hour(), p.minute(), p.second(), p.nanosecond());
-			LocalDateTime datetime = LocalDateTime.of(date, time);
-
-			ZoneOffset offset = p.offset();
-			if (offset == null) {
-				return datetime;
-			}
-
-			OffsetDateTime offsetDateTime = OffsetDateTime.of(datetime, offset);
-			return "Z".equals(offset.getId()) ? Instant.from(offsetDateTime) : offsetDateTime;
+			return t.toTemporal();
 		} catch (DateTimeException e) {
 			throw new IllegalArgumentException(e);
 		}
 	}
 
 	/**
-	 * Wrapper for a complex regular expression that parses multiple date
-	 * formats.
+	 * Parses a date string. Unlike {@link #parse}, this method does not throw
+	 * an exception if the string cannot be parsed, which makes it cheaper to
+	 * call when the string is not known to contain a date (for example, a BDAY
+	 * property that contains free-form text).
+	 * @param string the string to parse
+	 * @return the parsed date or null if the date string isn't in one of the
+	 * accepted ISO8601 formats or if it contains an invalid value (e.g. "13"
+	 * for the month)
+	 * @see #parse
 	 */
-	private static class TimestampPattern {
-		//@formatter:off
-		private static final Pattern regex = Pattern.compile(
-			"^(\\d{4})(" +
-				"-?(\\d{2})-?(\\d{2})|" +
-				"-(\\d{1,2})-(\\d{1,2})" + //allow single digit month and/or date as long as there are dashes
-			")" + 
-			"(" +
-				"T(\\d{2}):?(\\d{2}):?(\\d{2})(\\.\\d+)?" +
-				"(" +
-					"Z|([-+])((\\d{2})|((\\d{2}):?(\\d{2})))" +
-				")?" +
-			")?$"
-		);
-		//@formatter:on
-
-		private final Matcher matcher;
-
-		private TimestampPattern(Matcher matcher) {
-			this.matcher = matcher;
-		}
+	public static Temporal tryParse(String string) {
+		Timestamp t = Timestamp.parse(string);
+		return (t == null || !t.isValid()) ? null : t.toTemporal();
+	}
+
+	/**
+	 * Holds the components of a parsed timestamp string.
+	 */
+	private static class Timestamp {
+		private int year;
+		private int month;
+		private int date;
+		private boolean hasTime;
+		private int hour;
+		private int minute;
+		private int second;
+		private int nanosecond;
+		private boolean hasOffset;
+		private int offsetSign;
+		private int offsetHour;
+		private int offsetMinute;
 
 		/**
-		 * Attempts to match the given string against the timestamp regex.
+		 * <p>
+		 * Scans a timestamp string. The following formats are accepted (the
+		 * time and offset are optional):
+		 * </p>
+		 * <ul>
+		 * <li>YYYY[-]MM[-]DD[THH[:]MM[:]SS[.S+][Z|+HH|+HH[:]MM]]</li>
+		 * <li>YYYY-M-D (single digit month and/or date are allowed as long as
+		 * there are dashes)</li>
+		 * </ul>
 		 * @param string the string to parse
-		 * @return the matched pattern or null if the string did not match the
-		 * pattern
+		 * @return the parsed components or null if the string is not in one of
+		 * the accepted formats. The values of the components are not
+		 * validated.
 		 */
-		public static TimestampPattern parse(String string) {
-			Matcher m = regex.matcher(string);
-			return m.find() ? new TimestampPattern(m) : null;
-		}
+		public static Timestamp parse(String string) {
+			DateTimeScanner s = new DateTimeScanner(string);
+			Timestamp t = new Timestamp();
 
-		public int year() {
-			return parseInt(1);
-		}
+			t.year = s.readDigits(4);
+			if (t.year < 0) {
+				return null;
+			}
 
-		public int month() {
-			return parseInt(3, 5);
-		}
+			boolean dash1 = s.skip('-');
+			int digits = s.countDigits();
+			if (digits == 4) {
+				t.month = s.readDigits(2);
+				t.date = s.readDigits(2);
+			} else if (digits == 2 || (digits == 1 && dash1)) {
+				t.month = s.readDigits(digits);
+
+				boolean dash2 = s.skip('-');
+				boolean allowSingleDigit = dash1 && dash2;
+				if (digits == 1 && !allowSingleDigit) {
+					return null;
+				}
+
+				digits = s.countDigits();
+				if (digits != 2 && !(digits == 1 && allowSingleDigit)) {
+					return null;
+				}
+				t.date = s.readDigits(digits);
+			} else {
+				return null;
+			}
 
-		public int date() {
-			return parseInt(4, 6);
-		}
+			if (s.atEnd()) {
+				return t;
+			}
 
-		public boolean hasTime() {
-			return matcher.group(8) != null;
-		}
+			if (!s.skip('T')) {
+				return null;
+			}
 
-		public int hour() {
-			return parseInt(8);
-		}
+			t.hasTime = true;
+			t.hour = s.readDigits(2);
+			s.skip(':');
+			t.minute = s.readDigits(2);
+			s.skip(':');
+			t.second = s.readDigits(2);
+			if (t.hour < 0 || t.minute < 0 || t.second < 0) {
+				return null;
+			}
 
-		public int minute() {
-			return parseInt(9);
-		}
+			if (s.skip('.')) {
+				t.nanosecond = s.readFraction();
+				if (t.nanosecond < 0) {
+					return null;
+				}
+			}
+
+			if (s.skip('Z')) {
+				t.hasOffset = true;
+			} else {
+				char sign = s.peek();
+				if (sign == '+' || sign == '-') {
+					s.skip(sign);
+					t.hasOffset = true;
+					t.offsetSign = (sign == '-') ? -1 : 1;
+					t.offsetHour = s.readDigits(2);
+					if (t.offsetHour < 0) {
+						return null;
+					}
+
+					if (!s.atEnd()) {
+						s.skip(':');
+						t.offsetMinute = s.readDigits(2);
+						if (t.offsetMinute < 0) {
+							return null;
+						}
+					}
+				}
+			}
 
-		public int second() {
-			return parseInt(10);
+			return s.atEnd() ? t : null;
 		}
 
-		public int nanosecond() {
-			String s = matcher.group(11);
-			if (s == null) {
-				return 0;
+		/**
+		 * Determines if all of the date/time components are within their
+		 * allowed ranges.
+		 * @return true if the components are valid, false if not
+		 */
+		public boolean isValid() {
+			if (month < 1 || month > 12) {
+				return false;
 			}
 
-			double nanos = Double.parseDouble(s) * TimeUnit.SECONDS.toNanos(1);
-			return (int) Math.round(nanos);
-		}
+			if (date < 1 || date > YearMonth.of(year, month).lengthOfMonth()) {
+				return false;
+			}
+
+			if (!hasTime) {
+				return true;
+			}
+
+			if (hour > 23 || minute > 59 || second > 59 || nanosecond > 999_999_999) {
+				return false;
+			}
 
-		public ZoneOffset offset() {
-			String offsetStr = matcher.group(12);
-			return (offsetStr == null) ? null : ZoneOffset.of(offsetStr);
+			return offsetMinute <= 59 && offsetHour * 60 + offsetMinute <= 18 * 60;
 		}
 
-		private int parseInt(int... group) {
-			//@formatter:off
-			return Arrays.stream(group)
-				.mapToObj(matcher::group)
-				.filter(Objects::nonNull)
-				.mapToInt(Integer::parseInt)
-			.findFirst().orElseThrow(NullPointerException::new);
-			//@formatter:on
+		/**
+		 * Converts the parsed components to a temporal object.
+		 * @return the temporal object
+		 * @throws DateTimeException if one of the components is invalid
+		 */
+		public Temporal toTemporal() {
+			LocalDate localDate = LocalDate.of(year, month, date);
+			if (!hasTime) {
+				return localDate;
+			}
+
+			LocalTime time = LocalTime.of(hour, minute, second, nanosecond);
+			LocalDateTime datetime = LocalDateTime.of(localDate, time);
+
+			if (!hasOffset) {
+				return datetime;
+			}
+
+			ZoneOffset offset = ZoneOffset.ofHoursMinutes(offsetSign * offsetHour, offsetSign * offsetMinute);
+			OffsetDateTime offsetDateTime = OffsetDateTime.of(datetime, offset);
+			return "Z".equals(offset.getId()) ? Instant.from(offsetDateTime) : offsetDateTime;
 		}
 	}
 
@@ -21,13 +21,17 @@ import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.TransformerFactoryConfigurationError;
 import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.sax.SAXTransformerFactory;
 import javax.xml.transform.stream.StreamResult;
+import javax.xml.xpath.XPathFactory;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -71,19 +75,19 @@ import org.xml.sax.SAXException;
  * @author Michael Angstadt
  */
 public final class XmlUtils {
+	/**
+	 * JAXP factories are expensive to create (they are located using the
+	 * service loader) and are not guaranteed to be thread-safe, so they are
+	 * cached on a per-thread basis.
+	 */
+	private static final ThreadLocal<Factories> factories = ThreadLocal.withInitial(Factories::new);
+
 	/**
 	 * Creates a new XML document.
 	 * @return the XML document
 	 */
 	public static Document createDocument() {
-		try {
-			DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-			DocumentBuilder builder = factory.newDocumentBuilder();
-			return builder.newDocument();
-		} catch (ParserConfigurationException e) {
-			//should never be thrown because we're not doing anything fancy with the configuration
-			throw new RuntimeException(e);
-		}
+		return factories.get().documentBuilder().newDocument();
 	}
 
 	/**
@@ -149,20 +153,73 @@ public final class XmlUtils {
 	}
 
 	private static Document toDocument(InputSource in) throws SAXException, IOException {
+		Factories f = factories.get();
+		if (f.documentBuilderInUse) {
+			//the input source is being read from inside of another parse operation
+			return newDocumentBuilder().parse(in);
+		}
+
+		DocumentBuilder builder = f.documentBuilder();
+		f.documentBuilderInUse = true;
+		try {
+			return builder.parse(in);
+		} finally {
+			builder.reset();
+			f.documentBuilderInUse = false;
+		}
+	}
+
+	private static DocumentBuilder newDocumentBuilder() {
 		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
 		factory.setNamespaceAware(true);
 		factory.setIgnoringComments(true);
 		applyXXEProtection(factory);
 
-		DocumentBuilder builder;
 		try {
-			builder = factory.newDocumentBuilder();
+			return factory.newDocumentBuilder();
 		} catch (ParserConfigurationException e) {
 			//should never be thrown because we're not doing anything fancy with the configuration
 			throw new RuntimeException(e);
 		}
+	}
+
+	/**
+	 * Gets an {@link XMLInputFactory} that is namespace aware and protected
+	 * against XML External Entity attacks. The factory is cached by the
+	 * current thread, so it must not be shared with other threads or
+	 * reconfigured.
+	 * @return the factory
+	 */
+	public static XMLInputFactory getXMLInputFactory() {
+		return factories.get().xmlInputFactory();
+	}
+
+	/**
+	 * Gets an {@link XMLOutputFactory}. The factory is cached by the current
+	 * thread, so it must not be shared with other threads or reconfigured.
+	 * @return the factory
+	 */
+	public static XMLOutputFactory getXMLOutputFactory() {
+		return factories.get().xmlOutputFactory();
+	}
+
+	/**
+	 * Gets a {@link SAXTransformerFactory} that is protected against XML
+	 * External Entity attacks. The factory is cached by the current thread, so
+	 * it must not be shared with other threads or reconfigured.
+	 * @return the factory
+	 */
+	public static SAXTransformerFactory getTransformerFactory() {
+		return factories.get().transformerFactory();
+	}
 
-		return builder.parse(in);
+	/**
+	 * Gets an {@link XPathFactory}. The factory is cached by the current
+	 * thread, so it must not be shared with other threads or reconfigured.
+	 * @return the factory
+	 */
+	public static XPathFactory getXPathFactory() {
+		return factories.get().xpathFactory();
 	}
 
 	/**
@@ -191,6 +248,27 @@ public final class XmlUtils {
 		}
 	}
 
+	/**
+	 * Configures an {@link XMLInputFactory} to protect it against XML External
+	 * Entity attacks.
+	 * @param factory the factory
+	 * @see <a href=
+	 * "https://www.owasp.org/index.php/XML_External_Entity_%28XXE%29_Prevention_Cheat_Sheet#Java">
+	 * XXE Cheat Sheet</a>
+	 */
+	public static void applyXXEProtection(XMLInputFactory factory) {
+		setProperty(factory, XMLInputFactory.SUPPORT_DTD, false);
+		setProperty(factory, XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+	}
+
+	private static void setProperty(XMLInputFactory factory, String name, Object value) {
+		try {
+			factory.setProperty(name, value);
+		} catch (IllegalArgumentException e) {
+			//property is not supported by the local XML engine, skip it
+		}
+	}
+
 	/**
 	 * Configures a {@link TransformerFactory} to protect it against XML
 	 * External Entity attacks.
@@ -262,21 +340,34 @@ public final class XmlUtils {
 	 * @throws TransformerException if there's a problem writing to the writer
 	 */
 	public static void toWriter(Node node, Writer writer, Map<String, String> outputProperties) throws TransformerException {
-		Transformer transformer;
+		Factories f = factories.get();
+		if (f.transformerInUse) {
+			//the writer is being written to from inside of another transformation
+			Transformer transformer = newTransformer(f.transformerFactory());
+			assignOutputProperties(transformer, outputProperties);
+			transformer.transform(new DOMSource(node), new StreamResult(writer));
+			return;
+		}
+
+		Transformer transformer = f.transformer();
+		f.transformerInUse = true;
+		try {
+			assignOutputProperties(transformer, outputProperties);
+			transformer.transform(new DOMSource(node), new StreamResult(writer));
+		} finally {
+			//restores the default output properties
+			transformer.reset();
+			f.transformerInUse = false;
+		}
+	}
+
+	private static Transformer newTransformer(TransformerFactory factory) {
 		try {
-			TransformerFactory factory = TransformerFactory.newInstance();
-			applyXXEProtection(factory);
-			transformer = factory.newTransformer();
-		} catch (TransformerConfigurationException | TransformerFactoryConfigurationError e) {
+			return factory.newTransformer();
+		} catch (TransformerConfigurationException e) {
 			//should never be thrown because we're not doing anything fancy with the configuration
 			throw new RuntimeException(e);
 		}
-
-		assignOutputProperties(transformer, outputProperties);
-
-		DOMSource source = new DOMSource(node);
-		StreamResult result = new StreamResult(writer);
-		transformer.transform(source, result);
 	}
 
 	/**
@@ -365,6 +456,71 @@ public final class XmlUtils {
 		return qname.getNamespaceURI().equals(node.getNamespaceURI()) && qname.getLocalPart().equals(node.getLocalName());
 	}
 
+	/**
+	 * The JAXP objects that are cached by each thread. Each object is created
+	 * the first time it is needed.
+	 */
+	private static class Factories {
+		private DocumentBuilder documentBuilder;
+		private boolean documentBuilderInUse;
+		private SAXTransformerFactory transformerFactory;
+		private Transformer transformer;
+		private boolean transformerInUse;
+		private XMLInputFactory xmlInputFactory;
+		private XMLOutputFactory xmlOutputFactory;
+		private XPathFactory xpathFactory;
+
+		public DocumentBuilder documentBuilder() {
+			if (documentBuilder == null) {
+				documentBuilder = newDocumentBuilder();
+			}
+			return documentBuilder;
+		}
+
+		public SAXTransformerFactory transformerFactory() {
+			if (transformerFactory == null) {
+				try {
+					transformerFactory = (SAXTransformerFactory) TransformerFactory.newInstance();
+				} catch (TransformerFactoryConfigurationError e) {
+					//should never be thrown because we're not doing anything fancy with the configuration
+					throw new RuntimeException(e);
+				}
+				applyXXEProtection(transformerFactory);
+			}
+			return transformerFactory;
+		}
+
+		public Transformer transformer() {
+			if (transformer == null) {
+				transformer = newTransformer(transformerFactory());
+			}
+			return transformer;
+		}
+
+		public XMLInputFactory xmlInputFactory() {
+			if (xmlInputFactory == null) {
+				xmlInputFactory = XMLInputFactory.newInstance();
+				applyXXEProtection(xmlInputFactory);
+				xmlInputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+			}
+			return xmlInputFactory;
+		}
+
+		public XMLOutputFactory xmlOutputFactory() {
+			if (xmlOutputFactory == null) {
+				xmlOutputFactory = XMLOutputFactory.newInstance();
+			}
+			return xmlOutputFactory;
+		}
+
+		public XPathFactory xpathFactory() {
+			if (xpathFactory == null) {
+				xpathFactory = XPathFactory.newInstance();
+			}
+			return xpathFactory;
+		}
+	}
+
 	private XmlUtils() {
 		//hide
 	}
@@ -4,16 +4,23 @@ import static ezvcard.util.StringUtils.NEWLINE;
 import static ezvcard.util.TestUtils.assertParseWarnings;
 import static ezvcard.util.TestUtils.assertVersion;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.custommonkey.xmlunit.XMLAssert.assertXMLEqual;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -32,12 +39,15 @@ import org.w3c.dom.NodeList;
 import ezvcard.io.LuckyNumProperty;
 import ezvcard.io.LuckyNumProperty.LuckyNumScribe;
 import ezvcard.io.ParseWarning;
+import ezvcard.io.PropertyFilter;
 import ezvcard.io.chain.ChainingTextWriter;
 import ezvcard.io.text.TargetApplication;
+import ezvcard.io.xml.XCardDocument;
 import ezvcard.io.xml.XCardNamespaceContext;
 import ezvcard.parameter.ImageType;
 import ezvcard.property.FormattedName;
 import ezvcard.property.Photo;
+import ezvcard.property.Xml;
 import ezvcard.util.XCardBuilder;
 import ezvcard.util.XmlUtils;
 
@@ -187,6 +197,135 @@ public class EzvcardTest {
 		List<VCard> expected = Ezvcard.parse(str).all();
 		List<VCard> actual = Ezvcard.parse(str).stream().collect(toList());
 		assertEquals(expected, actual);
+
+		//chunked parsing is opt-in
+		assertFalse(Ezvcard.parse(str).stream().isParallel());
+		assertTrue(Ezvcard.parse(str).parallel(true).stream().isParallel());
+	}
+
+	@Test
+	public void parse_stream_parallel() {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			//@formatter:off
+			sb.append(
+			"BEGIN:VCARD\r\n" +
+				"VERSION:2.1\r\n" +
+				"FN:" + i + "\r\n" +
+				"AGENT:\r\n" +
+				"BEGIN:VCARD\r\n" +
+					"FN:Agent " + i + "\r\n" +
+				"END:VCARD\r\n" +
+			"END:VCARD\r\n");
+			//@formatter:on
+		}
+		String str = sb.toString();
+
+		List<VCard> expected = Ezvcard.parse(str).all();
+		List<VCard> actual = Ezvcard.parse(str).parallel(true).stream().collect(toList());
+		assertEquals(expected, actual);
+
+		long count = Ezvcard.parse(str).parallel(true).stream().unordered().filter(vcard -> vcard.getAgent().getVCard() != null).count();
+		assertEquals(5000, count);
+	}
+
+	@Test
+	public void parse_stream_warnings() {
+		//@formatter:off
+		String str =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"FN:John Doe\r\n" +
+		"END:VCARD\r\n" +
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"BDAY:invalid\r\n" +
+			"GEO:invalid\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+
+		List<List<ParseWarning>> expected = new ArrayList<>();
+		Ezvcard.parse(str).warnings(expected).all();
+
+		List<List<ParseWarning>> actual = new ArrayList<>();
+		Ezvcard.parse(str).warnings(actual).stream().collect(toList());
+
+		assertEquals(2, actual.size());
+		assertParseWarnings(actual.get(0));
+		assertParseWarnings(actual.get(1), expected.get(1).stream().map(ParseWarning::getCode).toArray(Integer[]::new));
+		assertEquals(expected.get(1).stream().map(ParseWarning::getLineNumber).collect(toList()), actual.get(1).stream().map(ParseWarning::getLineNumber).collect(toList()));
+		assertEquals(expected.get(1).stream().map(ParseWarning::toString).collect(toList()), actual.get(1).stream().map(ParseWarning::toString).collect(toList()));
+	}
+
+	@Test
+	public void parse_filter() {
+		//@formatter:off
+		String str =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"FN:John Doe\r\n" +
+			"BDAY:invalid\r\n" +
+		"END:VCARD\r\n" +
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"FN:Jane Doe\r\n" +
+			"GEO:invalid\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+
+		PropertyFilter filter = new PropertyFilter().include(FormattedName.class);
+
+		List<List<ParseWarning>> warnings = new ArrayList<>();
+		List<VCard> vcards = Ezvcard.parse(str).filter(filter).warnings(warnings).all();
+		assertEquals(2, vcards.size());
+		for (VCard vcard : vcards) {
+			assertEquals(1, vcard.getProperties().size());
+			assertEquals(1, vcard.getFormattedNames().size());
+		}
+		warnings.forEach(w -> assertParseWarnings(w));
+
+		warnings.clear();
+		vcards = Ezvcard.parse(str).filter(filter).warnings(warnings).parallel(true).stream().collect(toList());
+		assertEquals(2, vcards.size());
+		for (VCard vcard : vcards) {
+			assertEquals(1, vcard.getProperties().size());
+			assertEquals(1, vcard.getFormattedNames().size());
+		}
+		warnings.forEach(w -> assertParseWarnings(w));
+	}
+
+	@Test
+	public void parse_warningListener() {
+		//@formatter:off
+		String str =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"FN:John Doe\r\n" +
+			"BDAY:invalid\r\n" +
+		"END:VCARD\r\n" +
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"FN:Jane Doe\r\n" +
+			"GEO:invalid\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+
+		List<ParseWarning> warnings = new ArrayList<>();
+		List<List<ParseWarning>> buffered = new ArrayList<>();
+		List<VCard> vcards = Ezvcard.parse(str).warningListener(warnings::add).warnings(buffered).all();
+		assertEquals(2, vcards.size());
+		assertEquals(Arrays.asList(4, 9), warnings.stream().map(ParseWarning::getLineNumber).collect(toList()));
+		buffered.forEach(w -> assertParseWarnings(w));
+
+		List<ParseWarning> parallelWarnings = Collections.synchronizedList(new ArrayList<>());
+		vcards = Ezvcard.parse(str).warningListener(parallelWarnings::add).parallel(true).stream().collect(toList());
+		assertEquals(2, vcards.size());
+		assertEquals(new HashSet<>(Arrays.asList(4, 9)), parallelWarnings.stream().map(ParseWarning::getLineNumber).collect(toSet()));
+
+		buffered.clear();
+		vcards = Ezvcard.parse(str).warningsEnabled(false).warnings(buffered).all();
+		assertEquals(2, vcards.size());
+		buffered.forEach(w -> assertParseWarnings(w));
 	}
 
 	@Test
@@ -703,6 +842,55 @@ public class EzvcardTest {
 		assertTrue(actual.contains("    <fn>" + NEWLINE + "      <text>John Doe</text>" + NEWLINE + "    </fn>"));
 	}
 
+	@Test
+	public void writeXml_go_same_as_dom() throws Exception {
+		VCard vcard1 = new VCard();
+		vcard1.setFormattedName("John Doe");
+		vcard1.getFormattedName().setGroup("item1");
+		vcard1.getFormattedName().getParameters().setLanguage("en");
+		vcard1.addProperty(new Xml("<foo xmlns=\"http://example.com\" a=\"b\"><bar>text</bar></foo>"));
+		VCard vcard2 = new VCard();
+		vcard2.setFormattedName("Jane Doe");
+
+		for (Integer indent : new Integer[] { null, 2 }) {
+			Document dom = Ezvcard.writeXml(vcard1, vcard2).indent(indent).dom();
+			String expected = new XCardDocument(dom).write(indent);
+
+			String actual = Ezvcard.writeXml(vcard1, vcard2).indent(indent).go();
+			assertEquals(expected, actual);
+		}
+	}
+
+	@Test
+	public void writeXml_go_does_not_close_writer() throws Exception {
+		VCard vcard = new VCard();
+		vcard.setFormattedName("John Doe");
+
+		StringWriter sw = new StringWriter() {
+			@Override
+			public void close() {
+				fail();
+			}
+		};
+		Ezvcard.writeXml(vcard).go(sw);
+		assertTrue(sw.toString().endsWith("</vcards>"));
+	}
+
+	@Test
+	public void writeXml_go_error_does_not_close_document() throws Exception {
+		VCard vcard = new VCard();
+		vcard.setFormattedName("John Doe");
+		vcard.addProperty(new LuckyNumProperty(13)); //no scribe registered
+
+		StringWriter sw = new StringWriter();
+		assertThrows(IllegalArgumentException.class, () -> Ezvcard.writeXml(vcard).go(sw));
+		assertFalse(sw.toString().endsWith("</vcards>"));
+
+		Path file = folder.newFile().toPath();
+		assertThrows(IllegalArgumentException.class, () -> Ezvcard.writeXml(vcard).go(file));
+		assertFalse(new String(Files.readAllBytes(file), StandardCharsets.UTF_8).endsWith("</vcards>"));
+	}
+
 	@Test
 	public void writeHtml_one() throws Exception {
 		VCard vcard = new VCard();
@@ -12,9 +12,12 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
 
 import org.junit.Test;
@@ -129,6 +132,40 @@ public class VCardTest {
 		assertEquals(asList(), vcard.getProperties(Note.class));
 	}
 
+	@Test
+	public void removeProperty_while_iterating() {
+		VCard vcard = new VCard();
+		vcard.addNote("one");
+		vcard.addNote("two");
+		for (VCardProperty property : vcard) {
+			vcard.removeProperty(property);
+		}
+		assertTrue(vcard.getProperties().isEmpty());
+
+		vcard.addNote("one");
+		vcard.addNote("two");
+		for (VCardProperty property : vcard.getProperties()) {
+			vcard.removeProperty(property);
+		}
+		assertTrue(vcard.getProperties().isEmpty());
+	}
+
+	@Test
+	public void getPropertiesView() {
+		VCard vcard = new VCard();
+		Collection<VCardProperty> view = vcard.getPropertiesView();
+		assertTrue(view.isEmpty());
+
+		Note note1 = vcard.addNote("one");
+		Note note2 = vcard.addNote("two");
+		assertCollectionContains(view, note1, note2);
+
+		//iterator is fail-fast
+		Iterator<VCardProperty> it = view.iterator();
+		vcard.removeProperty(it.next());
+		assertThrows(ConcurrentModificationException.class, it::next);
+	}
+
 	@Test
 	public void removeProperties() {
 		VCard vcard = new VCard();
@@ -0,0 +1,357 @@
+package ezvcard;
+
+import static ezvcard.util.TestUtils.assertValidate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import ezvcard.property.Address;
+import ezvcard.property.Kind;
+import ezvcard.property.Mailer;
+import ezvcard.property.Member;
+import ezvcard.property.Note;
+import ezvcard.property.StructuredName;
+import ezvcard.property.TextProperty;
+import ezvcard.property.VCardProperty;
+
+/*
+Copyright (c) 2012-2026, Michael Angstadt
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met: 
+
+1. Redistributions of source code must retain the above copyright notice, this
+list of conditions and the following disclaimer. 
+2. Redistributions in binary form must reproduce the above copyright notice,
+this list of conditions and the following disclaimer in the documentation
+and/or other materials provided with the distribution. 
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+The views and conclusions contained in the software and documentation are those
+of the authors and should not be interpreted as representing official policies, 
+either expressed or implied, of the FreeBSD Project.
+*/
+
+
+/**
+ * @author Michael Angstadt
+ */
+public class VCardValidatorTest {
+	@Test
+	public void rules() {
+		VCard vcard = new VCard();
+		Mailer mailer = vcard.setMailer("Thunderbird");
+		Note note = vcard.addNote("note");
+		note.getParameters().put("INDEX", "0");
+		note.setGroup("invalid group");
+
+		ValidationWarnings warnings = new VCardValidator().validate(vcard, VCardVersion.V4_0);
+		assertValidate(warnings.getWarnings().get(null), 1);
+		assertValidate(warnings.getWarnings().get(mailer), 2);
+		assertValidate(warnings.getWarnings().get(note), 28, 23);
+
+		warnings = new VCardValidator(ValidationRule.REQUIRED_PROPERTIES).validate(vcard, VCardVersion.V4_0);
+		assertEquals(1, warnings.getWarnings().size());
+		assertValidate(warnings.getWarnings().get(null), 1);
+
+		warnings = new VCardValidator(ValidationRule.VERSION_SUPPORT).validate(vcard, VCardVersion.V4_0);
+		assertEquals(1, warnings.getWarnings().size());
+		assertValidate(warnings.getWarnings().get(mailer), 2);
+
+		warnings = new VCardValidator(ValidationRule.PARAMETERS, ValidationRule.GROUPS).validate(vcard, VCardVersion.V4_0);
+		assertEquals(2, warnings.getWarnings().size());
+		assertValidate(warnings.getWarnings().get(note), 28, 23);
+
+		warnings = new VCardValidator(EnumSet.noneOf(ValidationRule.class)).validate(vcard, VCardVersion.V4_0);
+		assertTrue(warnings.isEmpty());
+	}
+
+	@Test
+	public void rules_same_as_VCard_validate() {
+		VCard vcard = new VCard();
+		vcard.setMailer("Thunderbird");
+		vcard.addNote("note").setGroup("invalid group");
+
+		for (VCardVersion version : VCardVersion.values()) {
+			ValidationWarnings expected = vcard.validate(version);
+			ValidationWarnings actual = new VCardValidator(Arrays.asList(ValidationRule.values())).validate(vcard, version);
+			assertEquals(expected.toString(), actual.toString());
+		}
+	}
+
+	@Test
+	public void failFast() {
+		VCard vcard = new VCard();
+		Note note = vcard.addNote("note");
+		note.getParameters().put("INDEX", "0");
+		note.setGroup("invalid group");
+
+		VCardValidator validator = new VCardValidator();
+		validator.setFailFast(true);
+
+		ValidationWarnings warnings = validator.validate(vcard, VCardVersion.V4_0);
+		assertEquals(1, warnings.getWarnings().size());
+		assertValidate(warnings.getWarnings().get(null), 1);
+
+		vcard.setFormattedName("John Doe");
+		warnings = validator.validate(vcard, VCardVersion.V4_0);
+		assertEquals(1, warnings.getWarnings().size());
+		assertValidate(warnings.getWarnings().get(note), 28);
+
+		note.getParameters().clear();
+		warnings = validator.validate(vcard, VCardVersion.V4_0);
+		assertEquals(1, warnings.getWarnings().size());
+		assertValidate(warnings.getWarnings().get(note), 23);
+	}
+
+	@Test
+	public void validateAll() throws Exception {
+		List<VCard> vcards = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			VCard vcard = new VCard();
+			if (i % 3 != 0) {
+				vcard.setFormattedName("Person " + i);
+			}
+			vcards.add(vcard);
+		}
+
+		VCardValidator validator = new VCardValidator();
+		List<ValidationWarnings> results = validator.validateAll(vcards, VCardVersion.V4_0);
+		assertValidateAll(results);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			validator.setExecutor(executor);
+			results = validator.validateAll(vcards, VCardVersion.V4_0);
+			assertValidateAll(results);
+		} finally {
+			executor.shutdown();
+		}
+
+		validator.setExecutor(null);
+		results = validator.validateAll(vcards, VCardVersion.V4_0);
+		assertValidateAll(results);
+
+		assertTrue(validator.validateAll(new ArrayList<>(), VCardVersion.V4_0).isEmpty());
+	}
+
+	private static void assertValidateAll(List<ValidationWarnings> results) {
+		assertEquals(2000, results.size());
+		for (int i = 0; i < results.size(); i++) {
+			ValidationWarnings warnings = results.get(i);
+			if (i % 3 == 0) {
+				assertValidate(warnings.getWarnings().get(null), 1);
+			} else {
+				assertTrue(warnings.isEmpty());
+			}
+		}
+	}
+
+	@Test
+	public void validateAll_exception() {
+		List<VCard> vcards = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			vcards.add(new VCard());
+		}
+		IllegalStateException exception = new IllegalStateException();
+		vcards.get(700).addProperty(new ThrowingProperty(exception));
+
+		VCardValidator validator = new VCardValidator();
+		IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> validator.validateAll(vcards, VCardVersion.V4_0));
+		assertSame(exception, thrown);
+	}
+
+	@Test
+	public void caching() {
+		VCard vcard = new VCard();
+		vcard.setFormattedName("John Doe");
+		CountingProperty property = new CountingProperty("value");
+		vcard.addProperty(property);
+
+		VCardValidator validator = new VCardValidator();
+		validator.setCachingEnabled(true);
+
+		ValidationWarnings warnings = validator.validate(vcard, VCardVersion.V4_0);
+		assertTrue(warnings.isEmpty());
+		assertEquals(1, property.validateCount);
+
+		//not modified
+		warnings = validator.validate(vcard, VCardVersion.V4_0);
+		assertTrue(warnings.isEmpty());
+		assertEquals(1, property.validateCount);
+
+		property.setValue("value2");
+		validator.validate(vcard, VCardVersion.V4_0);
+		assertEquals(2, property.validateCount);
+
+		property.getParameters().put("INDEX", "0");
+		warnings = validator.validate(vcard, VCardVersion.V4_0);
+		assertValidate(warnings.getWarnings().get(property), 28);
+		assertEquals(3, property.validateCount);
+
+		//cached warnings are returned
+		warnings = validator.validate(vcard, VCardVersion.V4_0);
+		assertValidate(warnings.getWarnings().get(property), 28);
+		assertEquals(3, property.validateCount);
+
+		property.getParameters().clear();
+		warnings = validator.validate(vcard, VCardVersion.V4_0);
+		assertTrue(warnings.isEmpty());
+		assertEquals(4, property.validateCount);
+
+		//card-level checks are always run
+		vcard.setFormattedName((String) null);
+		warnings = validator.validate(vcard, VCardVersion.V4_0);
+		assertValidate(warnings.getWarnings().get(null), 1);
+		assertEquals(4, property.validateCount);
+
+		//different version
+		vcard.setFormattedName("John Doe");
+		vcard.setStructuredName(new StructuredName());
+		validator.validate(vcard, VCardVersion.V3_0);
+		assertEquals(5, property.validateCount);
+
+		//different settings
+		validator.setFailFast(true);
+		validator.validate(vcard, VCardVersion.V3_0);
+		assertEquals(6, property.validateCount);
+
+		//caching disabled
+		VCardValidator uncached = new VCardValidator();
+		uncached.validate(vcard, VCardVersion.V3_0);
+		assertEquals(7, property.validateCount);
+	}
+
+	@Test
+	public void caching_not_cacheable() {
+		VCard vcard = new VCard();
+		vcard.setFormattedName("John Doe");
+		Address adr = new Address();
+		adr.getStreetAddresses().add("one");
+		vcard.addAddress(adr);
+		Member member = new Member("uri");
+		vcard.addMember(member);
+
+		VCardValidator validator = new VCardValidator();
+		validator.setCachingEnabled(true);
+
+		ValidationWarnings warnings = validator.validate(vcard, VCardVersion.V2_1);
+		assertTrue(warnings.getWarnings().get(adr).isEmpty());
+
+		//lists are not tracked, so the property is not cached
+		adr.getStreetAddresses().add("two");
+		warnings = validator.validate(vcard, VCardVersion.V2_1);
+		assertValidate(warnings.getWarnings().get(adr), 35);
+
+		//validation depends on another property
+		warnings = validator.validate(vcard, VCardVersion.V4_0);
+		assertValidate(warnings.getWarnings().get(member), 17);
+		vcard.setKind(Kind.group());
+		warnings = validator.validate(vcard, VCardVersion.V4_0);
+		assertTrue(warnings.getWarnings().get(member).isEmpty());
+	}
+
+	@Test
+	public void caching_child_classes_must_opt_in() {
+		assertTrue(new Note("value").isValidationCacheable());
+		assertFalse(new Note("value") {
+			//empty
+		}.isValidationCacheable());
+		assertFalse(new TextProperty("value") {
+			//empty
+		}.isValidationCacheable());
+		assertTrue(new CountingProperty("value").isValidationCacheable());
+
+		VCard vcard = new VCard();
+		vcard.setFormattedName("John Doe");
+		int[] count = { 0 };
+		TextProperty property = new TextProperty("value") {
+			@Override
+			protected void _validate(List<ValidationWarning> warnings, VCardVersion version, VCard vcard) {
+				count[0]++;
+			}
+		};
+		vcard.addProperty(property);
+
+		VCardValidator validator = new VCardValidator();
+		validator.setCachingEnabled(true);
+		validator.validate(vcard, VCardVersion.V4_0);
+		validator.validate(vcard, VCardVersion.V4_0);
+		assertEquals(2, count[0]);
+	}
+
+	@Test
+	public void caching_removed_properties() {
+		VCard vcard = new VCard();
+		vcard.setFormattedName("John Doe");
+		Note note = vcard.addNote("note");
+		note.setGroup("invalid group");
+
+		VCardValidator validator = new VCardValidator();
+		validator.setCachingEnabled(true);
+
+		ValidationWarnings warnings = validator.validate(vcard, VCardVersion.V4_0);
+		assertValidate(warnings.getWarnings().get(note), 23);
+
+		vcard.removeProperty(note);
+		warnings = validator.validate(vcard, VCardVersion.V4_0);
+		assertTrue(warnings.isEmpty());
+
+		vcard.addProperty(note);
+		warnings = validator.validate(vcard, VCardVersion.V4_0);
+		assertValidate(warnings.getWarnings().get(note), 23);
+	}
+
+	private static class CountingProperty extends TextProperty {
+		private int validateCount = 0;
+
+		public CountingProperty(String value) {
+			super(value);
+		}
+
+		@Override
+		protected void _validate(List<ValidationWarning> warnings, VCardVersion version, VCard vcard) {
+			validateCount++;
+		}
+
+		@Override
+		public boolean isValidationCacheable() {
+			return true;
+		}
+	}
+
+	private static class ThrowingProperty extends VCardProperty {
+		private final RuntimeException exception;
+
+		public ThrowingProperty(RuntimeException exception) {
+			this.exception = exception;
+		}
+
+		@Override
+		protected void _validate(List<ValidationWarning> warnings, VCardVersion version, VCard vcard) {
+			throw exception;
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package ezvcard.io;
 
 import static ezvcard.util.TestUtils.assertIntEquals;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
@@ -54,6 +55,7 @@ public class ParseWarningTest {
 		assertIntEquals(1, warning.getLineNumber());
 		assertEquals("PROP", warning.getPropertyName());
 		assertNull(warning.getCode());
+		assertEquals(0, warning.getArgs().length);
 		assertEquals("message", warning.getMessage());
 	}
 
@@ -64,6 +66,18 @@ public class ParseWarningTest {
 		assertIntEquals(1, warning.getLineNumber());
 		assertEquals("PROP", warning.getPropertyName());
 		assertIntEquals(2, warning.getCode());
+		assertArrayEquals(new Object[] { "arg" }, warning.getArgs());
+		assertEquals(Messages.INSTANCE.getParseMessage(2, "arg"), warning.getMessage());
+	}
+
+	@Test
+	public void builder_copy() {
+		ParseWarning original = new ParseWarning.Builder().lineNumber(1).propertyName("PROP").message(2, "arg").build();
+		ParseWarning warning = new ParseWarning.Builder(original).lineNumber(5).build();
+		assertIntEquals(5, warning.getLineNumber());
+		assertEquals("PROP", warning.getPropertyName());
+		assertIntEquals(2, warning.getCode());
+		assertArrayEquals(new Object[] { "arg" }, warning.getArgs());
 		assertEquals(Messages.INSTANCE.getParseMessage(2, "arg"), warning.getMessage());
 	}
 
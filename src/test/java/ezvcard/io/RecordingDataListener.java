@@ -0,0 +1,68 @@
+package ezvcard.io;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ezvcard.VCardVersion;
+import ezvcard.property.VCardProperty;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+ */
+
+/**
+ * A {@link VCardDataListener} used for testing that records each event as a
+ * string.
+ * @author Michael Angstadt
+ */
+public class RecordingDataListener implements VCardDataListener {
+	public final List<String> events = new ArrayList<>();
+	public final List<VCardProperty> properties = new ArrayList<>();
+	public final List<ParseWarning> warnings = new ArrayList<>();
+
+	@Override
+	public void beginVCard() {
+		events.add("begin");
+	}
+
+	public void readProperty(String propertyName, VCardProperty property, VCardVersion version) {
+		events.add(propertyName + " " + version);
+		properties.add(property);
+	}
+
+	@Override
+	public void endVCard() {
+		events.add("end");
+	}
+
+	@Override
+	public void onWarning(ParseWarning warning) {
+		events.add("warning " + warning.getCode());
+		warnings.add(warning);
+	}
+}
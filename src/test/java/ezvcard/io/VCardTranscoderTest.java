@@ -0,0 +1,259 @@
+package ezvcard.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import ezvcard.VCard;
+import ezvcard.VCardVersion;
+import ezvcard.io.LuckyNumProperty.LuckyNumScribe;
+import ezvcard.io.json.JCardReader;
+import ezvcard.io.json.JCardWriter;
+import ezvcard.io.text.VCardReader;
+import ezvcard.io.text.VCardWriter;
+import ezvcard.io.xml.XCardReader;
+import ezvcard.property.Address;
+
+/*
+Copyright (c) 2012-2026, Michael Angstadt
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met: 
+
+1. Redistributions of source code must retain the above copyright notice, this
+list of conditions and the following disclaimer. 
+2. Redistributions in binary form must reproduce the above copyright notice,
+this list of conditions and the following disclaimer in the documentation
+and/or other materials provided with the distribution. 
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+The views and conclusions contained in the software and documentation are those
+of the authors and should not be interpreted as representing official policies, 
+either expressed or implied, of the FreeBSD Project.
+*/
+
+
+/**
+ * @author Michael Angstadt
+ */
+public class VCardTranscoderTest {
+	@Test
+	public void text_to_text_same_version() throws Exception {
+		//@formatter:off
+		String input =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:3.0\r\n" +
+			"FN:John Doe\r\n" +
+			"NOTE:one\\, two\r\n" +
+			"X-CUSTOM;X-PARAM=value:foo\r\n" +
+		"END:VCARD\r\n" +
+		"BEGIN:VCARD\r\n" +
+			"VERSION:3.0\r\n" +
+			"FN:Jane Doe\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+
+		StringWriter sw = new StringWriter();
+		List<ParseWarning> warnings = new ArrayList<>();
+		try (VCardReader reader = new VCardReader(input); VCardWriter writer = new VCardWriter(sw, VCardVersion.V3_0)) {
+			writer.setAddProdId(false);
+
+			VCardTranscoder transcoder = new VCardTranscoder(reader, writer);
+			transcoder.setWarningListener(warnings::add);
+			assertEquals(2, transcoder.transcode());
+			assertFalse(reader.isLazyParsingEnabled());
+		}
+
+		assertEquals(input, sw.toString());
+		assertEquals(0, warnings.size());
+	}
+
+	@Test
+	public void text_to_jcard() throws Exception {
+		//@formatter:off
+		String input =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:3.0\r\n" +
+			"FN:John Doe\r\n" +
+			"NOTE:one\\, two\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+
+		StringWriter sw = new StringWriter();
+		try (VCardReader reader = new VCardReader(input); JCardWriter writer = new JCardWriter(sw)) {
+			writer.setAddProdId(false);
+			assertEquals(1, new VCardTranscoder(reader, writer).transcode());
+		}
+
+		VCard vcard = new JCardReader(sw.toString()).readNext();
+		assertEquals(VCardVersion.V4_0, vcard.getVersion());
+		assertEquals("John Doe", vcard.getFormattedName().getValue());
+		assertEquals("one, two", vcard.getNotes().get(0).getValue());
+	}
+
+	@Test
+	public void xcard_to_text() throws Exception {
+		//@formatter:off
+		String input =
+		"<vcards xmlns=\"urn:ietf:params:xml:ns:vcard-4.0\">" +
+			"<vcard>" +
+				"<fn><text>John Doe</text></fn>" +
+			"</vcard>" +
+		"</vcards>";
+		//@formatter:on
+
+		StringWriter sw = new StringWriter();
+		try (XCardReader reader = new XCardReader(input); VCardWriter writer = new VCardWriter(sw, VCardVersion.V4_0)) {
+			writer.setAddProdId(false);
+			assertEquals(1, new VCardTranscoder(reader, writer).transcode());
+		}
+
+		//@formatter:off
+		String expected =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"FN:John Doe\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+		assertEquals(expected, sw.toString());
+	}
+
+	@Test
+	public void unsupported_properties() throws Exception {
+		//@formatter:off
+		String input =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:3.0\r\n" +
+			"FN:John Doe\r\n" +
+			"MAILER:Thunderbird\r\n" +
+			"ADR;TYPE=home:;;123 Main St;Austin;TX;12345;USA\r\n" +
+			"LABEL;TYPE=home:123 Main St\\nAustin\\, TX 12345\\nUSA\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+
+		StringWriter sw = new StringWriter();
+		List<ParseWarning> warnings = new ArrayList<>();
+		try (VCardReader reader = new VCardReader(input); VCardWriter writer = new VCardWriter(sw, VCardVersion.V4_0)) {
+			writer.setAddProdId(false);
+
+			VCardTranscoder transcoder = new VCardTranscoder(reader, writer);
+			transcoder.setWarningListener(warnings::add);
+			assertEquals(1, transcoder.transcode());
+		}
+
+		assertEquals(1, warnings.size());
+		ParseWarning warning = warnings.get(0);
+		assertEquals(Integer.valueOf(40), warning.getCode());
+		assertEquals("MAILER", warning.getPropertyName());
+
+		VCard vcard = new VCardReader(sw.toString()).readNext();
+		assertNull(vcard.getMailer());
+		Address adr = vcard.getAddresses().get(0);
+		assertEquals("123 Main St\nAustin, TX 12345\nUSA", adr.getLabel());
+	}
+
+	@Test
+	public void unsupported_properties_not_strict() throws Exception {
+		//@formatter:off
+		String input =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:3.0\r\n" +
+			"MAILER:Thunderbird\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+
+		StringWriter sw = new StringWriter();
+		List<ParseWarning> warnings = new ArrayList<>();
+		try (VCardReader reader = new VCardReader(input); VCardWriter writer = new VCardWriter(sw, VCardVersion.V4_0)) {
+			writer.setAddProdId(false);
+			writer.setVersionStrict(false);
+
+			VCardTranscoder transcoder = new VCardTranscoder(reader, writer);
+			transcoder.setWarningListener(warnings::add);
+			transcoder.transcode();
+		}
+
+		assertEquals(0, warnings.size());
+		assertTrue(sw.toString().contains("MAILER:Thunderbird\r\n"));
+	}
+
+	@Test
+	public void parse_warnings() throws IOException {
+		//@formatter:off
+		String input =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:3.0\r\n" +
+			"GEO:invalid\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+
+		StringWriter sw = new StringWriter();
+		List<ParseWarning> warnings = new ArrayList<>();
+		try (VCardReader reader = new VCardReader(input); JCardWriter writer = new JCardWriter(sw)) {
+			VCardTranscoder transcoder = new VCardTranscoder(reader, writer);
+			transcoder.setWarningListener(warnings::add);
+			transcoder.transcode();
+		}
+
+		assertEquals(1, warnings.size());
+		assertEquals("GEO", warnings.get(0).getPropertyName());
+	}
+
+	@Test
+	public void reader_settings_restored() throws Exception {
+		String input = "BEGIN:VCARD\r\nVERSION:3.0\r\nGEO:invalid\r\nEND:VCARD\r\n";
+
+		List<ParseWarning> readerWarnings = new ArrayList<>();
+		List<ParseWarning> warnings = new ArrayList<>();
+		ParseWarningListener readerListener = readerWarnings::add;
+		try (VCardReader reader = new VCardReader(input); JCardWriter writer = new JCardWriter(new StringWriter())) {
+			reader.setWarningListener(readerListener);
+
+			VCardTranscoder transcoder = new VCardTranscoder(reader, writer);
+			transcoder.setWarningListener(warnings::add);
+			transcoder.transcode();
+
+			assertFalse(reader.isLazyParsingEnabled());
+			assertSame(readerListener, reader.getWarningListener());
+		}
+
+		assertEquals(1, warnings.size());
+		assertEquals(0, readerWarnings.size());
+	}
+
+	@Test
+	public void custom_property_without_writer_scribe() throws Exception {
+		String input = "[\"vcard\",[[\"version\",{},\"text\",\"4.0\"],[\"x-lucky-num\",{},\"integer\",13]]]";
+
+		try (JCardReader reader = new JCardReader(input); VCardWriter writer = new VCardWriter(new StringWriter(), VCardVersion.V4_0)) {
+			reader.registerScribe(new LuckyNumScribe());
+
+			VCardTranscoder transcoder = new VCardTranscoder(reader, writer);
+			transcoder.setWarningListener(warning -> {
+				//empty
+			});
+			assertThrows(IllegalArgumentException.class, transcoder::transcode);
+		}
+	}
+}
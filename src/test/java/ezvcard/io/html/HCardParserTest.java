@@ -7,6 +7,7 @@ import static ezvcard.util.TestUtils.assertPropertyCount;
 import static ezvcard.util.TestUtils.assertVersion;
 import static org.junit.Assert.assertEquals;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Test;
@@ -16,6 +17,7 @@ import ezvcard.io.LuckyNumProperty;
 import ezvcard.io.LuckyNumProperty.LuckyNumScribe;
 import ezvcard.io.MyFormattedNameProperty;
 import ezvcard.io.MyFormattedNameProperty.MyFormattedNameScribe;
+import ezvcard.io.RecordingDataListener;
 import ezvcard.io.scribe.CannotParseScribe;
 import ezvcard.io.scribe.SkipMeScribe;
 import ezvcard.parameter.AddressType;
@@ -76,6 +78,27 @@ public class HCardParserTest {
 		asserter.done();
 	}
 
+	@Test
+	public void read_listener() throws Exception {
+		//@formatter:off
+		String html =
+		"<html>" +
+			"<body>" +
+				"<div class=\"vcard\">" +
+					"<span class=\"fn\">John Doe</span>" +
+					"<span class=\"x-foo\">bar</span>" +
+				"</div>" +
+			"</body>" +
+		"</html>";
+		//@formatter:on
+
+		HCardParser parser = new HCardParser(html);
+		RecordingDataListener listener = new RecordingDataListener();
+		parser.read(listener);
+
+		assertEquals(Arrays.asList("begin", "FN 3.0", "x-foo 3.0", "end"), listener.events);
+	}
+
 	@Test
 	public void empty_vcard() throws Exception {
 		//@formatter:off
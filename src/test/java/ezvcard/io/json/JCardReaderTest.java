@@ -6,6 +6,7 @@ import static ezvcard.util.TestUtils.assertParseWarnings;
 import static ezvcard.util.TestUtils.assertPropertyCount;
 import static ezvcard.util.TestUtils.assertVersion;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
@@ -13,6 +14,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.Arrays;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -24,6 +26,8 @@ import ezvcard.VCardVersion;
 import ezvcard.io.MyFormattedNameProperty;
 import ezvcard.io.MyFormattedNameProperty.MyFormattedNameScribe;
 import ezvcard.io.ParseContext;
+import ezvcard.io.PropertyFilter;
+import ezvcard.io.RecordingDataListener;
 import ezvcard.io.scribe.CannotParseScribe;
 import ezvcard.io.scribe.SkipMeScribe;
 import ezvcard.io.scribe.VCardPropertyScribe;
@@ -40,10 +44,12 @@ import ezvcard.property.Key;
 import ezvcard.property.Language;
 import ezvcard.property.Note;
 import ezvcard.property.Organization;
+import ezvcard.property.Telephone;
 import ezvcard.property.Url;
 import ezvcard.property.VCardProperty;
 import ezvcard.property.asserter.VCardAsserter;
 import ezvcard.util.PartialDate;
+import ezvcard.util.StringPool;
 import ezvcard.util.TelUri;
 
 /*
@@ -274,6 +280,73 @@ public class JCardReaderTest {
 		assertNoMoreVCards(reader);
 	}
 
+	@Test
+	public void read_listener() throws Throwable {
+		//@formatter:off
+		String json =
+		"[" +
+			"[\"vcard\"," +
+				"[" +
+					"[\"version\", {}, \"text\", \"4.0\"]," +
+					"[\"fn\", {}, \"text\", \"John Doe\"]," +
+					"[\"x-foo\", {}, \"text\", \"bar\"]" +
+				"]" +
+			"]," +
+			"[\"vcard\"," +
+				"[" +
+					"[\"geo\", {}, \"uri\", \"invalid\"]" +
+				"]" +
+			"]" +
+		"]";
+		//@formatter:on
+
+		JCardReader reader = new JCardReader(json);
+		RecordingDataListener listener = new RecordingDataListener();
+		reader.read(listener);
+
+		//@formatter:off
+		assertEquals(Arrays.asList(
+			"begin", "FN 4.0", "x-foo 4.0", "end",
+			"begin", "warning 12", "geo 4.0", "warning 29", "end"
+		), listener.events);
+		//@formatter:on
+	}
+
+	@Test
+	public void stringPool() throws Throwable {
+		//@formatter:off
+		String json =
+		"[" +
+			"[\"vcard\"," +
+				"[" +
+					"[\"version\", {}, \"text\", \"4.0\"]," +
+					"[\"tel\", {\"group\": \"item1\", \"type\": [\"work\", \"voice\"]}, \"text\", \"+1 555 555 1234\"]" +
+				"]" +
+			"]," +
+			"[\"vcard\"," +
+				"[" +
+					"[\"version\", {}, \"text\", \"4.0\"]," +
+					"[\"tel\", {\"group\": \"item1\", \"type\": [\"work\", \"voice\"]}, \"text\", \"+1 555 555 5678\"]" +
+				"]" +
+			"]" +
+		"]";
+		//@formatter:on
+
+		JCardReader reader = new JCardReader(json);
+		reader.setStringPool(new StringPool());
+
+		Telephone tel1 = reader.readNext().getTelephoneNumbers().get(0);
+		Telephone tel2 = reader.readNext().getTelephoneNumbers().get(0);
+		assertNoMoreVCards(reader);
+
+		assertEquals("item1", tel1.getGroup());
+		assertSame(tel1.getGroup(), tel2.getGroup());
+		assertSame(tel1.getParameters().getMap().keySet().iterator().next(), tel2.getParameters().getMap().keySet().iterator().next());
+		assertEquals(Arrays.asList("work", "voice"), tel1.getParameters().get("TYPE"));
+		assertSame(tel1.getParameters().get("TYPE").get(0), tel2.getParameters().get("TYPE").get(0));
+		assertSame(tel1.getParameters().get("TYPE").get(1), tel2.getParameters().get("TYPE").get(1));
+	}
+
 	@Test
 	public void readExtendedType_override_standard_type_classes() throws Throwable {
 		//@formatter:off
@@ -321,6 +394,44 @@ public class JCardReaderTest {
 		asserter.done();
 	}
 
+	@Test
+	public void propertyFilter() throws Throwable {
+		//@formatter:off
+		String json =
+		"[\"vcard\"," +
+			"[" +
+				"[\"version\", {}, \"text\", \"4.0\"]," +
+				"[\"skipme\", {}, \"text\", \"value\"]," +
+				"[\"fn\", {}, \"text\", \"John Doe\"]," +
+				"[\"note\", {}, \"text\", \"note\"]," +
+				"[\"x-foo\", {}, \"text\", \"value\"]," +
+				"[\"x-bar\", {}, \"text\", \"value\"]" +
+			"]" +
+		"]";
+
+		JCardReader reader = new JCardReader(json);
+		reader.registerScribe(new SkipMeScribe());
+		reader.setPropertyFilter(new PropertyFilter()
+			.include(FormattedName.class)
+			.include("X-FOO")
+		);
+		VCardAsserter asserter = new VCardAsserter(reader);
+
+		asserter.next(V4_0);
+
+		asserter.simpleProperty(FormattedName.class)
+			.value("John Doe")
+		.noMore();
+
+		asserter.rawProperty("X-FOO")
+			.dataType(VCardDataType.TEXT)
+			.value("value")
+		.noMore();
+
+		asserter.done();
+		//@formatter:on
+	}
+
 	@Test
 	public void cannotParseException() throws Throwable {
 		//@formatter:off
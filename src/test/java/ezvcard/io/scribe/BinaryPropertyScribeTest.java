@@ -8,15 +8,22 @@ import static ezvcard.VCardVersion.V4_0;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.junit.Test;
 
 import ezvcard.VCardDataType;
 import ezvcard.VCardVersion;
+import ezvcard.io.ParseContext;
 import ezvcard.io.scribe.Sensei.Check;
 import ezvcard.parameter.Encoding;
 import ezvcard.parameter.ImageType;
+import ezvcard.parameter.VCardParameters;
 import ezvcard.property.BinaryProperty;
+import ezvcard.util.BlobStore;
 import ezvcard.util.DataUri;
 import ezvcard.util.org.apache.commons.codec.binary.Base64;
 
@@ -302,6 +309,41 @@ public class BinaryPropertyScribeTest {
 		sensei.assertParseJson(dataUri).run(hasData(data, ImageType.JPEG));
 	}
 
+	@Test
+	public void parseText_parseAsDataUri_override() {
+		final BinaryPropertyImpl expected = new BinaryPropertyImpl();
+		BinaryPropertyScribeImpl scribe = new BinaryPropertyScribeImpl() {
+			@Override
+			protected BinaryPropertyImpl parseAsDataUri(String value) {
+				return expected;
+			}
+		};
+
+		ParseContext context = new ParseContext();
+		context.setVersion(V4_0);
+		BinaryPropertyImpl actual = scribe.parseText(dataUri, URI, new VCardParameters(), context);
+		assertSame(expected, actual);
+	}
+
+	@Test
+	public void parseText_blob_store_failure() {
+		BlobStore blobStore = new BlobStore(0) {
+			@Override
+			protected ByteBuffer allocate(int capacity) throws IOException {
+				throw new IOException("Disk full.");
+			}
+		};
+
+		ParseContext context = new ParseContext();
+		context.setVersion(V4_0);
+		context.setBlobStore(blobStore);
+		BinaryPropertyImpl actual = scribe.parseText(dataUri, URI, new VCardParameters(), context);
+
+		hasData(data, ImageType.JPEG).check(actual);
+		assertEquals(1, context.getWarnings().size());
+		assertEquals(Integer.valueOf(41), context.getWarnings().get(0).getCode());
+	}
+
 	private static class BinaryPropertyScribeImpl extends BinaryPropertyScribe<BinaryPropertyImpl, ImageType> {
 		public BinaryPropertyScribeImpl() {
 			super(BinaryPropertyImpl.class, "BINARY");
@@ -0,0 +1,173 @@
+package ezvcard.io.scribe;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import javax.xml.namespace.QName;
+
+import org.junit.Test;
+
+import ezvcard.VCardVersion;
+import ezvcard.io.LuckyNumProperty;
+import ezvcard.io.LuckyNumProperty.LuckyNumScribe;
+import ezvcard.io.text.VCardReader;
+import ezvcard.property.FormattedName;
+import ezvcard.property.RawProperty;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+ */
+
+/**
+ * @author Michael Angstadt
+ */
+public class ScribeIndexTest {
+	@Test
+	public void getPropertyScribe_name() {
+		ScribeIndex index = new ScribeIndex();
+		for (ScribeIndex i : new ScribeIndex[] { index, index.freeze() }) {
+			assertTrue(i.getPropertyScribe("FN") instanceof FormattedNameScribe);
+			assertTrue(i.getPropertyScribe("fN") instanceof FormattedNameScribe);
+			assertTrue(i.getPropertyScribe("xml") instanceof XmlScribe);
+			assertNull(i.getPropertyScribe("X-LUCKY-NUM"));
+			assertNull(i.getPropertyScribe(""));
+			assertNull(i.getPropertyScribe("FNX"));
+		}
+	}
+
+	@Test
+	public void freeze() {
+		ScribeIndex index = new ScribeIndex();
+		LuckyNumScribe scribe = new LuckyNumScribe();
+		index.register(scribe);
+
+		ScribeIndex frozen = index.freeze();
+		assertTrue(frozen.isFrozen());
+		assertFalse(index.isFrozen());
+		assertSame(frozen, frozen.freeze());
+
+		assertSame(scribe, frozen.getPropertyScribe("x-lucky-num"));
+		assertSame(scribe, frozen.getPropertyScribe(LuckyNumProperty.class));
+		assertSame(scribe, frozen.getPropertyScribe(new QName("http://luckynum.com", "lucky-num")));
+
+		//changes to the original are not reflected in the frozen copy
+		index.unregister(scribe);
+		assertNull(index.getPropertyScribe("X-LUCKY-NUM"));
+		assertSame(scribe, frozen.getPropertyScribe("X-LUCKY-NUM"));
+
+		try {
+			frozen.register(scribe);
+			fail();
+		} catch (UnsupportedOperationException e) {
+			//expected
+		}
+		try {
+			frozen.unregister(scribe);
+			fail();
+		} catch (UnsupportedOperationException e) {
+			//expected
+		}
+
+		ScribeIndex copy = frozen.copy();
+		assertFalse(copy.isFrozen());
+		assertSame(scribe, copy.getPropertyScribe("X-LUCKY-NUM"));
+		copy.unregister(scribe);
+		assertNull(copy.getPropertyScribe("X-LUCKY-NUM"));
+		assertSame(scribe, frozen.getPropertyScribe("X-LUCKY-NUM"));
+	}
+
+	@Test
+	public void standard() {
+		ScribeIndex standard = ScribeIndex.standard();
+		assertTrue(standard.isFrozen());
+		assertSame(standard, ScribeIndex.standard());
+		assertTrue(standard.getPropertyScribe(FormattedName.class) instanceof FormattedNameScribe);
+	}
+
+	@Test
+	public void getRawPropertyScribe() {
+		ScribeIndex index = ScribeIndex.standard();
+
+		RawPropertyScribe scribe = index.getRawPropertyScribe("X-FOO");
+		assertEquals("X-FOO", scribe.getPropertyName());
+		assertSame(scribe, index.getRawPropertyScribe("X-FOO"));
+		assertSame(scribe, index.getPropertyScribe(new RawProperty("X-FOO", "value")));
+		assertNotSame(scribe, index.getRawPropertyScribe("x-foo"));
+		assertEquals("x-foo", index.getRawPropertyScribe("x-foo").getPropertyName());
+
+		scribe = (RawPropertyScribe) index.getPropertyScribe(new QName(VCardVersion.V4_0.getXmlNamespace(), "x-bar"));
+		assertEquals("X-BAR", scribe.getPropertyName());
+	}
+
+	@Test
+	public void reader_default() {
+		VCardReader reader1 = new VCardReader("");
+		VCardReader reader2 = new VCardReader("");
+
+		//each reader has its own modifiable index
+		ScribeIndex index1 = reader1.getScribeIndex();
+		assertFalse(index1.isFrozen());
+		assertNotSame(index1, reader2.getScribeIndex());
+		assertSame(index1, reader1.getScribeIndex());
+
+		LuckyNumScribe scribe = new LuckyNumScribe();
+		reader1.getScribeIndex().register(scribe);
+		assertSame(scribe, reader1.getScribeIndex().getPropertyScribe("X-LUCKY-NUM"));
+		assertNull(reader2.getScribeIndex().getPropertyScribe("X-LUCKY-NUM"));
+
+		//sharing a frozen index is opt-in
+		ScribeIndex frozen = ScribeIndex.standard();
+		reader2.setScribeIndex(frozen);
+		assertSame(frozen, reader2.getScribeIndex());
+
+		//registering a scribe replaces a frozen index with a copy
+		reader2.registerScribe(scribe);
+		assertNotSame(frozen, reader2.getScribeIndex());
+		assertSame(scribe, reader2.getScribeIndex().getPropertyScribe("X-LUCKY-NUM"));
+		assertNull(frozen.getPropertyScribe("X-LUCKY-NUM"));
+	}
+
+	@Test
+	public void getPropertyScribe_name_extended_overrides_standard() {
+		ScribeIndex index = new ScribeIndex();
+		assertTrue(index.getPropertyScribe("fn") instanceof FormattedNameScribe);
+
+		FormattedNameScribe scribe = new FormattedNameScribe();
+		index.register(scribe);
+		assertSame(scribe, index.getPropertyScribe("fn"));
+
+		index.unregister(scribe);
+		assertNotSame(scribe, index.getPropertyScribe("fn"));
+		assertTrue(index.getPropertyScribe("fn") instanceof FormattedNameScribe);
+	}
+}
@@ -0,0 +1,147 @@
+package ezvcard.io.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import ezvcard.VCard;
+import ezvcard.VCardVersion;
+import ezvcard.io.LuckyNumProperty;
+import ezvcard.io.LuckyNumProperty.LuckyNumScribe;
+import ezvcard.io.scribe.ScribeIndex;
+
+/*
+Copyright (c) 2012-2026, Michael Angstadt
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met: 
+
+1. Redistributions of source code must retain the above copyright notice, this
+list of conditions and the following disclaimer. 
+2. Redistributions in binary form must reproduce the above copyright notice,
+this list of conditions and the following disclaimer in the documentation
+and/or other materials provided with the distribution. 
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+The views and conclusions contained in the software and documentation are those
+of the authors and should not be interpreted as representing official policies, 
+either expressed or implied, of the FreeBSD Project.
+*/
+
+/**
+ * @author Michael Angstadt
+ */
+public class IndexedVCardFileTest {
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	private Path file;
+
+	@Before
+	public void before() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 50; i++) {
+			sb.append("BEGIN:VCARD\r\n");
+			sb.append("VERSION:").append((i % 2 == 0) ? "3.0" : "4.0").append("\r\n");
+			sb.append("UID:uid-").append(i).append("\r\n");
+			sb.append("FN:Person \u00e9 ").append(i).append("\r\n");
+			sb.append("X-LUCKY-NUM:").append(i).append("\r\n");
+			sb.append("END:VCARD\r\n");
+		}
+
+		file = tempFolder.newFile().toPath();
+		Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void read_ordinal() throws Exception {
+		try (IndexedVCardFile vcards = new IndexedVCardFile(file, VCardIndex.build(file))) {
+			VCard vcard = vcards.read(0);
+			assertEquals(VCardVersion.V3_0, vcard.getVersion());
+			assertEquals("Person \u00e9 0", vcard.getFormattedName().getValue());
+
+			vcard = vcards.read(37);
+			assertEquals(VCardVersion.V4_0, vcard.getVersion());
+			assertEquals("Person \u00e9 37", vcard.getFormattedName().getValue());
+
+			vcard = vcards.read(49);
+			assertEquals("Person \u00e9 49", vcard.getFormattedName().getValue());
+
+			assertThrows(IndexOutOfBoundsException.class, () -> vcards.read(50));
+			assertThrows(IndexOutOfBoundsException.class, () -> vcards.read(-1));
+		}
+	}
+
+	@Test
+	public void read_uid() throws Exception {
+		try (IndexedVCardFile vcards = new IndexedVCardFile(file, VCardIndex.build(file))) {
+			VCard vcard = vcards.read("uid-12");
+			assertEquals("Person \u00e9 12", vcard.getFormattedName().getValue());
+
+			assertNull(vcards.read("uid-50"));
+		}
+	}
+
+	@Test
+	public void read_range() throws Exception {
+		try (IndexedVCardFile vcards = new IndexedVCardFile(file, VCardIndex.build(file))) {
+			List<VCard> page = vcards.read(10, 5);
+			assertEquals(5, page.size());
+			for (int i = 0; i < page.size(); i++) {
+				assertEquals("uid-" + (10 + i), page.get(i).getUid().getValue());
+			}
+
+			page = vcards.read(48, 5);
+			assertEquals(2, page.size());
+			assertEquals("uid-48", page.get(0).getUid().getValue());
+			assertEquals("uid-49", page.get(1).getUid().getValue());
+
+			assertEquals(0, vcards.read(50, 5).size());
+			assertEquals(0, vcards.read(10, 0).size());
+			assertThrows(IndexOutOfBoundsException.class, () -> vcards.read(51, 5));
+			assertThrows(IndexOutOfBoundsException.class, () -> vcards.read(-1, 5));
+
+			//"fromOrdinal + count" must not overflow
+			page = vcards.read(1, Integer.MAX_VALUE);
+			assertEquals(49, page.size());
+			assertEquals("uid-1", page.get(0).getUid().getValue());
+			assertEquals("uid-49", page.get(48).getUid().getValue());
+		}
+	}
+
+	@Test
+	public void scribeIndex() throws Exception {
+		try (IndexedVCardFile vcards = new IndexedVCardFile(file, VCardIndex.build(file))) {
+			VCard vcard = vcards.read(3);
+			assertNull(vcard.getProperty(LuckyNumProperty.class));
+
+			ScribeIndex index = new ScribeIndex();
+			index.register(new LuckyNumScribe());
+			vcards.setScribeIndex(index);
+
+			vcard = vcards.read(3);
+			assertEquals(3, vcard.getProperty(LuckyNumProperty.class).luckyNum);
+		}
+	}
+}
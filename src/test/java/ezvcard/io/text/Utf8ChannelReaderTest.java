@@ -0,0 +1,176 @@
+package ezvcard.io.text;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+ */
+
+/**
+ * @author Michael Angstadt
+ */
+public class Utf8ChannelReaderTest {
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	@Test
+	public void read() throws Exception {
+		String text = "ASCII éè € 😀 end";
+		assertEquals(text, readAll(channel(text.getBytes(StandardCharsets.UTF_8))));
+		assertEquals(text, readAll(map(text.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	@Test
+	public void read_single_chars() throws Exception {
+		String text = "aé😀";
+		try (Utf8ChannelReader reader = new Utf8ChannelReader(channel(text.getBytes(StandardCharsets.UTF_8)))) {
+			StringBuilder sb = new StringBuilder();
+			int c;
+			while ((c = reader.read()) >= 0) {
+				sb.append((char) c);
+			}
+			assertEquals(text, sb.toString());
+		}
+	}
+
+	@Test
+	public void read_empty() throws Exception {
+		assertEquals("", readAll(channel(new byte[0])));
+		assertEquals("", readAll(map(new byte[0])));
+	}
+
+	@Test
+	public void read_across_buffer_boundaries() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		while (sb.length() < 200000) {
+			sb.append("xé€😀");
+		}
+		String text = sb.toString();
+
+		assertEquals(text, readAll(channel(text.getBytes(StandardCharsets.UTF_8))));
+		assertEquals(text, readAll(map(text.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	@Test
+	public void read_malformed() throws Exception {
+		byte[] bytes = { 'a', (byte) 0xFF, 'b', (byte) 0xC3, 'c', (byte) 0xE0, (byte) 0x80, (byte) 0x80, 'd', (byte) 0xED, (byte) 0xA0, (byte) 0x80, 'e', (byte) 0xE2, (byte) 0x82 };
+		String expected = new String(bytes, StandardCharsets.UTF_8);
+		assertEquals(expected, readAll(channel(bytes)));
+	}
+
+	@Test
+	public void getByteOffset() throws Exception {
+		try (Utf8ChannelReader reader = new Utf8ChannelReader(channel("aéb".getBytes(StandardCharsets.UTF_8)))) {
+			assertEquals(0, reader.getByteOffset());
+			reader.read();
+			assertEquals(1, reader.getByteOffset());
+			reader.read();
+			assertEquals(3, reader.getByteOffset());
+			reader.read();
+			assertEquals(4, reader.getByteOffset());
+		}
+	}
+
+	@Test
+	public void getLineOffset() throws Exception {
+		String text = "one\r\né\r\nthree\nfour\rfive\r\n\r\nseven";
+		try (Utf8ChannelReader reader = new Utf8ChannelReader(channel(text.getBytes(StandardCharsets.UTF_8)))) {
+			readAll(reader);
+
+			assertEquals(7, reader.getLineNumber());
+			assertEquals(0, reader.getLineOffset(1));
+			assertEquals(5, reader.getLineOffset(2));
+			assertEquals(9, reader.getLineOffset(3));
+			assertEquals(15, reader.getLineOffset(4));
+			assertEquals(20, reader.getLineOffset(5));
+			assertEquals(26, reader.getLineOffset(6));
+			assertEquals(28, reader.getLineOffset(7));
+			assertEquals(-1, reader.getLineOffset(8));
+			assertEquals(-1, reader.getLineOffset(0));
+		}
+	}
+
+	@Test
+	public void file_position() throws Exception {
+		Path file = tempFolder.newFile().toPath();
+		Files.write(file, "skip\nline".getBytes(StandardCharsets.UTF_8));
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			channel.position(5);
+			Utf8ChannelReader reader = Utf8ChannelReader.map(channel);
+			assertEquals(5, reader.getByteOffset());
+			assertEquals(5, reader.getLineOffset(1));
+			assertEquals("line", readAll(reader));
+		}
+	}
+
+	private static ReadableByteChannel channel(byte[] bytes) {
+		return Channels.newChannel(new ByteArrayInputStream(bytes));
+	}
+
+	private Utf8ChannelReader map(byte[] bytes) throws IOException {
+		Path file = tempFolder.newFile().toPath();
+		Files.write(file, bytes);
+		return Utf8ChannelReader.map(FileChannel.open(file, StandardOpenOption.READ));
+	}
+
+	private static String readAll(ReadableByteChannel channel) throws IOException {
+		try (Utf8ChannelReader reader = new Utf8ChannelReader(channel)) {
+			return readAll(reader);
+		}
+	}
+
+	private static String readAll(Reader reader) throws IOException {
+		try {
+			StringBuilder sb = new StringBuilder();
+			char[] buffer = new char[1000];
+			int read;
+			while ((read = reader.read(buffer)) >= 0) {
+				sb.append(buffer, 0, read);
+			}
+			return sb.toString();
+		} finally {
+			reader.close();
+		}
+	}
+}
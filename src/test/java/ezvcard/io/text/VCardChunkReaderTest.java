@@ -0,0 +1,173 @@
+package ezvcard.io.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.StringReader;
+
+import org.junit.Test;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+ */
+
+/**
+ * @author Michael Angstadt
+ */
+public class VCardChunkReaderTest {
+	@Test
+	public void readNext() throws Exception {
+		//@formatter:off
+		String str =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:3.0\r\n" +
+			"FN:John Doe\r\n" +
+		"END:VCARD\n" +
+		"BEGIN:VCARD\r" +
+			"VERSION:4.0\r\n" +
+			"FN:Jane Doe\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+
+		try (VCardChunkReader reader = new VCardChunkReader(new StringReader(str))) {
+			VCardChunkReader.Chunk chunk = reader.readNext();
+			assertEquals(1, chunk.getLineNumber());
+			//@formatter:off
+			assertEquals(
+			"BEGIN:VCARD\r\n" +
+				"VERSION:3.0\r\n" +
+				"FN:John Doe\r\n" +
+			"END:VCARD\r\n", chunk.getText());
+			//@formatter:on
+
+			chunk = reader.readNext();
+			assertEquals(5, chunk.getLineNumber());
+			//@formatter:off
+			assertEquals(
+			"BEGIN:VCARD\r\n" +
+				"VERSION:4.0\r\n" +
+				"FN:Jane Doe\r\n" +
+			"END:VCARD\r\n", chunk.getText());
+			//@formatter:on
+
+			assertNull(reader.readNext());
+		}
+	}
+
+	@Test
+	public void nested_vcards() throws Exception {
+		//@formatter:off
+		String str =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:2.1\r\n" +
+			"AGENT:\r\n" +
+			"BEGIN:VCARD\r\n" +
+				"VERSION:2.1\r\n" +
+				"AGENT:\r\n" +
+				"begin:vcard\r\n" +
+					"VERSION:2.1\r\n" +
+				"end:vcard\r\n" +
+			"END:VCARD\r\n" +
+		"END:VCARD\r\n" +
+		"BEGIN:VCARD\r\n" +
+			"VERSION:2.1\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+
+		try (VCardChunkReader reader = new VCardChunkReader(new StringReader(str))) {
+			VCardChunkReader.Chunk chunk = reader.readNext();
+			assertEquals(1, chunk.getLineNumber());
+			assertEquals(str.substring(0, str.indexOf("END:VCARD\r\nBEGIN") + 11), chunk.getText());
+
+			chunk = reader.readNext();
+			assertEquals(12, chunk.getLineNumber());
+			//@formatter:off
+			assertEquals(
+			"BEGIN:VCARD\r\n" +
+				"VERSION:2.1\r\n" +
+			"END:VCARD\r\n", chunk.getText());
+			//@formatter:on
+
+			assertNull(reader.readNext());
+		}
+	}
+
+	@Test
+	public void ignore_text_outside_of_vcards() throws Exception {
+		//@formatter:off
+		String str =
+		"garbage\r\n" +
+		"END:VCARD\r\n" +
+		"BEGIN:VCALENDAR\r\n" +
+		"BEGIN:VCARD\r\n" +
+			"FN:John Doe\r\n" +
+			" folded BEGIN:VCARD\r\n" +
+		"END:VCARD\r\n" +
+		"END:VCALENDAR\r\n" +
+		"more garbage\r\n";
+		//@formatter:on
+
+		try (VCardChunkReader reader = new VCardChunkReader(new StringReader(str))) {
+			VCardChunkReader.Chunk chunk = reader.readNext();
+			assertEquals(4, chunk.getLineNumber());
+			//@formatter:off
+			assertEquals(
+			"BEGIN:VCARD\r\n" +
+				"FN:John Doe\r\n" +
+				" folded BEGIN:VCARD\r\n" +
+			"END:VCARD\r\n", chunk.getText());
+			//@formatter:on
+
+			assertNull(reader.readNext());
+		}
+	}
+
+	@Test
+	public void missing_end() throws Exception {
+		//@formatter:off
+		String str =
+		"BEGIN:VCARD\r\n" +
+			"FN:John Doe\r\n";
+		//@formatter:on
+
+		try (VCardChunkReader reader = new VCardChunkReader(new StringReader(str))) {
+			VCardChunkReader.Chunk chunk = reader.readNext();
+			assertEquals(1, chunk.getLineNumber());
+			assertEquals(str, chunk.getText());
+
+			assertNull(reader.readNext());
+		}
+	}
+
+	@Test
+	public void empty() throws Exception {
+		try (VCardChunkReader reader = new VCardChunkReader(new StringReader(""))) {
+			assertNull(reader.readNext());
+		}
+	}
+}
@@ -0,0 +1,185 @@
+package ezvcard.io.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/*
+Copyright (c) 2012-2026, Michael Angstadt
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met: 
+
+1. Redistributions of source code must retain the above copyright notice, this
+list of conditions and the following disclaimer. 
+2. Redistributions in binary form must reproduce the above copyright notice,
+this list of conditions and the following disclaimer in the documentation
+and/or other materials provided with the distribution. 
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+The views and conclusions contained in the software and documentation are those
+of the authors and should not be interpreted as representing official policies, 
+either expressed or implied, of the FreeBSD Project.
+*/
+
+/**
+ * @author Michael Angstadt
+ */
+public class VCardIndexTest {
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	//@formatter:off
+	private static final String DATA =
+	"BEGIN:VCARD\r\n" +
+		"VERSION:4.0\r\n" +
+		"UID:one\r\n" +
+		"FN:Jos\u00e9\r\n" +
+	"END:VCARD\r\n" +
+	"\r\n" +
+	"BEGIN:VCARD\r\n" +
+		"VERSION:3.0\r\n" +
+		"FN:No UID\r\n" +
+	"END:VCARD\r\n" +
+	"BEGIN:VCARD\r\n" +
+		"VERSION:4.0\r\n" +
+		"UID:three\r\n" +
+	"END:VCARD\r\n";
+	//@formatter:on
+
+	@Test
+	public void build() throws Exception {
+		Path file = writeFile(DATA);
+		byte[] bytes = DATA.getBytes(StandardCharsets.UTF_8);
+
+		VCardIndex index = VCardIndex.build(file);
+		assertEquals(3, index.size());
+
+		VCardIndex.Entry entry = index.get(0);
+		assertEquals(0, entry.getOrdinal());
+		assertEquals(0, entry.getOffset());
+		assertEquals("one", entry.getUid());
+		assertEquals(1, entry.getLineNumber());
+		assertEquals("BEGIN:VCARD\r\nVERSION:4.0\r\nUID:one\r\nFN:Jos\u00e9\r\nEND:VCARD\r\n", slice(bytes, entry));
+
+		entry = index.get(1);
+		assertEquals(1, entry.getOrdinal());
+		assertNull(entry.getUid());
+		assertEquals(7, entry.getLineNumber());
+		assertEquals("BEGIN:VCARD\r\nVERSION:3.0\r\nFN:No UID\r\nEND:VCARD\r\n", slice(bytes, entry));
+
+		entry = index.get(2);
+		assertEquals("three", entry.getUid());
+		assertEquals(11, entry.getLineNumber());
+		assertEquals(bytes.length, entry.getOffset() + entry.getLength());
+
+		assertEquals(2, index.get("three").getOrdinal());
+		assertNull(index.get("four"));
+		assertEquals(3, index.getEntries().size());
+	}
+
+	@Test
+	public void build_empty() throws Exception {
+		Path file = writeFile("");
+		VCardIndex index = VCardIndex.build(file);
+		assertEquals(0, index.size());
+	}
+
+	@Test
+	public void write_read() throws Exception {
+		Path file = writeFile(DATA);
+		VCardIndex index = VCardIndex.build(file);
+
+		Path indexFile = tempFolder.newFile().toPath();
+		index.write(indexFile);
+		VCardIndex loaded = VCardIndex.read(indexFile);
+
+		assertEquals(index.size(), loaded.size());
+		for (int i = 0; i < index.size(); i++) {
+			VCardIndex.Entry expected = index.get(i);
+			VCardIndex.Entry actual = loaded.get(i);
+			assertEquals(expected.getOrdinal(), actual.getOrdinal());
+			assertEquals(expected.getOffset(), actual.getOffset());
+			assertEquals(expected.getLength(), actual.getLength());
+			assertEquals(expected.getLineNumber(), actual.getLineNumber());
+			assertEquals(expected.getUid(), actual.getUid());
+		}
+		assertEquals(0, loaded.get("one").getOrdinal());
+		assertTrue(loaded.isUpToDate(file));
+	}
+
+	@Test
+	public void read_invalid() throws Exception {
+		Path indexFile = writeFile("not an index file");
+		assertThrows(IOException.class, () -> VCardIndex.read(indexFile));
+	}
+
+	@Test
+	public void isUpToDate() throws Exception {
+		Path file = writeFile(DATA);
+		VCardIndex index = VCardIndex.build(file);
+		assertTrue(index.isUpToDate(file));
+
+		FileTime lastModified = Files.getLastModifiedTime(file);
+		Files.write(file, (DATA + DATA).getBytes(StandardCharsets.UTF_8));
+		Files.setLastModifiedTime(file, lastModified);
+		assertFalse(index.isUpToDate(file));
+
+		Files.write(file, DATA.getBytes(StandardCharsets.UTF_8));
+		Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified.toMillis() + 60000));
+		assertFalse(index.isUpToDate(file));
+	}
+
+	@Test
+	public void write_read_long_uid() throws Exception {
+		//DataOutput.writeUTF() is limited to 64KB
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 40000; i++) {
+			sb.append('\u00e9');
+		}
+		String uid = sb.toString();
+
+		Path file = writeFile("BEGIN:VCARD\r\nVERSION:4.0\r\nUID:" + uid + "\r\nEND:VCARD\r\n");
+		VCardIndex index = VCardIndex.build(file);
+
+		Path indexFile = tempFolder.newFile().toPath();
+		index.write(indexFile);
+		VCardIndex loaded = VCardIndex.read(indexFile);
+
+		assertEquals(uid, loaded.get(0).getUid());
+		assertEquals(0, loaded.get(uid).getOrdinal());
+	}
+
+	private Path writeFile(String data) throws IOException {
+		Path file = tempFolder.newFile().toPath();
+		Files.write(file, data.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	private static String slice(byte[] bytes, VCardIndex.Entry entry) {
+		return new String(bytes, (int) entry.getOffset(), entry.getLength(), StandardCharsets.UTF_8);
+	}
+}
@@ -6,24 +6,38 @@ import static ezvcard.VCardVersion.V2_1;
 import static ezvcard.VCardVersion.V3_0;
 import static ezvcard.VCardVersion.V4_0;
 import static ezvcard.util.StringUtils.NEWLINE;
+import static ezvcard.util.TestUtils.assertIntEquals;
 import static ezvcard.util.TestUtils.assertNoMoreVCards;
 import static ezvcard.util.TestUtils.assertParseWarnings;
 import static ezvcard.util.TestUtils.assertPropertyCount;
 import static ezvcard.util.TestUtils.assertVersion;
 import static ezvcard.util.TestUtils.each;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import com.github.mangstadt.vinnie.codec.QuotedPrintableCodec;
 
+import ezvcard.Ezvcard;
 import ezvcard.VCard;
 import ezvcard.VCardDataType;
 import ezvcard.VCardVersion;
@@ -33,17 +47,29 @@ import ezvcard.io.LuckyNumProperty.LuckyNumScribe;
 import ezvcard.io.MyFormattedNameProperty;
 import ezvcard.io.MyFormattedNameProperty.MyFormattedNameScribe;
 import ezvcard.io.ParseContext;
+import ezvcard.io.ParseWarning;
+import ezvcard.io.PropertyFilter;
+import ezvcard.io.RecordingDataListener;
 import ezvcard.io.scribe.CannotParseScribe;
 import ezvcard.io.scribe.SkipMeScribe;
 import ezvcard.io.scribe.VCardPropertyScribe;
 import ezvcard.parameter.AddressType;
+import ezvcard.parameter.ImageType;
 import ezvcard.parameter.VCardParameters;
 import ezvcard.property.Address;
+import ezvcard.property.Agent;
 import ezvcard.property.FormattedName;
 import ezvcard.property.Label;
+import ezvcard.property.Logo;
+import ezvcard.property.Note;
+import ezvcard.property.Photo;
 import ezvcard.property.RawProperty;
+import ezvcard.property.Telephone;
 import ezvcard.property.VCardProperty;
 import ezvcard.property.asserter.VCardAsserter;
+import ezvcard.util.BlobStore;
+import ezvcard.util.StringPool;
+import ezvcard.util.org.apache.commons.codec.binary.Base64;
 
 /*
  Copyright (c) 2012-2026, Michael Angstadt
@@ -78,6 +104,9 @@ import ezvcard.property.asserter.VCardAsserter;
  * @author Michael Angstadt
  */
 public class VCardReaderTest {
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
 	/**
 	 * Account for an error in the 4.0 specification, which places multi-valued
 	 * TYPE parameters in double quotes.
@@ -644,6 +673,457 @@ public class VCardReaderTest {
 		}
 	}
 
+	@Test
+	public void propertyFilter() throws Exception {
+		for (VCardVersion version : VCardVersion.values()) {
+			//@formatter:off
+			String str =
+			"BEGIN:VCARD\r\n" +
+				"VERSION:" + version + "\r\n" +
+				"SKIPME:value\r\n" +
+				"FN:John Doe\r\n" +
+				"NOTE:note\r\n" +
+				"x-foo:value\r\n" +
+				"X-BAR:value\r\n" +
+			"END:VCARD\r\n";
+
+			VCardReader reader = new VCardReader(str);
+			reader.registerScribe(new SkipMeScribe());
+			reader.setPropertyFilter(new PropertyFilter()
+				.include(FormattedName.class)
+				.include("X-FOO")
+			);
+			VCardAsserter asserter = new VCardAsserter(reader);
+
+			asserter.next(version);
+
+			asserter.simpleProperty(FormattedName.class)
+				.value("John Doe")
+			.noMore();
+
+			asserter.rawProperty("X-FOO")
+				.value("value")
+			.noMore();
+
+			//the SKIPME scribe was never invoked, so there is no warning
+			asserter.done();
+			//@formatter:on
+		}
+	}
+
+	@Test
+	public void warningListener() throws Exception {
+		//@formatter:off
+		String str =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"SKIPME:value\r\n" +
+		"END:VCARD\r\n" +
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"SKIPME:value\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+
+		List<ParseWarning> warnings = new ArrayList<>();
+		VCardReader reader = new VCardReader(str);
+		reader.registerScribe(new SkipMeScribe());
+		reader.setWarningListener(warnings::add);
+
+		reader.readNext();
+		assertParseWarnings(reader);
+		assertEquals(1, warnings.size());
+		assertIntEquals(22, warnings.get(0).getCode());
+		assertIntEquals(3, warnings.get(0).getLineNumber());
+
+		reader.readNext();
+		assertParseWarnings(reader);
+		assertEquals(2, warnings.size());
+		assertIntEquals(7, warnings.get(1).getLineNumber());
+
+		assertNoMoreVCards(reader);
+	}
+
+	@Test
+	public void warningsEnabled() throws Exception {
+		//@formatter:off
+		String str =
+		"BEGIN:VCARD\r\n" +
+			"SKIPME:value\r\n" +
+			"CANNOTPARSE:value\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+
+		List<ParseWarning> warnings = new ArrayList<>();
+		VCardReader reader = new VCardReader(str);
+		reader.registerScribe(new SkipMeScribe());
+		reader.registerScribe(new CannotParseScribe());
+		reader.setWarningListener(warnings::add);
+		reader.setWarningsEnabled(false);
+
+		VCard vcard = reader.readNext();
+		assertPropertyCount(1, vcard);
+		assertParseWarnings(reader);
+		assertTrue(warnings.isEmpty());
+		assertNoMoreVCards(reader);
+	}
+
+	@Test
+	public void lazyParsing_warningListener() throws Exception {
+		//@formatter:off
+		String str =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"FN:John Doe\r\n" +
+			"SKIPME:value\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+
+		List<ParseWarning> warnings = new ArrayList<>();
+		VCardReader reader = new VCardReader(str);
+		reader.registerScribe(new SkipMeScribe());
+		reader.setLazyParsingEnabled(true);
+		reader.setWarningListener(warnings::add);
+
+		VCard vcard = reader.readNext();
+		assertTrue(warnings.isEmpty());
+
+		assertPropertyCount(1, vcard);
+		assertEquals(1, warnings.size());
+		assertIntEquals(22, warnings.get(0).getCode());
+		assertIntEquals(4, warnings.get(0).getLineNumber());
+		assertEquals("SKIPME", warnings.get(0).getPropertyName());
+
+		assertNoMoreVCards(reader);
+	}
+
+	@Test
+	public void blobStore() throws Exception {
+		byte[] data = new byte[1000];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (byte) i;
+		}
+		String base64 = Base64.encodeBase64String(data);
+
+		for (VCardVersion version : each(V3_0, V4_0)) {
+			String value = (version == V3_0) ? ";ENCODING=B;TYPE=JPEG:" + base64 : ":data:image/jpeg;base64," + base64;
+			//@formatter:off
+			String str =
+			"BEGIN:VCARD\r\n" +
+				"VERSION:" + version + "\r\n" +
+				"PHOTO" + value + "\r\n" +
+				"LOGO" + value + "\r\n" +
+			"END:VCARD\r\n";
+			//@formatter:on
+
+			VCardReader reader = new VCardReader(str);
+			reader.setBlobStore(BlobStore.directMemory(data.length - 1));
+			VCard vcard = reader.readNext();
+
+			Photo photo = vcard.getPhotos().get(0);
+			assertTrue(photo.getDataBuffer().isDirect());
+			assertArrayEquals(data, photo.getData());
+			assertEquals(ImageType.JPEG, photo.getContentType());
+
+			Logo logo = vcard.getLogos().get(0);
+			assertTrue(logo.getDataBuffer().isDirect());
+			assertArrayEquals(data, logo.getData());
+
+			VCard expected = new VCard();
+			expected.addPhoto(new Photo(data, ImageType.JPEG));
+			expected.addLogo(new Logo(data, ImageType.JPEG));
+			assertEquals(Ezvcard.write(expected).version(version).prodId(false).go(), Ezvcard.write(vcard).version(version).prodId(false).go());
+			assertNoMoreVCards(reader);
+		}
+
+		//below the threshold
+		VCardReader reader = new VCardReader("BEGIN:VCARD\r\nVERSION:4.0\r\nPHOTO:data:image/jpeg;base64," + base64 + "\r\nEND:VCARD\r\n");
+		reader.setBlobStore(BlobStore.directMemory(data.length));
+		Photo photo = reader.readNext().getPhotos().get(0);
+		assertFalse(photo.getDataBuffer().isDirect());
+		assertArrayEquals(data, photo.getData());
+		assertNoMoreVCards(reader);
+	}
+
+	@Test
+	public void channel() throws Exception {
+		//@formatter:off
+		String str =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"FN:Jos\u00e9 P\u00e9rez\r\n" +
+		"END:VCARD\n" +
+		"BEGIN:VCARD\n" +
+			"VERSION:3.0\n" +
+			"NOTE:\u20ac\ud83d\ude00\n" +
+		"END:VCARD\r" +
+		"BEGIN:VCARD\r" +
+			"VERSION:2.1\r" +
+			"FN:Jane\r" +
+		"END:VCARD\r\n";
+		//@formatter:on
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+
+		int second = indexOf(bytes, "BEGIN:VCARD", 1);
+		int third = indexOf(bytes, "BEGIN:VCARD", second + 1);
+
+		File file = tempFolder.newFile();
+		Files.write(file.toPath(), bytes);
+
+		List<VCardReader> readers = new ArrayList<VCardReader>();
+		readers.add(new VCardReader(FileChannel.open(file.toPath())));
+		readers.add(new VCardReader(Channels.newChannel(new ByteArrayInputStream(bytes))));
+		for (VCardReader reader : readers) {
+			assertEquals(-1, reader.getByteOffset());
+
+			VCard vcard = reader.readNext();
+			assertEquals("Jos\u00e9 P\u00e9rez", vcard.getFormattedName().getValue());
+			assertEquals(0, reader.getByteOffset());
+			assertEquals(second, reader.getByteLength());
+			assertEquals(1, reader.getLineNumber());
+
+			vcard = reader.readNext();
+			assertEquals("\u20ac\ud83d\ude00", vcard.getNotes().get(0).getValue());
+			assertEquals(second, reader.getByteOffset());
+			assertEquals(third - second, reader.getByteLength());
+			assertEquals(5, reader.getLineNumber());
+
+			vcard = reader.readNext();
+			assertEquals("Jane", vcard.getFormattedName().getValue());
+			assertEquals(third, reader.getByteOffset());
+			assertEquals(bytes.length - third, reader.getByteLength());
+			assertEquals(9, reader.getLineNumber());
+
+			assertNoMoreVCards(reader);
+			assertEquals(-1, reader.getByteOffset());
+			assertEquals(-1, reader.getByteLength());
+			reader.close();
+		}
+
+		VCardReader reader = new VCardReader(str);
+		reader.readNext();
+		assertEquals(-1, reader.getByteOffset());
+		assertEquals(-1, reader.getByteLength());
+		assertEquals(1, reader.getLineNumber());
+	}
+
+	@Test
+	public void checkpoint() throws Exception {
+		//@formatter:off
+		String str =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"FN:Jos\u00e9\r\n" +
+		"END:VCARD\r\n" +
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"FN:Jane\r\n" +
+		"END:VCARD\r\n" +
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"GEO:invalid\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		int second = indexOf(bytes, "BEGIN:VCARD", 1);
+		int third = indexOf(bytes, "BEGIN:VCARD", second + 1);
+
+		File file = tempFolder.newFile();
+		Files.write(file.toPath(), bytes);
+
+		VCardReader.Checkpoint checkpoint;
+		try (VCardReader reader = new VCardReader(FileChannel.open(file.toPath()))) {
+			assertEquals(new VCardReader.Checkpoint(0, 1, 0), reader.getCheckpoint());
+
+			VCard vcard = reader.readNext();
+			assertEquals("Jos\u00e9", vcard.getFormattedName().getValue());
+
+			checkpoint = reader.getCheckpoint();
+			assertEquals(new VCardReader.Checkpoint(second, 5, 1), checkpoint);
+		}
+
+		try (VCardReader reader = new VCardReader(FileChannel.open(file.toPath()), checkpoint)) {
+			assertEquals(checkpoint, reader.getCheckpoint());
+
+			VCard vcard = reader.readNext();
+			assertEquals("Jane", vcard.getFormattedName().getValue());
+			assertEquals(second, reader.getByteOffset());
+			assertEquals(5, reader.getLineNumber());
+			assertEquals(new VCardReader.Checkpoint(third, 9, 2), reader.getCheckpoint());
+
+			vcard = reader.readNext();
+			assertEquals(third, reader.getByteOffset());
+			assertEquals(9, reader.getLineNumber());
+			assertEquals(1, reader.getWarnings().size());
+			assertIntEquals(11, reader.getWarnings().get(0).getLineNumber());
+			assertEquals(new VCardReader.Checkpoint(bytes.length, 13, 3), reader.getCheckpoint());
+
+			assertNoMoreVCards(reader);
+			assertEquals(new VCardReader.Checkpoint(bytes.length, 13, 3), reader.getCheckpoint());
+		}
+
+		try (VCardReader reader = new VCardReader(str)) {
+			assertNull(reader.getCheckpoint());
+		}
+	}
+
+	private static int indexOf(byte[] bytes, String search, int from) {
+		byte[] target = search.getBytes(StandardCharsets.US_ASCII);
+		outer: for (int i = from; i <= bytes.length - target.length; i++) {
+			for (int j = 0; j < target.length; j++) {
+				if (bytes[i + j] != target[j]) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+
+	@Test
+	public void stringPool() throws Exception {
+		//@formatter:off
+		String str =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:3.0\r\n" +
+			"item1.TEL;type=work,voice:+1 555 555 1234\r\n" +
+		"END:VCARD\r\n" +
+		"BEGIN:VCARD\r\n" +
+			"VERSION:3.0\r\n" +
+			"item1.TEL;type=work,voice:+1 555 555 5678\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+
+		VCardReader reader = new VCardReader(str);
+		reader.setStringPool(new StringPool());
+
+		Telephone tel1 = reader.readNext().getTelephoneNumbers().get(0);
+		Telephone tel2 = reader.readNext().getTelephoneNumbers().get(0);
+		assertNoMoreVCards(reader);
+
+		assertEquals("item1", tel1.getGroup());
+		assertSame(tel1.getGroup(), tel2.getGroup());
+		assertSame(tel1.getParameters().getMap().keySet().iterator().next(), tel2.getParameters().getMap().keySet().iterator().next());
+		assertEquals(Arrays.asList("work", "voice"), tel1.getParameters().get("TYPE"));
+		assertSame(tel1.getParameters().get("TYPE").get(0), tel2.getParameters().get("TYPE").get(0));
+		assertSame(tel1.getParameters().get("TYPE").get(1), tel2.getParameters().get("TYPE").get(1));
+	}
+
+	@Test
+	public void read_listener() throws Exception {
+		//@formatter:off
+		String str =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:2.1\r\n" +
+			"FN:John Doe\r\n" +
+			"ADR;HOME:;;123 Main St;;;;\r\n" +
+			"LABEL;HOME:123 Main St\r\n" +
+			"AGENT:\r\n" +
+			"BEGIN:VCARD\r\n" +
+				"VERSION:2.1\r\n" +
+				"FN:Agent\r\n" +
+			"END:VCARD\r\n" +
+			"X-FOO:bar\r\n" +
+		"END:VCARD\r\n" +
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"GEO:invalid\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+
+		VCardReader reader = new VCardReader(str);
+		RecordingDataListener listener = new RecordingDataListener();
+		reader.read(listener);
+
+		//@formatter:off
+		assertEquals(Arrays.asList(
+			"begin", "FN 2.1", "ADR 2.1", "LABEL 2.1", "AGENT 2.1", "X-FOO 2.1", "end",
+			"begin", "warning 12", "GEO 4.0", "end"
+		), listener.events);
+		//@formatter:on
+
+		Agent agent = (Agent) listener.properties.get(3);
+		assertEquals("Agent", agent.getVCard().getFormattedName().getValue());
+		assertTrue(listener.properties.get(5) instanceof RawProperty);
+		assertNull(reader.readNext());
+
+		//lazy parsing
+		reader = new VCardReader(str);
+		reader.setLazyParsingEnabled(true);
+		listener = new RecordingDataListener();
+		reader.read(listener);
+		UnparsedProperty geo = (UnparsedProperty) listener.properties.get(listener.properties.size() - 1);
+		assertEquals("invalid", geo.getValue());
+		assertTrue(listener.warnings.isEmpty());
+	}
+
+	@Test
+	public void lazyParsing() throws Exception {
+		//@formatter:off
+		String str =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"FN:John Doe\r\n" +
+			"GEO:invalid\r\n" +
+			"NOTE:one\r\n" +
+			"group.NOTE:two\r\n" +
+			"X-FOO:bar\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+
+		VCardReader reader = new VCardReader(str);
+		reader.setLazyParsingEnabled(true);
+		VCard vcard = reader.readNext();
+		assertParseWarnings(reader);
+
+		Iterator<VCardProperty> it = vcard.getPropertiesWithoutParsing().iterator();
+		assertTrue(it.next() instanceof UnparsedProperty);
+		assertTrue(it.next() instanceof UnparsedProperty);
+		assertTrue(it.next() instanceof UnparsedProperty);
+		assertTrue(it.next() instanceof UnparsedProperty);
+		assertTrue(it.next() instanceof RawProperty);
+		assertFalse(it.hasNext());
+
+		//only the accessed properties are parsed
+		List<Note> notes = vcard.getNotes();
+		assertEquals(2, notes.size());
+		assertEquals("one", notes.get(0).getValue());
+		assertEquals("two", notes.get(1).getValue());
+		assertEquals("group", notes.get(1).getGroup());
+		assertEquals(2, vcard.getPropertiesWithoutParsing().stream().filter(p -> p instanceof UnparsedProperty).count());
+
+		//properties that cannot be parsed become raw properties
+		assertNull(vcard.getGeo());
+		assertEquals(2, vcard.getExtendedProperties().size());
+		assertEquals("invalid", vcard.getExtendedProperty("GEO").getValue());
+
+		//iteration parses everything
+		vcard.forEach(property -> assertFalse(property instanceof UnparsedProperty));
+		assertEquals("John Doe", vcard.getFormattedName().getValue());
+		assertPropertyCount(5, vcard);
+
+		VCard eager = new VCardReader(str).readNext();
+		assertEquals(eager, vcard);
+	}
+
+	@Test
+	public void lazyParsing_sample_files() throws Exception {
+		for (String file : new String[] { "John_Doe_IPHONE.vcf", "John_Doe_MS_OUTLOOK.vcf", "John_Doe_EVOLUTION.vcf", "outlook-2007.vcf", "rfc6350-example.vcf", "fullcontact.vcf" }) {
+			List<VCard> expected;
+			try (VCardReader reader = new VCardReader(getClass().getResourceAsStream(file))) {
+				expected = reader.readAll();
+			}
+
+			List<VCard> actual;
+			try (VCardReader reader = new VCardReader(getClass().getResourceAsStream(file))) {
+				reader.setLazyParsingEnabled(true);
+				actual = reader.readAll();
+			}
+
+			assertEquals(file, expected, actual);
+		}
+	}
+
 	@Test
 	public void cannotParseException() throws Exception {
 		for (VCardVersion version : VCardVersion.values()) {
@@ -2,7 +2,9 @@ package ezvcard.io.text;
 
 import static ezvcard.util.TestUtils.assertValidate;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
 import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -108,6 +110,58 @@ public class VCardWriterTest {
 		assertEquals(actual, expected);
 	}
 
+	@Test
+	public void unparsed_properties() throws Throwable {
+		//@formatter:off
+		String str =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"N:Doe;John\r\n" +
+			"group.NOTE;LANGUAGE=en:one\\, two\r\n" +
+			"BDAY;VALUE=text:circa 1800\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+
+		VCardReader reader = new VCardReader(str);
+		reader.setLazyParsingEnabled(true);
+		VCard vcard = reader.readNext();
+
+		//properties that were not accessed are written as they were read
+		assertEquals(str, write(vcard, VCardVersion.V4_0));
+
+		//writing does not parse the properties
+		for (VCardProperty property : vcard.getPropertiesWithoutParsing()) {
+			assertTrue(property instanceof UnparsedProperty);
+		}
+
+		//properties that were accessed are written by their scribe
+		assertEquals("John", vcard.getStructuredName().getGiven());
+
+		//@formatter:off
+		String expected =
+		"BEGIN:VCARD\r\n" +
+			"VERSION:4.0\r\n" +
+			"N:Doe;John;;;\r\n" +
+			"group.NOTE;LANGUAGE=en:one\\, two\r\n" +
+			"BDAY;VALUE=text:circa 1800\r\n" +
+		"END:VCARD\r\n";
+		//@formatter:on
+		assertEquals(expected, write(vcard, VCardVersion.V4_0));
+
+		//unparsed properties are parsed when writing to a different version
+		VCard eager = new VCardReader(str).readNext();
+		assertEquals(write(eager, VCardVersion.V3_0), write(vcard, VCardVersion.V3_0));
+		assertTrue(vcard.getPropertiesWithoutParsing().stream().anyMatch(p -> p instanceof UnparsedProperty));
+	}
+
+	private static String write(VCard vcard, VCardVersion version) throws IOException {
+		StringWriter sw = new StringWriter();
+		VCardWriter vcw = new VCardWriter(sw, version);
+		vcw.setAddProdId(false);
+		vcw.write(vcard);
+		return sw.toString();
+	}
+
 	@Test
 	public void nestedVCard() throws Throwable {
 		VCard vcard = new VCard();
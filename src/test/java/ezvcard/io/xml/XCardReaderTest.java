@@ -8,6 +8,7 @@ import static ezvcard.util.TestUtils.assertVersion;
 import static org.custommonkey.xmlunit.XMLAssert.assertXMLEqual;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
@@ -17,16 +18,16 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.ZoneOffset;
+import java.util.Arrays;
 import java.util.Iterator;
 
-import javax.xml.transform.TransformerException;
+import javax.xml.stream.XMLStreamException;
 
 import org.custommonkey.xmlunit.XMLUnit;
 import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
-import org.xml.sax.SAXException;
 
 import ezvcard.VCard;
 import ezvcard.VCardDataType;
@@ -36,8 +37,11 @@ import ezvcard.io.LuckyNumProperty;
 import ezvcard.io.LuckyNumProperty.LuckyNumScribe;
 import ezvcard.io.MyFormattedNameProperty;
 import ezvcard.io.MyFormattedNameProperty.MyFormattedNameScribe;
+import ezvcard.io.PropertyFilter;
+import ezvcard.io.RecordingDataListener;
 import ezvcard.io.SalaryProperty;
 import ezvcard.io.SalaryProperty.SalaryScribe;
+import ezvcard.io.StreamReader;
 import ezvcard.io.scribe.CannotParseScribe;
 import ezvcard.io.scribe.SkipMeScribe;
 import ezvcard.parameter.AddressType;
@@ -53,10 +57,12 @@ import ezvcard.property.Note;
 import ezvcard.property.Organization;
 import ezvcard.property.ProductId;
 import ezvcard.property.RawProperty;
+import ezvcard.property.Telephone;
 import ezvcard.property.Url;
 import ezvcard.property.Xml;
 import ezvcard.property.asserter.VCardAsserter;
 import ezvcard.util.PartialDate;
+import ezvcard.util.StringPool;
 import ezvcard.util.TelUri;
 import ezvcard.util.XmlUtils;
 
@@ -360,12 +366,130 @@ public class XCardReaderTest {
 		XCardReader reader = new XCardReader(xml);
 
 		IOException e = assertThrows(IOException.class, reader::readNext);
-		assertTrue(e.getCause() instanceof TransformerException);
-		assertTrue(e.getCause().getCause() instanceof SAXException);
+		assertTrue(e.getCause() instanceof XMLStreamException);
 
 		assertNoMoreVCards(reader);
 	}
 
+	@Test
+	public void read_listener() throws Exception {
+		//@formatter:off
+		String xml =
+		"<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+			"<vcard>" +
+				"<fn><text>John Doe</text></fn>" +
+				"<x-foo><text>bar</text></x-foo>" +
+			"</vcard>" +
+			"<vcard>" +
+				"<geo><uri>invalid</uri></geo>" +
+			"</vcard>" +
+		"</vcards>";
+		//@formatter:on
+
+		for (StreamReader reader : new StreamReader[] { new XCardReader(xml), new XCardDocument(xml).reader() }) {
+			RecordingDataListener listener = new RecordingDataListener();
+			reader.read(listener);
+
+			//@formatter:off
+			assertEquals(Arrays.asList(
+				"begin", "FN 4.0", "X-FOO 4.0", "end",
+				"begin", "warning 12", "XML 4.0", "end"
+			), listener.events);
+			//@formatter:on
+		}
+	}
+
+	@Test
+	public void stringPool() throws Exception {
+		String tel = "<group name=\"item1\"><tel><parameters><type><text>work</text><text>voice</text></type></parameters><text>+1 555 555 1234</text></tel></group>";
+		String xml = "<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\"><vcard>" + tel + "</vcard><vcard>" + tel + "</vcard></vcards>";
+
+		for (StreamReader reader : new StreamReader[] { new XCardReader(xml), new XCardDocument(xml).reader() }) {
+			reader.setStringPool(new StringPool());
+
+			Telephone tel1 = reader.readNext().getTelephoneNumbers().get(0);
+			Telephone tel2 = reader.readNext().getTelephoneNumbers().get(0);
+			assertNoMoreVCards(reader);
+
+			assertEquals("item1", tel1.getGroup());
+			assertSame(tel1.getGroup(), tel2.getGroup());
+			assertSame(tel1.getParameters().getMap().keySet().iterator().next(), tel2.getParameters().getMap().keySet().iterator().next());
+			assertEquals(Arrays.asList("work", "voice"), tel1.getParameters().get("TYPE"));
+			assertSame(tel1.getParameters().get("TYPE").get(0), tel2.getParameters().get("TYPE").get(0));
+			assertSame(tel1.getParameters().get("TYPE").get(1), tel2.getParameters().get("TYPE").get(1));
+		}
+	}
+
+	@Test
+	public void read_cdata() throws Exception {
+		//@formatter:off
+		VCardAsserter asserter = readXml(
+		"<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+			"<vcard>" +
+				"<note><text>one <![CDATA[<two>]]> three</text></note>" +
+			"</vcard>" +
+		"</vcards>"
+		);
+
+		asserter.next(V4_0);
+
+		asserter.simpleProperty(Note.class)
+			.value("one <two> three")
+		.noMore();
+
+		asserter.done();
+		//@formatter:on
+	}
+
+	@Test
+	public void read_dom() throws Exception {
+		//@formatter:off
+		String xml =
+		"<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+			"<vcard>" +
+				"<fn><text>Dr. Gregory House M.D.</text></fn>" +
+			"</vcard>" +
+			"<vcard>" +
+				"<fn><text>Dr. Lisa Cuddy M.D.</text></fn>" +
+			"</vcard>" +
+		"</vcards>";
+		//@formatter:on
+
+		XCardReader reader = new XCardReader(XmlUtils.toDocument(xml));
+
+		VCard vcard = reader.readNext();
+		assertEquals("Dr. Gregory House M.D.", vcard.getFormattedName().getValue());
+		vcard = reader.readNext();
+		assertEquals("Dr. Lisa Cuddy M.D.", vcard.getFormattedName().getValue());
+		assertNoMoreVCards(reader);
+	}
+
+	@Test
+	public void read_external_entity() throws Exception {
+		Path file = tempFolder.newFile().toPath();
+		Files.write(file, "secret".getBytes(StandardCharsets.UTF_8));
+
+		//@formatter:off
+		String xml =
+		"<!DOCTYPE vcards [<!ENTITY xxe SYSTEM \"" + file.toUri() + "\">]>" +
+		"<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+			"<vcard>" +
+				"<note><text>&xxe;</text></note>" +
+			"</vcard>" +
+		"</vcards>";
+		//@formatter:on
+
+		XCardReader reader = new XCardReader(xml);
+		VCard vcard;
+		try {
+			vcard = reader.readNext();
+		} catch (IOException e) {
+			//the entity could not be resolved
+			return;
+		}
+		assertFalse(vcard.getNotes().get(0).getValue().contains("secret"));
+	}
+
 	@Test
 	public void read_multiple_vcards_elements() throws Exception {
 		//@formatter:off
@@ -658,6 +782,52 @@ public class XCardReaderTest {
 		//@formatter:on
 	}
 
+	@Test
+	public void propertyFilter() throws Exception {
+		//@formatter:off
+		String xml =
+		"<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+			"<vcard>" +
+				"<skipme><text>value</text></skipme>" +
+				"<fn><text>John Doe</text></fn>" +
+				"<note><text>note</text></note>" +
+				"<x-foo><text>value</text></x-foo>" +
+				"<x-bar><text>value</text></x-bar>" +
+			"</vcard>" +
+			"<vcard>" +
+				"<fn><text>Jane Doe</text></fn>" +
+			"</vcard>" +
+		"</vcards>";
+		
+		XCardReader reader = new XCardReader(xml);
+		reader.registerScribe(new SkipMeScribe());
+		reader.setPropertyFilter(new PropertyFilter()
+			.include(FormattedName.class)
+			.include("X-FOO")
+		);
+		VCardAsserter asserter = new VCardAsserter(reader);
+
+		asserter.next(V4_0);
+
+		asserter.simpleProperty(FormattedName.class)
+			.value("John Doe")
+		.noMore();
+
+		asserter.rawProperty("x-foo")
+			.dataType(VCardDataType.TEXT)
+			.value("value")
+		.noMore();
+
+		asserter.next(V4_0);
+
+		asserter.simpleProperty(FormattedName.class)
+			.value("Jane Doe")
+		.noMore();
+
+		asserter.done();
+		//@formatter:on
+	}
+
 	@Test
 	public void cannotParseException() throws Exception {
 		//@formatter:off
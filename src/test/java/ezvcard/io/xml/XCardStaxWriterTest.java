@@ -0,0 +1,462 @@
+package ezvcard.io.xml;
+
+import static ezvcard.VCardVersion.V4_0;
+import static org.custommonkey.xmlunit.XMLAssert.assertXMLEqual;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.custommonkey.xmlunit.XMLUnit;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import ezvcard.VCard;
+import ezvcard.VCardDataType;
+import ezvcard.io.LuckyNumProperty;
+import ezvcard.io.LuckyNumProperty.LuckyNumScribe;
+import ezvcard.io.scribe.SkipMeScribe;
+import ezvcard.parameter.EmailType;
+import ezvcard.property.Email;
+import ezvcard.property.FormattedName;
+import ezvcard.property.Note;
+import ezvcard.property.SkipMeProperty;
+import ezvcard.property.StructuredName;
+import ezvcard.property.Xml;
+import ezvcard.util.Gobble;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+ */
+
+/**
+ * @author Michael Angstadt
+ */
+public class XCardStaxWriterTest {
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	private StringWriter sw;
+	private XCardStaxWriter writer;
+
+	@BeforeClass
+	public static void beforeClass() {
+		XMLUnit.setIgnoreAttributeOrder(true);
+		XMLUnit.setIgnoreWhitespace(true);
+	}
+
+	@Before
+	public void before() {
+		sw = new StringWriter();
+		writer = new XCardStaxWriter(sw);
+		writer.setAddProdId(false);
+	}
+
+	@Test
+	public void write_multiple() throws Exception {
+		VCard vcard = new VCard();
+		vcard.setFormattedName("John Doe");
+		writer.write(vcard);
+
+		vcard = new VCard();
+		vcard.setFormattedName("Jane Doe");
+		writer.write(vcard);
+
+		writer.close();
+
+		//@formatter:off
+		String expected =
+		"<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+			"<vcard>" +
+				"<fn><text>John Doe</text></fn>" +
+			"</vcard>" +
+			"<vcard>" +
+				"<fn><text>Jane Doe</text></fn>" +
+			"</vcard>" +
+		"</vcards>";
+		//@formatter:on
+
+		assertOutput(expected);
+	}
+
+	@Test
+	public void write_empty() throws Exception {
+		writer.close();
+
+		String expected = "<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\" />";
+		assertOutput(expected);
+	}
+
+	@Test
+	public void write_empty_vcard() throws Exception {
+		writer.registerScribe(new SkipMeScribe());
+
+		VCard vcard = new VCard();
+		vcard.addProperty(new SkipMeProperty());
+		writer.write(vcard);
+
+		writer.close();
+
+		//@formatter:off
+		String expected =
+		"<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+			"<vcard />" +
+		"</vcards>";
+		//@formatter:on
+
+		assertOutput(expected);
+	}
+
+	@Test
+	public void write_parameters() throws Exception {
+		writer.registerParameterDataType("x-number", VCardDataType.INTEGER);
+
+		VCard vcard = new VCard();
+		Email email = vcard.addEmail("jdoe@example.com", EmailType.WORK, EmailType.HOME);
+		email.setPref(1);
+		email.setParameter("x-number", "1");
+		email.setParameter("x-empty", "");
+		writer.write(vcard);
+
+		writer.close();
+
+		//@formatter:off
+		String expected =
+		"<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+			"<vcard>" +
+				"<email>" +
+					"<parameters>" +
+						"<type><text>work</text><text>home</text></type>" +
+						"<pref><integer>1</integer></pref>" +
+						"<x-number><integer>1</integer></x-number>" +
+						"<x-empty><unknown /></x-empty>" +
+					"</parameters>" +
+					"<text>jdoe@example.com</text>" +
+				"</email>" +
+			"</vcard>" +
+		"</vcards>";
+		//@formatter:on
+
+		assertOutput(expected);
+	}
+
+	@Test
+	public void write_group() throws Exception {
+		VCard vcard = new VCard();
+		vcard.setFormattedName("John Doe").setGroup("item1");
+		vcard.addNote("note");
+		writer.write(vcard);
+
+		writer.close();
+
+		//@formatter:off
+		String expected =
+		"<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+			"<vcard>" +
+				"<group name=\"item1\">" +
+					"<fn><text>John Doe</text></fn>" +
+				"</group>" +
+				"<note><text>note</text></note>" +
+			"</vcard>" +
+		"</vcards>";
+		//@formatter:on
+
+		assertOutput(expected);
+	}
+
+	@Test
+	public void write_xml_property() throws Exception {
+		VCard vcard = new VCard();
+		Xml xml = new Xml("<foo xmlns=\"http://example.com\" xmlns:p=\"http://p.com\" a=\"b\" p:c=\"d\"><bar>text</bar><p:baz /><empty xmlns=\"\" /></foo>");
+		xml.getParameters().setLanguage("en");
+		vcard.addProperty(xml);
+		writer.write(vcard);
+
+		writer.close();
+
+		//@formatter:off
+		String expected =
+		"<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+			"<vcard>" +
+				"<foo xmlns=\"http://example.com\" xmlns:p=\"http://p.com\" a=\"b\" p:c=\"d\">" +
+					"<parameters xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+						"<language><language-tag>en</language-tag></language>" +
+					"</parameters>" +
+					"<bar>text</bar>" +
+					"<p:baz />" +
+					"<empty xmlns=\"\" />" +
+				"</foo>" +
+			"</vcard>" +
+		"</vcards>";
+		//@formatter:on
+
+		assertOutput(expected);
+	}
+
+	@Test
+	public void write_xml_property_not_namespace_aware() throws Exception {
+		DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		factory.setNamespaceAware(false);
+		String xmlStr = "<foo xmlns=\"http://example.com\" xmlns:p=\"http://p.com\" a=\"b\" p:c=\"d\"><bar>text</bar><p:baz /></foo>";
+		Document document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(xmlStr)));
+
+		VCard vcard = new VCard();
+		Xml xml = new Xml(document);
+		xml.getParameters().setLanguage("en");
+		vcard.addProperty(xml);
+		writer.write(vcard);
+
+		writer.close();
+
+		//@formatter:off
+		String expected =
+		"<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+			"<vcard>" +
+				"<foo xmlns=\"http://example.com\" xmlns:p=\"http://p.com\" a=\"b\" p:c=\"d\">" +
+					"<parameters xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+						"<language><language-tag>en</language-tag></language>" +
+					"</parameters>" +
+					"<bar>text</bar>" +
+					"<p:baz />" +
+				"</foo>" +
+			"</vcard>" +
+		"</vcards>";
+		//@formatter:on
+
+		assertOutput(expected);
+	}
+
+	@Test
+	public void write_extended_property() throws Exception {
+		writer.registerScribe(new LuckyNumScribe());
+
+		VCard vcard = new VCard();
+		vcard.addProperty(new LuckyNumProperty(24));
+		writer.write(vcard);
+
+		writer.close();
+
+		//@formatter:off
+		String expected =
+		"<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+			"<vcard>" +
+				"<a:lucky-num xmlns:a=\"http://luckynum.com\">24</a:lucky-num>" +
+			"</vcard>" +
+		"</vcards>";
+		//@formatter:on
+
+		assertOutput(expected);
+	}
+
+	@Test
+	public void write_control_characters() throws Exception {
+		VCard vcard = new VCard();
+		vcard.addNote("one\r\ntwo\tthree");
+		writer.write(vcard);
+
+		writer.close();
+
+		assertTrue(sw.toString().contains("<note><text>one&#13;\ntwo\tthree</text></note>"));
+	}
+
+	@Test
+	public void write_prettyPrint() throws Exception {
+		StringWriter sw = new StringWriter();
+		XCardStaxWriter writer = new XCardStaxWriter(sw, 2);
+		writer.setAddProdId(false);
+
+		VCard vcard = new VCard();
+		FormattedName fn = vcard.setFormattedName("John Doe");
+		fn.setParameter("x-foo", "bar");
+		Note note = vcard.addNote("note");
+		note.setGroup("group");
+		vcard.setStructuredName(new StructuredName());
+		writer.write(vcard);
+
+		writer.close();
+
+		//@formatter:off
+		String expected =
+		"<?xml version=\"1.0\" encoding=\"UTF-8\"?><vcards xmlns=\"" + V4_0.getXmlNamespace() + "\">\n" +
+		"  <vcard>\n" +
+		"    <fn>\n" +
+		"      <parameters>\n" +
+		"        <x-foo>\n" +
+		"          <unknown>bar</unknown>\n" +
+		"        </x-foo>\n" +
+		"      </parameters>\n" +
+		"      <text>John Doe</text>\n" +
+		"    </fn>\n" +
+		"    <n>\n" +
+		"      <surname/>\n" +
+		"      <given/>\n" +
+		"      <additional/>\n" +
+		"      <prefix/>\n" +
+		"      <suffix/>\n" +
+		"    </n>\n" +
+		"    <group name=\"group\">\n" +
+		"      <note>\n" +
+		"        <text>note</text>\n" +
+		"      </note>\n" +
+		"    </group>\n" +
+		"  </vcard>\n" +
+		"</vcards>\n";
+		//@formatter:on
+
+		assertEquals(expected, sw.toString());
+	}
+
+	@Test
+	public void same_output_as_XCardWriter() throws Exception {
+		VCard vcard = new VCard();
+		vcard.setFormattedName("John Doe").setGroup("item1");
+		vcard.addEmail("jdoe@example.com", EmailType.WORK).setPref(1);
+		vcard.addNote("one\r\ntwo & <three>");
+		vcard.addProperty(new Xml("<foo xmlns=\"http://example.com\" a=\"b\"><bar>text</bar><baz /></foo>"));
+
+		for (Integer indent : new Integer[] { null, 1, 4 }) {
+			StringWriter expected = new StringWriter();
+			try (XCardWriter writer = new XCardWriter(expected, indent)) {
+				writer.write(vcard);
+				writer.write(new VCard());
+			}
+
+			StringWriter actual = new StringWriter();
+			try (XCardStaxWriter writer = new XCardStaxWriter(actual, indent)) {
+				writer.write(vcard);
+				writer.write(new VCard());
+			}
+
+			assertEquals(expected.toString(), actual.toString());
+		}
+	}
+
+	@Test
+	public void closeXmlDocument() throws Exception {
+		sw = new StringWriter() {
+			@Override
+			public void close() {
+				fail();
+			}
+		};
+		writer = new XCardStaxWriter(sw);
+		writer.setAddProdId(false);
+
+		VCard vcard = new VCard();
+		vcard.setFormattedName("John Doe");
+		writer.write(vcard);
+
+		writer.closeXmlDocument();
+		writer.closeXmlDocument();
+
+		//@formatter:off
+		String expected =
+		"<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+			"<vcard>" +
+				"<fn><text>John Doe</text></fn>" +
+			"</vcard>" +
+		"</vcards>";
+		//@formatter:on
+
+		assertOutput(expected);
+	}
+
+	@Test
+	public void reset() throws Exception {
+		writer.registerParameterDataType("x-number", VCardDataType.INTEGER);
+
+		VCard vcard = new VCard();
+		vcard.setFormattedName("John Doe").setParameter("x-number", "1");
+		writer.write(vcard);
+		writer.closeXmlDocument();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		writer.reset(out);
+		vcard = new VCard();
+		vcard.setFormattedName("Jane Doe").setParameter("x-number", "2");
+		writer.write(vcard);
+		writer.closeXmlDocument();
+
+		//@formatter:off
+		String expected =
+		"<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+			"<vcard>" +
+				"<fn><parameters><x-number><integer>1</integer></x-number></parameters><text>John Doe</text></fn>" +
+			"</vcard>" +
+		"</vcards>";
+		//@formatter:on
+		assertOutput(expected);
+
+		//settings are retained
+		//@formatter:off
+		expected =
+		"<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+			"<vcard>" +
+				"<fn><parameters><x-number><integer>2</integer></x-number></parameters><text>Jane Doe</text></fn>" +
+			"</vcard>" +
+		"</vcards>";
+		//@formatter:on
+		assertXMLEqual(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void write_utf8() throws Exception {
+		Path file = tempFolder.newFile().toPath();
+		XCardStaxWriter writer = new XCardStaxWriter(file);
+		writer.setAddProdId(false);
+
+		VCard vcard = new VCard();
+		vcard.addNote("\u019dote");
+		writer.write(vcard);
+
+		writer.close();
+
+		String xml = new Gobble(file).asString(StandardCharsets.UTF_8);
+		assertTrue(xml.matches("(?i)<\\?xml.*?encoding=\"utf-8\".*?\\?>.*"));
+		assertTrue(xml.matches(".*?<note><text>\u019dote</text></note>.*"));
+	}
+
+	private void assertOutput(String expected) throws SAXException, IOException {
+		String actual = sw.toString();
+		assertXMLEqual(expected, actual);
+	}
+}
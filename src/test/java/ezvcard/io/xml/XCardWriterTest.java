@@ -6,6 +6,7 @@ import static org.custommonkey.xmlunit.XMLAssert.assertXMLEqual;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.io.StringWriter;
@@ -163,6 +164,36 @@ public class XCardWriterTest {
 		assertOutput(expected);
 	}
 
+	@Test
+	public void closeXmlDocument() throws Exception {
+		sw = new StringWriter() {
+			@Override
+			public void close() {
+				fail();
+			}
+		};
+		writer = new XCardWriter(sw);
+		writer.setAddProdId(false);
+
+		VCard vcard = new VCard();
+		vcard.setFormattedName("John Doe");
+		writer.write(vcard);
+
+		writer.closeXmlDocument();
+		writer.closeXmlDocument();
+
+		//@formatter:off
+		String expected =
+		"<vcards xmlns=\"" + V4_0.getXmlNamespace() + "\">" +
+			"<vcard>" +
+				"<fn><text>John Doe</text></fn>" +
+			"</vcard>" +
+		"</vcards>";
+		//@formatter:on
+
+		assertOutput(expected);
+	}
+
 	@Test
 	public void write_empty() throws Exception {
 		writer.close();
@@ -0,0 +1,101 @@
+package ezvcard.property;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import ezvcard.VCardVersion;
+
+/*
+Copyright (c) 2012-2026, Michael Angstadt
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met: 
+
+1. Redistributions of source code must retain the above copyright notice, this
+list of conditions and the following disclaimer. 
+2. Redistributions in binary form must reproduce the above copyright notice,
+this list of conditions and the following disclaimer in the documentation
+and/or other materials provided with the distribution. 
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+The views and conclusions contained in the software and documentation are those
+of the authors and should not be interpreted as representing official policies, 
+either expressed or implied, of the FreeBSD Project.
+*/
+
+
+/**
+ * @author Michael Angstadt
+ */
+public class PropertyMetadataTest {
+	@Test
+	public void of() {
+		PropertyMetadata metadata = PropertyMetadata.of(Mailer.class);
+		assertSame(metadata, PropertyMetadata.of(Mailer.class));
+		assertSame(Mailer.class, metadata.getPropertyClass());
+	}
+
+	@Test
+	public void getSupportedVersions() {
+		PropertyMetadata metadata = PropertyMetadata.of(Mailer.class);
+		assertArrayEquals(new VCardVersion[] { VCardVersion.V2_1, VCardVersion.V3_0 }, metadata.getSupportedVersions());
+		assertNotSame(metadata.getSupportedVersions(), metadata.getSupportedVersions());
+
+		metadata = PropertyMetadata.of(Note.class);
+		assertArrayEquals(VCardVersion.values(), metadata.getSupportedVersions());
+	}
+
+	@Test
+	public void isSupportedBy() {
+		PropertyMetadata metadata = PropertyMetadata.of(Mailer.class);
+		assertTrue(metadata.isSupportedBy(VCardVersion.V2_1));
+		assertTrue(metadata.isSupportedBy(VCardVersion.V3_0));
+		assertFalse(metadata.isSupportedBy(VCardVersion.V4_0));
+
+		metadata = PropertyMetadata.of(Note.class);
+		for (VCardVersion version : VCardVersion.values()) {
+			assertTrue(metadata.isSupportedBy(version));
+		}
+	}
+
+	@Test
+	public void copy() {
+		PropertyMetadata metadata = PropertyMetadata.of(Note.class);
+		assertTrue(metadata.hasCopyConstructor());
+
+		Note note = new Note("value");
+		note.setGroup("group");
+		Note copy = (Note) metadata.copy(note);
+		assertNotSame(note, copy);
+		assertEquals(note, copy);
+	}
+
+	@Test
+	public void copy_no_copy_constructor() {
+		PropertyMetadata metadata = PropertyMetadata.of(NoCopyConstructor.class);
+		assertFalse(metadata.hasCopyConstructor());
+		assertThrows(UnsupportedOperationException.class, () -> metadata.copy(new NoCopyConstructor()));
+	}
+
+	private static class NoCopyConstructor extends VCardProperty {
+		//empty
+	}
+}
@@ -104,6 +104,50 @@ public class VCardPropertyTest {
 		assertValidate(property).versions(V4_0).run();
 	}
 
+	@Test
+	public void getModificationCount() {
+		Note property = new Note("value");
+		int count = property.getModificationCount();
+
+		property.setValue("value2");
+		count = assertModified(property, count);
+
+		property.setGroup("group");
+		count = assertModified(property, count);
+
+		property.getParameters().put("X-FOO", "bar");
+		count = assertModified(property, count);
+
+		property.setLanguage("en");
+		count = assertModified(property, count);
+
+		VCardParameters parameters = new VCardParameters();
+		property.setParameters(parameters);
+		count = assertModified(property, count);
+
+		parameters.put("X-FOO", "bar");
+		count = assertModified(property, count);
+
+		property.getValue();
+		property.getParameters();
+		assertEquals(count, property.getModificationCount());
+	}
+
+	private static int assertModified(VCardProperty property, int previousCount) {
+		int count = property.getModificationCount();
+		assertTrue(count > previousCount);
+		return count;
+	}
+
+	@Test
+	public void isValidationCacheable() {
+		assertFalse(new VCardPropertyImpl().isValidationCacheable());
+		assertTrue(new Note("value").isValidationCacheable());
+		assertTrue(new Telephone("555-555-5555").isValidationCacheable());
+		assertFalse(new Member("uri").isValidationCacheable());
+		assertFalse(new Address().isValidationCacheable());
+	}
+
 	@Test
 	public void getSupportedVersions() {
 		VCardPropertyImpl withoutSupportedVersions = new VCardPropertyImpl();
@@ -0,0 +1,123 @@
+package ezvcard.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import ezvcard.util.org.apache.commons.codec.binary.Base64;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+
+/**
+ * @author Michael Angstadt
+ */
+public class BlobStoreTest {
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
+	private final byte[] data = randomBytes(10000);
+	private final String base64 = Base64.encodeBase64String(data);
+
+	@Test
+	public void decodeBase64_directMemory() throws Exception {
+		BlobStore store = BlobStore.directMemory(0);
+		ByteBuffer buffer = store.decodeBase64(base64, 0);
+		assertTrue(buffer.isDirect());
+		assertTrue(buffer.isReadOnly());
+		assertArrayEquals(data, toArray(buffer));
+	}
+
+	@Test
+	public void decodeBase64_mappedFiles() throws Exception {
+		BlobStore store = BlobStore.mappedFiles(0, tempFolder.getRoot().toPath());
+		ByteBuffer buffer = store.decodeBase64(base64, 0);
+		assertTrue(buffer.isDirect());
+		assertArrayEquals(data, toArray(buffer));
+	}
+
+	@Test
+	public void decodeBase64_below_threshold() throws Exception {
+		BlobStore store = BlobStore.directMemory(data.length);
+		assertNull(store.decodeBase64(base64, 0));
+	}
+
+	@Test
+	public void decodeBase64_offset() throws Exception {
+		BlobStore store = BlobStore.directMemory(0);
+		ByteBuffer buffer = store.decodeBase64("data:image/png;base64," + base64, 22);
+		assertArrayEquals(data, toArray(buffer));
+	}
+
+	@Test
+	public void decodeBase64_whitespace() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < base64.length(); i += 75) {
+			sb.append(base64, i, Math.min(i + 75, base64.length())).append("\r\n  ");
+		}
+
+		BlobStore store = BlobStore.directMemory(0);
+		ByteBuffer buffer = store.decodeBase64(sb.toString(), 0);
+		assertArrayEquals(data, toArray(buffer));
+	}
+
+	@Test
+	public void encodeBase64() {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+		buffer.put(data);
+		buffer.flip();
+
+		assertEquals(base64, BlobStore.encodeBase64(buffer));
+		assertEquals(0, buffer.position());
+	}
+
+	@Test
+	public void encodeBase64_empty() {
+		assertEquals("", BlobStore.encodeBase64(ByteBuffer.allocate(0)));
+	}
+
+	private static byte[] toArray(ByteBuffer buffer) {
+		byte[] array = new byte[buffer.remaining()];
+		buffer.duplicate().get(array);
+		return array;
+	}
+
+	private static byte[] randomBytes(int length) {
+		byte[] bytes = new byte[length];
+		new Random(42).nextBytes(bytes);
+		return bytes;
+	}
+}
@@ -6,7 +6,13 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -96,6 +102,83 @@ public class CaseClassesTest {
 		assertTrue(dataTypes.contains(PrimeNumber.SEVEN));
 	}
 
+	@Test
+	public void indexed() {
+		IndexedCaseClassesImpl cc = new IndexedCaseClassesImpl();
+
+		assertSame(Color.RED, cc.find("red"));
+		assertSame(Color.RED, cc.find("RED"));
+		assertSame(Color.GREEN, cc.get("Green"));
+		assertNull(cc.find("purple"));
+
+		Color purple = cc.get("purple");
+		assertEquals("purple", purple.name);
+		assertSame(purple, cc.get("PURPLE"));
+		assertNull(cc.find("purple"));
+
+		assertEquals(2, cc.all().size());
+	}
+
+	@Test
+	public void indexed_shared_key() {
+		//index by first letter, so different values share the same key
+		IndexedCaseClassesImpl cc = new IndexedCaseClassesImpl() {
+			@Override
+			protected Collection<?> indexKeys(Color object) {
+				return Collections.singletonList(object.name.charAt(0));
+			}
+
+			@Override
+			protected Object searchKey(String value) {
+				return value.charAt(0);
+			}
+		};
+
+		Color purple = cc.get("purple");
+		Color pink = cc.get("pink");
+		assertEquals("purple", purple.name);
+		assertEquals("pink", pink.name);
+		assertSame(purple, cc.get("purple"));
+		assertSame(pink, cc.get("pink"));
+	}
+
+	@Test
+	public void indexed_concurrent() throws Exception {
+		IndexedCaseClassesImpl cc = new IndexedCaseClassesImpl();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Color>> futures = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				String value = (i % 2 == 0) ? "purple" : "PURPLE";
+				futures.add(executor.submit(() -> cc.get(value)));
+			}
+
+			Color first = futures.get(0).get();
+			for (Future<Color> future : futures) {
+				assertSame(first, future.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void caseInsensitiveKey() {
+		assertNull(CaseClasses.caseInsensitiveKey(null));
+		assertEquals("", CaseClasses.caseInsensitiveKey(""));
+		assertEquals("IMAGE/JPEG", CaseClasses.caseInsensitiveKey("IMAGE/jpeg"));
+
+		//upper-case strings are returned as-is
+		String upper = "HOME";
+		assertSame(upper, CaseClasses.caseInsensitiveKey(upper));
+
+		for (String[] pair : new String[][] { { "work", "WORK" }, { "stra\u00dfe", "STRA\u00dfE" }, { "\u0130", "i" }, { "\u0131", "I" }, { "\u03c3", "\u03a3" } }) {
+			boolean equal = pair[0].equalsIgnoreCase(pair[1]);
+			boolean sameKey = CaseClasses.caseInsensitiveKey(pair[0]).equals(CaseClasses.caseInsensitiveKey(pair[1]));
+			assertEquals(pair[0] + " " + pair[1], equal, sameKey);
+		}
+	}
+
 	private class CaseClassesImpl extends CaseClasses<PrimeNumber, Integer> {
 		public CaseClassesImpl() {
 			super(PrimeNumber.class);
@@ -129,4 +212,41 @@ public class CaseClassesTest {
 			this.value = value;
 		}
 	}
+
+	private class IndexedCaseClassesImpl extends CaseClasses<Color, String> {
+		public IndexedCaseClassesImpl() {
+			super(Color.class);
+		}
+
+		@Override
+		protected Color create(String value) {
+			return new Color(value);
+		}
+
+		@Override
+		protected boolean matches(Color object, String value) {
+			return object.name.equalsIgnoreCase(value);
+		}
+
+		@Override
+		protected Collection<?> indexKeys(Color object) {
+			return Collections.singletonList(caseInsensitiveKey(object.name));
+		}
+
+		@Override
+		protected Object searchKey(String value) {
+			return caseInsensitiveKey(value);
+		}
+	}
+
+	private static class Color {
+		public static final Color RED = new Color("red");
+		public static final Color GREEN = new Color("green");
+
+		public final String name;
+
+		public Color(String name) {
+			this.name = name;
+		}
+	}
 }
@@ -0,0 +1,174 @@
+package ezvcard.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+ */
+
+/**
+ * @author Michael Angstadt
+ */
+public class CompactMapTest {
+	@Test
+	public void put_get_remove() {
+		for (int count : new int[] { 1, CompactMap.MAX_ARRAY_ENTRIES, CompactMap.MAX_ARRAY_ENTRIES + 5 }) {
+			Map<String, Integer> map = new CompactMap<>();
+			Map<String, Integer> expected = new LinkedHashMap<>();
+			for (int i = 0; i < count; i++) {
+				assertNull(map.put("key" + i, i));
+				expected.put("key" + i, i);
+			}
+			assertEquals(expected, map);
+			assertEquals(expected.hashCode(), map.hashCode());
+			assertEquals(expected.toString(), map.toString());
+			assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+
+			assertEquals(Integer.valueOf(0), map.put("key0", 100));
+			assertEquals(Integer.valueOf(100), map.get("key0"));
+			assertTrue(map.containsKey("key0"));
+			assertFalse(map.containsKey("other"));
+			assertNull(map.get("other"));
+
+			assertEquals(Integer.valueOf(100), map.remove("key0"));
+			assertNull(map.remove("key0"));
+			assertEquals(count - 1, map.size());
+
+			map.clear();
+			assertTrue(map.isEmpty());
+			assertNull(map.get("key1"));
+		}
+	}
+
+	@Test
+	public void null_keys_and_values() {
+		Map<String, String> map = new CompactMap<>();
+		map.put(null, "one");
+		map.put("two", null);
+
+		assertEquals("one", map.get(null));
+		assertTrue(map.containsKey("two"));
+		assertNull(map.get("two"));
+		assertTrue(map.containsValue(null));
+		assertEquals("one", map.remove(null));
+		assertFalse(map.containsKey(null));
+	}
+
+	@Test
+	public void insertion_order() {
+		Map<String, String> map = new CompactMap<>(2);
+		map.put("c", "3");
+		map.put("a", "1");
+		map.put("b", "2");
+		map.remove("a");
+		map.put("a", "1");
+
+		assertEquals(Arrays.asList("c", "b", "a"), new ArrayList<>(map.keySet()));
+		assertEquals(Arrays.asList("3", "2", "1"), new ArrayList<>(map.values()));
+
+		List<String> visited = new ArrayList<>();
+		map.forEach((key, value) -> visited.add(key + value));
+		assertEquals(Arrays.asList("c3", "b2", "a1"), visited);
+	}
+
+	@Test
+	public void iterator_remove() {
+		Map<String, String> map = new CompactMap<>();
+		map.put("a", "1");
+		map.put("b", "2");
+		map.put("c", "3");
+
+		Iterator<Map.Entry<String, String>> it = map.entrySet().iterator();
+		assertThrows(IllegalStateException.class, () -> it.remove());
+		while (it.hasNext()) {
+			Map.Entry<String, String> entry = it.next();
+			if (!entry.getKey().equals("b")) {
+				it.remove();
+			}
+		}
+
+		Map<String, String> expected = new LinkedHashMap<>();
+		expected.put("b", "2");
+		assertEquals(expected, map);
+	}
+
+	@Test
+	public void entry_setValue() {
+		Map<String, String> map = new CompactMap<>();
+		map.put("a", "1");
+
+		Map.Entry<String, String> entry = map.entrySet().iterator().next();
+		assertEquals("1", entry.setValue("2"));
+		assertEquals("2", map.get("a"));
+	}
+
+	@Test
+	public void concurrent_modification() {
+		Map<String, String> map = new CompactMap<>();
+		map.put("a", "1");
+		map.put("b", "2");
+
+		Iterator<String> it = map.keySet().iterator();
+		it.next();
+		map.put("c", "3");
+		assertThrows(ConcurrentModificationException.class, () -> it.next());
+
+		assertThrows(ConcurrentModificationException.class, () -> map.forEach((key, value) -> map.remove("a")));
+	}
+
+	@Test
+	public void list_multimap() {
+		ListMultimap<String, String> multimap = new ListMultimap<>(new CompactMap<>());
+		multimap.put("a", "1");
+		multimap.put("a", "2");
+		multimap.put("b", "3");
+		multimap.get("c").add("4");
+		multimap.remove("b", "3");
+
+		ListMultimap<String, String> expected = new ListMultimap<>();
+		expected.put("a", "1");
+		expected.put("a", "2");
+		expected.put("c", "4");
+		assertEquals(expected, multimap);
+		assertEquals(3, multimap.size());
+	}
+}
@@ -162,6 +162,17 @@ public class DataUriTest {
 		DataUri.parse("data:text/plain;charset=foobar;base64," + dataBase64);
 	}
 
+	@Test
+	public void tryParse() {
+		assertEquals(new DataUri("image/png", dataBytes), DataUri.tryParse("data:image/png;base64," + dataBase64));
+
+		assertNull(DataUri.tryParse("a"));
+		assertNull(DataUri.tryParse("not-valid"));
+		assertNull(DataUri.tryParse("mailto:johndoe@gmail.com"));
+		assertNull(DataUri.tryParse("data:text/plain;base64"));
+		assertNull(DataUri.tryParse("data:text/plain;charset=foobar;base64," + dataBase64));
+	}
+
 	@Test
 	public void toString_() {
 		DataUri uri = new DataUri("text/plain", dataBytes);
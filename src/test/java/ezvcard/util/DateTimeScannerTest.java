@@ -0,0 +1,95 @@
+package ezvcard.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/*
+Copyright (c) 2012-2026, Michael Angstadt
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met: 
+
+1. Redistributions of source code must retain the above copyright notice, this
+list of conditions and the following disclaimer. 
+2. Redistributions in binary form must reproduce the above copyright notice,
+this list of conditions and the following disclaimer in the documentation
+and/or other materials provided with the distribution. 
+
+THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+The views and conclusions contained in the software and documentation are those
+of the authors and should not be interpreted as representing official policies, 
+either expressed or implied, of the FreeBSD Project.
+*/
+
+
+/**
+ * @author Michael Angstadt
+ */
+public class DateTimeScannerTest {
+	@Test
+	public void skip() {
+		DateTimeScanner s = new DateTimeScanner("--T");
+		assertFalse(s.skip("---"));
+		assertTrue(s.skip("--"));
+		assertFalse(s.skip('-'));
+		assertEquals('T', s.peek());
+		assertTrue(s.skip('T'));
+		assertTrue(s.atEnd());
+		assertEquals(0, s.peek());
+		assertFalse(s.skip('T'));
+	}
+
+	@Test
+	public void readDigits() {
+		DateTimeScanner s = new DateTimeScanner("2012a07");
+		assertEquals(4, s.countDigits());
+		assertEquals(-1, s.readDigits(5));
+		assertEquals(2012, s.readDigits(4));
+		assertEquals(0, s.countDigits());
+		assertEquals(-1, s.readDigits(2));
+		assertTrue(s.skip('a'));
+		assertEquals(7, s.readDigits(2));
+		assertTrue(s.atEnd());
+		assertEquals(-1, s.readDigits(1));
+	}
+
+	@Test
+	public void range() {
+		DateTimeScanner s = new DateTimeScanner("x2012-07x", 1, 8);
+		assertEquals(2012, s.readDigits(4));
+		assertTrue(s.skip('-'));
+		assertEquals(-1, s.readDigits(3));
+		assertEquals(7, s.readDigits(2));
+		assertTrue(s.atEnd());
+		assertFalse(s.skip('x'));
+	}
+
+	@Test
+	public void readFraction() {
+		assertEquals(100_000_000, new DateTimeScanner("1").readFraction());
+		assertEquals(123_400_000, new DateTimeScanner("1234").readFraction());
+		assertEquals(123_456_789, new DateTimeScanner("123456789").readFraction());
+		assertEquals(123_456_789, new DateTimeScanner("1234567885").readFraction()); //round up
+		assertEquals(123_456_788, new DateTimeScanner("1234567884999").readFraction()); //round down
+		assertEquals(1_000_000_000, new DateTimeScanner("9999999999").readFraction());
+		assertEquals(-1, new DateTimeScanner("Z").readFraction());
+
+		DateTimeScanner s = new DateTimeScanner("5Z");
+		assertEquals(500_000_000, s.readFraction());
+		assertEquals('Z', s.peek());
+	}
+}
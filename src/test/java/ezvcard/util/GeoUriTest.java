@@ -3,6 +3,7 @@ package ezvcard.util;
 import static ezvcard.util.TestUtils.assertEqualsAndHash;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 
 import java.net.URI;
 import java.util.HashMap;
@@ -15,6 +16,8 @@ import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import ezvcard.Messages;
+
 /*
  Copyright (c) 2012-2026, Michael Angstadt
  All rights reserved.
@@ -160,6 +163,28 @@ public class GeoUriTest {
 		GeoUri.parse("http://www.ietf.org");
 	}
 
+	@Test
+	public void tryParse() {
+		GeoUri uri = GeoUri.tryParse("GEO:12.34,56.78,-21.43;u=12");
+		assertEquals(12.34, uri.getCoordA(), 0.01);
+		assertEquals(56.78, uri.getCoordB(), 0.01);
+		assertEquals(-21.43, uri.getCoordC(), 0.01);
+		assertEquals(12.0, uri.getUncertainty(), 0.01);
+
+		assertNull(GeoUri.tryParse("geo:12.34"));
+		assertNull(GeoUri.tryParse("geo:"));
+		assertNull(GeoUri.tryParse("geo:12.34,invalid"));
+		assertNull(GeoUri.tryParse("geo:12.34,56.78,invalid"));
+		assertNull(GeoUri.tryParse("geo:invalid,56.78;u=12"));
+		assertNull(GeoUri.tryParse("http://www.ietf.org"));
+	}
+
+	@Test
+	public void parse_invalid_coordinate() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> GeoUri.parse("geo:12.34,invalid"));
+		assertEquals(Messages.INSTANCE.getExceptionMessage(22, "B"), e.getMessage());
+	}
+
 	@Test
 	public void parse_decode_special_chars_in_param_value() {
 		GeoUri uri = GeoUri.parse("geo:12.34,56.78;param=with%20%3d%20special%20&%20chars");
@@ -7,16 +7,20 @@ import static ezvcard.util.TestUtils.assertNotEqualsBothWays;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.junit.Test;
@@ -220,6 +224,108 @@ public class ListMultimapTest {
 		assertTrue(actual.contains("3"));
 	}
 
+	@Test
+	public void valuesView() {
+		ListMultimap<String, String> map = new ListMultimap<>();
+		Collection<String> view = map.valuesView();
+		assertTrue(view.isEmpty());
+		assertFalse(view.iterator().hasNext());
+
+		map.put("one", "1");
+		map.put("one", "111");
+		map.put("two", "2");
+		map.put("three", "3");
+
+		//view is live
+		assertEquals(Arrays.asList("1", "111", "2", "3"), new ArrayList<>(view));
+		assertEquals(4, view.size());
+		assertEquals(4, view.stream().count());
+		assertSame(view, map.valuesView());
+
+		//view is read-only
+		assertThrows(UnsupportedOperationException.class, () -> view.add("four"));
+		assertThrows(UnsupportedOperationException.class, () -> view.remove("1"));
+		Iterator<String> it = view.iterator();
+		it.next();
+		assertThrows(UnsupportedOperationException.class, it::remove);
+
+		//iterator is fail-fast
+		Iterator<String> it2 = view.iterator();
+		it2.next();
+		map.put("one", "1111");
+		assertThrows(ConcurrentModificationException.class, it2::next);
+
+		//removals are detected too, even when they don't affect the list being iterated over
+		Iterator<String> it4 = view.iterator();
+		it4.next();
+		map.remove("three", "3");
+		assertThrows(ConcurrentModificationException.class, it4::next);
+		assertThrows(ConcurrentModificationException.class, it4::hasNext);
+
+		Iterator<String> it3 = view.iterator();
+		while (it3.hasNext()) {
+			it3.next();
+		}
+		assertThrows(NoSuchElementException.class, it3::next);
+	}
+
+	@Test
+	public void size_wrapped_list_modifications() {
+		ListMultimap<String, String> map = new ListMultimap<>();
+		List<String> one = map.get("one");
+
+		one.add("1");
+		one.add(0, "0");
+		one.addAll(Arrays.asList("2", "3"));
+		one.addAll(1, Arrays.asList("a", "b"));
+		assertEquals(6, map.size());
+
+		one.remove(0);
+		one.remove("a");
+		one.remove("missing");
+		assertEquals(4, map.size());
+
+		one.removeAll(Arrays.asList("b", "missing"));
+		assertEquals(3, map.size());
+
+		one.retainAll(Arrays.asList("1", "2"));
+		assertEquals(2, map.size());
+
+		ListIterator<String> it = one.listIterator();
+		it.next();
+		it.remove();
+		it.add("x");
+		it.add("y");
+		assertEquals(3, map.size());
+
+		one.removeIf("x"::equals);
+		assertEquals(2, map.size());
+
+		map.put("two", "2");
+		one.clear();
+		assertEquals(1, map.size());
+		assertEquals(map.values().size(), map.size());
+	}
+
+	@Test
+	public void size_backing_map_constructor() {
+		Map<String, List<String>> backing = new LinkedHashMap<>();
+		backing.put("ONE", new ArrayList<>(Arrays.asList("1", "11")));
+		backing.put("TWO", new ArrayList<>(Arrays.asList("2")));
+
+		ListMultimap<String, String> map = new ListMultimap<>(backing);
+		assertEquals(3, map.size());
+		assertEquals(3, new ListMultimap<>(map).size());
+
+		//changes made directly to the backing map are reflected
+		backing.put("THREE", new ArrayList<>(Arrays.asList("3")));
+		assertEquals(4, map.size());
+		assertEquals(4, map.valuesView().size());
+		backing.clear();
+		assertEquals(0, map.size());
+		assertTrue(map.isEmpty());
+	}
+
 	@Test
 	public void isEmpty() {
 		ListMultimap<String, String> map = new ListMultimap<>();
@@ -852,4 +958,59 @@ public class ListMultimapTest {
 		assertTrue(two.isEmpty());
 		assertCollectionContains(map.keySet());
 	}
+
+	@Test
+	public void getModificationCount() {
+		ListMultimap<String, String> map = new ListMultimap<>();
+		int count = map.getModificationCount();
+
+		map.put("foo", "1");
+		count = assertModified(map, count);
+
+		map.putAll("foo", Arrays.asList("2", "3"));
+		count = assertModified(map, count);
+
+		map.get("foo");
+		map.first("foo");
+		map.values();
+		map.containsKey("foo");
+		assertEquals(count, map.getModificationCount());
+
+		List<String> list = map.get("foo");
+		list.add("4");
+		count = assertModified(map, count);
+
+		list.set(0, "one");
+		count = assertModified(map, count);
+
+		list.remove("one");
+		count = assertModified(map, count);
+
+		ListIterator<String> it = list.listIterator();
+		it.next();
+		it.set("two");
+		count = assertModified(map, count);
+		it.remove();
+		count = assertModified(map, count);
+
+		map.remove("foo", "3");
+		count = assertModified(map, count);
+
+		map.replace("foo", "5");
+		count = assertModified(map, count);
+
+		map.removeAll("foo");
+		count = assertModified(map, count);
+
+		map.put("bar", "1");
+		count = assertModified(map, count);
+		map.clear();
+		count = assertModified(map, count);
+	}
+
+	private static int assertModified(ListMultimap<String, String> map, int previousCount) {
+		int count = map.getModificationCount();
+		assertTrue(count > previousCount);
+		return count;
+	}
 }
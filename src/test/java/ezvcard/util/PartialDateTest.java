@@ -3,6 +3,7 @@ package ezvcard.util;
 import static ezvcard.util.PartialDate.builder;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
@@ -225,6 +226,24 @@ public class PartialDateTest {
 		PartialDate.parse("T23:00:00-00:60");
 	}
 
+	@Test
+	public void tryParse() {
+		assertEquals(builder().month(4).date(20).hour(15).build(), PartialDate.tryParse("--0420T15"));
+		assertEquals(builder().hour(23).offset(ZoneOffset.ofHoursMinutes(-18, 0)).build(), PartialDate.tryParse("T23-18:00"));
+
+		assertNull(PartialDate.tryParse(""));
+		assertNull(PartialDate.tryParse("invalid"));
+		assertNull(PartialDate.tryParse("19871331"));
+		assertNull(PartialDate.tryParse("19871233"));
+		assertNull(PartialDate.tryParse("--13"));
+		assertNull(PartialDate.tryParse("T24:00:00"));
+		assertNull(PartialDate.tryParse("T00:61:00"));
+		assertNull(PartialDate.tryParse("T00:00:61"));
+		assertNull(PartialDate.tryParse("T23:00:00-88:00"));
+		assertNull(PartialDate.tryParse("T23:00:00-00:60"));
+		assertNull(PartialDate.tryParse("T23:00:00+18:30"));
+	}
+
 	@Test
 	public void parse() {
 		assertParse("1980", builder().year(1980));
@@ -260,6 +279,34 @@ public class PartialDateTest {
 		assertParse("--04-20T05-05:00", builder().month(4).date(20).hour(5).offset(ZoneOffset.ofHoursMinutes(-5, 0)));
 	}
 
+	@Test
+	public void parse_offset_formats() {
+		assertParse("T05+5", builder().hour(5).offset(ZoneOffset.ofHours(5)));
+		assertParse("T05+5:", builder().hour(5).offset(ZoneOffset.ofHours(5)));
+		assertParse("T05+530", builder().hour(5).offset(ZoneOffset.ofHoursMinutes(5, 30)));
+		assertParse("T05-5:30", builder().hour(5).offset(ZoneOffset.ofHoursMinutes(-5, -30)));
+		assertParse("T05-18", builder().hour(5).offset(ZoneOffset.ofHours(-18)));
+
+		assertNull(PartialDate.tryParse("T05+"));
+		assertNull(PartialDate.tryParse("T05+05:3"));
+		assertNull(PartialDate.tryParse("T05+05300"));
+		assertNull(PartialDate.tryParse("T05:+05"));
+	}
+
+	@Test
+	public void parse_date_or_time() {
+		//a string without a "T" is parsed as a date first, then as a time
+		assertParse("1530", builder().year(1530));
+		assertParse("15:30", builder().hour(15).minute(30));
+		assertParse("201207", builder().hour(20).minute(12).second(7));
+
+		//a string that looks like a date, but has an invalid value, is not parsed as a time
+		assertNull(PartialDate.tryParse("--13"));
+
+		assertNull(PartialDate.tryParse("T"));
+		assertNull(PartialDate.tryParse("1980-04-20T05T06"));
+	}
+
 	@Test
 	public void getUtcOffset() {
 		//@formatter:off
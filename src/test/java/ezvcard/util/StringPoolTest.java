@@ -0,0 +1,109 @@
+package ezvcard.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/*
+ Copyright (c) 2012-2026, Michael Angstadt
+ All rights reserved.
+
+ Redistribution and use in source and binary forms, with or without
+ modification, are permitted provided that the following conditions are met: 
+
+ 1. Redistributions of source code must retain the above copyright notice, this
+ list of conditions and the following disclaimer. 
+ 2. Redistributions in binary form must reproduce the above copyright notice,
+ this list of conditions and the following disclaimer in the documentation
+ and/or other materials provided with the distribution. 
+
+ THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+
+ The views and conclusions contained in the software and documentation are those
+ of the authors and should not be interpreted as representing official policies, 
+ either expressed or implied, of the FreeBSD Project.
+ */
+
+/**
+ * @author Michael Angstadt
+ */
+public class StringPoolTest {
+	@Test
+	public void intern() {
+		StringPool pool = new StringPool();
+		String home = new String("HOME");
+		assertSame(home, pool.intern(home));
+		assertSame(home, pool.intern(new String("HOME")));
+		assertNull(pool.intern(null));
+	}
+
+	@Test
+	public void intern_maxLength() {
+		StringPool pool = new StringPool(16, 4);
+		String four = new String("WORK");
+		assertSame(four, pool.intern(four));
+		assertSame(four, pool.intern(new String("WORK")));
+
+		String five = new String("VOICE");
+		assertSame(five, pool.intern(five));
+		assertNotSame(five, pool.intern(new String("VOICE")));
+	}
+
+	@Test
+	public void intern_collision() {
+		//a pool with one slot only remembers the most recent string
+		StringPool pool = new StringPool(1, 32);
+		String home = new String("HOME");
+		String work = new String("WORK");
+		assertSame(home, pool.intern(home));
+		assertSame(work, pool.intern(work));
+		assertSame(work, pool.intern(new String("WORK")));
+		assertNotSame(home, pool.intern(new String("HOME")));
+	}
+
+	@Test
+	public void invalid_size() {
+		assertThrows(IllegalArgumentException.class, () -> new StringPool(0, 32));
+	}
+
+	@Test
+	public void concurrent() throws Exception {
+		StringPool pool = new StringPool(8, 32);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 10000; i++) {
+						String value = "value" + (i % 20);
+						assertEquals(value, pool.intern(value));
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
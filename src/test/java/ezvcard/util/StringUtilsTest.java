@@ -2,6 +2,7 @@ package ezvcard.util;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
@@ -110,6 +111,44 @@ public class StringUtilsTest {
 		assertFalse(StringUtils.equalsIgnoreCaseIgnoreOrder(a, d));
 	}
 
+	@Test
+	public void tryParseInt() {
+		assertEquals(Integer.valueOf(12), StringUtils.tryParseInt("12"));
+		assertEquals(Integer.valueOf(-12), StringUtils.tryParseInt("-12"));
+		assertEquals(Integer.valueOf(12), StringUtils.tryParseInt("+12"));
+		assertEquals(Integer.valueOf(Integer.MAX_VALUE), StringUtils.tryParseInt("2147483647"));
+		assertEquals(Integer.valueOf(Integer.MIN_VALUE), StringUtils.tryParseInt("-2147483648"));
+
+		assertNull(StringUtils.tryParseInt(null));
+		assertNull(StringUtils.tryParseInt(""));
+		assertNull(StringUtils.tryParseInt("-"));
+		assertNull(StringUtils.tryParseInt("1.5"));
+		assertNull(StringUtils.tryParseInt(" 1"));
+		assertNull(StringUtils.tryParseInt("2147483648"));
+		assertNull(StringUtils.tryParseInt("99999999999999999999"));
+	}
+
+	@Test
+	public void tryParseDouble() {
+		assertEquals(Double.valueOf(12), StringUtils.tryParseDouble("12"));
+		assertEquals(Double.valueOf(-12.5), StringUtils.tryParseDouble("-12.5"));
+		assertEquals(Double.valueOf(0.5), StringUtils.tryParseDouble(".5"));
+		assertEquals(Double.valueOf(5), StringUtils.tryParseDouble("5."));
+		assertEquals(Double.valueOf(1250), StringUtils.tryParseDouble("+1.25E3"));
+		assertEquals(Double.valueOf(0.0125), StringUtils.tryParseDouble("1.25e-2"));
+		assertEquals(Double.valueOf(1.5), StringUtils.tryParseDouble(" 1.5\t"));
+
+		assertNull(StringUtils.tryParseDouble(null));
+		assertNull(StringUtils.tryParseDouble(""));
+		assertNull(StringUtils.tryParseDouble("-"));
+		assertNull(StringUtils.tryParseDouble("."));
+		assertNull(StringUtils.tryParseDouble("1e"));
+		assertNull(StringUtils.tryParseDouble("1.2.3"));
+		assertNull(StringUtils.tryParseDouble("NaN"));
+		assertNull(StringUtils.tryParseDouble("0x1p3"));
+		assertNull(StringUtils.tryParseDouble("invalid"));
+	}
+
 	@Test
 	public void hashIgnoreCase_string() {
 		Object obj = 1;
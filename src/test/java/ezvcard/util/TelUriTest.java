@@ -157,6 +157,17 @@ public class TelUriTest {
 		TelUri.parse("http://www.ietf.org");
 	}
 
+	@Test
+	public void tryParse() {
+		TelUri uri = TelUri.tryParse("TEL:+1-212-555-0101;ext=101");
+		assertEquals("+1-212-555-0101", uri.getNumber());
+		assertEquals("101", uri.getExtension());
+
+		assertNull(TelUri.tryParse("http://www.ietf.org"));
+		assertNull(TelUri.tryParse("tel"));
+		assertNull(TelUri.tryParse("(555) 555-1234"));
+	}
+
 	@Test
 	public void builder_global() {
 		TelUri uri = new TelUri.Builder("+1-212-555-0101").build();
@@ -2,12 +2,15 @@ package ezvcard.util;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -102,6 +105,29 @@ public class VCardDateFormatTest {
 		assertEquals("2006-01-02T10:20:30-05:00", VCardDateFormat.EXTENDED.format(zonedDateTime));
 	}
 
+	@Test
+	public void format_zone_offset() {
+		assertEquals("-0530", VCardDateFormat.BASIC.format(ZoneOffset.ofHoursMinutes(-5, -30)));
+		assertEquals("-05:30", VCardDateFormat.EXTENDED.format(ZoneOffset.ofHoursMinutes(-5, -30)));
+		assertEquals("+0000", VCardDateFormat.BASIC.format(ZoneOffset.UTC));
+
+		//seconds are truncated
+		assertEquals("+00:00", VCardDateFormat.EXTENDED.format(ZoneOffset.ofTotalSeconds(-30)));
+		assertEquals("+01:00", VCardDateFormat.EXTENDED.format(ZoneOffset.ofTotalSeconds(3630)));
+	}
+
+	@Test
+	public void format_years() {
+		assertEquals("0005-01-02", VCardDateFormat.EXTENDED.format(LocalDate.of(5, 1, 2)));
+		assertEquals("0999-01-02", VCardDateFormat.EXTENDED.format(LocalDate.of(999, 1, 2)));
+		assertEquals("+10000-01-02", VCardDateFormat.EXTENDED.format(LocalDate.of(10000, 1, 2)));
+	}
+
+	@Test
+	public void format_missing_fields() {
+		assertThrows(DateTimeException.class, () -> VCardDateFormat.BASIC.format(LocalTime.of(10, 20, 30)));
+	}
+
 	@Test
 	public void format_different_locales() {
 		OffsetDateTime date = OffsetDateTime.of(2006, 1, 2, 10, 20, 30, 0, ZoneOffset.ofHours(1));
@@ -209,6 +235,29 @@ public class VCardDateFormatTest {
 		}
 	}
 
+	@Test
+	public void parse_mixed_separators() {
+		LocalDate date = LocalDate.of(2012, 7, 1);
+		assertEquals(date, VCardDateFormat.parse("2012-0701"));
+		assertEquals(date, VCardDateFormat.parse("201207-01"));
+		assertEquals(LocalDateTime.of(2012, 7, 1, 7, 1, 30), VCardDateFormat.parse("20120701T07:0130"));
+
+		assertThrows(IllegalArgumentException.class, () -> VCardDateFormat.parse("201207-1"));
+		assertThrows(IllegalArgumentException.class, () -> VCardDateFormat.parse("20127-01"));
+		assertThrows(IllegalArgumentException.class, () -> VCardDateFormat.parse("2012-07-01T"));
+		assertThrows(IllegalArgumentException.class, () -> VCardDateFormat.parse("2012-07-01T07:01:30."));
+		assertThrows(IllegalArgumentException.class, () -> VCardDateFormat.parse("2012-07-01T07:01:30+03:"));
+		assertThrows(IllegalArgumentException.class, () -> VCardDateFormat.parse("2012-07-01T07:01:30+3"));
+		assertThrows(IllegalArgumentException.class, () -> VCardDateFormat.parse("2012-07-01 "));
+	}
+
+	@Test
+	public void parse_zero_offset() {
+		Instant instant = LocalDateTime.of(2012, 7, 1, 7, 1, 30).toInstant(ZoneOffset.UTC);
+		assertEquals(instant, VCardDateFormat.parse("20120701T070130+00"));
+		assertEquals(instant, VCardDateFormat.parse("20120701T070130-00:00"));
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void parse_invalid() {
 		VCardDateFormat.parse("invalid");
@@ -239,6 +288,25 @@ public class VCardDateFormatTest {
 		VCardDateFormat.parse("19871231T000061");
 	}
 
+	@Test
+	public void tryParse() {
+		assertEquals(LocalDate.of(2012, 7, 1), VCardDateFormat.tryParse("2012-07-01"));
+		assertEquals(LocalDateTime.of(2012, 7, 1, 7, 1, 30), VCardDateFormat.tryParse("20120701T070130"));
+		assertEquals(OffsetDateTime.of(2012, 7, 1, 7, 1, 30, 0, ZoneOffset.ofHours(-3)), VCardDateFormat.tryParse("20120701T070130-03"));
+		assertEquals(OffsetDateTime.of(2012, 7, 1, 7, 1, 30, 0, ZoneOffset.ofHours(18)), VCardDateFormat.tryParse("2012-07-01T07:01:30+18:00"));
+
+		assertNull(VCardDateFormat.tryParse("invalid"));
+		assertNull(VCardDateFormat.tryParse("19879215"));
+		assertNull(VCardDateFormat.tryParse("19871233"));
+		assertNull(VCardDateFormat.tryParse("19870229"));
+		assertNull(VCardDateFormat.tryParse("19871231T240000"));
+		assertNull(VCardDateFormat.tryParse("19871231T006100"));
+		assertNull(VCardDateFormat.tryParse("19871231T000061"));
+		assertNull(VCardDateFormat.tryParse("19871231T000000.9999999999Z"));
+		assertNull(VCardDateFormat.tryParse("19871231T000000+1830"));
+		assertNull(VCardDateFormat.tryParse("19871231T000000+0060"));
+	}
+
 	@Test
 	public void hasTime() {
 		assertFalse(VCardDateFormat.hasTime(LocalDate.now()));
@@ -2,10 +2,16 @@ package ezvcard.util;
 
 import static org.custommonkey.xmlunit.XMLAssert.assertXMLEqual;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -153,6 +159,65 @@ public class XmlUtilsTest {
 		assertXMLEqual(expected, actual);
 	}
 
+	@Test
+	public void toString_output_properties_not_reused() throws Exception {
+		Document document = XmlUtils.toDocument("<root />");
+		Map<String, String> outputProperties = new HashMap<>();
+		outputProperties.put(OutputKeys.OMIT_XML_DECLARATION, "yes");
+		assertFalse(XmlUtils.toString(document, outputProperties).startsWith("<?xml"));
+
+		//the output properties from the previous call should not carry over
+		assertTrue(XmlUtils.toString(document).startsWith("<?xml"));
+	}
+
+	@Test
+	public void toDocument_reader_reads_xml() throws Exception {
+		/*
+		 * The thread's cached parser is in use while the reader is being
+		 * read, so a second parser must be created.
+		 */
+		Reader reader = new StringReader("<root />") {
+			@Override
+			public int read(char[] cbuf, int off, int len) throws IOException {
+				try {
+					XmlUtils.toDocument("<inner />");
+				} catch (SAXException e) {
+					throw new IOException(e);
+				}
+				return super.read(cbuf, off, len);
+			}
+		};
+
+		Document document = XmlUtils.toDocument(reader);
+		assertEquals("root", document.getDocumentElement().getLocalName());
+
+		document = XmlUtils.toDocument("<root2 />");
+		assertEquals("root2", document.getDocumentElement().getLocalName());
+	}
+
+	@Test
+	public void factories_cached_per_thread() throws Exception {
+		assertSame(XmlUtils.getTransformerFactory(), XmlUtils.getTransformerFactory());
+		assertSame(XmlUtils.getXMLInputFactory(), XmlUtils.getXMLInputFactory());
+		assertSame(XmlUtils.getXMLOutputFactory(), XmlUtils.getXMLOutputFactory());
+		assertSame(XmlUtils.getXPathFactory(), XmlUtils.getXPathFactory());
+
+		Object[] other = new Object[4];
+		Thread thread = new Thread(() -> {
+			other[0] = XmlUtils.getTransformerFactory();
+			other[1] = XmlUtils.getXMLInputFactory();
+			other[2] = XmlUtils.getXPathFactory();
+			other[3] = XmlUtils.getXMLOutputFactory();
+		});
+		thread.start();
+		thread.join();
+
+		assertNotSame(XmlUtils.getTransformerFactory(), other[0]);
+		assertNotSame(XmlUtils.getXMLInputFactory(), other[1]);
+		assertNotSame(XmlUtils.getXPathFactory(), other[2]);
+		assertNotSame(XmlUtils.getXMLOutputFactory(), other[3]);
+	}
+
 	@Test
 	public void toElementList() throws Exception {
 		Document document = XmlUtils.toDocument(xml);